@@ -0,0 +1,84 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.benchmarks;
+
+import com.djrapitops.plan.data.store.Key;
+import com.djrapitops.plan.data.store.containers.AnalysisContainer;
+import com.djrapitops.plan.data.store.containers.DataContainer;
+import com.djrapitops.plan.data.store.containers.ServerContainer;
+import com.djrapitops.plan.data.store.keys.AnalysisKeys;
+import com.djrapitops.plan.data.store.keys.ServerKeys;
+import com.djrapitops.plan.db.access.queries.containers.ContainerFetchQueries;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for calculating every value of an {@link AnalysisContainer}.
+ * <p>
+ * Server data is loaded from the database before each invocation, so only the analysis is measured.
+ *
+ * @author Rsl1122
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class AnalysisBenchmarks {
+
+    private List<Key> analysisKeys;
+    private AnalysisContainer container;
+
+    @Setup(Level.Trial)
+    public void findKeys() throws IllegalAccessException {
+        analysisKeys = keysOf(AnalysisKeys.class);
+    }
+
+    @Setup(Level.Invocation)
+    public void loadServerData(PlanState state) throws IllegalAccessException {
+        ServerContainer serverContainer = state.db.query(ContainerFetchQueries.fetchServerContainer(state.serverUUID));
+        loadAll(serverContainer, keysOf(ServerKeys.class));
+        container = state.analysisContainerFactory.forServerContainer(serverContainer);
+    }
+
+    @Benchmark
+    public void analysisContainerKeys(Blackhole blackhole) {
+        for (Key key : analysisKeys) {
+            blackhole.consume(container.getValue(key));
+        }
+    }
+
+    private static void loadAll(DataContainer container, List<Key> keys) {
+        for (Key key : keys) {
+            container.getValue(key);
+        }
+    }
+
+    private static List<Key> keysOf(Class<?> keyClass) throws IllegalAccessException {
+        List<Key> keys = new ArrayList<>();
+        for (Field field : keyClass.getFields()) {
+            if (Modifier.isStatic(field.getModifiers()) && Key.class.isAssignableFrom(field.getType())) {
+                keys.add((Key) field.get(null));
+            }
+        }
+        return keys;
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.benchmarks;
+
+import com.djrapitops.plan.PlanPlugin;
+import com.djrapitops.plan.data.store.containers.AnalysisContainer;
+import com.djrapitops.plan.modules.APFModule;
+import com.djrapitops.plan.modules.FilesModule;
+import com.djrapitops.plan.modules.ServerSuperClassBindingModule;
+import com.djrapitops.plan.modules.SystemObjectProvidingModule;
+import com.djrapitops.plan.system.PlanSystem;
+import com.djrapitops.plan.utilities.html.pages.PageFactory;
+import dagger.BindsInstance;
+import dagger.Component;
+import utilities.dagger.PlanPluginModule;
+import utilities.dagger.PluginServerPropertiesModule;
+import utilities.dagger.PluginSuperClassBindingModule;
+
+import javax.inject.Singleton;
+
+/**
+ * Dagger component for the Plan system used by the benchmarks.
+ * <p>
+ * Same as the test component, but also gives access to the page and analysis factories.
+ *
+ * @author Rsl1122
+ */
+@Singleton
+@Component(modules = {
+        PlanPluginModule.class,
+        SystemObjectProvidingModule.class,
+        APFModule.class,
+        FilesModule.class,
+        PluginServerPropertiesModule.class,
+        ServerSuperClassBindingModule.class,
+        PluginSuperClassBindingModule.class
+})
+public interface BenchmarkComponent {
+
+    PlanSystem system();
+
+    PageFactory pageFactory();
+
+    AnalysisContainer.Factory analysisContainerFactory();
+
+    @Component.Builder
+    interface Builder {
+
+        @BindsInstance
+        Builder plan(PlanPlugin plan);
+
+        BenchmarkComponent build();
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.benchmarks;
+
+import com.djrapitops.plan.utilities.html.graphs.line.Point;
+import com.djrapitops.plan.utilities.html.graphs.line.alg.DouglasPeuckerAlgorithm;
+import com.djrapitops.plan.utilities.html.graphs.line.alg.LargestTriangleThreeBuckets;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for reducing the points of line graphs, such as the TPS graph.
+ *
+ * @author Rsl1122
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class GraphBenchmarks {
+
+    @Param({"1440", "10080"})
+    public int pointCount;
+
+    private List<Point> points;
+    private long[] x;
+    private double[] y;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(4387L);
+        points = new ArrayList<>(pointCount);
+        x = new long[pointCount];
+        y = new double[pointCount];
+        long minute = TimeUnit.MINUTES.toMillis(1L);
+        double value = 20.0;
+        for (int i = 0; i < pointCount; i++) {
+            value = Math.max(0.0, Math.min(20.0, value + random.nextGaussian() * 0.5));
+            points.add(new Point(i * minute, value));
+            x[i] = i * minute;
+            y[i] = value;
+        }
+    }
+
+    @Benchmark
+    public List<Point> douglasPeuckerReducePoints() {
+        return DouglasPeuckerAlgorithm.reducePoints(points, -1);
+    }
+
+    @Benchmark
+    public List<Point> largestTriangleThreeBucketsDownsample() {
+        return LargestTriangleThreeBuckets.downsample(x, y, pointCount, 1000);
+    }
+}
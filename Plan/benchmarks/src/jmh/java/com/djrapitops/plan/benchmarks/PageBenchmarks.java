@@ -0,0 +1,42 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.benchmarks;
+
+import com.djrapitops.plan.api.exceptions.ParseException;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for creating the html of pages, including loading the data from the database.
+ *
+ * @author Rsl1122
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PageBenchmarks {
+
+    @Benchmark
+    public String analysisPage(PlanState state) throws ParseException {
+        return state.pageFactory.analysisPage(state.serverUUID).toHtml();
+    }
+
+    @Benchmark
+    public String inspectPage(PlanState state) throws ParseException {
+        return state.pageFactory.inspectPage(state.playerUUIDs.get(0)).toHtml();
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.benchmarks;
+
+import com.djrapitops.plan.PlanPlugin;
+import com.djrapitops.plan.data.store.containers.AnalysisContainer;
+import com.djrapitops.plan.db.SQLDB;
+import com.djrapitops.plan.system.PlanSystem;
+import com.djrapitops.plan.system.settings.config.PlanConfig;
+import com.djrapitops.plan.system.settings.paths.DatabaseSettings;
+import com.djrapitops.plan.system.settings.paths.WebserverSettings;
+import com.djrapitops.plan.utilities.html.pages.PageFactory;
+import org.openjdk.jmh.annotations.*;
+import utilities.mocks.PlanPluginMocker;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+
+/**
+ * Enabled Plan system with a database filled with {@link SyntheticData}, shared by the benchmarks.
+ *
+ * @author Rsl1122
+ */
+@State(Scope.Benchmark)
+public class PlanState {
+
+    @Param({"sqlite", "h2"})
+    public String database;
+
+    @Param({"500"})
+    public int players;
+
+    @Param({"20"})
+    public int sessionsPerPlayer;
+
+    @Param({"30"})
+    public int tpsDays;
+
+    public PlanPlugin plugin;
+    public PlanSystem system;
+    public SQLDB db;
+    public PageFactory pageFactory;
+    public AnalysisContainer.Factory analysisContainerFactory;
+
+    public UUID serverUUID;
+    public List<UUID> playerUUIDs;
+
+    private Path dataFolder;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        dataFolder = Files.createTempDirectory("plan-benchmarks");
+        plugin = PlanPluginMocker.setUp()
+                .withDataFolder(dataFolder.toFile())
+                .withLogging()
+                .getPlanMock();
+        // Every call gets a new stream, so that pages can read their html templates more than once.
+        doAnswer(invocation -> PlanState.class.getResourceAsStream("/" + invocation.getArgument(0)))
+                .when(plugin).getResource(anyString());
+
+        BenchmarkComponent component = DaggerBenchmarkComponent.builder().plan(plugin).build();
+        system = component.system();
+        PlanConfig config = system.getConfigSystem().getConfig();
+        config.set(DatabaseSettings.TYPE, database);
+        config.set(WebserverSettings.DISABLED, true);
+        system.enable();
+
+        db = (SQLDB) system.getDatabaseSystem().getDatabase();
+        if (!db.getType().getConfigName().equals(database)) {
+            throw new IllegalStateException("Expected " + database + " database, but " + db.getType().getName() + " was enabled.");
+        }
+        pageFactory = component.pageFactory();
+        analysisContainerFactory = component.analysisContainerFactory();
+
+        serverUUID = system.getServerInfo().getServerUUID();
+        playerUUIDs = new SyntheticData(serverUUID, 4387L).fill(db, players, sessionsPerPlayer, tpsDays);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        if (system != null) {
+            system.disable();
+        }
+        try (Stream<Path> files = Files.walk(dataFolder)) {
+            files.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.benchmarks;
+
+import com.djrapitops.plan.data.container.Session;
+import com.djrapitops.plan.data.store.containers.PlayerContainer;
+import com.djrapitops.plan.data.store.containers.ServerContainer;
+import com.djrapitops.plan.data.store.keys.ServerKeys;
+import com.djrapitops.plan.db.access.queries.containers.AllPlayerContainersQuery;
+import com.djrapitops.plan.db.access.queries.containers.ContainerFetchQueries;
+import com.djrapitops.plan.db.access.queries.objects.SessionQueries;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for loading data from the database.
+ *
+ * @author Rsl1122
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class QueryBenchmarks {
+
+    @Benchmark
+    public List<PlayerContainer> allPlayerContainers(PlanState state) {
+        return state.db.query(new AllPlayerContainersQuery());
+    }
+
+    @Benchmark
+    public List<PlayerContainer> serverContainerPlayers(PlanState state) {
+        // ServerContainer values are loaded lazily, so the most used value is loaded too.
+        ServerContainer container = state.db.query(ContainerFetchQueries.fetchServerContainer(state.serverUUID));
+        return container.getUnsafe(ServerKeys.PLAYERS);
+    }
+
+    /**
+     * Measures SessionQueries#extractDataFromSessionSelectStatement, which is private and only used by these queries.
+     *
+     * @param state Benchmark state.
+     * @return Loaded sessions.
+     */
+    @Benchmark
+    public List<Session> allSessions(PlanState state) {
+        return state.db.query(SessionQueries.fetchAllSessions());
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.benchmarks;
+
+import com.djrapitops.plan.api.exceptions.ParseException;
+import com.djrapitops.plan.system.locale.LangCode;
+import com.djrapitops.plan.system.locale.Locale;
+import com.djrapitops.plan.system.locale.Message;
+import com.djrapitops.plan.system.locale.lang.*;
+import com.djrapitops.plan.utilities.formatting.PlaceholderReplacer;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Benchmarks for the text replacement done to every page.
+ *
+ * @author Rsl1122
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ReplacementBenchmarks {
+
+    private static final Pattern PLACEHOLDER = Pattern.compile("\\$\\{([^}]+)}");
+
+    private String analysisPageHtml;
+    private Locale locale;
+    private List<Map.Entry<Lang, Message>> localeEntriesLongestFirst;
+
+    private String analysisPageTemplate;
+    private PlaceholderReplacer placeholderReplacer;
+
+    @Setup(Level.Trial)
+    public void setUp(PlanState state) throws IOException, ParseException {
+        analysisPageHtml = state.pageFactory.analysisPage(state.serverUUID).toHtml();
+        locale = Locale.forLangCode(LangCode.FI, state.plugin);
+        localeEntriesLongestFirst = new ArrayList<>();
+        for (Lang[] langs : new Lang[][]{
+                NetworkPageLang.values(),
+                PlayerPageLang.values(),
+                ServerPageLang.values(),
+                CommonHtmlLang.values()
+        }) {
+            for (Lang lang : langs) {
+                localeEntriesLongestFirst.add(new AbstractMap.SimpleImmutableEntry<>(lang, locale.get(lang)));
+            }
+        }
+        localeEntriesLongestFirst.sort((one, two) -> Integer.compare(
+                two.getKey().getIdentifier().length(),
+                one.getKey().getIdentifier().length()
+        ));
+
+        analysisPageTemplate = state.system.getPlanFiles().readCustomizableResourceFlat("web/server.html");
+        placeholderReplacer = new PlaceholderReplacer();
+        Matcher placeholders = PLACEHOLDER.matcher(analysisPageTemplate);
+        while (placeholders.find()) {
+            String placeholder = placeholders.group(1);
+            placeholderReplacer.put(placeholder, "<span>" + placeholder + "</span>");
+        }
+    }
+
+    @Benchmark
+    public String localeReplaceMatchingLanguage() {
+        return locale.replaceMatchingLanguage(analysisPageHtml);
+    }
+
+    /**
+     * The replacement that was used before {@link Locale#replaceMatchingLanguage(String)} was done in a single pass.
+     */
+    @Benchmark
+    public String localeReplaceEachEntry() {
+        String replaced = analysisPageHtml;
+        for (Map.Entry<Lang, Message> entry : localeEntriesLongestFirst) {
+            replaced = replaced.replace(entry.getKey().getDefault(), entry.getValue().toString());
+        }
+        return replaced;
+    }
+
+    @Benchmark
+    public String placeholderReplacerApply() {
+        return placeholderReplacer.apply(analysisPageTemplate);
+    }
+}
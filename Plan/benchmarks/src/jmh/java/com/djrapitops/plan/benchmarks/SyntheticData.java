@@ -0,0 +1,153 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.benchmarks;
+
+import com.djrapitops.plan.data.container.GeoInfo;
+import com.djrapitops.plan.data.container.PlayerKill;
+import com.djrapitops.plan.data.container.Session;
+import com.djrapitops.plan.data.container.TPS;
+import com.djrapitops.plan.data.container.builders.TPSBuilder;
+import com.djrapitops.plan.data.time.GMTimes;
+import com.djrapitops.plan.db.Database;
+import com.djrapitops.plan.db.access.transactions.Transaction;
+import com.djrapitops.plan.db.access.transactions.events.*;
+
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fills a database with generated players, sessions, kills and TPS data for the benchmarks.
+ * <p>
+ * A fixed seed is used so that every run (and every commit) benchmarks the same data.
+ * Data is stored with the same transactions as the data of a real server.
+ *
+ * @author Rsl1122
+ */
+public class SyntheticData {
+
+    private static final String[] WORLDS = {"world", "world_nether", "world_the_end"};
+    private static final String[] COUNTRIES = {"United States", "Germany", "Finland", "Brazil", "Not Known"};
+    private static final String[] WEAPONS = {"Diamond Sword", "Bow", "Iron Axe"};
+    private static final String[] GMS = GMTimes.getGMKeyArray();
+
+    private final UUID serverUUID;
+    private final Random random;
+    private final long now;
+
+    private final List<Future<?>> stored;
+
+    public SyntheticData(UUID serverUUID, long seed) {
+        this.serverUUID = serverUUID;
+        random = new Random(seed);
+        now = System.currentTimeMillis();
+        stored = new ArrayList<>();
+    }
+
+    /**
+     * Store generated data and wait until it has been stored.
+     *
+     * @param db                Database to fill.
+     * @param players           Number of players to register.
+     * @param sessionsPerPlayer Number of ended sessions of each player.
+     * @param tpsDays           Number of days of TPS data, one row per minute.
+     * @return UUIDs of the registered players.
+     * @throws ExecutionException   If a transaction failed.
+     * @throws InterruptedException If interrupted while waiting for the transactions.
+     */
+    public List<UUID> fill(Database db, int players, int sessionsPerPlayer, int tpsDays) throws ExecutionException, InterruptedException {
+        for (String world : WORLDS) {
+            store(db, new WorldNameStoreTransaction(serverUUID, world));
+        }
+
+        List<UUID> playerUUIDs = new ArrayList<>();
+        for (int i = 0; i < players; i++) {
+            UUID playerUUID = new UUID(random.nextLong(), random.nextLong());
+            long registered = now - (long) (random.nextDouble() * TimeUnit.DAYS.toMillis(90L));
+            store(db, new PlayerServerRegisterTransaction(playerUUID, () -> registered, "Player" + i, serverUUID));
+            store(db, new GeoInfoStoreTransaction(playerUUID, new GeoInfo(
+                    "1.2." + random.nextInt(256) + "." + random.nextInt(256), randomOf(COUNTRIES), registered, "hash" + i
+            )));
+
+            for (int j = 0; j < sessionsPerPlayer; j++) {
+                store(db, new SessionEndTransaction(createSession(playerUUID, registered, playerUUIDs)));
+            }
+            playerUUIDs.add(playerUUID);
+        }
+
+        for (int day = 0; day < tpsDays; day++) {
+            store(db, new TPSStoreTransaction(serverUUID, createTPSOfDay(now - TimeUnit.DAYS.toMillis(day + 1L))));
+        }
+
+        for (Future<?> transaction : stored) {
+            transaction.get();
+        }
+        stored.clear();
+        return playerUUIDs;
+    }
+
+    private void store(Database db, Transaction transaction) {
+        stored.add(db.executeTransaction(transaction));
+    }
+
+    private Session createSession(UUID playerUUID, long registered, List<UUID> victims) {
+        long start = registered + (long) (random.nextDouble() * Math.max(now - registered - TimeUnit.HOURS.toMillis(4L), 1L));
+        long length = TimeUnit.MINUTES.toMillis(5L + random.nextInt(180));
+
+        Session session = new Session(playerUUID, serverUUID, start, randomOf(WORLDS), randomOf(GMS));
+        long time = start;
+        for (int change = random.nextInt(4); change > 0; change--) {
+            time += length / 5;
+            session.changeState(randomOf(WORLDS), randomOf(GMS), time);
+        }
+        for (int kills = random.nextInt(20); kills > 0; kills--) {
+            session.mobKilled();
+        }
+        if (random.nextInt(3) == 0) {
+            session.died();
+        }
+        if (!victims.isEmpty() && random.nextInt(4) == 0) {
+            UUID victim = victims.get(random.nextInt(victims.size()));
+            session.playerKilled(new PlayerKill(victim, randomOf(WEAPONS), start + length / 2));
+        }
+        session.endSession(start + length);
+        return session;
+    }
+
+    private List<TPS> createTPSOfDay(long dayStart) {
+        List<TPS> tpsOfDay = new ArrayList<>();
+        long minute = TimeUnit.MINUTES.toMillis(1L);
+        for (long date = dayStart; date < dayStart + TimeUnit.DAYS.toMillis(1L); date += minute) {
+            tpsOfDay.add(TPSBuilder.get()
+                    .date(date)
+                    .tps(15.0 + random.nextDouble() * 5.0)
+                    .playersOnline(random.nextInt(40))
+                    .usedCPU(random.nextDouble() * 100.0)
+                    .usedMemory(1000L + random.nextInt(3000))
+                    .entities(random.nextInt(5000))
+                    .chunksLoaded(random.nextInt(2000))
+                    .freeDiskSpace(50000L + random.nextInt(1000))
+                    .toTPS());
+        }
+        return tpsOfDay;
+    }
+
+    private String randomOf(String[] options) {
+        return options[random.nextInt(options.length)];
+    }
+}
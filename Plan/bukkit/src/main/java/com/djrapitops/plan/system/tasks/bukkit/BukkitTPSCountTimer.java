@@ -17,11 +17,11 @@
 package com.djrapitops.plan.system.tasks.bukkit;
 
 import com.djrapitops.plan.Plan;
-import com.djrapitops.plan.data.container.TPS;
-import com.djrapitops.plan.data.container.builders.TPSBuilder;
 import com.djrapitops.plan.system.database.DBSystem;
 import com.djrapitops.plan.system.info.server.ServerInfo;
 import com.djrapitops.plan.system.info.server.properties.ServerProperties;
+import com.djrapitops.plan.system.settings.config.PlanConfig;
+import com.djrapitops.plan.system.settings.paths.TimeSettings;
 import com.djrapitops.plan.system.tasks.TPSCountTimer;
 import com.djrapitops.plugin.logging.console.PluginLogger;
 import com.djrapitops.plugin.logging.error.ErrorHandler;
@@ -35,12 +35,19 @@ import java.util.concurrent.TimeUnit;
 public class BukkitTPSCountTimer extends TPSCountTimer {
 
     protected final Plan plugin;
+    private final PlanConfig config;
     private ServerProperties serverProperties;
     private long lastCheckNano;
 
+    private int countInterval;
+    private int secondsUntilCount;
+    private int entityCount;
+    private int loadedChunks;
+
     @Inject
     public BukkitTPSCountTimer(
             Plan plugin,
+            PlanConfig config,
             DBSystem dbSystem,
             ServerInfo serverInfo,
             ServerProperties serverProperties,
@@ -49,8 +56,12 @@ public class BukkitTPSCountTimer extends TPSCountTimer {
     ) {
         super(dbSystem, serverInfo, logger, errorHandler);
         this.plugin = plugin;
+        this.config = config;
         this.serverProperties = serverProperties;
         lastCheckNano = -1;
+        countInterval = -1;
+        entityCount = -1;
+        loadedChunks = -1;
     }
 
     @Override
@@ -64,33 +75,36 @@ public class BukkitTPSCountTimer extends TPSCountTimer {
             return;
         }
 
-        history.add(calculateTPS(diff, now));
+        int playersOnline = serverProperties.getOnlinePlayers();
+        countEntitiesAndChunksIfNeeded();
+
+        recordTPS(diff, now, playersOnline, entityCount, loadedChunks);
+    }
+
+    private void countEntitiesAndChunksIfNeeded() {
+        if (countInterval == -1) {
+            long intervalMs = config.get(TimeSettings.ENTITY_CHUNK_SAMPLE_PERIOD);
+            countInterval = (int) Math.max(1L, TimeUnit.MILLISECONDS.toSeconds(intervalMs));
+        }
+        if (secondsUntilCount <= 0) {
+            // Counting walks through every world, so the previous counts are used between counts.
+            loadedChunks = getLoadedChunks();
+            entityCount = getEntityCount();
+            secondsUntilCount = countInterval;
+        }
+        secondsUntilCount--;
     }
 
     /**
-     * Calculates the TPS
+     * Calculates the TPS and records it.
      *
-     * @param diff The time difference between the last run and the new run
-     * @param now  The time right now
-     * @return the TPS
+     * @param diff          The time difference between the last run and the new run
+     * @param now           The time right now
+     * @param playersOnline Number of players online
+     * @param entityCount   Most recent entity count
+     * @param chunksLoaded  Most recent loaded chunk count
      */
-    private TPS calculateTPS(long diff, long now) {
-        double averageCPUUsage = getCPUUsage();
-        long usedMemory = getUsedMemory();
-        long freeDiskSpace = getFreeDiskSpace();
-
-        int playersOnline = serverProperties.getOnlinePlayers();
-        latestPlayersOnline = playersOnline;
-        int loadedChunks = getLoadedChunks();
-        int entityCount = getEntityCount();
-
-        return getTPS(diff, now, averageCPUUsage, usedMemory, entityCount, loadedChunks, playersOnline, freeDiskSpace);
-    }
-
-    protected TPS getTPS(long diff, long now,
-                         double cpuUsage, long usedMemory,
-                         int entityCount, int chunksLoaded,
-                         int playersOnline, long freeDiskSpace) {
+    protected void recordTPS(long diff, long now, int playersOnline, int entityCount, int chunksLoaded) {
         long difference = diff;
         if (difference < TimeUnit.SECONDS.toNanos(1L)) { // No tick count above 20
             difference = TimeUnit.SECONDS.toNanos(1L);
@@ -99,31 +113,13 @@ public class BukkitTPSCountTimer extends TPSCountTimer {
         long twentySeconds = TimeUnit.SECONDS.toNanos(20L);
         while (difference > twentySeconds) {
             // Add 0 TPS since more than 20 ticks has passed.
-            history.add(TPSBuilder.get()
-                    .date(now)
-                    .tps(0)
-                    .playersOnline(playersOnline)
-                    .usedCPU(cpuUsage)
-                    .usedMemory(usedMemory)
-                    .entities(entityCount)
-                    .chunksLoaded(chunksLoaded)
-                    .freeDiskSpace(freeDiskSpace)
-                    .toTPS());
+            recordSample(now, 0, playersOnline, entityCount, chunksLoaded);
             difference -= twentySeconds;
         }
 
         double tpsN = twentySeconds * 1.0 / difference;
 
-        return TPSBuilder.get()
-                .date(now)
-                .tps(tpsN)
-                .playersOnline(playersOnline)
-                .usedCPU(cpuUsage)
-                .usedMemory(usedMemory)
-                .entities(entityCount)
-                .chunksLoaded(chunksLoaded)
-                .freeDiskSpace(freeDiskSpace)
-                .toTPS();
+        recordSample(now, tpsN, playersOnline, entityCount, chunksLoaded);
     }
 
     /**
@@ -17,10 +17,9 @@
 package com.djrapitops.plan.system.tasks.bukkit;
 
 import com.djrapitops.plan.Plan;
-import com.djrapitops.plan.data.container.TPS;
-import com.djrapitops.plan.data.container.builders.TPSBuilder;
 import com.djrapitops.plan.system.database.DBSystem;
 import com.djrapitops.plan.system.info.server.ServerInfo;
+import com.djrapitops.plan.system.settings.config.PlanConfig;
 import com.djrapitops.plugin.logging.console.PluginLogger;
 import com.djrapitops.plugin.logging.error.ErrorHandler;
 import org.bukkit.World;
@@ -32,37 +31,30 @@ public class PaperTPSCountTimer extends BukkitTPSCountTimer {
     @Inject
     public PaperTPSCountTimer(
             Plan plugin,
+            PlanConfig config,
             DBSystem dbSystem,
             ServerInfo serverInfo,
             PluginLogger logger,
             ErrorHandler errorHandler
     ) {
-        super(plugin, dbSystem, serverInfo, serverInfo.getServerProperties(), logger, errorHandler);
+        super(plugin, config, dbSystem, serverInfo, serverInfo.getServerProperties(), logger, errorHandler);
     }
 
     @Override
-    protected TPS getTPS(long diff, long now, double cpuUsage, long usedMemory, int entityCount, int chunksLoaded, int playersOnline, long freeDiskSpace) {
+    protected void recordTPS(long diff, long now, int playersOnline, int entityCount, int chunksLoaded) {
         double tps;
         try {
             tps = plugin.getServer().getTPS()[0];
         } catch (NoSuchMethodError e) {
-            return super.getTPS(diff, now, cpuUsage, usedMemory, entityCount, chunksLoaded, playersOnline, freeDiskSpace);
+            super.recordTPS(diff, now, playersOnline, entityCount, chunksLoaded);
+            return;
         }
 
         if (tps > 20) {
             tps = 20;
         }
 
-        return TPSBuilder.get()
-                .date(now)
-                .tps(tps)
-                .playersOnline(playersOnline)
-                .usedCPU(cpuUsage)
-                .usedMemory(usedMemory)
-                .entities(entityCount)
-                .chunksLoaded(chunksLoaded)
-                .freeDiskSpace(freeDiskSpace)
-                .toTPS();
+        recordSample(now, tps, playersOnline, entityCount, chunksLoaded);
     }
 
     @Override
@@ -23,12 +23,9 @@
  */
 package com.djrapitops.plan.system.tasks.bukkit;
 
-import com.djrapitops.plan.data.store.objects.DateObj;
-import com.djrapitops.plan.db.access.transactions.events.PingStoreTransaction;
-import com.djrapitops.plan.system.database.DBSystem;
-import com.djrapitops.plan.system.info.server.ServerInfo;
 import com.djrapitops.plan.system.settings.config.PlanConfig;
 import com.djrapitops.plan.system.settings.paths.TimeSettings;
+import com.djrapitops.plan.system.tasks.PingSampler;
 import com.djrapitops.plan.utilities.java.Reflection;
 import com.djrapitops.plugin.api.TimeAmount;
 import com.djrapitops.plugin.task.AbsRunnable;
@@ -46,7 +43,8 @@ import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
 import java.lang.invoke.MethodHandles.Lookup;
 import java.lang.reflect.Method;
-import java.util.*;
+import java.util.Iterator;
+import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -105,25 +103,20 @@ public class PingCountTimerBukkit extends AbsRunnable implements Listener {
         PING_FIELD = localPing;
     }
 
-    private final Map<UUID, List<DateObj<Integer>>> playerHistory;
+    private final PingSampler pingSampler;
 
     private final PlanConfig config;
-    private final DBSystem dbSystem;
-    private final ServerInfo serverInfo;
     private final RunnableFactory runnableFactory;
 
     @Inject
     public PingCountTimerBukkit(
             PlanConfig config,
-            DBSystem dbSystem,
-            ServerInfo serverInfo,
+            PingSampler pingSampler,
             RunnableFactory runnableFactory
     ) {
         this.config = config;
-        this.dbSystem = dbSystem;
-        this.serverInfo = serverInfo;
+        this.pingSampler = pingSampler;
         this.runnableFactory = runnableFactory;
-        playerHistory = new HashMap<>();
     }
 
     private static boolean isPingMethodAvailable() {
@@ -139,38 +132,26 @@ public class PingCountTimerBukkit extends AbsRunnable implements Listener {
     @Override
     public void run() {
         long time = System.currentTimeMillis();
-        Iterator<Map.Entry<UUID, List<DateObj<Integer>>>> iterator = playerHistory.entrySet().iterator();
+        Iterator<UUID> iterator = pingSampler.getPlayers().iterator();
 
         while (iterator.hasNext()) {
-            Map.Entry<UUID, List<DateObj<Integer>>> entry = iterator.next();
-            UUID uuid = entry.getKey();
-            List<DateObj<Integer>> history = entry.getValue();
+            UUID uuid = iterator.next();
             Player player = Bukkit.getPlayer(uuid);
             if (player != null) {
-                int ping = getPing(player);
-                if (ping < -1 || ping > TimeUnit.SECONDS.toMillis(8L)) {
-                    // Don't accept bad values
-                    continue;
-                }
-                history.add(new DateObj<>(time, ping));
-                if (history.size() >= 30) {
-                    dbSystem.getDatabase().executeTransaction(
-                            new PingStoreTransaction(uuid, serverInfo.getServerUUID(), new ArrayList<>(history))
-                    );
-                    history.clear();
-                }
+                pingSampler.addSample(uuid, time, getPing(player));
             } else {
                 iterator.remove();
             }
         }
+        pingSampler.flushIfNeeded(time);
     }
 
     public void addPlayer(Player player) {
-        playerHistory.put(player.getUniqueId(), new ArrayList<>());
+        pingSampler.addPlayer(player.getUniqueId());
     }
 
     public void removePlayer(Player player) {
-        playerHistory.remove(player.getUniqueId());
+        pingSampler.removePlayer(player.getUniqueId());
     }
 
     private int getPing(Player player) {
@@ -211,6 +192,6 @@ public class PingCountTimerBukkit extends AbsRunnable implements Listener {
     }
 
     public void clear() {
-        playerHistory.clear();
+        pingSampler.clear();
     }
 }
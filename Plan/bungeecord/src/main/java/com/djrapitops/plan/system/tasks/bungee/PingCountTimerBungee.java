@@ -23,12 +23,9 @@
  */
 package com.djrapitops.plan.system.tasks.bungee;
 
-import com.djrapitops.plan.data.store.objects.DateObj;
-import com.djrapitops.plan.db.access.transactions.events.PingStoreTransaction;
-import com.djrapitops.plan.system.database.DBSystem;
-import com.djrapitops.plan.system.info.server.ServerInfo;
 import com.djrapitops.plan.system.settings.config.PlanConfig;
 import com.djrapitops.plan.system.settings.paths.TimeSettings;
+import com.djrapitops.plan.system.tasks.PingSampler;
 import com.djrapitops.plugin.api.TimeAmount;
 import com.djrapitops.plugin.task.AbsRunnable;
 import com.djrapitops.plugin.task.RunnableFactory;
@@ -41,7 +38,8 @@ import net.md_5.bungee.event.EventHandler;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
-import java.util.*;
+import java.util.Iterator;
+import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -56,62 +54,45 @@ public class PingCountTimerBungee extends AbsRunnable implements Listener {
     //https://github.com/bergerkiller/CraftSource/blob/master/net.minecraft.server/PlayerConnection.java#L178
     public static final int PING_INTERVAL = 2 * 20;
 
-    private final Map<UUID, List<DateObj<Integer>>> playerHistory;
+    private final PingSampler pingSampler;
 
     private final PlanConfig config;
-    private final DBSystem dbSystem;
-    private final ServerInfo serverInfo;
     private final RunnableFactory runnableFactory;
 
     @Inject
     public PingCountTimerBungee(
             PlanConfig config,
-            DBSystem dbSystem,
-            ServerInfo serverInfo,
+            PingSampler pingSampler,
             RunnableFactory runnableFactory
     ) {
         this.config = config;
-        this.dbSystem = dbSystem;
-        this.serverInfo = serverInfo;
+        this.pingSampler = pingSampler;
         this.runnableFactory = runnableFactory;
-        playerHistory = new HashMap<>();
     }
 
     @Override
     public void run() {
         long time = System.currentTimeMillis();
-        Iterator<Map.Entry<UUID, List<DateObj<Integer>>>> iterator = playerHistory.entrySet().iterator();
+        Iterator<UUID> iterator = pingSampler.getPlayers().iterator();
 
         while (iterator.hasNext()) {
-            Map.Entry<UUID, List<DateObj<Integer>>> entry = iterator.next();
-            UUID uuid = entry.getKey();
-            List<DateObj<Integer>> history = entry.getValue();
+            UUID uuid = iterator.next();
             ProxiedPlayer player = ProxyServer.getInstance().getPlayer(uuid);
             if (player != null) {
-                int ping = getPing(player);
-                if (ping < -1 || ping > TimeUnit.SECONDS.toMillis(8L)) {
-                    // Don't accept bad values
-                    continue;
-                }
-                history.add(new DateObj<>(time, ping));
-                if (history.size() >= 30) {
-                    dbSystem.getDatabase().executeTransaction(
-                            new PingStoreTransaction(uuid, serverInfo.getServerUUID(), new ArrayList<>(history))
-                    );
-                    history.clear();
-                }
+                pingSampler.addSample(uuid, time, getPing(player));
             } else {
                 iterator.remove();
             }
         }
+        pingSampler.flushIfNeeded(time);
     }
 
     public void addPlayer(ProxiedPlayer player) {
-        playerHistory.put(player.getUniqueId(), new ArrayList<>());
+        pingSampler.addPlayer(player.getUniqueId());
     }
 
     public void removePlayer(ProxiedPlayer player) {
-        playerHistory.remove(player.getUniqueId());
+        pingSampler.removePlayer(player.getUniqueId());
     }
 
     private int getPing(ProxiedPlayer player) {
@@ -137,6 +118,6 @@ public class PingCountTimerBungee extends AbsRunnable implements Listener {
     }
 
     public void clear() {
-        playerHistory.clear();
+        pingSampler.clear();
     }
 }
@@ -23,8 +23,8 @@ import com.djrapitops.plan.data.plugin.HookHandler;
 import com.djrapitops.plan.data.plugin.PluginData;
 import com.djrapitops.plan.db.access.Query;
 import com.djrapitops.plan.db.access.queries.containers.ContainerFetchQueries;
+import com.djrapitops.plan.db.access.queries.objects.PlayerIdentityQueries;
 import com.djrapitops.plan.db.access.queries.objects.ServerQueries;
-import com.djrapitops.plan.db.access.queries.objects.UserIdentifierQueries;
 import com.djrapitops.plan.system.database.DBSystem;
 import com.djrapitops.plan.system.database.databases.operation.FetchOperations;
 import com.djrapitops.plan.system.database.databases.sql.operation.SQLFetchOps;
@@ -93,7 +93,7 @@ public class CommonAPI implements PlanAPI {
     @Override
     public Map<UUID, String> getKnownPlayerNames() {
         try {
-            return queryDB(UserIdentifierQueries.fetchAllPlayerNames());
+            return queryDB(PlayerIdentityQueries.fetchAllPlayerNames());
         } catch (DBOpException e) {
             errorHandler.log(L.ERROR, this.getClass(), e);
             return new HashMap<>();
@@ -117,7 +117,7 @@ public class CommonAPI implements PlanAPI {
 
     @Override
     public String getPlayerName(UUID playerUUID) {
-        return queryDB(UserIdentifierQueries.fetchPlayerNameOf(playerUUID)).orElse(null);
+        return queryDB(PlayerIdentityQueries.fetchPlayerNameOf(playerUUID)).orElse(null);
     }
 
     @Override
@@ -18,7 +18,7 @@ package com.djrapitops.plan.command.commands;
 
 import com.djrapitops.plan.api.exceptions.database.DBOpException;
 import com.djrapitops.plan.db.Database;
-import com.djrapitops.plan.db.access.queries.PlayerFetchQueries;
+import com.djrapitops.plan.db.access.queries.objects.PlayerIdentityQueries;
 import com.djrapitops.plan.db.access.queries.objects.WebUserQueries;
 import com.djrapitops.plan.system.database.DBSystem;
 import com.djrapitops.plan.system.info.connection.ConnectionSystem;
@@ -111,7 +111,7 @@ public class InspectCommand extends CommandNode {
                     return;
                 }
 
-                if (!dbSystem.getDatabase().query(PlayerFetchQueries.isPlayerRegistered(playerUUID))) {
+                if (!dbSystem.getDatabase().query(PlayerIdentityQueries.isPlayerRegistered(playerUUID))) {
                     sender.sendMessage(locale.getString(CommandLang.FAIL_USERNAME_NOT_KNOWN));
                     return;
                 }
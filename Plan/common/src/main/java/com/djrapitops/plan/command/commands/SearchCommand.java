@@ -18,7 +18,7 @@ package com.djrapitops.plan.command.commands;
 
 import com.djrapitops.plan.api.exceptions.database.DBOpException;
 import com.djrapitops.plan.db.Database;
-import com.djrapitops.plan.db.access.queries.objects.UserIdentifierQueries;
+import com.djrapitops.plan.db.access.queries.objects.PlayerIdentityQueries;
 import com.djrapitops.plan.system.database.DBSystem;
 import com.djrapitops.plan.system.locale.Locale;
 import com.djrapitops.plan.system.locale.lang.CmdHelpLang;
@@ -37,7 +37,6 @@ import com.djrapitops.plugin.utilities.Verify;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.List;
 
 /**
@@ -91,8 +90,7 @@ public class SearchCommand extends CommandNode {
         processing.submitNonCritical(() -> {
             try {
                 String searchFor = args[0];
-                List<String> names = dbSystem.getDatabase().query(UserIdentifierQueries.fetchMatchingPlayerNames(searchFor));
-                Collections.sort(names);
+                List<String> names = dbSystem.getDatabase().query(PlayerIdentityQueries.fetchMatchingPlayerNames(searchFor));
                 boolean empty = Verify.isEmpty(names);
 
                 sender.sendMessage(locale.getString(CommandLang.HEADER_SEARCH, empty ? 0 : names.size(), searchFor));
@@ -112,7 +112,9 @@ public class ManageMoveCommand extends CommandNode {
             try {
                 sender.sendMessage(locale.getString(ManageLang.PROGRESS_START));
 
-                toDatabase.executeTransaction(new BackupCopyTransaction(fromDatabase, toDatabase)).get();
+                toDatabase.executeTransaction(new BackupCopyTransaction(fromDatabase, toDatabase,
+                        (table, copiedRows) -> sender.sendMessage(locale.getString(ManageLang.PROGRESS_COPY, table, copiedRows))
+                )).get();
 
                 sender.sendMessage(locale.getString(ManageLang.PROGRESS_SUCCESS));
 
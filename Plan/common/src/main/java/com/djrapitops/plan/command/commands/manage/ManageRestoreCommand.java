@@ -129,7 +129,9 @@ public class ManageRestoreCommand extends CommandNode {
 
                 sender.sendMessage(locale.getString(ManageLang.PROGRESS_START));
 
-                database.executeTransaction(new BackupCopyTransaction(backupDB, database)).get();
+                database.executeTransaction(new BackupCopyTransaction(backupDB, database,
+                        (table, copiedRows) -> sender.sendMessage(locale.getString(ManageLang.PROGRESS_COPY, table, copiedRows))
+                )).get();
 
                 sender.sendMessage(locale.getString(ManageLang.PROGRESS_SUCCESS));
             } catch (InterruptedException e) {
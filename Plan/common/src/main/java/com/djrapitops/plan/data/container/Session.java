@@ -16,25 +16,50 @@
  */
 package com.djrapitops.plan.data.container;
 
+import com.djrapitops.plan.data.store.Key;
 import com.djrapitops.plan.data.store.containers.DynamicDataContainer;
 import com.djrapitops.plan.data.store.keys.SessionKeys;
 import com.djrapitops.plan.data.store.objects.DateHolder;
 import com.djrapitops.plan.data.time.WorldTimes;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Objects;
-import java.util.UUID;
+import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * DataContainer for information about a player's play session.
+ * <p>
+ * Values of {@link SessionKeys} are stored in primitive fields and are not placed in the underlying container,
+ * so that sessions loaded from the database take only a fraction of the memory a full container would.
+ * Sessions loaded from the database share an empty kill list and create WorldTimes only when they are first needed.
+ * <p>
+ * Active sessions are modified by listeners while other threads read them, so changes are synchronized on the Session.
+ * WorldTimes of an active session are returned as copies so that readers never see them mid-update. Player kills are
+ * kept in a copy-on-write list, so the returned list can be iterated while kills are added.
  *
  * @author Rsl1122
  * @see SessionKeys for Key objects.
  */
 public class Session extends DynamicDataContainer implements DateHolder {
 
-    private long sessionStart;
+    private static final String LONGEST_WORLD_PLAYED = "Key is Deprecated, use WorldAliasSettings#getLongestWorldPlayed(Session) instead.";
+    private static final Object NOT_SESSION_KEY = new Object();
+    private static final Key[] SESSION_KEYS = {
+            SessionKeys.DB_ID, SessionKeys.UUID, SessionKeys.SERVER_UUID, SessionKeys.START, SessionKeys.END,
+            SessionKeys.LENGTH, SessionKeys.AFK_TIME, SessionKeys.ACTIVE_TIME, SessionKeys.WORLD_TIMES,
+            SessionKeys.PLAYER_KILLS, SessionKeys.PLAYER_KILL_COUNT, SessionKeys.MOB_KILL_COUNT,
+            SessionKeys.DEATH_COUNT, SessionKeys.PLAYER_DEATHS, SessionKeys.LONGEST_WORLD_PLAYED
+    };
+    private static final boolean[] IS_SESSION_KEY_ORDINAL = sessionKeyOrdinals();
+
+    private int sessionID;
+    private boolean hasSessionID;
+    private final UUID uuid;
+    private final UUID serverUUID;
+
+    private final long sessionStart;
+    private long sessionEnd;
+    private boolean ended;
+
     private WorldTimes worldTimes;
     private List<PlayerKill> playerKills;
 
@@ -52,30 +77,15 @@ public class Session extends DynamicDataContainer implements DateHolder {
      * @param gm           Starting GameMode.
      */
     public Session(UUID uuid, UUID serverUUID, long sessionStart, String world, String gm) {
+        this.uuid = uuid;
+        this.serverUUID = serverUUID;
         this.sessionStart = sessionStart;
         worldTimes = new WorldTimes(world, gm, sessionStart);
-        playerKills = new ArrayList<>();
+        playerKills = new CopyOnWriteArrayList<>();
 
         mobKills = 0;
         deaths = 0;
         afkTime = 0;
-
-        putRawData(SessionKeys.UUID, uuid);
-        putRawData(SessionKeys.SERVER_UUID, serverUUID);
-        putSupplier(SessionKeys.START, this::getSessionStart);
-        putSupplier(SessionKeys.WORLD_TIMES, this::getWorldTimes);
-        putSupplier(SessionKeys.PLAYER_KILLS, this::getPlayerKills);
-        putRawData(SessionKeys.PLAYER_DEATHS, new ArrayList<>());
-        putSupplier(SessionKeys.MOB_KILL_COUNT, this::getMobKills);
-        putSupplier(SessionKeys.DEATH_COUNT, this::getDeaths);
-        putSupplier(SessionKeys.AFK_TIME, this::getAfkTime);
-
-        putSupplier(SessionKeys.PLAYER_KILL_COUNT, getUnsafe(SessionKeys.PLAYER_KILLS)::size);
-        putSupplier(SessionKeys.LENGTH, () ->
-                getValue(SessionKeys.END).orElse(System.currentTimeMillis()) - getUnsafe(SessionKeys.START));
-        putSupplier(SessionKeys.ACTIVE_TIME, () -> getUnsafe(SessionKeys.LENGTH) - getUnsafe(SessionKeys.AFK_TIME));
-
-        putRawData(SessionKeys.LONGEST_WORLD_PLAYED, "Key is Deprecated, use WorldAliasSettings#getLongestWorldPlayed(Session) instead.");
     }
 
     /**
@@ -93,32 +103,18 @@ public class Session extends DynamicDataContainer implements DateHolder {
      * @param afkTime      Time spent AFK during the session.
      */
     public Session(int id, UUID uuid, UUID serverUUID, long sessionStart, long sessionEnd, int mobKills, int deaths, long afkTime) {
+        this.sessionID = id;
+        this.hasSessionID = true;
+        this.uuid = uuid;
+        this.serverUUID = serverUUID;
         this.sessionStart = sessionStart;
-        worldTimes = new WorldTimes();
-        playerKills = new ArrayList<>();
+        this.sessionEnd = sessionEnd;
+        this.ended = true;
+        playerKills = Collections.emptyList();
 
         this.mobKills = mobKills;
         this.deaths = deaths;
         this.afkTime = afkTime;
-
-        putRawData(SessionKeys.DB_ID, id);
-        putRawData(SessionKeys.UUID, uuid);
-        putRawData(SessionKeys.SERVER_UUID, serverUUID);
-        putSupplier(SessionKeys.START, this::getSessionStart);
-        putRawData(SessionKeys.END, sessionEnd);
-        putSupplier(SessionKeys.WORLD_TIMES, this::getWorldTimes);
-        putSupplier(SessionKeys.PLAYER_KILLS, this::getPlayerKills);
-        putRawData(SessionKeys.PLAYER_DEATHS, new ArrayList<>());
-        putSupplier(SessionKeys.MOB_KILL_COUNT, this::getMobKills);
-        putSupplier(SessionKeys.DEATH_COUNT, this::getDeaths);
-        putSupplier(SessionKeys.AFK_TIME, this::getAfkTime);
-
-        putSupplier(SessionKeys.PLAYER_KILL_COUNT, () -> getUnsafe(SessionKeys.PLAYER_KILLS).size());
-        putSupplier(SessionKeys.LENGTH, () ->
-                getValue(SessionKeys.END).orElse(System.currentTimeMillis()) - getUnsafe(SessionKeys.START));
-        putSupplier(SessionKeys.ACTIVE_TIME, () -> getUnsafe(SessionKeys.LENGTH) - getUnsafe(SessionKeys.AFK_TIME));
-
-        putRawData(SessionKeys.LONGEST_WORLD_PLAYED, "Key is Deprecated, use WorldAliasSettings#getLongestWorldPlayed(Session) instead.");
     }
 
     /**
@@ -128,9 +124,21 @@ public class Session extends DynamicDataContainer implements DateHolder {
      *
      * @param endOfSession Epoch millisecond the session ended.
      */
-    public void endSession(long endOfSession) {
-        putRawData(SessionKeys.END, endOfSession);
-        worldTimes.updateState(endOfSession);
+    public synchronized void endSession(long endOfSession) {
+        sessionEnd = endOfSession;
+        ended = true;
+        if (worldTimes != null) {
+            worldTimes.updateState(endOfSession);
+        }
+    }
+
+    /**
+     * Updates WorldTimes to the current moment without changing world or GameMode.
+     *
+     * @param time Epoch ms of the update.
+     */
+    public synchronized void updateState(long time) {
+        worldTimes.updateState(time);
     }
 
     /**
@@ -140,19 +148,22 @@ public class Session extends DynamicDataContainer implements DateHolder {
      * @param gm    GameMode the player is in.
      * @param time  Epoch ms of the event.
      */
-    public void changeState(String world, String gm, long time) {
+    public synchronized void changeState(String world, String gm, long time) {
         worldTimes.updateState(world, gm, time);
     }
 
-    public void playerKilled(PlayerKill kill) {
+    public synchronized void playerKilled(PlayerKill kill) {
+        if (playerKills == Collections.<PlayerKill>emptyList()) {
+            playerKills = new CopyOnWriteArrayList<>();
+        }
         playerKills.add(kill);
     }
 
-    public void mobKilled() {
+    public synchronized void mobKilled() {
         mobKills++;
     }
 
-    public void died() {
+    public synchronized void died() {
         deaths++;
     }
 
@@ -161,82 +172,190 @@ public class Session extends DynamicDataContainer implements DateHolder {
      *
      * @return Long in ms.
      */
-    public long getLength() {
-        return getValue(SessionKeys.LENGTH).orElse(0L);
+    public synchronized long getLength() {
+        return (ended ? sessionEnd : System.currentTimeMillis()) - sessionStart;
     }
 
     @Override
     public long getDate() {
-        return getUnsafe(SessionKeys.START);
+        return sessionStart;
     }
 
-    public void setWorldTimes(WorldTimes worldTimes) {
+    public synchronized void setWorldTimes(WorldTimes worldTimes) {
         this.worldTimes = worldTimes;
     }
 
+    private static boolean[] sessionKeyOrdinals() {
+        int maxOrdinal = 0;
+        for (Key key : SESSION_KEYS) {
+            maxOrdinal = Math.max(maxOrdinal, key.getOrdinal());
+        }
+        boolean[] isSessionKey = new boolean[maxOrdinal + 1];
+        for (Key key : SESSION_KEYS) {
+            isSessionKey[key.getOrdinal()] = true;
+        }
+        return isSessionKey;
+    }
+
+    private static boolean isSessionKey(Key key) {
+        int ordinal = key.getOrdinal();
+        return ordinal < IS_SESSION_KEY_ORDINAL.length && IS_SESSION_KEY_ORDINAL[ordinal];
+    }
+
+    private Object getSessionValue(Key key) {
+        // Other keys are stored in the container, so they are looked up without locking the session.
+        if (!isSessionKey(key)) {
+            return NOT_SESSION_KEY;
+        }
+        synchronized (this) {
+            return getSessionValueOf(key);
+        }
+    }
+
+    private Object getSessionValueOf(Key key) {
+        if (SessionKeys.START.equals(key)) return sessionStart;
+        if (SessionKeys.END.equals(key)) return ended ? sessionEnd : null;
+        if (SessionKeys.LENGTH.equals(key)) return getLength();
+        if (SessionKeys.UUID.equals(key)) return uuid;
+        if (SessionKeys.SERVER_UUID.equals(key)) return serverUUID;
+        if (SessionKeys.AFK_TIME.equals(key)) return afkTime;
+        if (SessionKeys.ACTIVE_TIME.equals(key)) return getLength() - afkTime;
+        if (SessionKeys.WORLD_TIMES.equals(key)) return getWorldTimes();
+        if (SessionKeys.PLAYER_KILLS.equals(key)) return getPlayerKills();
+        if (SessionKeys.PLAYER_KILL_COUNT.equals(key)) return playerKills.size();
+        if (SessionKeys.MOB_KILL_COUNT.equals(key)) return mobKills;
+        if (SessionKeys.DEATH_COUNT.equals(key)) return deaths;
+        if (SessionKeys.DB_ID.equals(key)) return hasSessionID ? sessionID : null;
+        if (SessionKeys.PLAYER_DEATHS.equals(key)) return Collections.emptyList();
+        if (SessionKeys.LONGEST_WORLD_PLAYED.equals(key)) return LONGEST_WORLD_PLAYED;
+        return NOT_SESSION_KEY;
+    }
+
+    @Override
+    public <T> void putRawData(Key<T> key, T obj) {
+        if (SessionKeys.END.equals(key) && obj != null) {
+            endSession((Long) obj);
+        } else if (SessionKeys.DB_ID.equals(key) && obj != null) {
+            setSessionID((Integer) obj);
+        } else if (SessionKeys.WORLD_TIMES.equals(key)) {
+            setWorldTimes(SessionKeys.WORLD_TIMES.typeCast(obj));
+        } else if (SessionKeys.PLAYER_KILLS.equals(key)) {
+            setPlayerKills(SessionKeys.PLAYER_KILLS.typeCast(obj));
+        } else if (isSessionKey(key)) {
+            // The value is calculated from the fields, a value in the container would never be read.
+            throw new IllegalArgumentException("Session value of " + key.getKeyName() + " can not be replaced");
+        } else {
+            super.putRawData(key, obj);
+        }
+    }
+
+    @Override
+    public <T> boolean supports(Key<T> key) {
+        Object value = getSessionValue(key);
+        return value == NOT_SESSION_KEY ? super.supports(key) : value != null;
+    }
+
+    @Override
+    public <T> Optional<T> getValue(Key<T> key) {
+        Object value = getSessionValue(key);
+        return value == NOT_SESSION_KEY ? super.getValue(key) : Optional.ofNullable(key.typeCast(value));
+    }
+
+    @Override
+    public <T> T getUnsafe(Key<T> key) {
+        Object value = getSessionValue(key);
+        if (value == NOT_SESSION_KEY) {
+            return super.getUnsafe(key);
+        }
+        if (value == null) {
+            throw new IllegalArgumentException("Unsupported Key: " + key.getKeyName());
+        }
+        return key.typeCast(value);
+    }
+
+    @Override
+    public Set<Key> getKeys() {
+        Set<Key> keys = super.getKeys();
+        keys.addAll(getSessionValues().keySet());
+        return keys;
+    }
+
+    @Override
+    public Map<Key, Object> getMap() {
+        Map<Key, Object> map = super.getMap();
+        map.putAll(getSessionValues());
+        return map;
+    }
+
+    private Map<Key, Object> getSessionValues() {
+        Map<Key, Object> values = new HashMap<>();
+        for (Key key : SESSION_KEYS) {
+            Object value = getSessionValue(key);
+            if (value != null) {
+                values.put(key, value);
+            }
+        }
+        return values;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         Session session = (Session) o;
-        return getUnsafe(SessionKeys.START).equals(session.getUnsafe(SessionKeys.START)) &&
+        return sessionStart == session.sessionStart &&
                 getValue(SessionKeys.END).orElse(-1L).equals(session.getValue(SessionKeys.END).orElse(-1L)) &&
                 mobKills == session.mobKills &&
                 deaths == session.deaths &&
                 Objects.equals(playerKills, session.playerKills) &&
-                Objects.equals(worldTimes, session.worldTimes);
+                Objects.equals(getWorldTimes(), session.getWorldTimes());
     }
 
     public boolean isFetchedFromDB() {
         return supports(SessionKeys.DB_ID);
     }
 
-    public void addAFKTime(long timeAFK) {
+    public synchronized void addAFKTime(long timeAFK) {
         afkTime += timeAFK;
     }
 
-    public void setSessionID(int sessionID) {
-        putRawData(SessionKeys.DB_ID, sessionID);
+    public synchronized void setSessionID(int sessionID) {
+        this.sessionID = sessionID;
+        hasSessionID = true;
     }
 
-    public List<PlayerKill> getPlayerKills() {
+    public synchronized List<PlayerKill> getPlayerKills() {
         return playerKills;
     }
 
+    private synchronized boolean isActive() {
+        return !ended;
+    }
+
     @Override
     public int hashCode() {
         return Objects.hash(super.hashCode(), mobKills, deaths, afkTime);
     }
 
-    private long getSessionStart() {
-        return sessionStart;
-    }
-
-    private WorldTimes getWorldTimes() {
-        return worldTimes;
-    }
-
-    public void setPlayerKills(List<PlayerKill> playerKills) {
-        this.playerKills = playerKills;
-    }
-
-    private int getMobKills() {
-        return mobKills;
-    }
-
-    private int getDeaths() {
-        return deaths;
+    private synchronized WorldTimes getWorldTimes() {
+        if (worldTimes == null) {
+            worldTimes = new WorldTimes();
+        }
+        return isActive() ? new WorldTimes(worldTimes) : worldTimes;
     }
 
-    private long getAfkTime() {
-        return afkTime;
+    public synchronized void setPlayerKills(List<PlayerKill> playerKills) {
+        // Copied so that kills can be added later and the list can be iterated while they are.
+        this.playerKills = playerKills == null || playerKills.isEmpty()
+                ? Collections.emptyList()
+                : new CopyOnWriteArrayList<>(playerKills);
     }
 
     @Override
     public String toString() {
         return "Session{" +
-                "sessionStart=" + getUnsafe(SessionKeys.START) +
-                ", sessionEnd=" + getUnsafe(SessionKeys.END) +
+                "sessionStart=" + sessionStart +
+                ", sessionEnd=" + getValue(SessionKeys.END).orElse(null) +
                 ", worldTimes=" + worldTimes +
                 ", playerKills=" + playerKills +
                 ", mobKills=" + mobKills +
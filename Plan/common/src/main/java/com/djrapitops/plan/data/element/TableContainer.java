@@ -68,6 +68,18 @@ public class TableContainer {
                 "</table>" + (jqueryDatatable != null ? "</div>" : "");
     }
 
+    /**
+     * Parse the table with an empty body, for tables that load their rows with jQuery DataTables server-side processing.
+     *
+     * @return Html of the table.
+     */
+    public String parseHtmlWithoutRows() {
+        return getTableHeader() +
+                parseHeader() +
+                Html.TABLE_BODY.parse("") +
+                "</table>" + (jqueryDatatable != null ? "</div>" : "");
+    }
+
     public final String parseBody() {
         if (values.isEmpty()) {
             addRow("No Data");
@@ -16,18 +16,27 @@
  */
 package com.djrapitops.plan.data.store;
 
-import java.util.Objects;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Identifier used for storing and fetching data from DataContainers.
+ * <p>
+ * Every distinct Key is given a dense ordinal when it is created, equal Keys share the same ordinal.
+ * Containers use the ordinal to look up values without hashing the type and name on each call.
  *
  * @param <T> Type of the object returned by the Value identified by this Key.
  * @author Rsl1122
  */
 public class Key<T> {
 
+    private static final Map<String, Integer> ORDINALS = new ConcurrentHashMap<>();
+    private static final AtomicInteger NEXT_ORDINAL = new AtomicInteger(0);
+
     private final Type<T> type;
     private final String keyName;
+    private final int ordinal;
 
     /**
      * Create a new key.
@@ -48,6 +57,10 @@ public class Key<T> {
     public Key(Type<T> type, String keyName) {
         this.type = type;
         this.keyName = keyName;
+        this.ordinal = ORDINALS.computeIfAbsent(
+                getClass().getName() + ':' + type.getGenericsSuperClass() + ':' + keyName,
+                identity -> NEXT_ORDINAL.getAndIncrement()
+        );
     }
 
     /**
@@ -68,18 +81,26 @@ public class Key<T> {
         return keyName;
     }
 
+    /**
+     * Get the ordinal of the Key.
+     *
+     * @return Ordinal that is the same for all equal Keys, starting from 0.
+     */
+    public int getOrdinal() {
+        return ordinal;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
-        if (o == null || getClass() != o.getClass()) return false;
-        Key<?> key = (Key<?>) o;
-        return Objects.equals(type, key.type) &&
-                Objects.equals(keyName, key.keyName);
+        if (!(o instanceof Key)) return false;
+        // Class, type and name of the Key are all a part of the ordinal.
+        return ordinal == ((Key<?>) o).ordinal;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(type, keyName);
+        return ordinal;
     }
 
     /**
@@ -28,9 +28,11 @@ import java.util.Objects;
 public abstract class Type<T> {
 
     private final String genericsSuperClass;
+    private final int hash;
 
     public Type() {
         genericsSuperClass = getGenericsClass().getGenericSuperclass().getTypeName();
+        hash = Objects.hashCode(genericsSuperClass);
     }
 
     public static <K> Type<K> ofClass(Class<K> of) {
@@ -45,6 +47,10 @@ public abstract class Type<T> {
         return (Class<Type<T>>) getClass();
     }
 
+    String getGenericsSuperClass() {
+        return genericsSuperClass;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -55,7 +61,6 @@ public abstract class Type<T> {
 
     @Override
     public int hashCode() {
-
-        return Objects.hash(genericsSuperClass);
+        return hash;
     }
 }
\ No newline at end of file
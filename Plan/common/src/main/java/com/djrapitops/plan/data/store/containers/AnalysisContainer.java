@@ -16,6 +16,7 @@
  */
 package com.djrapitops.plan.data.store.containers;
 
+import com.djrapitops.plan.data.container.Session;
 import com.djrapitops.plan.data.store.Key;
 import com.djrapitops.plan.data.store.Type;
 import com.djrapitops.plan.data.store.keys.AnalysisKeys;
@@ -23,7 +24,9 @@ import com.djrapitops.plan.data.store.keys.PlayerKeys;
 import com.djrapitops.plan.data.store.keys.ServerKeys;
 import com.djrapitops.plan.data.store.mutators.*;
 import com.djrapitops.plan.data.store.mutators.health.HealthInformation;
+import com.djrapitops.plan.data.store.objects.ServerAggregates;
 import com.djrapitops.plan.data.time.WorldTimes;
+import com.djrapitops.plan.system.cache.SessionCache;
 import com.djrapitops.plan.system.info.server.properties.ServerProperties;
 import com.djrapitops.plan.system.locale.Locale;
 import com.djrapitops.plan.system.settings.config.PlanConfig;
@@ -49,6 +52,8 @@ import javax.inject.Named;
 import javax.inject.Singleton;
 import java.util.*;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
@@ -119,6 +124,17 @@ public class AnalysisContainer extends DynamicDataContainer {
         addPluginSuppliers();
     }
 
+    /**
+     * Use the running totals of the server when they are available, instead of going through every session.
+     */
+    private <T> T fromAggregatesOr(Function<ServerAggregates, T> aggregated, Supplier<T> calculated) {
+        return serverContainer.getValue(ServerKeys.AGGREGATES).map(aggregated).orElseGet(calculated);
+    }
+
+    private Collection<Session> getActiveSessions() {
+        return SessionCache.getActiveSessions().values();
+    }
+
     private void addConstants() {
         long now = System.currentTimeMillis();
         putRawData(AnalysisKeys.ANALYSIS_TIME, now);
@@ -187,7 +203,7 @@ public class AnalysisContainer extends DynamicDataContainer {
         );
         putSupplier(AnalysisKeys.OPERATORS, () -> serverContainer.getValue(ServerKeys.OPERATORS).map(List::size).orElse(0));
         putSupplier(AnalysisKeys.PLAYERS_TABLE, () ->
-                tables.playerTableForServerPage(getUnsafe(AnalysisKeys.PLAYERS_MUTATOR).all()).parseHtml()
+                tables.playerTableForServerPage(getUnsafe(AnalysisKeys.PLAYERS_MUTATOR).all(), getUnsafe(AnalysisKeys.ANALYSIS_TIME)).parseHtml()
         );
         putSupplier(AnalysisKeys.PING_TABLE, () ->
                 tables.pingTable(
@@ -236,8 +252,14 @@ public class AnalysisContainer extends DynamicDataContainer {
         putSupplier(AnalysisKeys.AVG_PLAYERS_NEW_WEEK, () -> getUnsafe(newWeek).averageNewPerDay());
         putSupplier(AnalysisKeys.AVG_PLAYERS_NEW_MONTH, () -> getUnsafe(newMonth).averageNewPerDay());
 
-        putSupplier(AnalysisKeys.UNIQUE_PLAYERS_PER_DAY, () -> getUnsafe(AnalysisKeys.SESSIONS_MUTATOR).uniqueJoinsPerDay());
-        putSupplier(AnalysisKeys.NEW_PLAYERS_PER_DAY, () -> getUnsafe(AnalysisKeys.PLAYERS_MUTATOR).newPerDay());
+        putSupplier(AnalysisKeys.UNIQUE_PLAYERS_PER_DAY, () -> fromAggregatesOr(
+                aggregates -> aggregates.getUniquePerDay(getActiveSessions()),
+                () -> getUnsafe(AnalysisKeys.SESSIONS_MUTATOR).uniqueJoinsPerDay()
+        ));
+        putSupplier(AnalysisKeys.NEW_PLAYERS_PER_DAY, () -> fromAggregatesOr(
+                ServerAggregates::getNewPerDay,
+                () -> getUnsafe(AnalysisKeys.PLAYERS_MUTATOR).newPerDay()
+        ));
         putSupplier(AnalysisKeys.UNIQUE_PLAYERS_SERIES, () -> graphs.line().lineGraph(
                 MutatorFunctions.toPoints(getUnsafe(AnalysisKeys.UNIQUE_PLAYERS_PER_DAY))).toHighChartsSeries()
         );
@@ -321,11 +343,26 @@ public class AnalysisContainer extends DynamicDataContainer {
         putSupplier(AnalysisKeys.AVERAGE_SESSION_LENGTH_F,
                 () -> formatters.timeAmount().apply(getUnsafe(AnalysisKeys.SESSIONS_MUTATOR).toAverageSessionLength())
         );
-        putSupplier(AnalysisKeys.SESSION_COUNT, () -> getUnsafe(AnalysisKeys.SESSIONS_MUTATOR).count());
-        putSupplier(AnalysisKeys.PLAYTIME_TOTAL, () -> getUnsafe(AnalysisKeys.SESSIONS_MUTATOR).toPlaytime());
-        putSupplier(AnalysisKeys.DEATHS, () -> getUnsafe(AnalysisKeys.SESSIONS_MUTATOR).toDeathCount());
-        putSupplier(AnalysisKeys.MOB_KILL_COUNT, () -> getUnsafe(AnalysisKeys.SESSIONS_MUTATOR).toMobKillCount());
-        putSupplier(AnalysisKeys.PLAYER_KILL_COUNT, () -> getUnsafe(AnalysisKeys.SESSIONS_MUTATOR).toPlayerKillCount());
+        putSupplier(AnalysisKeys.SESSION_COUNT, () -> fromAggregatesOr(
+                aggregates -> aggregates.getSessionCount(getActiveSessions()),
+                () -> getUnsafe(AnalysisKeys.SESSIONS_MUTATOR).count()
+        ));
+        putSupplier(AnalysisKeys.PLAYTIME_TOTAL, () -> fromAggregatesOr(
+                aggregates -> aggregates.getPlaytime(getActiveSessions()),
+                () -> getUnsafe(AnalysisKeys.SESSIONS_MUTATOR).toPlaytime()
+        ));
+        putSupplier(AnalysisKeys.DEATHS, () -> fromAggregatesOr(
+                aggregates -> aggregates.getDeathCount(getActiveSessions()),
+                () -> getUnsafe(AnalysisKeys.SESSIONS_MUTATOR).toDeathCount()
+        ));
+        putSupplier(AnalysisKeys.MOB_KILL_COUNT, () -> fromAggregatesOr(
+                aggregates -> aggregates.getMobKillCount(getActiveSessions()),
+                () -> getUnsafe(AnalysisKeys.SESSIONS_MUTATOR).toMobKillCount()
+        ));
+        putSupplier(AnalysisKeys.PLAYER_KILL_COUNT, () -> fromAggregatesOr(
+                aggregates -> aggregates.getPlayerKillCount(getActiveSessions()),
+                () -> getUnsafe(AnalysisKeys.SESSIONS_MUTATOR).toPlayerKillCount()
+        ));
         putSupplier(AnalysisKeys.PLAYTIME_F,
                 () -> formatters.timeAmount().apply(getUnsafe(AnalysisKeys.PLAYTIME_TOTAL))
         );
@@ -21,6 +21,7 @@ import com.djrapitops.plan.utilities.formatting.Formatter;
 
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Supplier;
 
 /**
@@ -141,6 +142,17 @@ public interface DataContainer {
      */
     void clear();
 
+    /**
+     * Get the Keys that have been placed into the container.
+     * <p>
+     * Unlike {@link #getMap()} this does not call any of the Suppliers.
+     *
+     * @return Set of Keys.
+     */
+    default Set<Key> getKeys() {
+        return getMap().keySet();
+    }
+
     /**
      * Return a Key - Value Map of the data in the container.
      * <p>
@@ -20,6 +20,7 @@ import com.djrapitops.plan.data.store.Key;
 
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Supplier;
 
 /**
@@ -64,9 +65,9 @@ public class DynamicDataContainer implements DataContainer {
 
     @Override
     public <T> Optional<T> getValue(Key<T> key) {
-        Optional<T> raw = rawDataContainer.getValue(key);
-        if (raw.isPresent()) {
-            return raw;
+        Object raw = rawDataContainer.getRaw(key);
+        if (raw != null) {
+            return Optional.of(key.typeCast(raw));
         } else {
             return supplierDataContainer.getValue(key);
         }
@@ -74,8 +75,9 @@ public class DynamicDataContainer implements DataContainer {
 
     @Override
     public <T> T getUnsafe(Key<T> key) {
-        if (rawDataContainer.supports(key)) {
-            return rawDataContainer.getUnsafe(key);
+        Object raw = rawDataContainer.getRaw(key);
+        if (raw != null) {
+            return key.typeCast(raw);
         } else {
             return supplierDataContainer.getUnsafe(key);
         }
@@ -98,6 +100,13 @@ public class DynamicDataContainer implements DataContainer {
         supplierDataContainer.clear();
     }
 
+    @Override
+    public Set<Key> getKeys() {
+        Set<Key> keys = supplierDataContainer.getKeys();
+        keys.addAll(rawDataContainer.getKeys());
+        return keys;
+    }
+
     @Override
     public Map<Key, Object> getMap() {
         Map<Key, Object> map = supplierDataContainer.getMap();
@@ -0,0 +1,116 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.data.store.containers;
+
+import com.djrapitops.plan.data.store.Key;
+
+import java.util.*;
+
+/**
+ * Small map of {@link Key}s to values, stored in arrays sorted by {@link Key#getOrdinal()}.
+ * <p>
+ * Containers usually hold only a few dozen values, so a binary search over the ordinals is cheaper
+ * than hashing the Key and it does not need an entry object for each value.
+ * Like the HashMap it replaces, this class is not thread safe.
+ *
+ * @param <V> Type of the values.
+ * @author Rsl1122
+ */
+class KeyArrayMap<V> {
+
+    private static final int INITIAL_CAPACITY = 4;
+    private static final int[] NO_ORDINALS = new int[0];
+    private static final Key[] NO_KEYS = new Key[0];
+    private static final Object[] NO_VALUES = new Object[0];
+
+    private int size;
+    private int[] ordinals;
+    private Key[] keys;
+    private Object[] values;
+
+    KeyArrayMap() {
+        clear();
+    }
+
+    private int indexOf(Key key) {
+        return Arrays.binarySearch(ordinals, 0, size, key.getOrdinal());
+    }
+
+    boolean containsKey(Key key) {
+        return indexOf(key) >= 0;
+    }
+
+    V get(Key key) {
+        int index = indexOf(key);
+        return index >= 0 ? (V) values[index] : null;
+    }
+
+    void put(Key key, V value) {
+        int index = indexOf(key);
+        if (index >= 0) {
+            values[index] = value;
+            return;
+        }
+
+        int insertAt = -(index + 1);
+        if (size == ordinals.length) {
+            int capacity = Math.max(INITIAL_CAPACITY, size * 2);
+            ordinals = Arrays.copyOf(ordinals, capacity);
+            keys = Arrays.copyOf(keys, capacity);
+            values = Arrays.copyOf(values, capacity);
+        }
+        int moved = size - insertAt;
+        System.arraycopy(ordinals, insertAt, ordinals, insertAt + 1, moved);
+        System.arraycopy(keys, insertAt, keys, insertAt + 1, moved);
+        System.arraycopy(values, insertAt, values, insertAt + 1, moved);
+
+        ordinals[insertAt] = key.getOrdinal();
+        keys[insertAt] = key;
+        values[insertAt] = value;
+        size++;
+    }
+
+    void putAll(KeyArrayMap<? extends V> other) {
+        for (int i = 0; i < other.size; i++) {
+            put(other.keys[i], (V) other.values[i]);
+        }
+    }
+
+    void clear() {
+        // Arrays are allocated on the first put, since many containers never store anything.
+        size = 0;
+        ordinals = NO_ORDINALS;
+        keys = NO_KEYS;
+        values = NO_VALUES;
+    }
+
+    int size() {
+        return size;
+    }
+
+    Key getKey(int index) {
+        return keys[index];
+    }
+
+    V getValue(int index) {
+        return (V) values[index];
+    }
+
+    Set<Key> keySet() {
+        return new HashSet<>(Arrays.asList(keys).subList(0, size));
+    }
+}
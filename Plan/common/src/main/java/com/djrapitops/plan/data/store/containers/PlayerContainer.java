@@ -16,9 +16,12 @@
  */
 package com.djrapitops.plan.data.store.containers;
 
+import com.djrapitops.plan.data.store.keys.PlayerKeys;
 import com.djrapitops.plan.data.store.mutators.ActivityIndex;
+import com.djrapitops.plan.data.store.mutators.ActivityTimeline;
 import com.djrapitops.plan.data.store.mutators.SessionsMutator;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -33,13 +36,32 @@ import java.util.Map;
 public class PlayerContainer extends DynamicDataContainer {
 
     private Map<Long, ActivityIndex> activityIndexCache;
+    private ActivityTimeline activityTimeline;
 
     public PlayerContainer() {
         activityIndexCache = new HashMap<>();
     }
 
     public ActivityIndex getActivityIndex(long date, long playtimeMsThreshold, int loginThreshold) {
-        return activityIndexCache.computeIfAbsent(date, time -> new ActivityIndex(this, time, playtimeMsThreshold, loginThreshold));
+        return activityIndexCache.computeIfAbsent(date, time -> {
+            int dateIndex = activityTimeline != null ? activityTimeline.indexOf(time) : -1;
+            return dateIndex != -1 ? activityTimeline.getActivityIndex(dateIndex, playtimeMsThreshold, loginThreshold)
+                    : new ActivityIndex(this, time, playtimeMsThreshold, loginThreshold);
+        });
+    }
+
+    /**
+     * Get the activity timeline of the player, calculated once for the given dates.
+     *
+     * @param newestDate Epoch ms of the most recent date.
+     * @param dateCount  Number of dates one week apart.
+     * @return ActivityTimeline that can be used for activity indexes of the dates.
+     */
+    public ActivityTimeline getActivityTimeline(long newestDate, int dateCount) {
+        if (activityTimeline == null || activityTimeline.getDate(0) != newestDate || activityTimeline.getDateCount() < dateCount) {
+            activityTimeline = ActivityTimeline.forSessions(getValue(PlayerKeys.SESSIONS).orElse(new ArrayList<>()), newestDate, dateCount);
+        }
+        return activityTimeline;
     }
 
     public boolean playedBetween(long after, long before) {
@@ -18,9 +18,7 @@ package com.djrapitops.plan.data.store.containers;
 
 import com.djrapitops.plan.data.store.Key;
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.Optional;
+import java.util.*;
 import java.util.function.Supplier;
 
 /**
@@ -30,13 +28,13 @@ import java.util.function.Supplier;
  */
 public class RawDataContainer implements DataContainer {
 
-    private final Map<Key, Object> map;
+    private final KeyArrayMap<Object> map;
 
     /**
      * Create a RawDataContainer.
      */
     public RawDataContainer() {
-        map = new HashMap<>();
+        map = new KeyArrayMap<>();
     }
 
     @Override
@@ -65,6 +63,10 @@ public class RawDataContainer implements DataContainer {
         return map.containsKey(key);
     }
 
+    Object getRaw(Key key) {
+        return map.get(key);
+    }
+
     @Override
     public <T> Optional<T> getValue(Key<T> key) {
         try {
@@ -86,14 +88,16 @@ public class RawDataContainer implements DataContainer {
     @Override
     public void putAll(DataContainer dataContainer) {
         if (dataContainer instanceof RawDataContainer) {
-            putAll(((RawDataContainer) dataContainer).map);
+            map.putAll(((RawDataContainer) dataContainer).map);
         } else {
             putAll(dataContainer.getMap());
         }
     }
 
-    void putAll(Map<Key, Object> map) {
-        this.map.putAll(map);
+    void putAll(Map<Key, Object> toPut) {
+        for (Map.Entry<Key, Object> entry : toPut.entrySet()) {
+            putRawData(entry.getKey(), entry.getValue());
+        }
     }
 
     @Override
@@ -101,8 +105,17 @@ public class RawDataContainer implements DataContainer {
         map.clear();
     }
 
+    @Override
+    public Set<Key> getKeys() {
+        return map.keySet();
+    }
+
     @Override
     public Map<Key, Object> getMap() {
-        return map;
+        Map<Key, Object> values = new HashMap<>();
+        for (int i = 0; i < map.size(); i++) {
+            values.put(map.getKey(i), map.getValue(i));
+        }
+        return values;
     }
 }
\ No newline at end of file
@@ -22,9 +22,9 @@ import com.djrapitops.plan.data.store.Key;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
-import java.util.stream.Collectors;
 
 /**
  * DataContainer implementation that stores everything in {@link Supplier} objects.
@@ -33,7 +33,7 @@ import java.util.stream.Collectors;
  */
 public class SupplierDataContainer implements DataContainer {
 
-    private final Map<Key, Supplier> map;
+    private final KeyArrayMap<Supplier> map;
     private long timeToLive;
 
     /**
@@ -52,7 +52,7 @@ public class SupplierDataContainer implements DataContainer {
      */
     public SupplierDataContainer(long timeToLive) {
         this.timeToLive = timeToLive;
-        map = new HashMap<>();
+        map = new KeyArrayMap<>();
     }
 
     @Override
@@ -100,21 +100,17 @@ public class SupplierDataContainer implements DataContainer {
 
     @Override
     public <T> T getUnsafe(Key<T> key) {
-        Supplier supplier = map.get(key);
+        Supplier supplier = getSupplier(key);
         if (supplier == null) {
             throw new IllegalArgumentException("Unsupported Key: " + key.getKeyName());
         }
         return key.typeCast(supplier.get());
     }
 
-    private void putAll(Map<Key, Supplier> toPut) {
-        map.putAll(toPut);
-    }
-
     @Override
     public void putAll(DataContainer dataContainer) {
         if (dataContainer instanceof SupplierDataContainer) {
-            putAll(((SupplierDataContainer) dataContainer).map);
+            map.putAll(((SupplierDataContainer) dataContainer).map);
         } else {
             for (Map.Entry<Key, Object> entry : dataContainer.getMap().entrySet()) {
                 putRawData(entry.getKey(), entry.getValue());
@@ -127,8 +123,17 @@ public class SupplierDataContainer implements DataContainer {
         map.clear();
     }
 
+    @Override
+    public Set<Key> getKeys() {
+        return map.keySet();
+    }
+
     @Override
     public Map<Key, Object> getMap() {
-        return map.entrySet().stream().collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().get()));
+        Map<Key, Object> values = new HashMap<>();
+        for (int i = 0; i < map.size(); i++) {
+            values.put(map.getKey(i), map.getValue(i).get());
+        }
+        return values;
     }
 }
\ No newline at end of file
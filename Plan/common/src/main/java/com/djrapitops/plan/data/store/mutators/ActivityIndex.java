@@ -20,7 +20,6 @@ import com.djrapitops.plan.data.container.Session;
 import com.djrapitops.plan.data.store.containers.DataContainer;
 import com.djrapitops.plan.data.store.keys.PlayerKeys;
 import com.djrapitops.plan.utilities.formatting.Formatter;
-import com.djrapitops.plugin.api.TimeAmount;
 
 import java.util.List;
 import java.util.Optional;
@@ -42,46 +41,56 @@ public class ActivityIndex {
         value = calculate(container, date);
     }
 
+    /**
+     * Create an ActivityIndex from values that have already been calculated for the three weeks before the date.
+     *
+     * @param activePlaytime      Active playtime of each week, most recent week first.
+     * @param sessionCounts       Number of sessions of each week, most recent week first.
+     * @param playtimeMsThreshold Active playtime threshold.
+     * @param loginThreshold      Active session count threshold.
+     */
+    public ActivityIndex(
+            long[] activePlaytime, int[] sessionCounts,
+            long playtimeMsThreshold, int loginThreshold
+    ) {
+        this.playtimeMsThreshold = playtimeMsThreshold;
+        this.loginThreshold = loginThreshold;
+
+        value = calculate(activePlaytime, sessionCounts);
+    }
+
     public static String[] getGroups() {
         return new String[]{"Very Active", "Active", "Regular", "Irregular", "Inactive"};
     }
 
     private double calculate(DataContainer container, long date) {
-        long week = TimeAmount.WEEK.toMillis(1L);
-        long weekAgo = date - week;
-        long twoWeeksAgo = date - 2L * week;
-        long threeWeeksAgo = date - 3L * week;
-
-        long activePlayThreshold = playtimeMsThreshold;
-        int activeLoginThreshold = loginThreshold;
-
         Optional<List<Session>> sessionsValue = container.getValue(PlayerKeys.SESSIONS);
-        if (!sessionsValue.isPresent()) {
-            return 0.0;
-        }
-        SessionsMutator sessionsMutator = new SessionsMutator(sessionsValue.get());
-        if (sessionsMutator.all().isEmpty()) {
+        if (!sessionsValue.isPresent() || sessionsValue.get().isEmpty()) {
             return 0.0;
         }
 
-        SessionsMutator weekOne = sessionsMutator.filterSessionsBetween(weekAgo, date);
-        SessionsMutator weekTwo = sessionsMutator.filterSessionsBetween(twoWeeksAgo, weekAgo);
-        SessionsMutator weekThree = sessionsMutator.filterSessionsBetween(threeWeeksAgo, twoWeeksAgo);
+        ActivityTimeline timeline = ActivityTimeline.forSessions(sessionsValue.get(), date, 1);
+        return calculate(timeline.getActivePlaytimeOfWeeks(0), timeline.getSessionCountsOfWeeks(0));
+    }
+
+    private double calculate(long[] activePlaytime, int[] sessionCounts) {
+        long activePlayThreshold = playtimeMsThreshold;
+        int activeLoginThreshold = loginThreshold;
 
         // Playtime per week multipliers, max out to avoid too high values.
         double max = 4.0;
 
-        long playtimeWeek = weekOne.toActivePlaytime();
+        long playtimeWeek = activePlaytime[0];
         double weekPlay = (playtimeWeek * 1.0 / activePlayThreshold);
         if (weekPlay > max) {
             weekPlay = max;
         }
-        long playtimeWeek2 = weekTwo.toActivePlaytime();
+        long playtimeWeek2 = activePlaytime[1];
         double week2Play = (playtimeWeek2 * 1.0 / activePlayThreshold);
         if (week2Play > max) {
             week2Play = max;
         }
-        long playtimeWeek3 = weekThree.toActivePlaytime();
+        long playtimeWeek3 = activePlaytime[2];
         double week3Play = (playtimeWeek3 * 1.0 / activePlayThreshold);
         if (week3Play > max) {
             week3Play = max;
@@ -105,9 +114,9 @@ public class ActivityIndex {
 
         double playAvg = (weekPlay + week2Play + week3Play) / 3.0;
 
-        double weekLogin = weekOne.count() >= activeLoginThreshold ? 1.0 : 0.5;
-        double week2Login = weekTwo.count() >= activeLoginThreshold ? 1.0 : 0.5;
-        double week3Login = weekThree.count() >= activeLoginThreshold ? 1.0 : 0.5;
+        double weekLogin = sessionCounts[0] >= activeLoginThreshold ? 1.0 : 0.5;
+        double week2Login = sessionCounts[1] >= activeLoginThreshold ? 1.0 : 0.5;
+        double week3Login = sessionCounts[2] >= activeLoginThreshold ? 1.0 : 0.5;
 
         double loginMultiplier = 1.0;
         double loginTotal = weekLogin + week2Login + week3Login;
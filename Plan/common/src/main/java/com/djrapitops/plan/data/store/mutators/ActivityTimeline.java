@@ -0,0 +1,151 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.data.store.mutators;
+
+import com.djrapitops.plan.data.container.Session;
+import com.djrapitops.plan.data.store.keys.SessionKeys;
+import com.djrapitops.plugin.api.TimeAmount;
+
+import java.util.Collection;
+
+/**
+ * Active playtime and session counts of a player in week long buckets, used for calculating {@link ActivityIndex}es.
+ * <p>
+ * Buckets are counted backwards from the newest date, so the activity index of date {@code newestDate - i weeks}
+ * uses buckets {@code i}, {@code i + 1} and {@code i + 2}. All buckets are filled with a single pass over the sessions.
+ * <p>
+ * A session is counted in a week if it starts or ends inside it, same as
+ * {@link SessionsMutator#filterSessionsBetween(long, long)}, so a session can be counted in two adjacent weeks.
+ *
+ * @author Rsl1122
+ */
+public class ActivityTimeline {
+
+    private static final long WEEK_MS = TimeAmount.WEEK.toMillis(1L);
+    private static final int WEEKS_PER_INDEX = 3;
+
+    private final long newestDate;
+    private final int dateCount;
+
+    private final long[] activePlaytime;
+    private final int[] sessionCounts;
+
+    /**
+     * Create a new empty ActivityTimeline.
+     *
+     * @param newestDate Epoch ms of the most recent date activity index is calculated for.
+     * @param dateCount  Number of dates, one week apart, activity index is calculated for.
+     */
+    public ActivityTimeline(long newestDate, int dateCount) {
+        this.newestDate = newestDate;
+        this.dateCount = dateCount;
+
+        int bucketCount = dateCount + WEEKS_PER_INDEX - 1;
+        activePlaytime = new long[bucketCount];
+        sessionCounts = new int[bucketCount];
+    }
+
+    public static ActivityTimeline forSessions(Collection<Session> sessions, long newestDate, int dateCount) {
+        ActivityTimeline timeline = new ActivityTimeline(newestDate, dateCount);
+        long now = System.currentTimeMillis();
+        for (Session session : sessions) {
+            long start = session.getUnsafe(SessionKeys.START);
+            long end = session.getValue(SessionKeys.END).orElse(now);
+            timeline.addSession(start, end, session.getValue(SessionKeys.ACTIVE_TIME).orElse(0L));
+        }
+        return timeline;
+    }
+
+    /**
+     * Add a session to every week bucket its start or end is in.
+     *
+     * @param start      Epoch ms the session started.
+     * @param end        Epoch ms the session ended.
+     * @param activeTime Playtime of the session without AFK time.
+     */
+    public void addSession(long start, long end, long activeTime) {
+        int startBucket = lastBucketOf(start);
+        int endBucket = lastBucketOf(end);
+        int startFirst = firstBucketOf(start, startBucket);
+        int endFirst = firstBucketOf(end, endBucket);
+
+        // Buckets of the start and end both form a range of at most 2, a bucket can still be in both.
+        for (int bucket = Math.min(startFirst, endFirst); bucket <= Math.max(startBucket, endBucket); bucket++) {
+            boolean inStart = startFirst <= bucket && bucket <= startBucket;
+            boolean inEnd = endFirst <= bucket && bucket <= endBucket;
+            if ((inStart || inEnd) && 0 <= bucket && bucket < activePlaytime.length) {
+                activePlaytime[bucket] += activeTime;
+                sessionCounts[bucket]++;
+            }
+        }
+    }
+
+    private int lastBucketOf(long date) {
+        long sinceDate = newestDate - date;
+        if (sinceDate < 0) {
+            return -1;
+        }
+        // Dates far in the past are clamped past the last bucket, so that the boundary check can not move them inside.
+        return (int) Math.min(sinceDate / WEEK_MS, activePlaytime.length + 1L);
+    }
+
+    private int firstBucketOf(long date, int lastBucket) {
+        // Dates exactly on the boundary of two weeks belong to both of them.
+        long sinceDate = newestDate - date;
+        if (lastBucket > 0 && sinceDate % WEEK_MS == 0) {
+            return lastBucket - 1;
+        }
+        return lastBucket;
+    }
+
+    public long getDate(int dateIndex) {
+        return newestDate - dateIndex * WEEK_MS;
+    }
+
+    public int getDateCount() {
+        return dateCount;
+    }
+
+    /**
+     * Find the index of a date in the timeline.
+     *
+     * @param date Epoch ms.
+     * @return Index of the date, or -1 if activity index of the date can not be calculated from this timeline.
+     */
+    public int indexOf(long date) {
+        long sinceDate = newestDate - date;
+        if (sinceDate < 0 || sinceDate % WEEK_MS != 0 || sinceDate / WEEK_MS >= dateCount) {
+            return -1;
+        }
+        return (int) (sinceDate / WEEK_MS);
+    }
+
+    public ActivityIndex getActivityIndex(int dateIndex, long playtimeMsThreshold, int loginThreshold) {
+        return new ActivityIndex(
+                getActivePlaytimeOfWeeks(dateIndex), getSessionCountsOfWeeks(dateIndex),
+                playtimeMsThreshold, loginThreshold
+        );
+    }
+
+    long[] getActivePlaytimeOfWeeks(int dateIndex) {
+        return new long[]{activePlaytime[dateIndex], activePlaytime[dateIndex + 1], activePlaytime[dateIndex + 2]};
+    }
+
+    int[] getSessionCountsOfWeeks(int dateIndex) {
+        return new int[]{sessionCounts[dateIndex], sessionCounts[dateIndex + 1], sessionCounts[dateIndex + 2]};
+    }
+}
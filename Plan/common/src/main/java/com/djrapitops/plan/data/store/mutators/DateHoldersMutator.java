@@ -18,10 +18,7 @@ package com.djrapitops.plan.data.store.mutators;
 
 import com.djrapitops.plan.data.store.objects.DateHolder;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.SortedMap;
-import java.util.TreeMap;
+import java.util.*;
 import java.util.concurrent.TimeUnit;
 
 public class DateHoldersMutator<T extends DateHolder> {
@@ -71,4 +68,32 @@ public class DateHoldersMutator<T extends DateHolder> {
         return map;
     }
 
+    /**
+     * Select the most recent date holders without sorting or modifying the whole list.
+     * <p>
+     * Uses a heap that is bounded to the given count, so that the cost depends on the count instead of list size.
+     *
+     * @param count Maximum number of date holders to select.
+     * @return New list with at most count date holders, most recent first.
+     */
+    public List<T> toMostRecent(int count) {
+        if (count <= 0) {
+            return new ArrayList<>();
+        }
+        Comparator<T> oldestFirst = Comparator.comparingLong(DateHolder::getDate);
+        PriorityQueue<T> mostRecent = new PriorityQueue<>(Math.min(count, Math.max(dateHolders.size(), 1)), oldestFirst);
+        for (T holder : dateHolders) {
+            if (mostRecent.size() < count) {
+                mostRecent.offer(holder);
+            } else if (holder.getDate() > mostRecent.peek().getDate()) {
+                mostRecent.poll();
+                mostRecent.offer(holder);
+            }
+        }
+
+        List<T> selected = new ArrayList<>(mostRecent);
+        selected.sort(oldestFirst.reversed());
+        return selected;
+    }
+
 }
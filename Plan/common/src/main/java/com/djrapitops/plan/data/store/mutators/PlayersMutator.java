@@ -140,23 +140,24 @@ public class PlayersMutator {
     }
 
     public TreeMap<Long, Map<String, Set<UUID>>> toActivityDataMap(long date, long msThreshold, int loginThreshold) {
+        int dateCount = (int) (TimeAmount.MONTH.toMillis(2L) / TimeAmount.WEEK.toMillis(1L)) + 1;
+
         TreeMap<Long, Map<String, Set<UUID>>> activityData = new TreeMap<>();
-        for (long time = date; time >= date - TimeAmount.MONTH.toMillis(2L); time -= TimeAmount.WEEK.toMillis(1L)) {
-            Map<String, Set<UUID>> map = activityData.getOrDefault(time, new HashMap<>());
-            if (!players.isEmpty()) {
-                for (PlayerContainer player : players) {
-                    if (player.getValue(PlayerKeys.REGISTERED).orElse(0L) > time) {
-                        continue;
-                    }
-                    ActivityIndex activityIndex = player.getActivityIndex(time, msThreshold, loginThreshold);
-                    String activityGroup = activityIndex.getGroup();
-
-                    Set<UUID> uuids = map.getOrDefault(activityGroup, new HashSet<>());
-                    uuids.add(player.getUnsafe(PlayerKeys.UUID));
-                    map.put(activityGroup, uuids);
+        for (int i = 0; i < dateCount; i++) {
+            activityData.put(date - i * TimeAmount.WEEK.toMillis(1L), new HashMap<>());
+        }
+        for (PlayerContainer player : players) {
+            long registered = player.getValue(PlayerKeys.REGISTERED).orElse(0L);
+            ActivityTimeline timeline = player.getActivityTimeline(date, dateCount);
+            for (int i = 0; i < dateCount; i++) {
+                long time = timeline.getDate(i);
+                if (registered > time) {
+                    // Earlier dates are before the registration as well.
+                    break;
                 }
+                String activityGroup = timeline.getActivityIndex(i, msThreshold, loginThreshold).getGroup();
+                activityData.get(time).computeIfAbsent(activityGroup, group -> new HashSet<>()).add(player.getUnsafe(PlayerKeys.UUID));
             }
-            activityData.put(time, map);
         }
         return activityData;
     }
@@ -20,6 +20,7 @@ import com.djrapitops.plan.data.store.containers.PlayerContainer;
 import com.djrapitops.plan.data.store.keys.PlayerKeys;
 import com.google.common.base.Objects;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
@@ -64,13 +65,12 @@ public class RetentionData {
             int activityLoginThreshold
     ) {
         Optional<Long> registeredValue = player.getValue(PlayerKeys.REGISTERED);
+        // Each player has a different date, so the timeline of the date is not cached in the container.
         activityIndex = registeredValue
-                .map(registered -> new ActivityIndex(
-                        player,
-                        registered + TimeUnit.DAYS.toMillis(1L),
-                        activityMsThreshold,
-                        activityLoginThreshold
-                ).getValue())
+                .map(registered -> ActivityTimeline.forSessions(
+                        player.getValue(PlayerKeys.SESSIONS).orElse(new ArrayList<>()),
+                        registered + TimeUnit.DAYS.toMillis(1L), 1
+                ).getActivityIndex(0, activityMsThreshold, activityLoginThreshold).getValue())
                 .orElse(0.0);
         this.onlineOnJoin = registeredValue
                 .map(registered -> onlineOnJoin.getOnlineOn(registered).orElse(-1))
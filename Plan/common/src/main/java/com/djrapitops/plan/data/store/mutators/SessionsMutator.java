@@ -74,6 +74,16 @@ public class SessionsMutator {
         return new DateHoldersMutator<>(sessions);
     }
 
+    /**
+     * Get the most recent sessions without sorting the whole list.
+     *
+     * @param count Maximum number of sessions.
+     * @return New list of at most count sessions, most recent first.
+     */
+    public List<Session> toMostRecent(int count) {
+        return toDateHoldersMutator().toMostRecent(count);
+    }
+
     public WorldTimes toTotalWorldTimes() {
         WorldTimes total = new WorldTimes();
 
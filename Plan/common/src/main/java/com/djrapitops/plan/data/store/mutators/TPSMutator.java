@@ -21,11 +21,13 @@ import com.djrapitops.plan.data.store.containers.DataContainer;
 import com.djrapitops.plan.data.store.keys.ServerKeys;
 import com.djrapitops.plan.utilities.comparators.TPSComparator;
 import com.djrapitops.plan.utilities.html.graphs.line.Point;
+import com.djrapitops.plan.utilities.html.graphs.line.PointSeries;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
 import java.util.stream.Collectors;
 
 /**
@@ -71,42 +73,44 @@ public class TPSMutator {
                 .collect(Collectors.toList());
     }
 
-    public List<Point> tpsPoints() {
-        return tpsData.stream()
-                .map(tps -> new Point(tps.getDate(), tps.getTicksPerSecond()))
-                .collect(Collectors.toList());
+    public PointSeries playersOnlineSeries() {
+        return toSeries(TPS::getPlayers, false);
     }
 
-    public List<Point> cpuPoints() {
-        return tpsData.stream()
-                .map(tps -> new Point(tps.getDate(), tps.getCPUUsage()))
-                .filter(point -> point.getY() != -1)
-                .collect(Collectors.toList());
+    public PointSeries tpsSeries() {
+        return toSeries(TPS::getTicksPerSecond, false);
     }
 
-    public List<Point> ramUsagePoints() {
-        return tpsData.stream()
-                .map(tps -> new Point(tps.getDate(), tps.getUsedMemory()))
-                .collect(Collectors.toList());
+    public PointSeries cpuSeries() {
+        return toSeries(TPS::getCPUUsage, true);
     }
 
-    public List<Point> entityPoints() {
-        return tpsData.stream()
-                .map(tps -> new Point(tps.getDate(), tps.getEntityCount()))
-                .collect(Collectors.toList());
+    public PointSeries ramUsageSeries() {
+        return toSeries(TPS::getUsedMemory, false);
     }
 
-    public List<Point> chunkPoints() {
-        return tpsData.stream()
-                .map(tps -> new Point(tps.getDate(), tps.getChunksLoaded()))
-                .collect(Collectors.toList());
+    public PointSeries entitySeries() {
+        return toSeries(TPS::getEntityCount, false);
     }
 
-    public List<Point> freeDiskPoints() {
-        return tpsData.stream()
-                .map(tps -> new Point(tps.getDate(), tps.getFreeDiskSpace()))
-                .filter(point -> point.getY() != -1)
-                .collect(Collectors.toList());
+    public PointSeries chunkSeries() {
+        return toSeries(TPS::getChunksLoaded, false);
+    }
+
+    public PointSeries freeDiskSeries() {
+        return toSeries(TPS::getFreeDiskSpace, true);
+    }
+
+    private PointSeries toSeries(ToDoubleFunction<TPS> valueFunction, boolean skipUnavailable) {
+        PointSeries series = new PointSeries(tpsData.size());
+        for (TPS tps : tpsData) {
+            double value = valueFunction.applyAsDouble(tps);
+            if (skipUnavailable && value == -1) {
+                continue;
+            }
+            series.add(tps.getDate(), value);
+        }
+        return series;
     }
 
     public long serverDownTime() {
@@ -0,0 +1,120 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.data.store.objects;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory index of the UUIDs and names of all players in the database.
+ * <p>
+ * Names are looked up case-insensitively, same as {@link com.djrapitops.plan.db.access.queries.objects.UserIdentifierQueries#fetchPlayerUUIDOf(String)}.
+ * Lookups do not lock, updates are synchronized so that both directions stay consistent.
+ *
+ * @author Rsl1122
+ * @see com.djrapitops.plan.db.access.queries.objects.PlayerIdentityQueries for queries that use the index.
+ */
+public class PlayerIdentities {
+
+    private final Map<UUID, String> namesByUUID;
+    private final Map<String, UUID> uuidsByName;
+
+    /**
+     * Create a new PlayerIdentities.
+     *
+     * @param names Map: Player UUID - Player name, of all players in the database.
+     */
+    public PlayerIdentities(Map<UUID, String> names) {
+        namesByUUID = new ConcurrentHashMap<>(names.size());
+        uuidsByName = new ConcurrentHashMap<>(names.size());
+        for (Map.Entry<UUID, String> entry : names.entrySet()) {
+            put(entry.getKey(), entry.getValue());
+        }
+    }
+
+    private static String nameKey(String playerName) {
+        return playerName.toLowerCase(Locale.ROOT);
+    }
+
+    public synchronized void put(UUID playerUUID, String playerName) {
+        if (playerName == null) {
+            return;
+        }
+        String previous = namesByUUID.put(playerUUID, playerName);
+        if (previous != null && !previous.equalsIgnoreCase(playerName)) {
+            uuidsByName.remove(nameKey(previous), playerUUID);
+        }
+        uuidsByName.put(nameKey(playerName), playerUUID);
+    }
+
+    public synchronized void remove(UUID playerUUID) {
+        String previous = namesByUUID.remove(playerUUID);
+        if (previous != null) {
+            uuidsByName.remove(nameKey(previous), playerUUID);
+        }
+    }
+
+    public boolean contains(UUID playerUUID) {
+        return namesByUUID.containsKey(playerUUID);
+    }
+
+    public Optional<String> getName(UUID playerUUID) {
+        return Optional.ofNullable(namesByUUID.get(playerUUID));
+    }
+
+    public Optional<UUID> getUUID(String playerName) {
+        return Optional.ofNullable(uuidsByName.get(nameKey(playerName)));
+    }
+
+    /**
+     * Get a copy of all names.
+     *
+     * @return Map: Player UUID - Player name
+     */
+    public Map<UUID, String> getNames() {
+        return new HashMap<>(namesByUUID);
+    }
+
+    /**
+     * Find names that contain the given text, ignoring case.
+     *
+     * @param searchFor Part of the name.
+     * @return Matching names in alphabetical order.
+     */
+    public List<String> getMatchingNames(String searchFor) {
+        String lowerCase = nameKey(searchFor);
+        List<String> matching = new ArrayList<>();
+        for (String name : namesByUUID.values()) {
+            if (nameKey(name).contains(lowerCase)) {
+                matching.add(name);
+            }
+        }
+        Collections.sort(matching);
+        return matching;
+    }
+
+    public int size() {
+        return namesByUUID.size();
+    }
+
+    @Override
+    public String toString() {
+        return "PlayerIdentities{" +
+                "size=" + size() +
+                '}';
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.data.store.objects;
+
+import com.djrapitops.plan.data.container.Session;
+import com.djrapitops.plan.data.store.keys.SessionKeys;
+import com.djrapitops.plan.data.store.mutators.ActivityIndex;
+import com.djrapitops.plugin.api.TimeAmount;
+
+import java.util.Comparator;
+import java.util.UUID;
+
+/**
+ * Summary of a player that is shown on a row of the players table.
+ * <p>
+ * Rows are loaded with aggregate queries so that sessions of every player do not need to be loaded.
+ * Active sessions are not in the database, so they are added with {@link #withActiveSession(Session, long, long, int)}.
+ *
+ * @author Rsl1122
+ * @see com.djrapitops.plan.db.access.queries.containers.PlayerTableRowsQuery for loading the rows.
+ */
+public class PlayerTableRow {
+
+    public static final int COLUMN_COUNT = 7;
+
+    private final UUID playerUUID;
+    private final String name;
+    private final ActivityIndex activityIndex;
+    private final boolean banned;
+    private final long playtime;
+    private final int sessionCount;
+    private final long registered;
+    private final long lastSeen;
+    private final String geolocation;
+
+    // Values of the three weeks the activity index was calculated from
+    private final long[] weekActivePlaytime;
+    private final int[] weekSessionCounts;
+
+    private final String searchableText;
+
+    public PlayerTableRow(
+            UUID playerUUID, String name,
+            ActivityIndex activityIndex, boolean banned,
+            long playtime, int sessionCount,
+            long registered, long lastSeen,
+            String geolocation,
+            long[] weekActivePlaytime, int[] weekSessionCounts
+    ) {
+        this.playerUUID = playerUUID;
+        this.name = name;
+        this.activityIndex = activityIndex;
+        this.banned = banned;
+        this.playtime = playtime;
+        this.sessionCount = sessionCount;
+        this.registered = registered;
+        this.lastSeen = lastSeen;
+        this.geolocation = geolocation;
+        this.weekActivePlaytime = weekActivePlaytime;
+        this.weekSessionCounts = weekSessionCounts;
+
+        searchableText = (name + " " + geolocation).toLowerCase();
+    }
+
+    /**
+     * Create a row that also counts an active session of the player.
+     * <p>
+     * The session is counted in the weeks it starts or ends in, same as the sessions of the rows query.
+     *
+     * @param session              Active session that has not been stored in the database.
+     * @param date                 Epoch ms of the moment the session is counted until.
+     * @param activeMsThreshold    Active playtime threshold of the activity index.
+     * @param activeLoginThreshold Login threshold of the activity index.
+     * @return New row.
+     */
+    public PlayerTableRow withActiveSession(Session session, long date, long activeMsThreshold, int activeLoginThreshold) {
+        long start = session.getUnsafe(SessionKeys.START);
+        long length = date - start;
+        long activeTime = length - session.getValue(SessionKeys.AFK_TIME).orElse(0L);
+
+        long[] activePlaytime = weekActivePlaytime.clone();
+        int[] sessionCounts = weekSessionCounts.clone();
+        long week = TimeAmount.WEEK.toMillis(1L);
+        for (int i = 0; i < sessionCounts.length; i++) {
+            long before = date - i * week;
+            long after = before - week;
+            if (after <= start && start <= before || after <= date && date <= before) {
+                activePlaytime[i] += activeTime;
+                sessionCounts[i]++;
+            }
+        }
+
+        return new PlayerTableRow(
+                playerUUID, name,
+                new ActivityIndex(activePlaytime, sessionCounts, activeMsThreshold, activeLoginThreshold), banned,
+                playtime + length, sessionCount + 1,
+                registered, Math.max(lastSeen, date),
+                geolocation,
+                activePlaytime, sessionCounts
+        );
+    }
+
+    /**
+     * Get a Comparator that sorts the rows by a column of the players table in ascending order.
+     *
+     * @param column Index of the column: name, activity index, playtime, sessions, registered, last seen, geolocation.
+     * @return Comparator for the column.
+     * @throws IllegalArgumentException If the column does not exist.
+     */
+    public static Comparator<PlayerTableRow> comparatorFor(int column) {
+        switch (column) {
+            case 0:
+                return Comparator.comparing(row -> row.name, String.CASE_INSENSITIVE_ORDER);
+            case 1:
+                return Comparator.comparingDouble(row -> row.activityIndex.getValue());
+            case 2:
+                return Comparator.comparingLong(row -> row.playtime);
+            case 3:
+                return Comparator.comparingInt(row -> row.sessionCount);
+            case 4:
+                return Comparator.comparingLong(row -> row.registered);
+            case 5:
+                return Comparator.comparingLong(row -> row.lastSeen);
+            case 6:
+                return Comparator.comparing(row -> row.geolocation, String.CASE_INSENSITIVE_ORDER);
+            default:
+                throw new IllegalArgumentException("Players table does not have column " + column);
+        }
+    }
+
+    /**
+     * Check if the row matches a search of the players table.
+     *
+     * @param search Lowercase text to search for in the name and geolocation.
+     * @return true if the name or geolocation contains the text.
+     */
+    public boolean matches(String search) {
+        return searchableText.contains(search);
+    }
+
+    public UUID getPlayerUUID() {
+        return playerUUID;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public ActivityIndex getActivityIndex() {
+        return activityIndex;
+    }
+
+    public boolean isBanned() {
+        return banned;
+    }
+
+    public long getPlaytime() {
+        return playtime;
+    }
+
+    public int getSessionCount() {
+        return sessionCount;
+    }
+
+    public long getRegistered() {
+        return registered;
+    }
+
+    public long getLastSeen() {
+        return lastSeen;
+    }
+
+    public String getGeolocation() {
+        return geolocation;
+    }
+
+    @Override
+    public String toString() {
+        return "PlayerTableRow{" +
+                "playerUUID=" + playerUUID +
+                ", name='" + name + '\'' +
+                ", activityIndex=" + activityIndex.getValue() +
+                ", sessionCount=" + sessionCount +
+                '}';
+    }
+}
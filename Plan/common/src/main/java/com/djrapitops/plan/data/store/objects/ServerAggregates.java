@@ -0,0 +1,267 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.data.store.objects;
+
+import com.djrapitops.plan.data.container.Session;
+import com.djrapitops.plan.data.container.TPS;
+import com.djrapitops.plan.data.store.keys.SessionKeys;
+import com.djrapitops.plan.data.time.WorldTimes;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Running totals of a server that are used by analysis instead of going through every session and player.
+ * <p>
+ * The totals are loaded once from the database and then updated as sessions end, TPS is stored
+ * and players register on the server.
+ * Unique players per day are tracked with player UUIDs only for the most recent days,
+ * older days are kept as plain counts.
+ * <p>
+ * Values only include ended sessions, active sessions are taken into account by the getters that accept them.
+ * Active sessions of other servers are ignored by the getters.
+ *
+ * @author Rsl1122
+ * @see com.djrapitops.plan.db.access.queries.containers.ServerAggregatesQuery for loading the totals.
+ */
+public class ServerAggregates {
+
+    private static final long DAY_MS = TimeUnit.DAYS.toMillis(1L);
+    private static final long TRACKED_DAYS_MS = TimeUnit.DAYS.toMillis(2L);
+
+    private final UUID serverUUID;
+
+    private long playtime;
+    private int sessionCount;
+    private int mobKills;
+    private int deaths;
+    private int playerKills;
+    private final WorldTimes worldTimes;
+
+    private final TreeMap<Long, Integer> uniquePerDay;
+    private final TreeMap<Long, Set<UUID>> trackedUniquePerDay;
+    private long trackedSince;
+
+    private final TreeMap<Long, Integer> newPerDay;
+    private DateObj<Integer> allTimePeak;
+
+    /**
+     * Create new ServerAggregates.
+     *
+     * @param serverUUID   UUID of the server.
+     * @param trackedSince Start of the first day that unique players are tracked for with player UUIDs.
+     */
+    public ServerAggregates(UUID serverUUID, long trackedSince) {
+        this.serverUUID = serverUUID;
+        this.trackedSince = startOfDay(trackedSince);
+
+        worldTimes = new WorldTimes();
+        uniquePerDay = new TreeMap<>();
+        trackedUniquePerDay = new TreeMap<>();
+        newPerDay = new TreeMap<>();
+    }
+
+    public static long startOfDay(long date) {
+        return date - (date % DAY_MS);
+    }
+
+    public UUID getServerUUID() {
+        return serverUUID;
+    }
+
+    public long getTrackedSince() {
+        return trackedSince;
+    }
+
+    public synchronized void setSessionTotals(int sessionCount, long playtime, int mobKills, int deaths, int playerKills) {
+        this.sessionCount = sessionCount;
+        this.playtime = playtime;
+        this.mobKills = mobKills;
+        this.deaths = deaths;
+        this.playerKills = playerKills;
+    }
+
+    public synchronized void addWorldTimes(WorldTimes toAdd) {
+        worldTimes.add(toAdd);
+    }
+
+    public synchronized void setUniqueCount(long day, int count) {
+        uniquePerDay.put(day, count);
+    }
+
+    public synchronized void addTrackedUnique(long day, UUID playerUUID) {
+        trackedUniquePerDay.computeIfAbsent(day, d -> new HashSet<>()).add(playerUUID);
+    }
+
+    public synchronized void addNew(long registerDate) {
+        newPerDay.merge(startOfDay(registerDate), 1, Integer::sum);
+    }
+
+    public synchronized void setNewCount(long day, int count) {
+        newPerDay.put(day, count);
+    }
+
+    public synchronized void setAllTimePeak(DateObj<Integer> allTimePeak) {
+        this.allTimePeak = allTimePeak;
+    }
+
+    /**
+     * Add an ended session to the totals.
+     *
+     * @param session Session that has ended and was stored.
+     * @return false if the session started before the tracked days and the totals could not be updated.
+     */
+    public synchronized boolean addSession(Session session) {
+        long start = session.getUnsafe(SessionKeys.START);
+        long day = startOfDay(start);
+        if (day < trackedSince) {
+            return false;
+        }
+
+        sessionCount++;
+        playtime += session.getLength();
+        mobKills += session.getValue(SessionKeys.MOB_KILL_COUNT).orElse(0);
+        deaths += session.getValue(SessionKeys.DEATH_COUNT).orElse(0);
+        playerKills += session.getValue(SessionKeys.PLAYER_KILLS).map(List::size).orElse(0);
+        session.getValue(SessionKeys.WORLD_TIMES).ifPresent(worldTimes::add);
+
+        addTrackedUnique(day, session.getUnsafe(SessionKeys.UUID));
+        stopTrackingBefore(day - TRACKED_DAYS_MS);
+        return true;
+    }
+
+    private void stopTrackingBefore(long day) {
+        while (!trackedUniquePerDay.isEmpty() && trackedUniquePerDay.firstKey() < day) {
+            Map.Entry<Long, Set<UUID>> oldest = trackedUniquePerDay.pollFirstEntry();
+            uniquePerDay.put(oldest.getKey(), oldest.getValue().size());
+        }
+        trackedSince = Math.max(trackedSince, day);
+    }
+
+    public synchronized void addTPS(TPS tps) {
+        if (allTimePeak == null || tps.getPlayers() >= allTimePeak.getValue()) {
+            allTimePeak = new DateObj<>(tps.getDate(), tps.getPlayers());
+        }
+    }
+
+    private boolean isOnThisServer(Session session) {
+        return serverUUID.equals(session.getUnsafe(SessionKeys.SERVER_UUID));
+    }
+
+    public synchronized int getSessionCount(Collection<Session> activeSessions) {
+        int total = sessionCount;
+        for (Session session : activeSessions) {
+            if (isOnThisServer(session)) total++;
+        }
+        return total;
+    }
+
+    public synchronized long getPlaytime(Collection<Session> activeSessions) {
+        long total = playtime;
+        for (Session session : activeSessions) {
+            if (isOnThisServer(session)) total += session.getLength();
+        }
+        return total;
+    }
+
+    public synchronized int getMobKillCount(Collection<Session> activeSessions) {
+        int total = mobKills;
+        for (Session session : activeSessions) {
+            if (isOnThisServer(session)) total += session.getValue(SessionKeys.MOB_KILL_COUNT).orElse(0);
+        }
+        return total;
+    }
+
+    public synchronized int getDeathCount(Collection<Session> activeSessions) {
+        int total = deaths;
+        for (Session session : activeSessions) {
+            if (isOnThisServer(session)) total += session.getValue(SessionKeys.DEATH_COUNT).orElse(0);
+        }
+        return total;
+    }
+
+    public synchronized int getPlayerKillCount(Collection<Session> activeSessions) {
+        int total = playerKills;
+        for (Session session : activeSessions) {
+            if (isOnThisServer(session)) total += session.getValue(SessionKeys.PLAYER_KILLS).map(List::size).orElse(0);
+        }
+        return total;
+    }
+
+    public synchronized WorldTimes getWorldTimes() {
+        WorldTimes copy = new WorldTimes();
+        copy.add(worldTimes);
+        return copy;
+    }
+
+    public synchronized Optional<DateObj<Integer>> getAllTimePeak() {
+        return Optional.ofNullable(allTimePeak);
+    }
+
+    /**
+     * Get the amount of unique players per day, same as {@link com.djrapitops.plan.data.store.mutators.SessionsMutator#uniqueJoinsPerDay()}.
+     *
+     * @param activeSessions Sessions that have not ended yet.
+     * @return TreeMap: Start of day epoch ms - Unique player count.
+     */
+    public synchronized TreeMap<Long, Integer> getUniquePerDay(Collection<Session> activeSessions) {
+        TreeMap<Long, Integer> perDay = new TreeMap<>(uniquePerDay);
+        Map<Long, Set<UUID>> tracked = new HashMap<>();
+        for (Map.Entry<Long, Set<UUID>> entry : trackedUniquePerDay.entrySet()) {
+            tracked.put(entry.getKey(), new HashSet<>(entry.getValue()));
+        }
+        for (Session session : activeSessions) {
+            long day = startOfDay(session.getUnsafe(SessionKeys.START));
+            if (day >= trackedSince && isOnThisServer(session)) {
+                tracked.computeIfAbsent(day, d -> new HashSet<>()).add(session.getUnsafe(SessionKeys.UUID));
+            }
+        }
+        for (Map.Entry<Long, Set<UUID>> entry : tracked.entrySet()) {
+            perDay.put(entry.getKey(), entry.getValue().size());
+        }
+        return fillMissingDays(perDay);
+    }
+
+    /**
+     * Get the amount of new players per day, same as {@link com.djrapitops.plan.data.store.mutators.PlayersMutator#newPerDay()}.
+     *
+     * @return TreeMap: Start of day epoch ms - New player count.
+     */
+    public synchronized TreeMap<Long, Integer> getNewPerDay() {
+        return fillMissingDays(new TreeMap<>(newPerDay));
+    }
+
+    private TreeMap<Long, Integer> fillMissingDays(TreeMap<Long, Integer> perDay) {
+        if (!perDay.isEmpty()) {
+            long end = startOfDay(System.currentTimeMillis());
+            for (long date = perDay.firstKey(); date < end; date += DAY_MS) {
+                perDay.putIfAbsent(date, 0);
+            }
+        }
+        return perDay;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "ServerAggregates{" +
+                "serverUUID=" + serverUUID +
+                ", sessionCount=" + sessionCount +
+                ", playtime=" + playtime +
+                ", trackedSince=" + trackedSince +
+                '}';
+    }
+}
@@ -0,0 +1,207 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.data.store.objects;
+
+import com.djrapitops.plan.data.container.Session;
+
+import java.util.*;
+
+/**
+ * Compact storage for ended sessions of a single player.
+ * <p>
+ * Sessions are stored as parallel primitive arrays instead of {@link Session} objects to keep memory use low
+ * when sessions of every player in the database are loaded at once.
+ * Server UUIDs are stored as indexes to a server table that is shared between all SessionColumns of a query.
+ * <p>
+ * Kills and world times are not stored.
+ *
+ * @author Rsl1122
+ */
+public class SessionColumns {
+
+    private static final int INITIAL_CAPACITY = 4;
+
+    private final UUID playerUUID;
+    private final List<UUID> serverTable;
+
+    private int size;
+    private int[] ids;
+    private int[] serverIndexes;
+    private long[] starts;
+    private long[] ends;
+    private long[] afkTimes;
+    private int[] mobKills;
+    private int[] deaths;
+
+    /**
+     * Create a new SessionColumns.
+     *
+     * @param playerUUID  UUID of the player the sessions belong to.
+     * @param serverTable Server UUIDs referenced by server indexes of the sessions.
+     */
+    public SessionColumns(UUID playerUUID, List<UUID> serverTable) {
+        this.playerUUID = playerUUID;
+        this.serverTable = serverTable;
+
+        ids = new int[INITIAL_CAPACITY];
+        serverIndexes = new int[INITIAL_CAPACITY];
+        starts = new long[INITIAL_CAPACITY];
+        ends = new long[INITIAL_CAPACITY];
+        afkTimes = new long[INITIAL_CAPACITY];
+        mobKills = new int[INITIAL_CAPACITY];
+        deaths = new int[INITIAL_CAPACITY];
+    }
+
+    public void add(int id, int serverIndex, long start, long end, int mobKillCount, int deathCount, long afkTime) {
+        if (size == starts.length) {
+            grow(size * 2);
+        }
+        ids[size] = id;
+        serverIndexes[size] = serverIndex;
+        starts[size] = start;
+        ends[size] = end;
+        afkTimes[size] = afkTime;
+        mobKills[size] = mobKillCount;
+        deaths[size] = deathCount;
+        size++;
+    }
+
+    private void grow(int capacity) {
+        ids = Arrays.copyOf(ids, capacity);
+        serverIndexes = Arrays.copyOf(serverIndexes, capacity);
+        starts = Arrays.copyOf(starts, capacity);
+        ends = Arrays.copyOf(ends, capacity);
+        afkTimes = Arrays.copyOf(afkTimes, capacity);
+        mobKills = Arrays.copyOf(mobKills, capacity);
+        deaths = Arrays.copyOf(deaths, capacity);
+    }
+
+    /**
+     * Release the unused capacity of the arrays after all sessions have been added.
+     */
+    public void trimToSize() {
+        if (size != starts.length) {
+            grow(size);
+        }
+    }
+
+    public UUID getPlayerUUID() {
+        return playerUUID;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public UUID getServerUUID(int index) {
+        return serverTable.get(serverIndexes[index]);
+    }
+
+    public long getStart(int index) {
+        return starts[index];
+    }
+
+    public long getEnd(int index) {
+        return ends[index];
+    }
+
+    public long getAfkTime(int index) {
+        return afkTimes[index];
+    }
+
+    public int getMobKills(int index) {
+        return mobKills[index];
+    }
+
+    public int getDeaths(int index) {
+        return deaths[index];
+    }
+
+    public Set<UUID> getServerUUIDs() {
+        Set<UUID> serverUUIDs = new HashSet<>();
+        for (int i = 0; i < size; i++) {
+            serverUUIDs.add(serverTable.get(serverIndexes[i]));
+        }
+        return serverUUIDs;
+    }
+
+    public long toLastSeen() {
+        long lastSeen = -1;
+        for (int i = 0; i < size; i++) {
+            lastSeen = Math.max(lastSeen, Math.max(starts[i], ends[i]));
+        }
+        return lastSeen;
+    }
+
+    public long toPlaytime() {
+        long playtime = 0;
+        for (int i = 0; i < size; i++) {
+            playtime += ends[i] - starts[i];
+        }
+        return playtime;
+    }
+
+    public int toMobKillCount() {
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            count += mobKills[i];
+        }
+        return count;
+    }
+
+    public int toDeathCount() {
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            count += deaths[i];
+        }
+        return count;
+    }
+
+    /**
+     * Create Session objects of all stored sessions.
+     * <p>
+     * The Sessions are created on every call, so the result should not be kept around longer than needed.
+     *
+     * @return New list of Sessions without kill or world data.
+     */
+    public List<Session> toSessions() {
+        List<Session> sessions = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            sessions.add(toSession(i));
+        }
+        return sessions;
+    }
+
+    public Session toSession(int index) {
+        return new Session(
+                ids[index], playerUUID, getServerUUID(index),
+                starts[index], ends[index], mobKills[index], deaths[index], afkTimes[index]
+        );
+    }
+
+    @Override
+    public String toString() {
+        return "SessionColumns{" +
+                "playerUUID=" + playerUUID +
+                ", size=" + size +
+                '}';
+    }
+}
@@ -58,6 +58,21 @@ public class WorldTimes {
         this(new HashMap<>());
     }
 
+    /**
+     * Creates a copy of a WorldTimes object, including the current state.
+     *
+     * @param toCopy WorldTimes to copy, later changes to it are not reflected in the copy.
+     */
+    public WorldTimes(WorldTimes toCopy) {
+        this();
+        for (Map.Entry<String, GMTimes> entry : toCopy.times.entrySet()) {
+            GMTimes gmTimes = entry.getValue();
+            times.put(entry.getKey(), new GMTimes(new HashMap<>(gmTimes.getTimes()), gmTimes.getState(), gmTimes.getLastStateChange()));
+        }
+        currentWorld = toCopy.currentWorld;
+        currentGamemode = toCopy.currentGamemode;
+    }
+
     private void addWorld(String worldName, String gameMode, long changeTime) {
         if (worldName == null || gameMode == null) return;
         times.put(worldName, new GMTimes(gameMode, changeTime));
@@ -0,0 +1,299 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.db;
+
+import com.djrapitops.plan.api.exceptions.database.DBOpException;
+import com.djrapitops.plan.api.exceptions.database.DBRollbackException;
+import com.djrapitops.plan.db.access.transactions.Transaction;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Executes queued {@link Transaction}s in groups that share a single connection and a single commit.
+ * <p>
+ * Groupable transactions that are submitted one after another form a run. The first transaction of a run schedules
+ * a drain on the transaction executor, later ones are added to the same run until a transaction that can not be grouped
+ * is submitted with {@link #executeAfterRun(Runnable, Executor)}. This keeps the order in which the transactions
+ * were submitted, since a run never contains transactions submitted after a non-groupable transaction.
+ * <p>
+ * A drain executes the run in groups, committing once the group reaches the maximum amount of transactions or
+ * the maximum time. Each transaction sets its own savepoint, so a failing transaction is rolled back without
+ * affecting the rest of the group. If a transaction can not be rolled back to its savepoint the whole group is
+ * rolled back and failed, since the state of the connection is unknown.
+ *
+ * @author Rsl1122
+ */
+public class GroupCommitter {
+
+    private final SQLDB db;
+    private final int maxTransactions;
+    private final long maxTimeMs;
+
+    private Queue<QueuedTransaction> openRun;
+    private final AtomicInteger queued;
+
+    private final AtomicLong groupCount;
+    private final AtomicLong transactionCount;
+    private final AtomicLong largestGroup;
+    private final AtomicLong commitTimeTotalNs;
+    private final AtomicLong commitTimeMaxNs;
+
+    GroupCommitter(SQLDB db, int maxTransactions, long maxTimeMs) {
+        this.db = db;
+        this.maxTransactions = maxTransactions;
+        this.maxTimeMs = maxTimeMs;
+
+        queued = new AtomicInteger(0);
+
+        groupCount = new AtomicLong(0L);
+        transactionCount = new AtomicLong(0L);
+        largestGroup = new AtomicLong(0L);
+        commitTimeTotalNs = new AtomicLong(0L);
+        commitTimeMaxNs = new AtomicLong(0L);
+    }
+
+    /**
+     * Queue a transaction to be executed as a part of the current run of groupable transactions.
+     *
+     * @param transaction Transaction to execute, {@link Transaction#isGroupable()} should be true.
+     * @param executor    Transaction executor that runs the drain.
+     * @return Future that is completed when the group containing the transaction has been committed.
+     */
+    synchronized CompletableFuture<Object> submit(Transaction transaction, Executor executor) {
+        boolean startsRun = openRun == null;
+        if (startsRun) {
+            openRun = new ArrayDeque<>();
+        }
+        Queue<QueuedTransaction> run = openRun;
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        run.add(new QueuedTransaction(transaction, future));
+        queued.incrementAndGet();
+
+        if (startsRun) {
+            try {
+                executor.execute(() -> drain(run));
+            } catch (RejectedExecutionException e) {
+                openRun = null;
+                queued.addAndGet(-run.size());
+                throw e;
+            }
+        }
+        return future;
+    }
+
+    /**
+     * Execute a task after the current run, so that groupable transactions submitted after it are not executed before it.
+     *
+     * @param task     Task that executes a non-groupable transaction.
+     * @param executor Transaction executor.
+     */
+    synchronized void executeAfterRun(Runnable task, Executor executor) {
+        openRun = null;
+        executor.execute(task);
+    }
+
+    private synchronized QueuedTransaction poll(Queue<QueuedTransaction> run) {
+        QueuedTransaction next = run.poll();
+        if (next != null) {
+            queued.decrementAndGet();
+        } else if (openRun == run) {
+            // The run is over, transactions submitted after this are executed by a new drain.
+            openRun = null;
+        }
+        return next;
+    }
+
+    private void drain(Queue<QueuedTransaction> run) {
+        try {
+            db.runInsideTransaction(() -> {
+                QueuedTransaction first;
+                while ((first = poll(run)) != null) {
+                    executeGroup(first, run);
+                }
+            });
+        } catch (RuntimeException | Error unexpected) {
+            // Fail the rest of the run and let new transactions start a new run instead of queueing behind this one.
+            failRun(poll(run), run, " was not executed: ", unexpected);
+            throw unexpected;
+        }
+    }
+
+    private void executeGroup(QueuedTransaction first, Queue<QueuedTransaction> run) {
+        Connection connection;
+        try {
+            db.accessLock.checkAccess(first.transaction);
+            connection = db.getConnection();
+        } catch (SQLException | DBOpException e) {
+            failRun(first, run, " initialization failed: ", e);
+            return;
+        }
+
+        List<QueuedTransaction> executed = new ArrayList<>();
+        try {
+            long start = System.currentTimeMillis();
+            QueuedTransaction next = first;
+            while (next != null) {
+                executed.add(next);
+                next.execute(connection);
+                next = executed.size() < maxTransactions && System.currentTimeMillis() - start < maxTimeMs
+                        ? poll(run) : null;
+            }
+
+            long commitStart = System.nanoTime();
+            connection.commit();
+            recordGroup(executed.size(), System.nanoTime() - commitStart);
+
+            for (QueuedTransaction transaction : executed) {
+                transaction.finish();
+            }
+        } catch (SQLException e) {
+            DBOpException groupFail = new DBOpException("Group commit of " + executed.size() + " transactions failed: " + e.getMessage(), e);
+            failGroup(connection, executed, groupFail);
+        } catch (DBRollbackException e) {
+            DBOpException groupFail = new DBOpException("Group of " + executed.size() + " transactions was rolled back: " + e.getMessage(), e);
+            failGroup(connection, executed, groupFail);
+        } catch (RuntimeException | Error unexpected) {
+            DBOpException groupFail = new DBOpException("Group of " + executed.size() + " transactions failed unexpectedly: " + unexpected, unexpected);
+            failGroup(connection, executed, groupFail);
+            throw unexpected;
+        } finally {
+            db.returnToPool(connection);
+        }
+    }
+
+    private void failGroup(Connection connection, List<QueuedTransaction> executed, DBOpException groupFail) {
+        rollback(connection, groupFail);
+        for (QueuedTransaction transaction : executed) {
+            transaction.future.completeExceptionally(groupFail);
+        }
+    }
+
+    private void rollback(Connection connection, DBOpException groupFail) {
+        try {
+            connection.rollback();
+        } catch (SQLException rollbackFail) {
+            groupFail.addSuppressed(rollbackFail);
+        }
+    }
+
+    private void failRun(QueuedTransaction first, Queue<QueuedTransaction> run, String reason, Throwable cause) {
+        // The rest of the run would fail the same way, so it is failed as a whole to keep the futures from hanging.
+        QueuedTransaction failed = first;
+        while (failed != null) {
+            failed.future.completeExceptionally(new DBOpException(
+                    failed.transaction.getClass().getSimpleName() + reason + cause.getMessage(), cause
+            ));
+            failed = poll(run);
+        }
+    }
+
+    private void recordGroup(int size, long commitTimeNs) {
+        groupCount.incrementAndGet();
+        transactionCount.addAndGet(size);
+        largestGroup.accumulateAndGet(size, Math::max);
+        commitTimeTotalNs.addAndGet(commitTimeNs);
+        commitTimeMaxNs.accumulateAndGet(commitTimeNs, Math::max);
+    }
+
+    public int getQueueSize() {
+        return queued.get();
+    }
+
+    public long getGroupCount() {
+        return groupCount.get();
+    }
+
+    public long getTransactionCount() {
+        return transactionCount.get();
+    }
+
+    public long getLargestGroupSize() {
+        return largestGroup.get();
+    }
+
+    public double getAverageGroupSize() {
+        long groups = groupCount.get();
+        return groups != 0 ? (double) transactionCount.get() / groups : 0.0;
+    }
+
+    public double getAverageCommitTimeMs() {
+        long groups = groupCount.get();
+        return groups != 0 ? (double) commitTimeTotalNs.get() / groups / TimeUnit.MILLISECONDS.toNanos(1L) : 0.0;
+    }
+
+    public double getMaxCommitTimeMs() {
+        return (double) commitTimeMaxNs.get() / TimeUnit.MILLISECONDS.toNanos(1L);
+    }
+
+    @Override
+    public String toString() {
+        return "Group commit: " + getTransactionCount() + " transactions in " + getGroupCount() + " groups" +
+                " (average size " + String.format("%.2f", getAverageGroupSize()) +
+                ", largest " + getLargestGroupSize() +
+                ", average commit " + String.format("%.2f", getAverageCommitTimeMs()) + "ms" +
+                ", longest commit " + String.format("%.2f", getMaxCommitTimeMs()) + "ms" +
+                ", queued " + getQueueSize() + ")";
+    }
+
+    private class QueuedTransaction {
+        private final Transaction transaction;
+        private final CompletableFuture<Object> future;
+        private Exception failure;
+
+        QueuedTransaction(Transaction transaction, CompletableFuture<Object> future) {
+            this.transaction = transaction;
+            this.future = future;
+        }
+
+        void execute(Connection connection) {
+            try {
+                db.accessLock.checkAccess(transaction);
+                transaction.executeTransaction(db, connection);
+            } catch (DBRollbackException connectionInUnknownState) {
+                // Thrown to executeGroup, which rolls back and fails the whole group.
+                throw connectionInUnknownState;
+            } catch (RuntimeException rolledBack) {
+                // Only this transaction was rolled back, the rest of the group can still be committed.
+                failure = rolledBack;
+            }
+        }
+
+        void finish() {
+            if (failure != null) {
+                future.completeExceptionally(failure);
+                return;
+            }
+            try {
+                transaction.afterGroupCommit();
+                future.complete(null);
+            } catch (RuntimeException e) {
+                future.completeExceptionally(e);
+            }
+        }
+    }
+}
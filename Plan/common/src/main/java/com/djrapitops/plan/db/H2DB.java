@@ -18,6 +18,7 @@ package com.djrapitops.plan.db;
 
 import com.djrapitops.plan.api.exceptions.database.DBInitException;
 import com.djrapitops.plan.data.store.containers.NetworkContainer;
+import com.djrapitops.plan.db.access.PreparedStatementCache;
 import com.djrapitops.plan.db.tasks.KeepAliveTask;
 import com.djrapitops.plan.system.file.PlanFiles;
 import com.djrapitops.plan.system.info.server.ServerInfo;
@@ -47,9 +48,12 @@ import java.util.Objects;
  */
 public class H2DB extends SQLDB {
 
+    private static final int MAX_READ_CONNECTIONS = 4;
+
     private final File databaseFile;
     private final String dbName;
     private Connection connection;
+    private ReadConnectionPool readPool;
     private PluginTask connectionPingTask;
 
     private H2DB(
@@ -70,10 +74,13 @@ public class H2DB extends SQLDB {
     @Override
     public void setupDataSource() {
         try {
+            if (readPool != null) readPool.close();
+
             connection = getNewConnection(databaseFile);
         } catch (SQLException e) {
             throw new DBInitException(e.getMessage(), e);
         }
+        readPool = new ReadConnectionPool(() -> getNewConnection(databaseFile), MAX_READ_CONNECTIONS);
 
         startConnectionPingTask();
     }
@@ -84,6 +91,7 @@ public class H2DB extends SQLDB {
         Connection newConnection = getConnectionFor(dbFilePath);
         logger.debug("H2 " + dbName + ": Opened a new Connection");
         newConnection.setAutoCommit(false);
+        PreparedStatementCache.enable(newConnection);
         return newConnection;
     }
 
@@ -140,17 +148,32 @@ public class H2DB extends SQLDB {
     public void close() {
         super.close();
         stopConnectionPingTask();
+        if (readPool != null) {
+            readPool.close();
+        }
 
         if (connection != null) {
             logger.debug("H2 Connection close prompted by: " + ThrowableUtils.findCallerAfterClass(Thread.currentThread().getStackTrace(), H2DB.class));
             logger.debug("H2 " + dbName + ": Closed Connection");
+            PreparedStatementCache.disable(connection);
             MiscUtils.close(connection);
         }
     }
 
+    @Override
+    public Connection getReadConnection() throws SQLException {
+        if (readPool == null || isInsideTransaction()) {
+            return getConnection();
+        }
+        return readPool.getConnection();
+    }
+
     @Override
     public void returnToPool(Connection connection) {
-        // Connection pool not in use, no action required.
+        // Writer connection is not pooled, only read connections are returned.
+        if (readPool != null) {
+            readPool.returnToPool(connection);
+        }
     }
 
     @Override
@@ -104,6 +104,11 @@ public class MySQLDB extends SQLDB {
             increment();
 
             hikariConfig.setAutoCommit(true);
+            // Hikari closes statements when a connection is returned, so prepared statements are cached by the driver.
+            hikariConfig.addDataSourceProperty("cachePrepStmts", "true");
+            hikariConfig.addDataSourceProperty("prepStmtCacheSize", "250");
+            hikariConfig.addDataSourceProperty("prepStmtCacheSqlLimit", "2048");
+            hikariConfig.addDataSourceProperty("useServerPrepStmts", "true");
             hikariConfig.setMaximumPoolSize(8);
             hikariConfig.setMaxLifetime(TimeUnit.MINUTES.toMillis(25L));
             hikariConfig.setLeakDetectionThreshold(TimeUnit.MINUTES.toMillis(10L));
@@ -0,0 +1,142 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.db;
+
+import com.djrapitops.plan.api.exceptions.database.DBOpException;
+import com.djrapitops.plan.db.access.PreparedStatementCache;
+import com.djrapitops.plan.db.tasks.KeepAliveTask;
+import com.djrapitops.plan.utilities.MiscUtils;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Small pool of connections used for read-only queries of file based databases.
+ * <p>
+ * SQLite and H2 use a single writer connection, this pool allows queries outside transactions
+ * (page generation, analysis) to run concurrently with the writes.
+ * Connections are opened lazily, up to the given maximum amount.
+ *
+ * @author Rsl1122
+ */
+public class ReadConnectionPool {
+
+    private final KeepAliveTask.IReconnect connectionOpener;
+    private final int maxConnections;
+
+    private final BlockingQueue<Connection> idle;
+    private final Set<Connection> owned;
+    private final AtomicInteger opened;
+
+    private volatile boolean closed;
+
+    public ReadConnectionPool(KeepAliveTask.IReconnect connectionOpener, int maxConnections) {
+        this.connectionOpener = connectionOpener;
+        this.maxConnections = maxConnections;
+
+        idle = new LinkedBlockingQueue<>();
+        owned = ConcurrentHashMap.newKeySet();
+        opened = new AtomicInteger(0);
+    }
+
+    /**
+     * Borrow a connection from the pool, opening a new one or waiting for one to be returned if needed.
+     *
+     * @return Connection with auto-commit enabled, return with {@link #returnToPool(Connection)}.
+     * @throws SQLException If a new connection could not be opened.
+     */
+    public Connection getConnection() throws SQLException {
+        if (closed) {
+            throw new DBOpException("Read connection pool has been closed.");
+        }
+        Connection connection = idle.poll();
+        if (connection != null) {
+            return connection;
+        }
+        if (opened.incrementAndGet() <= maxConnections) {
+            return openConnection();
+        }
+        opened.decrementAndGet();
+        try {
+            connection = idle.poll(30L, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (connection == null) {
+            throw new SQLException("Timed out waiting for a read connection (" + maxConnections + " in use)");
+        }
+        return connection;
+    }
+
+    private Connection openConnection() throws SQLException {
+        try {
+            Connection connection = connectionOpener.reconnect();
+            // Auto-commit keeps readers from holding a snapshot open between queries.
+            connection.setAutoCommit(true);
+            owned.add(connection);
+            return connection;
+        } catch (SQLException | RuntimeException e) {
+            opened.decrementAndGet();
+            throw e;
+        }
+    }
+
+    /**
+     * Return a connection to the pool.
+     *
+     * @param connection Connection to return.
+     * @return false if the connection did not belong to this pool.
+     */
+    public boolean returnToPool(Connection connection) {
+        if (connection == null || !owned.contains(connection)) {
+            return false;
+        }
+        if (closed || isClosed(connection)) {
+            discard(connection);
+        } else {
+            idle.offer(connection);
+        }
+        return true;
+    }
+
+    private boolean isClosed(Connection connection) {
+        try {
+            return connection.isClosed();
+        } catch (SQLException e) {
+            return true;
+        }
+    }
+
+    private void discard(Connection connection) {
+        if (owned.remove(connection)) {
+            opened.decrementAndGet();
+            PreparedStatementCache.disable(connection);
+            MiscUtils.close(connection);
+        }
+    }
+
+    public void close() {
+        closed = true;
+        Connection connection;
+        while ((connection = idle.poll()) != null) {
+            discard(connection);
+        }
+    }
+}
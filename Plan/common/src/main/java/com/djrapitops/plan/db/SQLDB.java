@@ -20,7 +20,11 @@ import com.djrapitops.plan.api.exceptions.database.DBInitException;
 import com.djrapitops.plan.api.exceptions.database.DBOpException;
 import com.djrapitops.plan.api.exceptions.database.FatalDBException;
 import com.djrapitops.plan.data.store.containers.NetworkContainer;
+import com.djrapitops.plan.data.store.objects.PlayerIdentities;
+import com.djrapitops.plan.data.store.objects.ServerAggregates;
 import com.djrapitops.plan.db.access.Query;
+import com.djrapitops.plan.db.access.queries.containers.ServerAggregatesQuery;
+import com.djrapitops.plan.db.access.queries.objects.UserIdentifierQueries;
 import com.djrapitops.plan.db.access.transactions.Transaction;
 import com.djrapitops.plan.db.access.transactions.init.CreateIndexTransaction;
 import com.djrapitops.plan.db.access.transactions.init.CreateTablesTransaction;
@@ -28,6 +32,7 @@ import com.djrapitops.plan.db.access.transactions.init.OperationCriticalTransact
 import com.djrapitops.plan.db.patches.*;
 import com.djrapitops.plan.system.locale.Locale;
 import com.djrapitops.plan.system.settings.config.PlanConfig;
+import com.djrapitops.plan.system.settings.paths.DatabaseSettings;
 import com.djrapitops.plan.system.settings.paths.TimeSettings;
 import com.djrapitops.plan.utilities.java.ThrowableUtils;
 import com.djrapitops.plugin.api.TimeAmount;
@@ -40,12 +45,13 @@ import com.google.common.util.concurrent.ThreadFactoryBuilder;
 
 import java.sql.Connection;
 import java.sql.SQLException;
-import java.util.Collections;
-import java.util.List;
-import java.util.Objects;
-import java.util.UUID;
+import java.util.*;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 
 /**
@@ -66,6 +72,13 @@ public abstract class SQLDB extends AbstractDatabase {
 
     private Supplier<ExecutorService> transactionExecutorServiceProvider;
     private ExecutorService transactionExecutor;
+    private GroupCommitter groupCommitter;
+    private final ThreadLocal<Boolean> insideTransaction;
+    private volatile ServerAggregates serverAggregates;
+    private final AtomicBoolean serverAggregatesLoading;
+    private volatile PlayerIdentities playerIdentities;
+    private final AtomicBoolean playerIdentitiesLoading;
+    private final AtomicLong playerRemovalCount;
 
     public SQLDB(
             Supplier<UUID> serverUUIDSupplier,
@@ -83,6 +96,10 @@ public abstract class SQLDB extends AbstractDatabase {
         this.logger = logger;
         this.errorHandler = errorHandler;
 
+        this.insideTransaction = ThreadLocal.withInitial(() -> false);
+        this.serverAggregatesLoading = new AtomicBoolean(false);
+        this.playerIdentitiesLoading = new AtomicBoolean(false);
+        this.playerRemovalCount = new AtomicLong(0L);
         this.transactionExecutorServiceProvider = () -> Executors.newSingleThreadExecutor(new ThreadFactoryBuilder().setNameFormat("Plan " + getClass().getSimpleName() + "-transaction-thread-%d").build());
     }
 
@@ -90,6 +107,9 @@ public abstract class SQLDB extends AbstractDatabase {
     public void init() {
         List<Runnable> unfinishedTransactions = closeTransactionExecutor(transactionExecutor);
         this.transactionExecutor = transactionExecutorServiceProvider.get();
+        this.groupCommitter = createGroupCommitter();
+        serverAggregates = null;
+        playerIdentities = null;
 
         setState(State.PATCHING);
 
@@ -107,6 +127,15 @@ public abstract class SQLDB extends AbstractDatabase {
         }
     }
 
+    private GroupCommitter createGroupCommitter() {
+        if (!config.getOrDefault(DatabaseSettings.GROUP_COMMIT, false)) {
+            return null;
+        }
+        int maxTransactions = config.getOrDefault(DatabaseSettings.GROUP_COMMIT_MAX_TRANSACTIONS, 100);
+        long maxTimeMs = config.getOrDefault(DatabaseSettings.GROUP_COMMIT_MAX_TIME, 500L);
+        return new GroupCommitter(this, maxTransactions, maxTimeMs);
+    }
+
     private List<Runnable> closeTransactionExecutor(ExecutorService transactionExecutor) {
         if (transactionExecutor == null || transactionExecutor.isShutdown() || transactionExecutor.isTerminated()) {
             return Collections.emptyList();
@@ -170,6 +199,7 @@ public abstract class SQLDB extends AbstractDatabase {
                 if (getState() == State.PATCHING) setState(State.OPEN);
             }
         });
+        schedulePlayerIdentitiesLoad();
         registerIndexCreationTask();
     }
 
@@ -197,10 +227,49 @@ public abstract class SQLDB extends AbstractDatabase {
     public void close() {
         setState(State.CLOSED);
         closeTransactionExecutor(transactionExecutor);
+        if (groupCommitter != null) {
+            logger.debug(groupCommitter.toString());
+        }
+        serverAggregates = null;
+        playerIdentities = null;
     }
 
     public abstract Connection getConnection() throws SQLException;
 
+    /**
+     * Get a connection for a query that is executed outside a transaction.
+     * <p>
+     * Databases with a single writer connection can override this to allow reads to run in parallel with writes.
+     * Return the connection with {@link #returnToPool(Connection)}.
+     *
+     * @return Connection that should only be used for reading.
+     * @throws SQLException If the connection could not be obtained.
+     */
+    public Connection getReadConnection() throws SQLException {
+        return getConnection();
+    }
+
+    /**
+     * Check if the current thread is executing a transaction.
+     * <p>
+     * Queries performed inside a transaction should use the writer connection to see uncommitted changes.
+     *
+     * @return true if called during {@link Transaction} execution.
+     */
+    protected boolean isInsideTransaction() {
+        return insideTransaction.get();
+    }
+
+    void runInsideTransaction(Runnable transactionExecution) {
+        boolean wasInside = insideTransaction.get();
+        insideTransaction.set(true);
+        try {
+            transactionExecution.run();
+        } finally {
+            if (!wasInside) insideTransaction.remove();
+        }
+    }
+
     public abstract void returnToPool(Connection connection);
 
     @Override
@@ -217,14 +286,23 @@ public abstract class SQLDB extends AbstractDatabase {
 
         Exception origin = new Exception();
 
+        GroupCommitter committer = groupCommitter;
+        if (committer != null && transaction.isGroupable()) {
+            return committer.submit(transaction, getTransactionExecutor()).handle(errorHandler(origin));
+        }
+        // Ends the current run of grouped transactions so that the ones submitted after this are executed after it.
+        Executor executor = committer != null
+                ? task -> committer.executeAfterRun(task, getTransactionExecutor())
+                : getTransactionExecutor();
+
         return CompletableFuture.supplyAsync(() -> {
             accessLock.checkAccess(transaction);
-            transaction.executeTransaction(this);
+            runInsideTransaction(() -> transaction.executeTransaction(this));
             return CompletableFuture.completedFuture(null);
-        }, getTransactionExecutor()).handle(errorHandler(origin));
+        }, executor).handle(errorHandler(origin));
     }
 
-    private BiFunction<CompletableFuture<Object>, Throwable, CompletableFuture<Object>> errorHandler(Exception origin) {
+    private <T> BiFunction<T, Throwable, CompletableFuture<Object>> errorHandler(Exception origin) {
         return (obj, throwable) -> {
             if (throwable == null) {
                 return CompletableFuture.completedFuture(null);
@@ -239,6 +317,163 @@ public abstract class SQLDB extends AbstractDatabase {
         };
     }
 
+    /**
+     * Get the running totals of a server.
+     * <p>
+     * Only the totals of this server are kept in memory, since only the transactions of this server update them.
+     * Totals of other servers that share the database are not available, since querying them would scan all of
+     * their sessions every time. Their values are calculated from the session data that is loaded anyway.
+     * <p>
+     * The totals of this server are loaded on the transaction thread, which makes sure that no transaction commits
+     * while they are loaded, after that the totals are updated by the transactions themselves.
+     * Until the load has finished the totals are queried from the database.
+     *
+     * @param serverUUID UUID of the server.
+     * @return Empty for other servers, in which case the values should be calculated another way.
+     */
+    public Optional<ServerAggregates> getServerAggregates(UUID serverUUID) {
+        if (!serverUUID.equals(serverUUIDSupplier.get())) {
+            return Optional.empty();
+        }
+        ServerAggregates loaded = serverAggregates;
+        if (loaded != null) {
+            return Optional.of(loaded);
+        }
+        scheduleServerAggregatesLoad(serverUUID);
+        if (isInsideTransaction()) {
+            // The query would see the uncommitted changes of the transaction, which are added to the totals after commit.
+            return Optional.ofNullable(serverAggregates);
+        }
+        loaded = serverAggregates;
+        return Optional.of(loaded != null ? loaded : query(new ServerAggregatesQuery(serverUUID)));
+    }
+
+    private void scheduleServerAggregatesLoad(UUID serverUUID) {
+        if (!serverAggregatesLoading.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            getTransactionExecutor().execute(() -> {
+                try {
+                    if (serverAggregates == null && getState() == State.OPEN) {
+                        serverAggregates = query(new ServerAggregatesQuery(serverUUID));
+                    }
+                } catch (DBOpException e) {
+                    errorHandler.log(L.WARN, getClass(), e);
+                } finally {
+                    serverAggregatesLoading.set(false);
+                }
+            });
+        } catch (RejectedExecutionException ignore) {
+            // Database is being closed
+            serverAggregatesLoading.set(false);
+        }
+    }
+
+    /**
+     * Update the running totals of this server, if they have been loaded.
+     * <p>
+     * Should only be called by a transaction after it has been committed.
+     *
+     * @param serverUUID UUID of the server the stored data belongs to.
+     * @param update     Function that updates the totals, returns false if the totals could not be updated
+     *                   and should be loaded again when they are needed the next time.
+     */
+    public void updateServerAggregates(UUID serverUUID, Predicate<ServerAggregates> update) {
+        ServerAggregates loaded = serverAggregates;
+        if (loaded != null && loaded.getServerUUID().equals(serverUUID) && !update.test(loaded)) {
+            serverAggregates = null;
+        }
+    }
+
+    /**
+     * Discard the running totals, for example after data has been removed.
+     */
+    public void clearServerAggregates() {
+        serverAggregates = null;
+    }
+
+    /**
+     * Get the UUIDs and names of all players, if they are in memory.
+     * <p>
+     * The index is loaded on the transaction thread after patching, and again after it has been discarded.
+     * After loading the index is kept up to date by the transactions of this server that register and remove players.
+     * Renames and removals done by other servers that share the database are not seen until the index is loaded
+     * again, for example when the plugin is reloaded.
+     *
+     * @return Empty if the index has not been loaded yet, in which case the database should be queried instead.
+     */
+    public Optional<PlayerIdentities> getPlayerIdentities() {
+        PlayerIdentities loaded = playerIdentities;
+        if (loaded == null) {
+            schedulePlayerIdentitiesLoad();
+            loaded = playerIdentities;
+        }
+        return Optional.ofNullable(loaded);
+    }
+
+    private void schedulePlayerIdentitiesLoad() {
+        if (!playerIdentitiesLoading.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            getTransactionExecutor().execute(() -> {
+                try {
+                    if (playerIdentities == null && getState() == State.OPEN) {
+                        playerIdentities = new PlayerIdentities(query(UserIdentifierQueries.fetchAllPlayerNames()));
+                    }
+                } catch (DBOpException e) {
+                    errorHandler.log(L.WARN, getClass(), e);
+                } finally {
+                    playerIdentitiesLoading.set(false);
+                }
+            });
+        } catch (RejectedExecutionException ignore) {
+            // Database is being closed
+            playerIdentitiesLoading.set(false);
+        }
+    }
+
+    /**
+     * Update the player identity index, if it has been loaded.
+     * <p>
+     * Should only be called by a transaction after it has been committed.
+     *
+     * @param update Function that updates the index.
+     */
+    public void updatePlayerIdentities(Consumer<PlayerIdentities> update) {
+        PlayerIdentities loaded = playerIdentities;
+        if (loaded != null) {
+            update.accept(loaded);
+        }
+    }
+
+    /**
+     * Discard the player identity index, for example after players have been removed.
+     */
+    public void clearPlayerIdentities() {
+        playerIdentities = null;
+    }
+
+    /**
+     * Record that players have been removed, so that in-memory rows of players are loaded again.
+     * <p>
+     * Should only be called by a transaction after it has been committed.
+     */
+    public void markPlayersRemoved() {
+        playerRemovalCount.incrementAndGet();
+    }
+
+    /**
+     * Get the amount of times players have been removed.
+     *
+     * @return Count that changes whenever players have been removed.
+     * @see com.djrapitops.plan.system.cache.PlayersTableCache
+     */
+    public long getPlayerRemovalCount() {
+        return playerRemovalCount.get();
+    }
+
     private ExecutorService getTransactionExecutor() {
         if (transactionExecutor == null) {
             transactionExecutor = transactionExecutorServiceProvider.get();
@@ -259,10 +494,23 @@ public abstract class SQLDB extends AbstractDatabase {
         return Objects.hash(getType().getName());
     }
 
+    /**
+     * Get the group commit statistics of this database.
+     *
+     * @return Empty if Group commit is not enabled in the config.
+     */
+    public Optional<GroupCommitter> getGroupCommitter() {
+        return Optional.ofNullable(groupCommitter);
+    }
+
     public Supplier<UUID> getServerUUIDSupplier() {
         return serverUUIDSupplier;
     }
 
+    public PluginLogger getLogger() {
+        return logger;
+    }
+
     public NetworkContainer.Factory getNetworkContainerFactory() {
         return networkContainerFactory;
     }
@@ -18,6 +18,7 @@ package com.djrapitops.plan.db;
 
 import com.djrapitops.plan.api.exceptions.database.DBInitException;
 import com.djrapitops.plan.data.store.containers.NetworkContainer;
+import com.djrapitops.plan.db.access.PreparedStatementCache;
 import com.djrapitops.plan.db.tasks.KeepAliveTask;
 import com.djrapitops.plan.system.file.PlanFiles;
 import com.djrapitops.plan.system.info.server.ServerInfo;
@@ -46,10 +47,14 @@ import java.util.Objects;
  */
 public class SQLiteDB extends SQLDB {
 
+    private static final int MAX_READ_CONNECTIONS = 4;
+
     private final File databaseFile;
     private final String dbName;
     private Connection connection;
+    private ReadConnectionPool readPool;
     private PluginTask connectionPingTask;
+    private boolean walEnabled;
 
     private SQLiteDB(
             File databaseFile,
@@ -69,12 +74,18 @@ public class SQLiteDB extends SQLDB {
     @Override
     public void setupDataSource() {
         try {
-            if (connection != null) connection.close();
+            if (connection != null) {
+                PreparedStatementCache.disable(connection);
+                connection.close();
+            }
+            if (readPool != null) readPool.close();
 
             connection = getNewConnection(databaseFile);
         } catch (SQLException e) {
             throw new DBInitException(e.getMessage(), e);
         }
+        // Readers only run concurrently with the writer in WAL mode, otherwise they would lock the database file.
+        readPool = walEnabled ? new ReadConnectionPool(() -> getNewConnection(databaseFile), MAX_READ_CONNECTIONS) : null;
         startConnectionPingTask();
     }
 
@@ -91,14 +102,18 @@ public class SQLiteDB extends SQLDB {
         Connection newConnection = getConnectionFor(dbFilePath);
         logger.debug("SQLite " + dbName + ": Opened a new Connection");
         newConnection.setAutoCommit(false);
+        PreparedStatementCache.enable(newConnection);
         return newConnection;
     }
 
     private Connection getConnectionFor(String dbFilePath) throws SQLException {
         try {
-            return DriverManager.getConnection("jdbc:sqlite:" + dbFilePath + "?journal_mode=WAL");
+            Connection walConnection = DriverManager.getConnection("jdbc:sqlite:" + dbFilePath + "?journal_mode=WAL");
+            walEnabled = true;
+            return walConnection;
         } catch (SQLException ignored) {
             logger.info(locale.getString(PluginLang.DB_NOTIFY_SQLITE_WAL));
+            walEnabled = false;
             return DriverManager.getConnection("jdbc:sqlite:" + dbFilePath);
         }
     }
@@ -145,16 +160,31 @@ public class SQLiteDB extends SQLDB {
 
         super.close();
         stopConnectionPingTask();
+        if (readPool != null) {
+            readPool.close();
+        }
 
         if (connection != null) {
             logger.debug("SQLite " + dbName + ": Closed Connection");
+            PreparedStatementCache.disable(connection);
             MiscUtils.close(connection);
         }
     }
 
+    @Override
+    public Connection getReadConnection() throws SQLException {
+        if (readPool == null || isInsideTransaction()) {
+            return getConnection();
+        }
+        return readPool.getConnection();
+    }
+
     @Override
     public void returnToPool(Connection connection) {
-        // Connection pool not in use, no action required.
+        // Writer connection is not pooled, only read connections are returned.
+        if (readPool != null) {
+            readPool.returnToPool(connection);
+        }
     }
 
     @Override
@@ -0,0 +1,94 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.db.access;
+
+import com.djrapitops.plan.db.sql.parsing.Insert;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * SQL executing statement that inserts multiple rows with INSERT ... VALUES (...), (...) statements.
+ * <p>
+ * Unlike {@link ExecBatchStatement} all rows are sent to the database at once, regardless of the driver.
+ * Rows are split to multiple statements if there are more parameters than SQLite allows in one statement.
+ *
+ * @param <T> Type of the inserted rows.
+ * @author Rsl1122
+ */
+public abstract class ExecMultiRowStatement<T> implements Executable {
+
+    private static final int MAX_PARAMETERS = 999;
+
+    private final String insertStatement;
+    private final List<T> rows;
+    private final int parametersPerRow;
+
+    /**
+     * Create a new ExecMultiRowStatement.
+     *
+     * @param insertStatement INSERT INTO ... VALUES (...) statement for a single row.
+     * @param rows            Rows to insert.
+     */
+    public ExecMultiRowStatement(String insertStatement, List<T> rows) {
+        this.insertStatement = insertStatement;
+        this.rows = rows;
+        parametersPerRow = countParameters(insertStatement);
+    }
+
+    private static int countParameters(String sql) {
+        int count = 0;
+        for (int i = 0; i < sql.length(); i++) {
+            if (sql.charAt(i) == '?') {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public boolean execute(Connection connection) {
+        int rowsPerStatement = Math.max(1, MAX_PARAMETERS / Math.max(1, parametersPerRow));
+        boolean updated = false;
+        for (int from = 0; from < rows.size(); from += rowsPerStatement) {
+            List<T> statementRows = rows.subList(from, Math.min(rows.size(), from + rowsPerStatement));
+            updated |= new ExecStatement(Insert.multipleRows(insertStatement, statementRows.size())) {
+                @Override
+                public void prepare(PreparedStatement statement) throws SQLException {
+                    int index = 1;
+                    for (T row : statementRows) {
+                        prepareRow(statement, index, row);
+                        index += parametersPerRow;
+                    }
+                }
+            }.execute(connection);
+        }
+        return updated;
+    }
+
+    /**
+     * Set the parameters of a single row.
+     *
+     * @param statement Statement to set the parameters of.
+     * @param index     Index of the first parameter of the row.
+     * @param row       Row to set the parameters for.
+     * @throws SQLException If a parameter could not be set.
+     */
+    public abstract void prepareRow(PreparedStatement statement, int index, T row) throws SQLException;
+}
@@ -38,6 +38,13 @@ public abstract class ExecStatement implements Executable {
     @Override
     public boolean execute(Connection connection) {
         try {
+            PreparedStatementCache cache = PreparedStatementCache.of(connection);
+            if (cache != null && isDataManipulation()) {
+                return cache.use(sql, statement -> {
+                    prepare(statement);
+                    return callExecute(statement);
+                });
+            }
             try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
                 return execute(preparedStatement);
             }
@@ -56,7 +63,7 @@ public abstract class ExecStatement implements Executable {
     }
 
     protected boolean callExecute(PreparedStatement statement) throws SQLException {
-        if (sql.startsWith("UPDATE") || sql.startsWith("INSERT") || sql.startsWith("DELETE") || sql.startsWith("REPLACE")) {
+        if (isDataManipulation()) {
             return statement.executeUpdate() > 0;
         } else {
             statement.execute();
@@ -64,6 +71,10 @@ public abstract class ExecStatement implements Executable {
         }
     }
 
+    private boolean isDataManipulation() {
+        return sql.startsWith("UPDATE") || sql.startsWith("INSERT") || sql.startsWith("DELETE") || sql.startsWith("REPLACE");
+    }
+
     public abstract void prepare(PreparedStatement statement) throws SQLException;
 
     public String getSql() {
@@ -0,0 +1,163 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.db.access;
+
+import com.djrapitops.plan.utilities.MiscUtils;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cache of PreparedStatements of a long lived connection, so that each SQL string is only prepared once.
+ * <p>
+ * Used for the connections of SQLite and H2.
+ * MySQL connections are returned to the Hikari pool after every use, which closes their statements,
+ * so the statements are cached by the MySQL driver instead.
+ * <p>
+ * Cached statements are not closed after use, their parameters and batches are cleared instead.
+ * Use of a statement is synchronized on the statement, since the SQLite connection can be shared between threads.
+ *
+ * @author Rsl1122
+ */
+public class PreparedStatementCache {
+
+    private static final int MAX_STATEMENTS = 128;
+
+    private static final Map<Connection, PreparedStatementCache> CACHES = new ConcurrentHashMap<>();
+
+    private final Connection connection;
+    private final LinkedHashMap<String, PreparedStatement> statements;
+
+    private PreparedStatementCache(Connection connection) {
+        this.connection = connection;
+        statements = new LinkedHashMap<String, PreparedStatement>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, PreparedStatement> eldest) {
+                if (size() > MAX_STATEMENTS) {
+                    close(eldest.getValue());
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Start caching statements of a connection.
+     *
+     * @param connection Connection that stays open for a long time.
+     */
+    public static void enable(Connection connection) {
+        CACHES.computeIfAbsent(connection, PreparedStatementCache::new);
+    }
+
+    /**
+     * Stop caching statements of a connection and close the cached statements.
+     * <p>
+     * Call before closing the connection.
+     *
+     * @param connection Connection that is about to be closed, can be null.
+     */
+    public static void disable(Connection connection) {
+        if (connection == null) {
+            return;
+        }
+        PreparedStatementCache cache = CACHES.remove(connection);
+        if (cache != null) {
+            cache.closeAll();
+        }
+    }
+
+    /**
+     * Get the cache of a connection.
+     *
+     * @param connection Connection the statements are executed with.
+     * @return Cache or null if statements of the connection are not cached.
+     */
+    static PreparedStatementCache of(Connection connection) {
+        return CACHES.get(connection);
+    }
+
+    /**
+     * Use a cached statement, preparing it if it is not in the cache yet.
+     *
+     * @param sql  SQL of the statement.
+     * @param user Function that prepares and executes the statement, should not close it.
+     * @param <T>  Type of the result.
+     * @return Result of the function.
+     * @throws SQLException If the statement could not be prepared or the function fails.
+     */
+    <T> T use(String sql, StatementUser<T> user) throws SQLException {
+        PreparedStatement statement = get(sql);
+        try {
+            synchronized (statement) {
+                if (statement.isClosed()) {
+                    // Evicted by another thread between get and use.
+                    try (PreparedStatement uncached = connection.prepareStatement(sql)) {
+                        return user.apply(uncached);
+                    }
+                }
+                try {
+                    return user.apply(statement);
+                } finally {
+                    statement.clearParameters();
+                    statement.clearBatch();
+                }
+            }
+        } catch (SQLException e) {
+            invalidate(sql);
+            throw e;
+        }
+    }
+
+    private synchronized PreparedStatement get(String sql) throws SQLException {
+        PreparedStatement statement = statements.get(sql);
+        if (statement == null || statement.isClosed()) {
+            statement = connection.prepareStatement(sql);
+            statements.put(sql, statement);
+        }
+        return statement;
+    }
+
+    private synchronized void invalidate(String sql) {
+        PreparedStatement statement = statements.remove(sql);
+        if (statement != null) {
+            close(statement);
+        }
+    }
+
+    private synchronized void closeAll() {
+        for (PreparedStatement statement : statements.values()) {
+            close(statement);
+        }
+        statements.clear();
+    }
+
+    private static void close(PreparedStatement statement) {
+        synchronized (statement) {
+            MiscUtils.close(statement);
+        }
+    }
+
+    interface StatementUser<T> {
+        T apply(PreparedStatement statement) throws SQLException;
+    }
+}
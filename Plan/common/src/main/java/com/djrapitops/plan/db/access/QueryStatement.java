@@ -47,10 +47,8 @@ public abstract class QueryStatement<T> implements Query<T> {
     public T executeQuery(SQLDB db) {
         Connection connection = null;
         try {
-            connection = db.getConnection();
-            try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
-                return executeQuery(preparedStatement);
-            }
+            connection = db.getReadConnection();
+            return executeQueryWith(connection);
         } catch (SQLException e) {
             throw DBOpException.forCause(sql, e);
         } finally {
@@ -58,18 +56,46 @@ public abstract class QueryStatement<T> implements Query<T> {
         }
     }
 
+    /**
+     * Execute the query with a connection that is already in use, like the connection of a Transaction.
+     *
+     * @param connection Connection to use, it is not closed or returned to the pool.
+     * @return Result of the query.
+     */
+    public T executeQuery(Connection connection) {
+        try {
+            return executeQueryWith(connection);
+        } catch (SQLException e) {
+            throw DBOpException.forCause(sql, e);
+        }
+    }
+
+    private T executeQueryWith(Connection connection) throws SQLException {
+        PreparedStatementCache cache = PreparedStatementCache.of(connection);
+        if (cache != null) {
+            return cache.use(sql, this::queryResults);
+        }
+        try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+            return executeQuery(preparedStatement);
+        }
+    }
+
     public T executeQuery(PreparedStatement statement) throws SQLException {
         try {
-            statement.setFetchSize(fetchSize);
-            prepare(statement);
-            try (ResultSet set = statement.executeQuery()) {
-                return processResults(set);
-            }
+            return queryResults(statement);
         } finally {
             statement.close();
         }
     }
 
+    private T queryResults(PreparedStatement statement) throws SQLException {
+        statement.setFetchSize(fetchSize);
+        prepare(statement);
+        try (ResultSet set = statement.executeQuery()) {
+            return processResults(set);
+        }
+    }
+
     public abstract void prepare(PreparedStatement statement) throws SQLException;
 
     public abstract T processResults(ResultSet set) throws SQLException;
@@ -16,20 +16,20 @@
  */
 package com.djrapitops.plan.db.access.queries;
 
-import com.djrapitops.plan.data.container.GeoInfo;
-import com.djrapitops.plan.data.container.Ping;
-import com.djrapitops.plan.data.container.Session;
-import com.djrapitops.plan.data.container.TPS;
+import com.djrapitops.plan.data.container.*;
 import com.djrapitops.plan.data.store.keys.SessionKeys;
 import com.djrapitops.plan.data.store.objects.Nickname;
 import com.djrapitops.plan.data.time.GMTimes;
-import com.djrapitops.plan.db.access.ExecBatchStatement;
+import com.djrapitops.plan.db.access.ExecMultiRowStatement;
 import com.djrapitops.plan.db.access.ExecStatement;
 import com.djrapitops.plan.db.access.Executable;
 import com.djrapitops.plan.db.sql.tables.*;
 
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -112,10 +112,10 @@ public class DataStoreQueries {
     }
 
     private static Executable storeSessionKills(Session session) {
-        return new ExecBatchStatement(KillsTable.INSERT_STATEMENT) {
+        return new ExecMultiRowStatement<PlayerKill>(KillsTable.INSERT_STATEMENT, session.getPlayerKills()) {
             @Override
-            public void prepare(PreparedStatement statement) throws SQLException {
-                KillsTable.addSessionKillsToBatch(statement, session);
+            public void prepareRow(PreparedStatement statement, int index, PlayerKill kill) throws SQLException {
+                KillsTable.prepareKillRow(statement, index, session, kill);
             }
         };
     }
@@ -134,10 +134,12 @@ public class DataStoreQueries {
         if (session.getValue(SessionKeys.WORLD_TIMES).map(times -> times.getWorldTimes().isEmpty()).orElse(true)) {
             return Executable.empty();
         }
-        return new ExecBatchStatement(WorldTimesTable.INSERT_STATEMENT) {
+        String[] gms = GMTimes.getGMKeyArray();
+        List<Map.Entry<String, GMTimes>> worldTimes = new ArrayList<>(session.getUnsafe(SessionKeys.WORLD_TIMES).getWorldTimes().entrySet());
+        return new ExecMultiRowStatement<Map.Entry<String, GMTimes>>(WorldTimesTable.INSERT_STATEMENT, worldTimes) {
             @Override
-            public void prepare(PreparedStatement statement) throws SQLException {
-                WorldTimesTable.addSessionWorldTimesToBatch(statement, session, GMTimes.getGMKeyArray());
+            public void prepareRow(PreparedStatement statement, int index, Map.Entry<String, GMTimes> row) throws SQLException {
+                WorldTimesTable.prepareWorldTimesRow(statement, index, session, row.getKey(), row.getValue(), gms);
             }
         };
     }
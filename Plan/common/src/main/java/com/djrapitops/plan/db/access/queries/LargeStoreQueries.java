@@ -22,6 +22,7 @@ import com.djrapitops.plan.data.store.keys.SessionKeys;
 import com.djrapitops.plan.data.store.objects.Nickname;
 import com.djrapitops.plan.data.time.GMTimes;
 import com.djrapitops.plan.db.access.ExecBatchStatement;
+import com.djrapitops.plan.db.access.ExecMultiRowStatement;
 import com.djrapitops.plan.db.access.Executable;
 import com.djrapitops.plan.db.sql.tables.*;
 import com.djrapitops.plan.system.info.server.Server;
@@ -29,10 +30,7 @@ import com.djrapitops.plugin.utilities.Verify;
 
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
-import java.util.Collection;
-import java.util.List;
-import java.util.Map;
-import java.util.UUID;
+import java.util.*;
 
 /**
  * Static method class for large storage queries.
@@ -212,7 +210,7 @@ public class LargeStoreQueries {
     }
 
     /**
-     * Execute a big batch of TPS insert statements.
+     * Insert TPS data of multiple servers with multi-row insert statements.
      *
      * @param ofServers Map: Server UUID - List of TPS data
      * @return Executable, use inside a {@link com.djrapitops.plan.db.access.transactions.Transaction}
@@ -222,27 +220,27 @@ public class LargeStoreQueries {
             return Executable.empty();
         }
 
-        return new ExecBatchStatement(TPSTable.INSERT_STATEMENT) {
+        List<Map.Entry<UUID, TPS>> rows = new ArrayList<>();
+        for (Map.Entry<UUID, List<TPS>> entry : ofServers.entrySet()) {
+            UUID serverUUID = entry.getKey();
+            for (TPS tps : entry.getValue()) {
+                rows.add(new AbstractMap.SimpleImmutableEntry<>(serverUUID, tps));
+            }
+        }
+
+        return new ExecMultiRowStatement<Map.Entry<UUID, TPS>>(TPSTable.INSERT_STATEMENT, rows) {
             @Override
-            public void prepare(PreparedStatement statement) throws SQLException {
-                // Every Server
-                for (Map.Entry<UUID, List<TPS>> entry : ofServers.entrySet()) {
-                    UUID serverUUID = entry.getKey();
-                    // Every TPS Data point
-                    List<TPS> tpsList = entry.getValue();
-                    for (TPS tps : tpsList) {
-                        statement.setString(1, serverUUID.toString());
-                        statement.setLong(2, tps.getDate());
-                        statement.setDouble(3, tps.getTicksPerSecond());
-                        statement.setInt(4, tps.getPlayers());
-                        statement.setDouble(5, tps.getCPUUsage());
-                        statement.setLong(6, tps.getUsedMemory());
-                        statement.setDouble(7, tps.getEntityCount());
-                        statement.setDouble(8, tps.getChunksLoaded());
-                        statement.setLong(9, tps.getFreeDiskSpace());
-                        statement.addBatch();
-                    }
-                }
+            public void prepareRow(PreparedStatement statement, int index, Map.Entry<UUID, TPS> row) throws SQLException {
+                TPS tps = row.getValue();
+                statement.setString(index, row.getKey().toString());
+                statement.setLong(index + 1, tps.getDate());
+                statement.setDouble(index + 2, tps.getTicksPerSecond());
+                statement.setInt(index + 3, tps.getPlayers());
+                statement.setDouble(index + 4, tps.getCPUUsage());
+                statement.setLong(index + 5, tps.getUsedMemory());
+                statement.setDouble(index + 6, tps.getEntityCount());
+                statement.setDouble(index + 7, tps.getChunksLoaded());
+                statement.setLong(index + 8, tps.getFreeDiskSpace());
             }
         };
     }
@@ -396,29 +394,25 @@ public class LargeStoreQueries {
             return Executable.empty();
         }
 
-        return new ExecBatchStatement(PingTable.INSERT_STATEMENT) {
+        List<Map.Entry<UUID, Ping>> rows = new ArrayList<>();
+        for (Map.Entry<UUID, List<Ping>> entry : ofUsers.entrySet()) {
+            UUID uuid = entry.getKey();
+            for (Ping ping : entry.getValue()) {
+                rows.add(new AbstractMap.SimpleImmutableEntry<>(uuid, ping));
+            }
+        }
+
+        return new ExecMultiRowStatement<Map.Entry<UUID, Ping>>(PingTable.INSERT_STATEMENT, rows) {
             @Override
-            public void prepare(PreparedStatement statement) throws SQLException {
-                for (Map.Entry<UUID, List<Ping>> entry : ofUsers.entrySet()) {
-                    UUID uuid = entry.getKey();
-                    List<Ping> pings = entry.getValue();
-                    for (Ping ping : pings) {
-                        UUID serverUUID = ping.getServerUUID();
-                        long date = ping.getDate();
-                        int minPing = ping.getMin();
-                        int maxPing = ping.getMax();
-                        double avgPing = ping.getAverage();
-
-                        statement.setString(1, uuid.toString());
-                        statement.setString(2, serverUUID.toString());
-                        statement.setLong(3, date);
-                        statement.setInt(4, minPing);
-                        statement.setInt(5, maxPing);
-                        statement.setDouble(6, avgPing);
-                        statement.addBatch();
-                    }
-                }
+            public void prepareRow(PreparedStatement statement, int index, Map.Entry<UUID, Ping> row) throws SQLException {
+                Ping ping = row.getValue();
+                statement.setString(index, row.getKey().toString());
+                statement.setString(index + 1, ping.getServerUUID().toString());
+                statement.setLong(index + 2, ping.getDate());
+                statement.setInt(index + 3, ping.getMin());
+                statement.setInt(index + 4, ping.getMax());
+                statement.setDouble(index + 5, ping.getAverage());
             }
         };
     }
-}
\ No newline at end of file
+}
@@ -17,15 +17,12 @@
 package com.djrapitops.plan.db.access.queries.containers;
 
 import com.djrapitops.plan.data.container.*;
-import com.djrapitops.plan.data.store.containers.DataContainer;
 import com.djrapitops.plan.data.store.containers.PerServerContainer;
 import com.djrapitops.plan.data.store.containers.PlayerContainer;
-import com.djrapitops.plan.data.store.containers.SupplierDataContainer;
-import com.djrapitops.plan.data.store.keys.PerServerKeys;
 import com.djrapitops.plan.data.store.keys.PlayerKeys;
 import com.djrapitops.plan.data.store.mutators.PerServerMutator;
-import com.djrapitops.plan.data.store.mutators.SessionsMutator;
 import com.djrapitops.plan.data.store.objects.Nickname;
+import com.djrapitops.plan.data.store.objects.SessionColumns;
 import com.djrapitops.plan.db.SQLDB;
 import com.djrapitops.plan.db.access.Query;
 import com.djrapitops.plan.db.access.queries.objects.*;
@@ -40,92 +37,49 @@ import java.util.*;
  * - PlayerContainers PlayerKeys.PER_SERVER does not support: PerServerKeys WORLD_TIMES, PLAYER_KILLS, PLAYER_KILL_COUNT
  * <p>
  * Blocking methods are not called until DataContainer getter methods are called.
+ * <p>
+ * Sessions are held in {@link SessionColumns} and the Session objects are only created when PlayerKeys.PER_SERVER
+ * (or PlayerKeys.SESSIONS, which is built from the same PerServerContainer) is first requested.
+ * After that the Session objects of the player are held in memory alongside the columns, for the usual
+ * CachingSupplier time to live. Last seen, mob kill and death counts are calculated from the columns directly.
  *
  * @author Rsl1122
  */
 public class AllPlayerContainersQuery implements Query<List<PlayerContainer>> {
 
     /**
-     * Create PerServerContainers for each player.
+     * Create a PerServerContainer of a player.
      *
-     * @param sessions    Map: Server UUID - Map: Player UUID - List of Sessions
-     * @param allUserInfo Map: Server UUID - List of Users
-     * @param allPings    Map: Player UUID - List of Ping data
-     * @return Map: Player UUID - PerServerContainer
+     * @param userInfo UserInfo of the player on each server.
+     * @param sessions Sessions of the player.
+     * @param pings    Ping data of the player, can be null.
+     * @return PerServerContainer with new Session objects.
      */
-    private Map<UUID, PerServerContainer> getPerServerData(
-            Map<UUID, Map<UUID, List<Session>>> sessions,
-            Map<UUID, List<UserInfo>> allUserInfo,
-            Map<UUID, List<Ping>> allPings
+    private PerServerContainer createPerServerContainer(
+            List<UserInfo> userInfo,
+            SessionColumns sessions,
+            List<Ping> pings
     ) {
-        Map<UUID, PerServerContainer> perServerContainers = new HashMap<>();
-
-        for (Map.Entry<UUID, List<UserInfo>> entry : allUserInfo.entrySet()) {
-            UUID serverUUID = entry.getKey();
-            List<UserInfo> serverUserInfo = entry.getValue();
+        PerServerContainer perServerContainer = new PerServerContainer();
+        perServerContainer.putUserInfo(userInfo);
+        perServerContainer.putSessions(sessions.toSessions());
+        perServerContainer.putPing(pings);
+        perServerContainer.putCalculatingSuppliers();
+        return perServerContainer;
+    }
 
+    private Map<UUID, List<UserInfo>> groupByPlayer(Map<UUID, List<UserInfo>> userInfoByServer) {
+        Map<UUID, List<UserInfo>> byPlayer = new HashMap<>();
+        for (List<UserInfo> serverUserInfo : userInfoByServer.values()) {
             for (UserInfo userInfo : serverUserInfo) {
-                UUID uuid = userInfo.getPlayerUuid();
-                if (uuid == null) {
+                UUID playerUUID = userInfo.getPlayerUuid();
+                if (playerUUID == null) {
                     continue;
                 }
-                PerServerContainer perServerContainer = perServerContainers.getOrDefault(uuid, new PerServerContainer());
-                DataContainer container = perServerContainer.getOrDefault(serverUUID, new SupplierDataContainer());
-                container.putRawData(PlayerKeys.REGISTERED, userInfo.getRegistered());
-                container.putRawData(PlayerKeys.BANNED, userInfo.isBanned());
-                container.putRawData(PlayerKeys.OPERATOR, userInfo.isOperator());
-                perServerContainer.put(serverUUID, container);
-                perServerContainers.put(uuid, perServerContainer);
-            }
-        }
-
-        for (Map.Entry<UUID, Map<UUID, List<Session>>> entry : sessions.entrySet()) {
-            UUID serverUUID = entry.getKey();
-            Map<UUID, List<Session>> serverUserSessions = entry.getValue();
-
-            for (Map.Entry<UUID, List<Session>> sessionEntry : serverUserSessions.entrySet()) {
-                UUID playerUUID = sessionEntry.getKey();
-                PerServerContainer perServerContainer = perServerContainers.getOrDefault(playerUUID, new PerServerContainer());
-                DataContainer container = perServerContainer.getOrDefault(serverUUID, new SupplierDataContainer());
-
-                List<Session> serverSessions = sessionEntry.getValue();
-                container.putRawData(PerServerKeys.SESSIONS, serverSessions);
-
-                container.putSupplier(PerServerKeys.LAST_SEEN, () -> SessionsMutator.forContainer(container).toLastSeen());
-
-                container.putSupplier(PerServerKeys.WORLD_TIMES, () -> SessionsMutator.forContainer(container).toTotalWorldTimes());
-                container.putSupplier(PerServerKeys.PLAYER_DEATHS, () -> SessionsMutator.forContainer(container).toPlayerDeathList());
-                container.putSupplier(PerServerKeys.PLAYER_KILLS, () -> SessionsMutator.forContainer(container).toPlayerKillList());
-                container.putSupplier(PerServerKeys.PLAYER_KILL_COUNT, () -> container.getValue(PerServerKeys.PLAYER_KILLS).map(Collection::size).orElse(0));
-                container.putSupplier(PerServerKeys.MOB_KILL_COUNT, () -> SessionsMutator.forContainer(container).toMobKillCount());
-                container.putSupplier(PerServerKeys.DEATH_COUNT, () -> SessionsMutator.forContainer(container).toDeathCount());
-                container.putSupplier(PerServerKeys.PLAYER_DEATH_COUNT, () -> SessionsMutator.forContainer(container).toPlayerDeathCount());
-                container.putSupplier(PerServerKeys.MOB_DEATH_COUNT, () ->
-                        container.getValue(PerServerKeys.DEATH_COUNT).orElse(0) - container.getValue(PerServerKeys.PLAYER_DEATH_COUNT).orElse(0)
-                );
-                perServerContainer.put(serverUUID, container);
-                perServerContainers.put(playerUUID, perServerContainer);
-            }
-        }
-
-        for (Map.Entry<UUID, List<Ping>> entry : allPings.entrySet()) {
-            UUID uuid = entry.getKey();
-            for (Ping ping : entry.getValue()) {
-                UUID serverUUID = ping.getServerUUID();
-                PerServerContainer perServerContainer = perServerContainers.getOrDefault(uuid, new PerServerContainer());
-                DataContainer container = perServerContainer.getOrDefault(serverUUID, new SupplierDataContainer());
-
-                if (!container.supports(PerServerKeys.PING)) {
-                    container.putRawData(PerServerKeys.PING, new ArrayList<>());
-                }
-                container.getUnsafe(PerServerKeys.PING).add(ping);
-
-                perServerContainer.put(serverUUID, container);
-                perServerContainers.put(uuid, perServerContainer);
+                byPlayer.computeIfAbsent(playerUUID, uuid -> new ArrayList<>(1)).add(userInfo);
             }
         }
-
-        return perServerContainers;
+        return byPlayer;
     }
 
     @Override
@@ -137,9 +91,9 @@ public class AllPlayerContainersQuery implements Query<List<PlayerContainer>> {
         Map<UUID, List<Ping>> allPings = db.query(PingQueries.fetchAllPingData());
         Map<UUID, List<Nickname>> allNicknames = db.query(NicknameQueries.fetchAllNicknameDataByPlayerUUIDs());
 
-        Map<UUID, Map<UUID, List<Session>>> sessions = db.query(SessionQueries.fetchAllSessionsWithoutKillOrWorldData());
-        Map<UUID, List<UserInfo>> allUserInfo = db.query(UserInfoQueries.fetchAllUserInformation());
-        Map<UUID, PerServerContainer> perServerInfo = getPerServerData(sessions, allUserInfo, allPings);
+        Map<UUID, SessionColumns> allSessions = db.query(SessionQueries.fetchAllSessionColumnsByPlayer());
+        Map<UUID, List<UserInfo>> allUserInfo = groupByPlayer(db.query(UserInfoQueries.fetchAllUserInformation()));
+        List<UUID> noServers = Collections.emptyList();
 
         for (BaseUser baseUser : users) {
             PlayerContainer container = new PlayerContainer();
@@ -152,7 +106,11 @@ public class AllPlayerContainersQuery implements Query<List<PlayerContainer>> {
             container.putRawData(PlayerKeys.GEO_INFO, geoInfo.get(uuid));
             container.putRawData(PlayerKeys.PING, allPings.get(uuid));
             container.putRawData(PlayerKeys.NICKNAMES, allNicknames.get(uuid));
-            container.putRawData(PlayerKeys.PER_SERVER, perServerInfo.get(uuid));
+
+            SessionColumns sessions = allSessions.getOrDefault(uuid, new SessionColumns(uuid, noServers));
+            List<UserInfo> userInfo = allUserInfo.getOrDefault(uuid, Collections.emptyList());
+            List<Ping> pings = allPings.get(uuid);
+            container.putCachingSupplier(PlayerKeys.PER_SERVER, () -> createPerServerContainer(userInfo, sessions, pings));
 
             container.putCachingSupplier(PlayerKeys.SESSIONS, () -> {
                         List<Session> playerSessions = PerServerMutator.forContainer(container).flatMapSessions();
@@ -162,13 +120,13 @@ public class AllPlayerContainersQuery implements Query<List<PlayerContainer>> {
             );
 
             // Calculating getters
-            container.putSupplier(PlayerKeys.LAST_SEEN, () -> SessionsMutator.forContainer(container).toLastSeen());
+            container.putSupplier(PlayerKeys.LAST_SEEN, sessions::toLastSeen);
 
-            container.putSupplier(PlayerKeys.MOB_KILL_COUNT, () -> SessionsMutator.forContainer(container).toMobKillCount());
-            container.putSupplier(PlayerKeys.DEATH_COUNT, () -> SessionsMutator.forContainer(container).toDeathCount());
+            container.putSupplier(PlayerKeys.MOB_KILL_COUNT, sessions::toMobKillCount);
+            container.putSupplier(PlayerKeys.DEATH_COUNT, sessions::toDeathCount);
 
             containers.add(container);
         }
         return containers;
     }
-}
\ No newline at end of file
+}
@@ -56,6 +56,18 @@ public class ContainerFetchQueries {
         return new ServerContainerQuery(serverUUID);
     }
 
+    /**
+     * Used to get a ServerContainer, where TPS data older than a date is taken from hourly aggregates.
+     *
+     * @param serverUUID  UUID of the Server.
+     * @param rawTPSAfter Epoch ms, TPS data gathered before this date is replaced with hourly averages.
+     * @return a new ServerContainer.
+     * @see ServerContainerQuery
+     */
+    public static Query<ServerContainer> fetchServerContainer(UUID serverUUID, long rawTPSAfter) {
+        return new ServerContainerQuery(serverUUID, rawTPSAfter);
+    }
+
     /**
      * Used to get a PlayerContainer of a specific player.
      * <p>
@@ -0,0 +1,197 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.db.access.queries.containers;
+
+import com.djrapitops.plan.data.container.BaseUser;
+import com.djrapitops.plan.data.store.mutators.ActivityIndex;
+import com.djrapitops.plan.data.store.objects.PlayerTableRow;
+import com.djrapitops.plan.db.SQLDB;
+import com.djrapitops.plan.db.access.Query;
+import com.djrapitops.plan.db.access.QueryAllStatement;
+import com.djrapitops.plan.db.access.QueryStatement;
+import com.djrapitops.plan.db.access.queries.objects.BaseUserQueries;
+import com.djrapitops.plan.db.sql.tables.GeoInfoTable;
+import com.djrapitops.plan.db.sql.tables.SessionsTable;
+import com.djrapitops.plan.db.sql.tables.UserInfoTable;
+import com.djrapitops.plugin.api.TimeAmount;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.*;
+
+import static com.djrapitops.plan.db.sql.parsing.Sql.*;
+
+/**
+ * Used to load a {@link PlayerTableRow} of every player in the database.
+ * <p>
+ * Playtime, session counts and activity of the last three weeks are calculated with SQL aggregate functions
+ * so that sessions do not need to be loaded to memory.
+ * Weeks are matched the same way as {@link com.djrapitops.plan.data.store.mutators.SessionsMutator#filterSessionsBetween(long, long)}.
+ *
+ * @author Rsl1122
+ */
+public class PlayerTableRowsQuery implements Query<List<PlayerTableRow>> {
+
+    private static final int WEEKS = 3;
+
+    private final long date;
+    private final long activeMsThreshold;
+    private final int activeLoginThreshold;
+
+    public PlayerTableRowsQuery(long date, long activeMsThreshold, int activeLoginThreshold) {
+        this.date = date;
+        this.activeMsThreshold = activeMsThreshold;
+        this.activeLoginThreshold = activeLoginThreshold;
+    }
+
+    @Override
+    public List<PlayerTableRow> executeQuery(SQLDB db) {
+        Collection<BaseUser> users = db.query(BaseUserQueries.fetchAllBaseUsers());
+        Map<UUID, SessionAggregate> sessions = db.query(sessionAggregates());
+        Set<UUID> banned = db.query(bannedPlayers());
+        Map<UUID, String> geolocations = db.query(latestGeolocations());
+
+        List<PlayerTableRow> rows = new ArrayList<>(users.size());
+        for (BaseUser user : users) {
+            UUID playerUUID = user.getUuid();
+            SessionAggregate aggregate = sessions.getOrDefault(playerUUID, new SessionAggregate());
+            ActivityIndex activityIndex = new ActivityIndex(
+                    aggregate.activePlaytime, aggregate.sessionCounts,
+                    activeMsThreshold, activeLoginThreshold
+            );
+            rows.add(new PlayerTableRow(
+                    playerUUID, user.getName(),
+                    activityIndex, banned.contains(playerUUID),
+                    aggregate.playtime, aggregate.sessionCount,
+                    user.getRegistered(), aggregate.lastSeen,
+                    geolocations.getOrDefault(playerUUID, "-"),
+                    aggregate.activePlaytime, aggregate.sessionCounts
+            ));
+        }
+        return rows;
+    }
+
+    private Query<Map<UUID, SessionAggregate>> sessionAggregates() {
+        String length = SessionsTable.SESSION_END + "-" + SessionsTable.SESSION_START;
+        String inWeek = "((" + SessionsTable.SESSION_START + ">=?" + AND + SessionsTable.SESSION_START + "<=?)" +
+                " OR (" + SessionsTable.SESSION_END + ">=?" + AND + SessionsTable.SESSION_END + "<=?))";
+
+        StringBuilder sql = new StringBuilder(SELECT)
+                .append(SessionsTable.USER_UUID).append(", ")
+                .append("COUNT(1) as session_count, ")
+                .append("SUM(").append(length).append(") as playtime, ")
+                .append("MAX(").append(SessionsTable.SESSION_END).append(") as last_seen");
+        for (int week = 0; week < WEEKS; week++) {
+            sql.append(", SUM(CASE WHEN ").append(inWeek).append(" THEN 1 ELSE 0 END) as week_count_").append(week)
+                    .append(", SUM(CASE WHEN ").append(inWeek).append(" THEN ")
+                    .append(length).append("-").append(SessionsTable.AFK_TIME)
+                    .append(" ELSE 0 END) as week_active_").append(week);
+        }
+        sql.append(FROM).append(SessionsTable.TABLE_NAME)
+                .append(GROUP_BY).append(SessionsTable.USER_UUID);
+
+        return new QueryStatement<Map<UUID, SessionAggregate>>(sql.toString(), 20000) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                long week = TimeAmount.WEEK.toMillis(1L);
+                int index = 1;
+                for (int i = 0; i < WEEKS; i++) {
+                    long before = date - i * week;
+                    long after = before - week;
+                    // Same week is used by the count and the active playtime
+                    for (int repeat = 0; repeat < 2; repeat++) {
+                        statement.setLong(index++, after);
+                        statement.setLong(index++, before);
+                        statement.setLong(index++, after);
+                        statement.setLong(index++, before);
+                    }
+                }
+            }
+
+            @Override
+            public Map<UUID, SessionAggregate> processResults(ResultSet set) throws SQLException {
+                Map<UUID, SessionAggregate> aggregates = new HashMap<>();
+                while (set.next()) {
+                    UUID playerUUID = UUID.fromString(set.getString(SessionsTable.USER_UUID));
+                    SessionAggregate aggregate = new SessionAggregate();
+                    aggregate.sessionCount = set.getInt("session_count");
+                    aggregate.playtime = set.getLong("playtime");
+                    aggregate.lastSeen = set.getLong("last_seen");
+                    for (int week = 0; week < WEEKS; week++) {
+                        aggregate.sessionCounts[week] = set.getInt("week_count_" + week);
+                        aggregate.activePlaytime[week] = set.getLong("week_active_" + week);
+                    }
+                    aggregates.put(playerUUID, aggregate);
+                }
+                return aggregates;
+            }
+        };
+    }
+
+    private Query<Set<UUID>> bannedPlayers() {
+        String sql = SELECT + DISTINCT + UserInfoTable.USER_UUID +
+                FROM + UserInfoTable.TABLE_NAME +
+                WHERE + UserInfoTable.BANNED + "=?";
+
+        return new QueryStatement<Set<UUID>>(sql, 1000) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setBoolean(1, true);
+            }
+
+            @Override
+            public Set<UUID> processResults(ResultSet set) throws SQLException {
+                Set<UUID> banned = new HashSet<>();
+                while (set.next()) {
+                    banned.add(UUID.fromString(set.getString(UserInfoTable.USER_UUID)));
+                }
+                return banned;
+            }
+        };
+    }
+
+    private Query<Map<UUID, String>> latestGeolocations() {
+        String latestUse = "(" + SELECT + GeoInfoTable.USER_UUID + ", MAX(" + GeoInfoTable.LAST_USED + ") as latest" +
+                FROM + GeoInfoTable.TABLE_NAME +
+                GROUP_BY + GeoInfoTable.USER_UUID + ") latest_use";
+        String sql = SELECT + "g." + GeoInfoTable.USER_UUID + ", g." + GeoInfoTable.GEOLOCATION +
+                FROM + GeoInfoTable.TABLE_NAME + " g" +
+                INNER_JOIN + latestUse + " ON g." + GeoInfoTable.USER_UUID + "=latest_use." + GeoInfoTable.USER_UUID +
+                AND + "g." + GeoInfoTable.LAST_USED + "=latest_use.latest";
+
+        return new QueryAllStatement<Map<UUID, String>>(sql, 20000) {
+            @Override
+            public Map<UUID, String> processResults(ResultSet set) throws SQLException {
+                Map<UUID, String> geolocations = new HashMap<>();
+                while (set.next()) {
+                    UUID playerUUID = UUID.fromString(set.getString(GeoInfoTable.USER_UUID));
+                    geolocations.put(playerUUID, set.getString(GeoInfoTable.GEOLOCATION));
+                }
+                return geolocations;
+            }
+        };
+    }
+
+    private static class SessionAggregate {
+        private int sessionCount;
+        private long playtime;
+        private long lastSeen;
+        private final int[] sessionCounts = new int[WEEKS];
+        private final long[] activePlaytime = new long[WEEKS];
+    }
+}
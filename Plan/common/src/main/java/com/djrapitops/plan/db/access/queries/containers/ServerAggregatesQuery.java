@@ -0,0 +1,203 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.db.access.queries.containers;
+
+import com.djrapitops.plan.data.store.objects.ServerAggregates;
+import com.djrapitops.plan.db.SQLDB;
+import com.djrapitops.plan.db.access.Query;
+import com.djrapitops.plan.db.access.QueryStatement;
+import com.djrapitops.plan.db.access.queries.objects.RollupQueries;
+import com.djrapitops.plan.db.access.queries.objects.TPSQueries;
+import com.djrapitops.plan.db.access.queries.objects.WorldTimesQueries;
+import com.djrapitops.plan.db.sql.tables.KillsTable;
+import com.djrapitops.plan.db.sql.tables.SessionsTable;
+import com.djrapitops.plan.db.sql.tables.UserInfoTable;
+import com.djrapitops.plan.db.sql.tables.UsersTable;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static com.djrapitops.plan.db.sql.parsing.Sql.*;
+
+/**
+ * Used to load {@link ServerAggregates} of a server from the database.
+ * <p>
+ * Totals are calculated with SQL aggregate functions so that sessions do not need to be loaded to memory.
+ * Unique and new players per day are taken from the daily rollups where available, so only days that
+ * have not been rolled up yet are calculated from sessions and users.
+ * Should be executed on the transaction thread so that no events are stored while loading,
+ * otherwise they might be counted twice or not at all.
+ *
+ * @author Rsl1122
+ */
+public class ServerAggregatesQuery implements Query<ServerAggregates> {
+
+    private static final long DAY = TimeUnit.DAYS.toMillis(1L);
+    private static final String DAY_EXPRESSION = SessionsTable.SESSION_START + "-(" + SessionsTable.SESSION_START + "%" + DAY + ")";
+    private static final String REGISTER_DAY_EXPRESSION = UsersTable.TABLE_NAME + "." + UsersTable.REGISTERED + "-(" + UsersTable.TABLE_NAME + "." + UsersTable.REGISTERED + "%" + DAY + ")";
+
+    private final UUID serverUUID;
+
+    public ServerAggregatesQuery(UUID serverUUID) {
+        this.serverUUID = serverUUID;
+    }
+
+    @Override
+    public ServerAggregates executeQuery(SQLDB db) {
+        long trackedSince = System.currentTimeMillis() - TimeUnit.DAYS.toMillis(2L);
+        ServerAggregates aggregates = new ServerAggregates(serverUUID, trackedSince);
+
+        db.query(sessionTotals(aggregates));
+
+        TreeMap<Long, Integer> rolledUpUnique = db.query(RollupQueries.fetchDailyUniquePlayerCounts(serverUUID, aggregates.getTrackedSince()));
+        TreeMap<Long, Integer> rolledUpNew = db.query(RollupQueries.fetchDailyNewPlayerCounts(serverUUID, aggregates.getTrackedSince()));
+        rolledUpUnique.forEach(aggregates::setUniqueCount);
+        rolledUpNew.forEach(aggregates::setNewCount);
+        // Days after the last rolled up day are counted from sessions and users.
+        long rolledUpUntil = rolledUpUnique.isEmpty() ? 0L : rolledUpUnique.lastKey() + DAY;
+
+        db.query(uniquePlayerCountsPerDay(aggregates, rolledUpUntil));
+        db.query(trackedUniquePlayersPerDay(aggregates));
+        db.query(newPlayerCountsPerDay(aggregates, rolledUpUntil));
+        db.query(TPSQueries.fetchAllTimePeakPlayerCount(serverUUID)).ifPresent(aggregates::setAllTimePeak);
+        aggregates.addWorldTimes(db.query(WorldTimesQueries.fetchServerTotalWorldTimes(serverUUID)));
+
+        return aggregates;
+    }
+
+    private Query<Void> sessionTotals(ServerAggregates aggregates) {
+        String playerKillsSql = "(" + SELECT + "COUNT(1)" + FROM + KillsTable.TABLE_NAME +
+                WHERE + KillsTable.SERVER_UUID + "=?)";
+        String sql = SELECT +
+                "COUNT(1) as session_count, " +
+                "SUM(" + SessionsTable.SESSION_END + "-" + SessionsTable.SESSION_START + ") as playtime, " +
+                "SUM(" + SessionsTable.MOB_KILLS + ") as mob_kills, " +
+                "SUM(" + SessionsTable.DEATHS + ") as deaths, " +
+                playerKillsSql + " as player_kills" +
+                FROM + SessionsTable.TABLE_NAME +
+                WHERE + SessionsTable.SERVER_UUID + "=?";
+
+        return new QueryStatement<Void>(sql) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setString(1, serverUUID.toString());
+                statement.setString(2, serverUUID.toString());
+            }
+
+            @Override
+            public Void processResults(ResultSet set) throws SQLException {
+                if (set.next()) {
+                    aggregates.setSessionTotals(
+                            set.getInt("session_count"),
+                            set.getLong("playtime"),
+                            set.getInt("mob_kills"),
+                            set.getInt("deaths"),
+                            set.getInt("player_kills")
+                    );
+                }
+                return null;
+            }
+        };
+    }
+
+    private Query<Void> uniquePlayerCountsPerDay(ServerAggregates aggregates, long after) {
+        String sql = SELECT +
+                DAY_EXPRESSION + " as day_start, " +
+                "COUNT(DISTINCT " + SessionsTable.USER_UUID + ") as unique_players" +
+                FROM + SessionsTable.TABLE_NAME +
+                WHERE + SessionsTable.SERVER_UUID + "=?" +
+                AND + SessionsTable.SESSION_START + ">=?" +
+                AND + SessionsTable.SESSION_START + "<?" +
+                GROUP_BY + DAY_EXPRESSION;
+
+        return new QueryStatement<Void>(sql, 1000) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setString(1, serverUUID.toString());
+                statement.setLong(2, after);
+                statement.setLong(3, aggregates.getTrackedSince());
+            }
+
+            @Override
+            public Void processResults(ResultSet set) throws SQLException {
+                while (set.next()) {
+                    aggregates.setUniqueCount(set.getLong("day_start"), set.getInt("unique_players"));
+                }
+                return null;
+            }
+        };
+    }
+
+    private Query<Void> trackedUniquePlayersPerDay(ServerAggregates aggregates) {
+        String sql = SELECT + DISTINCT +
+                DAY_EXPRESSION + " as day_start, " +
+                SessionsTable.USER_UUID +
+                FROM + SessionsTable.TABLE_NAME +
+                WHERE + SessionsTable.SERVER_UUID + "=?" +
+                AND + SessionsTable.SESSION_START + ">=?";
+
+        return new QueryStatement<Void>(sql, 1000) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setString(1, serverUUID.toString());
+                statement.setLong(2, aggregates.getTrackedSince());
+            }
+
+            @Override
+            public Void processResults(ResultSet set) throws SQLException {
+                while (set.next()) {
+                    UUID playerUUID = UUID.fromString(set.getString(SessionsTable.USER_UUID));
+                    aggregates.addTrackedUnique(set.getLong("day_start"), playerUUID);
+                }
+                return null;
+            }
+        };
+    }
+
+    private Query<Void> newPlayerCountsPerDay(ServerAggregates aggregates, long after) {
+        // New players are counted by the register date of the BaseUser, like PlayersMutator#newPerDay does.
+        String sql = SELECT +
+                REGISTER_DAY_EXPRESSION + " as day_start, " +
+                "COUNT(1) as new_players" +
+                FROM + UsersTable.TABLE_NAME +
+                INNER_JOIN + UserInfoTable.TABLE_NAME + " on " +
+                UsersTable.TABLE_NAME + "." + UsersTable.USER_UUID + "=" + UserInfoTable.TABLE_NAME + "." + UserInfoTable.USER_UUID +
+                WHERE + UserInfoTable.TABLE_NAME + "." + UserInfoTable.SERVER_UUID + "=?" +
+                AND + UsersTable.TABLE_NAME + "." + UsersTable.REGISTERED + ">=?" +
+                GROUP_BY + REGISTER_DAY_EXPRESSION;
+
+        return new QueryStatement<Void>(sql, 1000) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setString(1, serverUUID.toString());
+                statement.setLong(2, after);
+            }
+
+            @Override
+            public Void processResults(ResultSet set) throws SQLException {
+                while (set.next()) {
+                    aggregates.setNewCount(set.getLong("day_start"), set.getInt("new_players"));
+                }
+                return null;
+            }
+        };
+    }
+}
@@ -17,16 +17,20 @@
 package com.djrapitops.plan.db.access.queries.containers;
 
 import com.djrapitops.plan.data.container.Session;
+import com.djrapitops.plan.data.container.TPS;
 import com.djrapitops.plan.data.store.containers.ServerContainer;
 import com.djrapitops.plan.data.store.keys.ServerKeys;
 import com.djrapitops.plan.data.store.mutators.PlayersMutator;
 import com.djrapitops.plan.data.store.mutators.SessionsMutator;
+import com.djrapitops.plan.data.store.objects.ServerAggregates;
 import com.djrapitops.plan.db.SQLDB;
 import com.djrapitops.plan.db.access.Query;
 import com.djrapitops.plan.db.access.queries.ServerAggregateQueries;
+import com.djrapitops.plan.db.access.queries.objects.RollupQueries;
 import com.djrapitops.plan.db.access.queries.objects.ServerQueries;
 import com.djrapitops.plan.db.access.queries.objects.TPSQueries;
 import com.djrapitops.plan.db.access.queries.objects.WorldTimesQueries;
+import com.djrapitops.plan.db.access.transactions.init.RollupTransaction;
 import com.djrapitops.plan.system.cache.SessionCache;
 import com.djrapitops.plan.system.info.server.Server;
 
@@ -49,9 +53,21 @@ import java.util.concurrent.TimeUnit;
 public class ServerContainerQuery implements Query<ServerContainer> {
 
     private final UUID serverUUID;
+    private final long rawTPSAfter;
 
     public ServerContainerQuery(UUID serverUUID) {
+        this(serverUUID, 0L);
+    }
+
+    /**
+     * Create a new query that uses hourly TPS aggregates for data older than a date.
+     *
+     * @param serverUUID  UUID of the server.
+     * @param rawTPSAfter Epoch ms, TPS data gathered before the hour of this date is taken from the hourly aggregates.
+     */
+    public ServerContainerQuery(UUID serverUUID, long rawTPSAfter) {
         this.serverUUID = serverUUID;
+        this.rawTPSAfter = rawTPSAfter;
     }
 
     @Override
@@ -68,18 +84,33 @@ public class ServerContainerQuery implements Query<ServerContainer> {
         container.putCachingSupplier(ServerKeys.PLAYERS, () -> db.query(new ServerPlayerContainersQuery(serverUUID)));
         container.putSupplier(ServerKeys.PLAYER_COUNT, () -> container.getValue(ServerKeys.PLAYERS).map(Collection::size).orElse(0));
 
-        container.putCachingSupplier(ServerKeys.TPS, () -> db.query(TPSQueries.fetchTPSDataOfServer(serverUUID)));
+        container.putCachingSupplier(ServerKeys.AGGREGATES, () -> db.getServerAggregates(serverUUID).orElse(null));
+
+        container.putCachingSupplier(ServerKeys.TPS, () -> {
+            // Both are split at the start of an hour, so that the hour containing rawTPSAfter is not included twice.
+            long rolledUpBefore = RollupTransaction.startOfPeriod(rawTPSAfter, RollupTransaction.HOUR);
+            List<TPS> tps = db.query(RollupQueries.fetchHourlyTPSOfServer(serverUUID, rolledUpBefore));
+            tps.addAll(db.query(TPSQueries.fetchTPSDataOfServer(serverUUID, rolledUpBefore)));
+            return tps;
+        });
         container.putCachingSupplier(ServerKeys.PING, () -> PlayersMutator.forContainer(container).pings());
-        container.putCachingSupplier(ServerKeys.ALL_TIME_PEAK_PLAYERS, () ->
-                db.query(TPSQueries.fetchAllTimePeakPlayerCount(serverUUID)).orElse(null)
-        );
+        container.putCachingSupplier(ServerKeys.ALL_TIME_PEAK_PLAYERS, () -> {
+            Optional<ServerAggregates> aggregates = container.getValue(ServerKeys.AGGREGATES);
+            if (aggregates.isPresent()) {
+                return aggregates.get().getAllTimePeak().orElse(null);
+            }
+            return db.query(TPSQueries.fetchAllTimePeakPlayerCount(serverUUID)).orElse(null);
+        });
         container.putCachingSupplier(ServerKeys.RECENT_PEAK_PLAYERS, () -> {
             long twoDaysAgo = System.currentTimeMillis() - (TimeUnit.DAYS.toMillis(2L));
             return db.query(TPSQueries.fetchPeakPlayerCount(serverUUID, twoDaysAgo)).orElse(null);
         });
 
         container.putCachingSupplier(ServerKeys.COMMAND_USAGE, () -> db.query(ServerAggregateQueries.commandUsageCounts(serverUUID)));
-        container.putCachingSupplier(ServerKeys.WORLD_TIMES, () -> db.query(WorldTimesQueries.fetchServerTotalWorldTimes(serverUUID)));
+        container.putCachingSupplier(ServerKeys.WORLD_TIMES, () -> container.getValue(ServerKeys.AGGREGATES)
+                .map(ServerAggregates::getWorldTimes)
+                .orElseGet(() -> db.query(WorldTimesQueries.fetchServerTotalWorldTimes(serverUUID)))
+        );
 
         // Calculating getters
         container.putCachingSupplier(ServerKeys.OPERATORS, () -> PlayersMutator.forContainer(container).operators());
@@ -91,9 +122,18 @@ public class ServerContainerQuery implements Query<ServerContainer> {
             return sessions;
         });
         container.putCachingSupplier(ServerKeys.PLAYER_KILLS, () -> SessionsMutator.forContainer(container).toPlayerKillList());
-        container.putCachingSupplier(ServerKeys.PLAYER_KILL_COUNT, () -> container.getUnsafe(ServerKeys.PLAYER_KILLS).size());
-        container.putCachingSupplier(ServerKeys.MOB_KILL_COUNT, () -> SessionsMutator.forContainer(container).toMobKillCount());
-        container.putCachingSupplier(ServerKeys.DEATH_COUNT, () -> SessionsMutator.forContainer(container).toDeathCount());
+        container.putCachingSupplier(ServerKeys.PLAYER_KILL_COUNT, () -> container.getValue(ServerKeys.AGGREGATES)
+                .map(aggregates -> aggregates.getPlayerKillCount(SessionCache.getActiveSessions().values()))
+                .orElseGet(() -> container.getUnsafe(ServerKeys.PLAYER_KILLS).size())
+        );
+        container.putCachingSupplier(ServerKeys.MOB_KILL_COUNT, () -> container.getValue(ServerKeys.AGGREGATES)
+                .map(aggregates -> aggregates.getMobKillCount(SessionCache.getActiveSessions().values()))
+                .orElseGet(() -> SessionsMutator.forContainer(container).toMobKillCount())
+        );
+        container.putCachingSupplier(ServerKeys.DEATH_COUNT, () -> container.getValue(ServerKeys.AGGREGATES)
+                .map(aggregates -> aggregates.getDeathCount(SessionCache.getActiveSessions().values()))
+                .orElseGet(() -> SessionsMutator.forContainer(container).toDeathCount())
+        );
 
         return container;
     }
@@ -0,0 +1,113 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.db.access.queries.objects;
+
+import com.djrapitops.plan.data.store.objects.PlayerIdentities;
+import com.djrapitops.plan.db.access.Query;
+import com.djrapitops.plan.db.access.queries.PlayerFetchQueries;
+
+import java.util.*;
+
+/**
+ * Queries for player identifiers that are answered from {@link PlayerIdentities} of the database.
+ * <p>
+ * The database is queried only if the index is not available or does not contain the player,
+ * so that a player registered by a transaction that has not finished updating the index is still found.
+ * Renames and removals done by other servers on a shared database are not seen until the index is loaded again,
+ * see {@link com.djrapitops.plan.db.SQLDB#getPlayerIdentities()}.
+ * <p>
+ * Transactions should use {@link UserIdentifierQueries} and {@link PlayerFetchQueries} instead,
+ * since the index is not updated before the transaction has been committed.
+ *
+ * @author Rsl1122
+ */
+public class PlayerIdentityQueries {
+
+    private PlayerIdentityQueries() {
+        /* Static method class */
+    }
+
+    /**
+     * Find the name of a player.
+     *
+     * @param playerUUID UUID of the player.
+     * @return Optional: name if found, empty if not.
+     */
+    public static Query<Optional<String>> fetchPlayerNameOf(UUID playerUUID) {
+        return db -> {
+            Optional<String> cached = db.getPlayerIdentities().flatMap(identities -> identities.getName(playerUUID));
+            return cached.isPresent() ? cached : db.query(UserIdentifierQueries.fetchPlayerNameOf(playerUUID));
+        };
+    }
+
+    /**
+     * Find the UUID of a player by name.
+     *
+     * @param playerName Name of the player, case does not matter.
+     * @return Optional: UUID if found, empty if not.
+     */
+    public static Query<Optional<UUID>> fetchPlayerUUIDOf(String playerName) {
+        return db -> {
+            Optional<UUID> cached = db.getPlayerIdentities().flatMap(identities -> identities.getUUID(playerName));
+            return cached.isPresent() ? cached : db.query(UserIdentifierQueries.fetchPlayerUUIDOf(playerName));
+        };
+    }
+
+    /**
+     * Check if the player's BaseUser is registered.
+     *
+     * @param playerUUID UUID of the player.
+     * @return True if the player's BaseUser is found
+     */
+    public static Query<Boolean> isPlayerRegistered(UUID playerUUID) {
+        return db -> db.getPlayerIdentities().map(identities -> identities.contains(playerUUID)).orElse(false)
+                || db.query(PlayerFetchQueries.isPlayerRegistered(playerUUID));
+    }
+
+    /**
+     * Get the UUIDs and names of all players.
+     *
+     * @return Map: Player UUID - Player name
+     */
+    public static Query<Map<UUID, String>> fetchAllPlayerNames() {
+        return db -> db.getPlayerIdentities()
+                .map(PlayerIdentities::getNames)
+                .orElseGet(() -> db.query(UserIdentifierQueries.fetchAllPlayerNames()));
+    }
+
+    /**
+     * Find names of players whose name or nickname contains the given text.
+     * <p>
+     * Names are matched with the index, nicknames are not in the index and are matched in the database.
+     *
+     * @param searchFor Part of the name or nickname, case does not matter.
+     * @return Matching player names in alphabetical order.
+     */
+    public static Query<List<String>> fetchMatchingPlayerNames(String searchFor) {
+        return db -> {
+            Optional<PlayerIdentities> identities = db.getPlayerIdentities();
+            if (!identities.isPresent()) {
+                List<String> matching = db.query(UserIdentifierQueries.fetchMatchingPlayerNames(searchFor));
+                Collections.sort(matching);
+                return matching;
+            }
+            Set<String> matching = new TreeSet<>(identities.get().getMatchingNames(searchFor));
+            matching.addAll(db.query(UserIdentifierQueries.fetchNamesOfPlayersWithMatchingNickname(searchFor)));
+            return new ArrayList<>(matching);
+        };
+    }
+}
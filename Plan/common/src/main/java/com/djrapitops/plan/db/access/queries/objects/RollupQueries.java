@@ -0,0 +1,140 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.db.access.queries.objects;
+
+import com.djrapitops.plan.data.container.TPS;
+import com.djrapitops.plan.data.container.builders.TPSBuilder;
+import com.djrapitops.plan.db.access.Query;
+import com.djrapitops.plan.db.access.QueryStatement;
+import com.djrapitops.plan.db.access.transactions.init.RollupTransaction;
+import com.djrapitops.plan.db.sql.tables.ServerTable;
+import com.djrapitops.plan.db.sql.tables.SessionRollupTable;
+import com.djrapitops.plan.db.sql.tables.TPSRollupTable;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.UUID;
+
+import static com.djrapitops.plan.db.sql.parsing.Sql.*;
+
+/**
+ * Queries for the hourly and daily aggregates created by {@link RollupTransaction}.
+ *
+ * @author Rsl1122
+ */
+public class RollupQueries {
+
+    private RollupQueries() {
+        /* Static method class */
+    }
+
+    /**
+     * Fetch hourly TPS aggregates of a server as TPS objects.
+     * <p>
+     * Players online is the peak of the hour, free disk space the lowest value and other values are averages.
+     *
+     * @param serverUUID UUID of the Plan server.
+     * @param before     Epoch ms, only hours that started before this date are fetched.
+     * @return List of TPS, one for each hour.
+     */
+    public static Query<List<TPS>> fetchHourlyTPSOfServer(UUID serverUUID, long before) {
+        String sql = SELECT + "*" + FROM + TPSRollupTable.TABLE_NAME +
+                WHERE + TPSRollupTable.SERVER_ID + "=" + ServerTable.STATEMENT_SELECT_SERVER_ID +
+                AND + TPSRollupTable.PERIOD + "=?" +
+                AND + TPSRollupTable.DATE + "<?";
+
+        return new QueryStatement<List<TPS>>(sql, 10000) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setString(1, serverUUID.toString());
+                statement.setLong(2, RollupTransaction.HOUR);
+                statement.setLong(3, before);
+            }
+
+            @Override
+            public List<TPS> processResults(ResultSet set) throws SQLException {
+                List<TPS> data = new ArrayList<>();
+                while (set.next()) {
+                    TPS tps = TPSBuilder.get()
+                            .date(set.getLong(TPSRollupTable.DATE))
+                            .tps(set.getDouble(TPSRollupTable.AVG_TPS))
+                            .playersOnline(set.getInt(TPSRollupTable.MAX_PLAYERS_ONLINE))
+                            .usedCPU(set.getDouble(TPSRollupTable.AVG_CPU_USAGE))
+                            .usedMemory((long) set.getDouble(TPSRollupTable.AVG_RAM_USAGE))
+                            .entities((int) set.getDouble(TPSRollupTable.AVG_ENTITIES))
+                            .chunksLoaded((int) set.getDouble(TPSRollupTable.AVG_CHUNKS))
+                            .freeDiskSpace(set.getLong(TPSRollupTable.MIN_FREE_DISK))
+                            .toTPS();
+                    data.add(tps);
+                }
+                return data;
+            }
+        };
+    }
+
+    /**
+     * Fetch the amount of unique players on each day from the daily session aggregates.
+     *
+     * @param serverUUID UUID of the Plan server.
+     * @param before     Epoch ms, only days that started before this date are fetched.
+     * @return TreeMap: Start of day epoch ms - Unique player count.
+     */
+    public static Query<TreeMap<Long, Integer>> fetchDailyUniquePlayerCounts(UUID serverUUID, long before) {
+        return fetchDailyCounts(serverUUID, before, SessionRollupTable.UNIQUE_PLAYERS);
+    }
+
+    /**
+     * Fetch the amount of new players on each day from the daily session aggregates.
+     *
+     * @param serverUUID UUID of the Plan server.
+     * @param before     Epoch ms, only days that started before this date are fetched.
+     * @return TreeMap: Start of day epoch ms - New player count.
+     */
+    public static Query<TreeMap<Long, Integer>> fetchDailyNewPlayerCounts(UUID serverUUID, long before) {
+        return fetchDailyCounts(serverUUID, before, SessionRollupTable.NEW_PLAYERS);
+    }
+
+    private static Query<TreeMap<Long, Integer>> fetchDailyCounts(UUID serverUUID, long before, String countColumn) {
+        String sql = SELECT + SessionRollupTable.DATE + ", " + countColumn +
+                FROM + SessionRollupTable.TABLE_NAME +
+                WHERE + SessionRollupTable.SERVER_UUID + "=?" +
+                AND + SessionRollupTable.PERIOD + "=?" +
+                AND + SessionRollupTable.DATE + "<?";
+
+        return new QueryStatement<TreeMap<Long, Integer>>(sql, 1000) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setString(1, serverUUID.toString());
+                statement.setLong(2, RollupTransaction.DAY);
+                statement.setLong(3, before);
+            }
+
+            @Override
+            public TreeMap<Long, Integer> processResults(ResultSet set) throws SQLException {
+                TreeMap<Long, Integer> counts = new TreeMap<>();
+                while (set.next()) {
+                    counts.put(set.getLong(SessionRollupTable.DATE), set.getInt(countColumn));
+                }
+                return counts;
+            }
+        };
+    }
+}
@@ -21,8 +21,11 @@ import com.djrapitops.plan.data.container.Session;
 import com.djrapitops.plan.data.store.keys.SessionKeys;
 import com.djrapitops.plan.data.store.mutators.SessionsMutator;
 import com.djrapitops.plan.data.store.objects.DateHolder;
+import com.djrapitops.plan.data.store.objects.SessionColumns;
 import com.djrapitops.plan.data.time.GMTimes;
 import com.djrapitops.plan.data.time.WorldTimes;
+import com.djrapitops.plan.db.DBType;
+import com.djrapitops.plan.db.SQLDB;
 import com.djrapitops.plan.db.access.Query;
 import com.djrapitops.plan.db.access.QueryAllStatement;
 import com.djrapitops.plan.db.access.QueryStatement;
@@ -35,6 +38,7 @@ import java.sql.SQLException;
 import java.util.*;
 import java.util.stream.Collectors;
 
+import static com.djrapitops.plan.db.sql.parsing.Sql.ORDER_BY;
 import static com.djrapitops.plan.db.sql.parsing.Sql.WHERE;
 
 /**
@@ -121,6 +125,72 @@ public class SessionQueries {
         };
     }
 
+    /**
+     * Query the database for Session data of all players in compact form, without kill, death or world data.
+     * <p>
+     * Sessions are read ordered by player so that each player's columns are filled in one go.
+     * MySQL streams the rows instead of loading the whole result set into memory.
+     *
+     * @return Map: Player UUID - SessionColumns of the player, server UUIDs are shared between the columns.
+     */
+    public static Query<Map<UUID, SessionColumns>> fetchAllSessionColumnsByPlayer() {
+        String sql = "SELECT " +
+                SessionsTable.ID + ", " +
+                SessionsTable.USER_UUID + ", " +
+                SessionsTable.SERVER_UUID + ", " +
+                SessionsTable.SESSION_START + ", " +
+                SessionsTable.SESSION_END + ", " +
+                SessionsTable.DEATHS + ", " +
+                SessionsTable.MOB_KILLS + ", " +
+                SessionsTable.AFK_TIME +
+                " FROM " + SessionsTable.TABLE_NAME +
+                ORDER_BY + SessionsTable.USER_UUID;
+
+        return db -> db.query(new QueryAllStatement<Map<UUID, SessionColumns>>(sql, streamingFetchSize(db)) {
+            @Override
+            public Map<UUID, SessionColumns> processResults(ResultSet set) throws SQLException {
+                Map<UUID, SessionColumns> byPlayer = new HashMap<>();
+                List<UUID> serverTable = new ArrayList<>();
+                Map<String, Integer> serverIndexes = new HashMap<>();
+
+                String currentPlayer = null;
+                SessionColumns current = null;
+                while (set.next()) {
+                    String playerUUID = set.getString(SessionsTable.USER_UUID);
+                    if (!playerUUID.equals(currentPlayer)) {
+                        if (current != null) current.trimToSize();
+                        currentPlayer = playerUUID;
+                        UUID uuid = UUID.fromString(playerUUID);
+                        current = byPlayer.computeIfAbsent(uuid, key -> new SessionColumns(key, serverTable));
+                    }
+
+                    String serverUUID = set.getString(SessionsTable.SERVER_UUID);
+                    int serverIndex = serverIndexes.computeIfAbsent(serverUUID, key -> {
+                        serverTable.add(UUID.fromString(key));
+                        return serverTable.size() - 1;
+                    });
+
+                    current.add(
+                            set.getInt(SessionsTable.ID),
+                            serverIndex,
+                            set.getLong(SessionsTable.SESSION_START),
+                            set.getLong(SessionsTable.SESSION_END),
+                            set.getInt(SessionsTable.MOB_KILLS),
+                            set.getInt(SessionsTable.DEATHS),
+                            set.getLong(SessionsTable.AFK_TIME)
+                    );
+                }
+                if (current != null) current.trimToSize();
+                return byPlayer;
+            }
+        });
+    }
+
+    private static int streamingFetchSize(SQLDB db) {
+        // MySQL driver only streams results row by row with this fetch size.
+        return db.getType() == DBType.MYSQL ? Integer.MIN_VALUE : 20000;
+    }
+
     /**
      * Query the database for Session data with kill, death or world data.
      *
@@ -188,6 +258,8 @@ public class SessionQueries {
     private static List<Session> extractDataFromSessionSelectStatement(ResultSet set) throws SQLException {
         // Server UUID - Player UUID - Session Start - Session
         Map<UUID, Map<UUID, SortedMap<Long, Session>>> tempSessionMap = new HashMap<>();
+        // Kills are collected first and set once, so that each kill does not copy the kill list of the session.
+        Map<Session, List<PlayerKill>> killsOfSessions = new IdentityHashMap<>();
 
         // Utilities
         String[] gms = GMTimes.getGMKeyArray();
@@ -203,16 +275,19 @@ public class SessionQueries {
 
             long sessionStart = set.getLong(SessionsTable.SESSION_START);
             // id, uuid, serverUUID, sessionStart, sessionEnd, mobKills, deaths, afkTime
-            Session session = playerSessions.getOrDefault(sessionStart, new Session(
-                    set.getInt(SessionsTable.ID),
-                    playerUUID,
-                    serverUUID,
-                    sessionStart,
-                    set.getLong(SessionsTable.SESSION_END),
-                    set.getInt(SessionsTable.MOB_KILLS),
-                    set.getInt(SessionsTable.DEATHS),
-                    set.getLong(SessionsTable.AFK_TIME)
-            ));
+            Session session = playerSessions.get(sessionStart);
+            if (session == null) {
+                session = new Session(
+                        set.getInt(SessionsTable.ID),
+                        playerUUID,
+                        serverUUID,
+                        sessionStart,
+                        set.getLong(SessionsTable.SESSION_END),
+                        set.getInt(SessionsTable.MOB_KILLS),
+                        set.getInt(SessionsTable.DEATHS),
+                        set.getLong(SessionsTable.AFK_TIME)
+                );
+            }
 
             WorldTimes worldTimes = session.getValue(SessionKeys.WORLD_TIMES).orElse(new WorldTimes());
             String worldName = set.getString(WorldTable.NAME);
@@ -225,6 +300,8 @@ public class SessionQueries {
                 gmMap.put(gms[3], set.getLong(WorldTimesTable.SPECTATOR));
                 GMTimes gmTimes = new GMTimes(gmMap);
                 worldTimes.setGMTimesForWorld(worldName, gmTimes);
+                // Sessions from the database create WorldTimes only when they are set.
+                session.setWorldTimes(worldTimes);
             }
 
             String victimName = set.getString("victim_name");
@@ -232,9 +309,8 @@ public class SessionQueries {
                 UUID victim = UUID.fromString(set.getString(KillsTable.VICTIM_UUID));
                 long date = set.getLong(KillsTable.DATE);
                 String weapon = set.getString(KillsTable.WEAPON);
-                List<PlayerKill> playerKills = session.getPlayerKills();
-                playerKills.add(new PlayerKill(victim, weapon, date, victimName));
-                playerKills.sort(dateColderRecentComparator);
+                killsOfSessions.computeIfAbsent(session, key -> new ArrayList<>())
+                        .add(new PlayerKill(victim, weapon, date, victimName));
             }
 
             playerSessions.put(sessionStart, session);
@@ -242,6 +318,12 @@ public class SessionQueries {
             tempSessionMap.put(serverUUID, serverSessions);
         }
 
+        for (Map.Entry<Session, List<PlayerKill>> entry : killsOfSessions.entrySet()) {
+            List<PlayerKill> kills = entry.getValue();
+            kills.sort(dateColderRecentComparator);
+            entry.getKey().setPlayerKills(kills);
+        }
+
         return tempSessionMap.values().stream()
                 .map(Map::values)
                 .flatMap(Collection::stream)
@@ -48,14 +48,27 @@ public class TPSQueries {
     }
 
     public static Query<List<TPS>> fetchTPSDataOfServer(UUID serverUUID) {
+        return fetchTPSDataOfServer(serverUUID, 0L);
+    }
+
+    /**
+     * Fetch TPS data of a server that has been gathered after a date.
+     *
+     * @param serverUUID UUID of the Plan server.
+     * @param after      Epoch ms, older data is not fetched.
+     * @return List of TPS.
+     */
+    public static Query<List<TPS>> fetchTPSDataOfServer(UUID serverUUID, long after) {
         String sql = Select.all(TABLE_NAME)
                 .where(SERVER_ID + "=" + ServerTable.STATEMENT_SELECT_SERVER_ID)
+                .and(DATE + ">=?")
                 .toString();
 
         return new QueryStatement<List<TPS>>(sql, 50000) {
             @Override
             public void prepare(PreparedStatement statement) throws SQLException {
                 statement.setString(1, serverUUID.toString());
+                statement.setLong(2, after);
             }
 
             @Override
@@ -201,4 +201,34 @@ public class UserIdentifierQueries {
             }
         };
     }
-}
\ No newline at end of file
+
+    /**
+     * Query database for names of players who have a nickname that contains the given text.
+     *
+     * @param searchFor Part of the nickname, case does not matter.
+     * @return List of player names.
+     */
+    public static Query<List<String>> fetchNamesOfPlayersWithMatchingNickname(String searchFor) {
+        String sql = SELECT + DISTINCT + UsersTable.USER_NAME +
+                FROM + UsersTable.TABLE_NAME +
+                INNER_JOIN + NicknamesTable.TABLE_NAME + " on " +
+                UsersTable.TABLE_NAME + "." + UsersTable.USER_UUID + "=" + NicknamesTable.TABLE_NAME + "." + NicknamesTable.USER_UUID +
+                WHERE + "LOWER(" + NicknamesTable.NICKNAME + ") LIKE LOWER(?)";
+
+        return new QueryStatement<List<String>>(sql, 5000) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setString(1, '%' + searchFor + '%');
+            }
+
+            @Override
+            public List<String> processResults(ResultSet set) throws SQLException {
+                List<String> matchingNames = new ArrayList<>();
+                while (set.next()) {
+                    matchingNames.add(set.getString(UsersTable.USER_NAME));
+                }
+                return matchingNames;
+            }
+        };
+    }
+}
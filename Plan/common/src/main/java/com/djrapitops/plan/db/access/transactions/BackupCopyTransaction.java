@@ -16,29 +16,54 @@
  */
 package com.djrapitops.plan.db.access.transactions;
 
+import com.djrapitops.plan.api.exceptions.database.DBOpException;
+import com.djrapitops.plan.db.DBType;
 import com.djrapitops.plan.db.Database;
-import com.djrapitops.plan.db.access.Executable;
-import com.djrapitops.plan.db.access.Query;
-import com.djrapitops.plan.db.access.queries.LargeFetchQueries;
-import com.djrapitops.plan.db.access.queries.LargeStoreQueries;
-import com.djrapitops.plan.db.access.queries.objects.*;
+import com.djrapitops.plan.db.access.QueryAllStatement;
 import com.djrapitops.plan.db.access.transactions.commands.RemoveEverythingTransaction;
+import com.djrapitops.plan.db.sql.tables.*;
 
-import java.util.function.Function;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.function.BiConsumer;
+
+import static com.djrapitops.plan.db.sql.parsing.Sql.*;
 
 /**
  * Transaction that performs a clear + copy operation to duplicate a source database in the current one.
+ * <p>
+ * Tables are copied one at a time by streaming rows from the source database into batched inserts.
+ * Changes are committed every {@link #CHUNK_SIZE} rows so that memory use does not depend on the size of the tables.
+ * Rows that refer to sessions, worlds or servers are matched by their natural keys, since ids change during the copy.
  *
  * @author Rsl1122
  */
 public class BackupCopyTransaction extends RemoveEverythingTransaction {
 
+    private static final int CHUNK_SIZE = 5000;
+
     private final Database sourceDB;
     private final Database destinationDB;
+    private final BiConsumer<String, Integer> progressListener;
 
     public BackupCopyTransaction(Database sourceDB, Database destinationDB) {
+        this(sourceDB, destinationDB, (table, copiedRows) -> {
+            /* Progress is not reported */
+        });
+    }
+
+    /**
+     * Create a new BackupCopyTransaction.
+     *
+     * @param sourceDB         Database to copy the data from.
+     * @param destinationDB    Database to copy the data to, all data in it is removed.
+     * @param progressListener Called with the table name and the amount of copied rows after every committed chunk.
+     */
+    public BackupCopyTransaction(Database sourceDB, Database destinationDB, BiConsumer<String, Integer> progressListener) {
         this.sourceDB = sourceDB;
         this.destinationDB = destinationDB;
+        this.progressListener = progressListener;
     }
 
     @Override
@@ -50,66 +75,378 @@ public class BackupCopyTransaction extends RemoveEverythingTransaction {
     protected void performOperations() {
         // Clear the database.
         super.performOperations();
+        commitPartially();
 
         copyPlanServerInformation();
         copyCommonUserInformation();
         copyWorldNames();
         copyTPSData();
+        copyTPSRollups();
         copyPlanWebUsers();
         copyCommandUsageData();
         copyGeoInformation();
         copyNicknameData();
-        copySessionsWithKillAndWorldData();
+        copySessions();
+        copySessionRollups();
+        copyKills();
+        copyWorldTimes();
         copyPerServerUserInformation();
         copyPingData();
     }
 
-    private <T> void copy(Function<T, Executable> executableCreator, Query<T> dataQuery) {
-        // Creates a new Executable from the queried data of the source database
-        execute(executableCreator.apply(sourceDB.query(dataQuery)));
+    private void copy(String tableName, String selectSql, String insertSql, RowCopier rowCopier) {
+        // MySQL driver streams the results one row at a time only with this fetch size.
+        int fetchSize = sourceDB.getType() == DBType.MYSQL ? Integer.MIN_VALUE : CHUNK_SIZE;
+
+        execute(connection -> {
+            try (PreparedStatement insert = connection.prepareStatement(insertSql)) {
+                return sourceDB.query(new QueryAllStatement<Boolean>(selectSql, fetchSize) {
+                    @Override
+                    public Boolean processResults(ResultSet set) throws SQLException {
+                        int copiedRows = 0;
+                        while (set.next()) {
+                            rowCopier.copy(set, insert);
+                            insert.addBatch();
+                            copiedRows++;
+                            if (copiedRows % CHUNK_SIZE == 0) {
+                                insert.executeBatch();
+                                commitPartially();
+                                progressListener.accept(tableName, copiedRows);
+                            }
+                        }
+                        if (copiedRows % CHUNK_SIZE != 0) {
+                            insert.executeBatch();
+                            commitPartially();
+                            progressListener.accept(tableName, copiedRows);
+                        }
+                        return copiedRows > 0;
+                    }
+                });
+            } catch (SQLException e) {
+                throw DBOpException.forCause(insertSql, e);
+            }
+        });
     }
 
-    private void copyPingData() {
-        copy(LargeStoreQueries::storeAllPingData, PingQueries.fetchAllPingData());
+    private void copyPlanServerInformation() {
+        String sql = SELECT +
+                ServerTable.SERVER_UUID + ", " +
+                ServerTable.NAME + ", " +
+                ServerTable.WEB_ADDRESS + ", " +
+                ServerTable.INSTALLED + ", " +
+                ServerTable.MAX_PLAYERS +
+                FROM + ServerTable.TABLE_NAME;
+        copy(ServerTable.TABLE_NAME, sql, ServerTable.INSERT_STATEMENT, (from, to) -> {
+            to.setString(1, from.getString(1));
+            to.setString(2, from.getString(2));
+            to.setString(3, from.getString(3));
+            to.setBoolean(4, from.getBoolean(4));
+            to.setInt(5, from.getInt(5));
+        });
+    }
+
+    private void copyCommonUserInformation() {
+        String sql = SELECT +
+                UsersTable.USER_UUID + ", " +
+                UsersTable.USER_NAME + ", " +
+                UsersTable.REGISTERED + ", " +
+                UsersTable.TIMES_KICKED +
+                FROM + UsersTable.TABLE_NAME;
+        copy(UsersTable.TABLE_NAME, sql, UsersTable.INSERT_STATEMENT, (from, to) -> {
+            to.setString(1, from.getString(1));
+            to.setString(2, from.getString(2));
+            to.setLong(3, from.getLong(3));
+            to.setInt(4, from.getInt(4));
+        });
+    }
+
+    private void copyWorldNames() {
+        String sql = SELECT +
+                WorldTable.NAME + ", " +
+                WorldTable.SERVER_UUID +
+                FROM + WorldTable.TABLE_NAME;
+        copy(WorldTable.TABLE_NAME, sql, WorldTable.INSERT_STATEMENT, (from, to) -> {
+            to.setString(1, from.getString(1));
+            to.setString(2, from.getString(2));
+        });
+    }
+
+    private void copyTPSData() {
+        String sql = SELECT +
+                ServerTable.TABLE_NAME + "." + ServerTable.SERVER_UUID + ", " +
+                TPSTable.DATE + ", " +
+                TPSTable.TPS + ", " +
+                TPSTable.PLAYERS_ONLINE + ", " +
+                TPSTable.CPU_USAGE + ", " +
+                TPSTable.RAM_USAGE + ", " +
+                TPSTable.ENTITIES + ", " +
+                TPSTable.CHUNKS + ", " +
+                TPSTable.FREE_DISK +
+                FROM + TPSTable.TABLE_NAME +
+                INNER_JOIN + ServerTable.TABLE_NAME + " on " +
+                ServerTable.TABLE_NAME + "." + ServerTable.SERVER_ID + "=" + TPSTable.TABLE_NAME + "." + TPSTable.SERVER_ID;
+        copy(TPSTable.TABLE_NAME, sql, TPSTable.INSERT_STATEMENT, (from, to) -> {
+            to.setString(1, from.getString(1));
+            to.setLong(2, from.getLong(2));
+            to.setDouble(3, from.getDouble(3));
+            to.setInt(4, from.getInt(4));
+            to.setDouble(5, from.getDouble(5));
+            to.setLong(6, from.getLong(6));
+            to.setInt(7, from.getInt(7));
+            to.setInt(8, from.getInt(8));
+            to.setLong(9, from.getLong(9));
+        });
+    }
+
+    private void copyTPSRollups() {
+        String sql = SELECT +
+                ServerTable.TABLE_NAME + "." + ServerTable.SERVER_UUID + ", " +
+                TPSRollupTable.DATE + ", " +
+                TPSRollupTable.PERIOD + ", " +
+                TPSRollupTable.SAMPLES + ", " +
+                TPSRollupTable.MIN_TPS + ", " + TPSRollupTable.AVG_TPS + ", " + TPSRollupTable.MAX_TPS + ", " +
+                TPSRollupTable.MIN_PLAYERS_ONLINE + ", " + TPSRollupTable.AVG_PLAYERS_ONLINE + ", " + TPSRollupTable.MAX_PLAYERS_ONLINE + ", " +
+                TPSRollupTable.MIN_CPU_USAGE + ", " + TPSRollupTable.AVG_CPU_USAGE + ", " + TPSRollupTable.MAX_CPU_USAGE + ", " +
+                TPSRollupTable.MIN_RAM_USAGE + ", " + TPSRollupTable.AVG_RAM_USAGE + ", " + TPSRollupTable.MAX_RAM_USAGE + ", " +
+                TPSRollupTable.MIN_ENTITIES + ", " + TPSRollupTable.AVG_ENTITIES + ", " + TPSRollupTable.MAX_ENTITIES + ", " +
+                TPSRollupTable.MIN_CHUNKS + ", " + TPSRollupTable.AVG_CHUNKS + ", " + TPSRollupTable.MAX_CHUNKS + ", " +
+                TPSRollupTable.MIN_FREE_DISK +
+                FROM + TPSRollupTable.TABLE_NAME +
+                INNER_JOIN + ServerTable.TABLE_NAME + " on " +
+                ServerTable.TABLE_NAME + "." + ServerTable.SERVER_ID + "=" + TPSRollupTable.TABLE_NAME + "." + TPSRollupTable.SERVER_ID;
+        copy(TPSRollupTable.TABLE_NAME, sql, TPSRollupTable.INSERT_STATEMENT, (from, to) -> {
+            to.setString(1, from.getString(1));
+            to.setLong(2, from.getLong(2));
+            to.setLong(3, from.getLong(3));
+            to.setInt(4, from.getInt(4));
+            to.setDouble(5, from.getDouble(5));
+            to.setDouble(6, from.getDouble(6));
+            to.setDouble(7, from.getDouble(7));
+            to.setInt(8, from.getInt(8));
+            to.setDouble(9, from.getDouble(9));
+            to.setInt(10, from.getInt(10));
+            to.setDouble(11, from.getDouble(11));
+            to.setDouble(12, from.getDouble(12));
+            to.setDouble(13, from.getDouble(13));
+            to.setLong(14, from.getLong(14));
+            to.setDouble(15, from.getDouble(15));
+            to.setLong(16, from.getLong(16));
+            to.setInt(17, from.getInt(17));
+            to.setDouble(18, from.getDouble(18));
+            to.setInt(19, from.getInt(19));
+            to.setInt(20, from.getInt(20));
+            to.setDouble(21, from.getDouble(21));
+            to.setInt(22, from.getInt(22));
+            to.setLong(23, from.getLong(23));
+        });
+    }
+
+    private void copyPlanWebUsers() {
+        String sql = SELECT +
+                SecurityTable.USERNAME + ", " +
+                SecurityTable.SALT_PASSWORD_HASH + ", " +
+                SecurityTable.PERMISSION_LEVEL +
+                FROM + SecurityTable.TABLE_NAME;
+        copy(SecurityTable.TABLE_NAME, sql, SecurityTable.INSERT_STATEMENT, (from, to) -> {
+            to.setString(1, from.getString(1));
+            to.setString(2, from.getString(2));
+            to.setInt(3, from.getInt(3));
+        });
     }
 
     private void copyCommandUsageData() {
-        copy(LargeStoreQueries::storeAllCommandUsageData, LargeFetchQueries.fetchAllCommandUsageData());
+        String sql = SELECT +
+                CommandUseTable.COMMAND + ", " +
+                CommandUseTable.TIMES_USED + ", " +
+                ServerTable.TABLE_NAME + "." + ServerTable.SERVER_UUID +
+                FROM + CommandUseTable.TABLE_NAME +
+                INNER_JOIN + ServerTable.TABLE_NAME + " on " +
+                ServerTable.TABLE_NAME + "." + ServerTable.SERVER_ID + "=" + CommandUseTable.TABLE_NAME + "." + CommandUseTable.SERVER_ID;
+        copy(CommandUseTable.TABLE_NAME, sql, CommandUseTable.INSERT_STATEMENT, (from, to) -> {
+            to.setString(1, from.getString(1));
+            to.setInt(2, from.getInt(2));
+            to.setString(3, from.getString(3));
+        });
     }
 
     private void copyGeoInformation() {
-        copy(LargeStoreQueries::storeAllGeoInformation, GeoInfoQueries.fetchAllGeoInformation());
+        String sql = SELECT +
+                GeoInfoTable.USER_UUID + ", " +
+                GeoInfoTable.IP + ", " +
+                GeoInfoTable.IP_HASH + ", " +
+                GeoInfoTable.GEOLOCATION + ", " +
+                GeoInfoTable.LAST_USED +
+                FROM + GeoInfoTable.TABLE_NAME;
+        copy(GeoInfoTable.TABLE_NAME, sql, GeoInfoTable.INSERT_STATEMENT, (from, to) -> {
+            to.setString(1, from.getString(1));
+            to.setString(2, from.getString(2));
+            to.setString(3, from.getString(3));
+            to.setString(4, from.getString(4));
+            to.setLong(5, from.getLong(5));
+        });
     }
 
     private void copyNicknameData() {
-        copy(LargeStoreQueries::storeAllNicknameData, NicknameQueries.fetchAllNicknameData());
+        String sql = SELECT +
+                NicknamesTable.USER_UUID + ", " +
+                NicknamesTable.SERVER_UUID + ", " +
+                NicknamesTable.NICKNAME + ", " +
+                NicknamesTable.LAST_USED +
+                FROM + NicknamesTable.TABLE_NAME;
+        copy(NicknamesTable.TABLE_NAME, sql, NicknamesTable.INSERT_STATEMENT, (from, to) -> {
+            to.setString(1, from.getString(1));
+            to.setString(2, from.getString(2));
+            to.setString(3, from.getString(3));
+            to.setLong(4, from.getLong(4));
+        });
     }
 
-    private void copyPlanWebUsers() {
-        copy(LargeStoreQueries::storeAllPlanWebUsers, WebUserQueries.fetchAllPlanWebUsers());
+    private void copySessions() {
+        String sql = SELECT +
+                SessionsTable.USER_UUID + ", " +
+                SessionsTable.SESSION_START + ", " +
+                SessionsTable.SESSION_END + ", " +
+                SessionsTable.DEATHS + ", " +
+                SessionsTable.MOB_KILLS + ", " +
+                SessionsTable.AFK_TIME + ", " +
+                SessionsTable.SERVER_UUID +
+                FROM + SessionsTable.TABLE_NAME;
+        copy(SessionsTable.TABLE_NAME, sql, SessionsTable.INSERT_STATEMENT, (from, to) -> {
+            to.setString(1, from.getString(1));
+            to.setLong(2, from.getLong(2));
+            to.setLong(3, from.getLong(3));
+            to.setInt(4, from.getInt(4));
+            to.setInt(5, from.getInt(5));
+            to.setLong(6, from.getLong(6));
+            to.setString(7, from.getString(7));
+        });
     }
 
-    private void copyPlanServerInformation() {
-        copy(LargeStoreQueries::storeAllPlanServerInformation, ServerQueries.fetchPlanServerInformationCollection());
+    private void copySessionRollups() {
+        String sql = SELECT +
+                SessionRollupTable.SERVER_UUID + ", " +
+                SessionRollupTable.DATE + ", " +
+                SessionRollupTable.PERIOD + ", " +
+                SessionRollupTable.UNIQUE_PLAYERS + ", " +
+                SessionRollupTable.NEW_PLAYERS + ", " +
+                SessionRollupTable.SESSION_COUNT + ", " +
+                SessionRollupTable.PLAYTIME +
+                FROM + SessionRollupTable.TABLE_NAME;
+        copy(SessionRollupTable.TABLE_NAME, sql, SessionRollupTable.INSERT_STATEMENT, (from, to) -> {
+            to.setString(1, from.getString(1));
+            to.setLong(2, from.getLong(2));
+            to.setLong(3, from.getLong(3));
+            to.setInt(4, from.getInt(4));
+            to.setInt(5, from.getInt(5));
+            to.setInt(6, from.getInt(6));
+            to.setLong(7, from.getLong(7));
+        });
     }
 
-    private void copyTPSData() {
-        copy(LargeStoreQueries::storeAllTPSData, LargeFetchQueries.fetchAllTPSData());
+    private void copyKills() {
+        // Session id is looked up in the destination by the player, server, start and end of the session.
+        String sql = SELECT +
+                SessionsTable.TABLE_NAME + "." + SessionsTable.USER_UUID + ", " +
+                SessionsTable.TABLE_NAME + "." + SessionsTable.SERVER_UUID + ", " +
+                SessionsTable.SESSION_START + ", " +
+                SessionsTable.SESSION_END + ", " +
+                KillsTable.KILLER_UUID + ", " +
+                KillsTable.VICTIM_UUID + ", " +
+                KillsTable.TABLE_NAME + "." + KillsTable.SERVER_UUID + ", " +
+                KillsTable.DATE + ", " +
+                KillsTable.WEAPON +
+                FROM + KillsTable.TABLE_NAME +
+                INNER_JOIN + SessionsTable.TABLE_NAME + " on " +
+                SessionsTable.TABLE_NAME + "." + SessionsTable.ID + "=" + KillsTable.TABLE_NAME + "." + KillsTable.SESSION_ID;
+        copy(KillsTable.TABLE_NAME, sql, KillsTable.INSERT_STATEMENT, (from, to) -> {
+            to.setString(1, from.getString(1));
+            to.setString(2, from.getString(2));
+            to.setLong(3, from.getLong(3));
+            to.setLong(4, from.getLong(4));
+            to.setString(5, from.getString(5));
+            to.setString(6, from.getString(6));
+            to.setString(7, from.getString(7));
+            to.setLong(8, from.getLong(8));
+            to.setString(9, from.getString(9));
+        });
     }
 
-    private void copyPerServerUserInformation() {
-        copy(LargeStoreQueries::storePerServerUserInformation, UserInfoQueries.fetchAllUserInformation());
+    private void copyWorldTimes() {
+        // Session and world ids are looked up in the destination by their natural keys.
+        String sql = SELECT +
+                SessionsTable.TABLE_NAME + "." + SessionsTable.USER_UUID + ", " +
+                SessionsTable.TABLE_NAME + "." + SessionsTable.SERVER_UUID + ", " +
+                SessionsTable.SESSION_START + ", " +
+                SessionsTable.SESSION_END + ", " +
+                WorldTable.NAME + ", " +
+                WorldTable.TABLE_NAME + "." + WorldTable.SERVER_UUID + ", " +
+                WorldTimesTable.TABLE_NAME + "." + WorldTimesTable.USER_UUID + ", " +
+                WorldTimesTable.TABLE_NAME + "." + WorldTimesTable.SERVER_UUID + ", " +
+                WorldTimesTable.SURVIVAL + ", " +
+                WorldTimesTable.CREATIVE + ", " +
+                WorldTimesTable.ADVENTURE + ", " +
+                WorldTimesTable.SPECTATOR +
+                FROM + WorldTimesTable.TABLE_NAME +
+                INNER_JOIN + SessionsTable.TABLE_NAME + " on " +
+                SessionsTable.TABLE_NAME + "." + SessionsTable.ID + "=" + WorldTimesTable.TABLE_NAME + "." + WorldTimesTable.SESSION_ID +
+                INNER_JOIN + WorldTable.TABLE_NAME + " on " +
+                WorldTable.TABLE_NAME + "." + WorldTable.ID + "=" + WorldTimesTable.TABLE_NAME + "." + WorldTimesTable.WORLD_ID;
+        copy(WorldTimesTable.TABLE_NAME, sql, WorldTimesTable.INSERT_STATEMENT, (from, to) -> {
+            to.setString(1, from.getString(1));
+            to.setString(2, from.getString(2));
+            to.setLong(3, from.getLong(3));
+            to.setLong(4, from.getLong(4));
+            to.setString(5, from.getString(5));
+            to.setString(6, from.getString(6));
+            to.setString(7, from.getString(7));
+            to.setString(8, from.getString(8));
+            to.setLong(9, from.getLong(9));
+            to.setLong(10, from.getLong(10));
+            to.setLong(11, from.getLong(11));
+            to.setLong(12, from.getLong(12));
+        });
     }
 
-    private void copyWorldNames() {
-        copy(LargeStoreQueries::storeAllWorldNames, LargeFetchQueries.fetchAllWorldNames());
+    private void copyPerServerUserInformation() {
+        String sql = SELECT +
+                UserInfoTable.USER_UUID + ", " +
+                UserInfoTable.REGISTERED + ", " +
+                UserInfoTable.SERVER_UUID + ", " +
+                UserInfoTable.BANNED + ", " +
+                UserInfoTable.OP +
+                FROM + UserInfoTable.TABLE_NAME;
+        copy(UserInfoTable.TABLE_NAME, sql, UserInfoTable.INSERT_STATEMENT, (from, to) -> {
+            to.setString(1, from.getString(1));
+            to.setLong(2, from.getLong(2));
+            to.setString(3, from.getString(3));
+            to.setBoolean(4, from.getBoolean(4));
+            to.setBoolean(5, from.getBoolean(5));
+        });
     }
 
-    private void copyCommonUserInformation() {
-        copy(LargeStoreQueries::storeAllCommonUserInformation, BaseUserQueries.fetchAllBaseUsers());
+    private void copyPingData() {
+        String sql = SELECT +
+                PingTable.USER_UUID + ", " +
+                PingTable.SERVER_UUID + ", " +
+                PingTable.DATE + ", " +
+                PingTable.MIN_PING + ", " +
+                PingTable.MAX_PING + ", " +
+                PingTable.AVG_PING +
+                FROM + PingTable.TABLE_NAME;
+        copy(PingTable.TABLE_NAME, sql, PingTable.INSERT_STATEMENT, (from, to) -> {
+            to.setString(1, from.getString(1));
+            to.setString(2, from.getString(2));
+            to.setLong(3, from.getLong(3));
+            to.setInt(4, from.getInt(4));
+            to.setInt(5, from.getInt(5));
+            to.setDouble(6, from.getDouble(6));
+        });
     }
 
-    private void copySessionsWithKillAndWorldData() {
-        copy(LargeStoreQueries::storeAllSessionsWithKillAndWorldData, SessionQueries.fetchAllSessions());
+    /**
+     * Copies a row of the source result set to the parameters of a destination insert statement.
+     */
+    private interface RowCopier {
+        void copy(ResultSet from, PreparedStatement to) throws SQLException;
     }
-}
\ No newline at end of file
+}
@@ -17,11 +17,14 @@
 package com.djrapitops.plan.db.access.transactions;
 
 import com.djrapitops.plan.api.exceptions.database.DBOpException;
+import com.djrapitops.plan.api.exceptions.database.DBRollbackException;
 import com.djrapitops.plan.db.DBType;
 import com.djrapitops.plan.db.SQLDB;
 import com.djrapitops.plan.db.access.ExecStatement;
 import com.djrapitops.plan.db.access.Executable;
 import com.djrapitops.plan.db.access.Query;
+import com.djrapitops.plan.db.access.QueryStatement;
+import com.djrapitops.plugin.logging.console.PluginLogger;
 import com.djrapitops.plugin.utilities.Verify;
 
 import java.sql.Connection;
@@ -44,6 +47,7 @@ public abstract class Transaction {
     private Savepoint savepoint;
 
     protected boolean success;
+    private boolean performed;
 
     protected Transaction() {
         success = false;
@@ -71,6 +75,59 @@ public abstract class Transaction {
         } finally {
             db.returnToPool(connection);
         }
+        afterCommit(db);
+    }
+
+    /**
+     * Execute the transaction as a part of a group of transactions that share a connection.
+     * <p>
+     * The transaction is rolled back to its own savepoint if it fails, but committing and returning the
+     * connection to the pool is left for the caller, so that the whole group can be committed at once.
+     *
+     * @param db              Database the transaction is executed against.
+     * @param groupConnection Connection shared by the group.
+     * @throws DBOpException       if the transaction failed and was rolled back.
+     * @throws DBRollbackException if the transaction failed and could not be rolled back, the group should not be committed.
+     */
+    public void executeTransaction(SQLDB db, Connection groupConnection) {
+        Verify.nullCheck(db, () -> new IllegalArgumentException("Given database was null"));
+        Verify.nullCheck(groupConnection, () -> new IllegalArgumentException("Given connection was null"));
+        Verify.isFalse(success, () -> new IllegalStateException("Transaction has already been executed"));
+
+        this.db = db;
+        this.dbType = db.getType();
+
+        if (!shouldBeExecuted()) {
+            success = true;
+            return;
+        }
+
+        try {
+            initializeTransaction(groupConnection);
+            performOperations();
+            performed = true;
+            success = true;
+        } catch (Exception statementFail) {
+            if (savepoint == null) {
+                // The savepoint could not be set, so the connection can not be trusted.
+                throw new DBRollbackException(getClass().getSimpleName() + " failed: " + statementFail.getMessage() + ", no savepoint to roll back to.", statementFail);
+            }
+            manageFailure(statementFail); // Throws a DBOpException.
+        } finally {
+            connection = null;
+            savepoint = null;
+        }
+    }
+
+    /**
+     * Called after the group that contained this transaction has been committed.
+     *
+     * @see #executeTransaction(SQLDB, Connection)
+     */
+    public void afterGroupCommit() {
+        if (performed) {
+            afterCommit(db);
+        }
     }
 
     private void manageFailure(Exception statementFail) {
@@ -80,7 +137,7 @@ public abstract class Transaction {
                 connection.rollback(savepoint);
             }
         } catch (SQLException rollbackFail) {
-            throw new DBOpException(failMsg + ", additionally Transaction rollback failed: " + rollbackFail.getMessage(), statementFail);
+            throw new DBRollbackException(failMsg + ", additionally Transaction rollback failed: " + rollbackFail.getMessage(), statementFail);
         }
         throw new DBOpException(failMsg + ", Transaction was rolled back.", statementFail);
     }
@@ -97,6 +154,30 @@ public abstract class Transaction {
         return true;
     }
 
+    /**
+     * Override this method to allow committing the transaction together with other transactions.
+     * <p>
+     * Only small transactions should be grouped, for example those created by game events.
+     * A grouped transaction is still rolled back on its own if it fails.
+     *
+     * @return true if the transaction can be a part of a group commit.
+     * @see com.djrapitops.plan.db.SQLDB#executeTransaction(Transaction)
+     */
+    public boolean isGroupable() {
+        return false;
+    }
+
+    /**
+     * Override this method to update in-memory state after the transaction has been committed.
+     * <p>
+     * Not called if the transaction was not executed or was rolled back.
+     *
+     * @param db Database the transaction was committed to.
+     */
+    protected void afterCommit(SQLDB db) {
+        // Nothing to update by default.
+    }
+
     /**
      * Implement this method for transaction execution.
      */
@@ -104,14 +185,42 @@ public abstract class Transaction {
 
     private void initializeTransaction(SQLDB db) {
         try {
-            this.connection = db.getConnection();
+            initializeTransaction(db.getConnection());
+        } catch (SQLException e) {
+            throw new DBOpException(getClass().getSimpleName() + " initialization failed: " + e.getMessage(), e);
+        }
+    }
+
+    private void initializeTransaction(Connection connection) {
+        try {
+            this.connection = connection;
             this.savepoint = connection.setSavepoint();
         } catch (SQLException e) {
             throw new DBOpException(getClass().getSimpleName() + " initialization failed: " + e.getMessage(), e);
         }
     }
 
+    /**
+     * Commit the operations performed so far and continue the transaction from a new savepoint.
+     * <p>
+     * Allows long transactions to avoid holding a large amount of uncommitted changes.
+     * A later failure only rolls back the operations performed after the last commit.
+     * Should not be used by groupable transactions, since the commit would include the rest of the group.
+     */
+    protected void commitPartially() {
+        try {
+            connection.commit();
+            savepoint = connection.setSavepoint();
+        } catch (SQLException e) {
+            throw new DBOpException(getClass().getSimpleName() + " commit failed: " + e.getMessage(), e);
+        }
+    }
+
     protected <T> T query(Query<T> query) {
+        if (connection != null && query instanceof QueryStatement) {
+            // Uses the transaction connection so that changes made by this (or grouped) transactions are visible.
+            return ((QueryStatement<T>) query).executeQuery(connection);
+        }
         return query.executeQuery(db);
     }
 
@@ -151,6 +260,10 @@ public abstract class Transaction {
         return db.getServerUUIDSupplier().get();
     }
 
+    protected PluginLogger getLogger() {
+        return db.getLogger();
+    }
+
     @Override
     public String toString() {
         return getClass().getSimpleName() + (success ? " (finished)" : "");
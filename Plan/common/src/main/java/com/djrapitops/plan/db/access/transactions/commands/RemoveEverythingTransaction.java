@@ -16,6 +16,7 @@
  */
 package com.djrapitops.plan.db.access.transactions.commands;
 
+import com.djrapitops.plan.db.SQLDB;
 import com.djrapitops.plan.db.access.transactions.Transaction;
 import com.djrapitops.plan.db.sql.tables.*;
 
@@ -42,10 +43,19 @@ public class RemoveEverythingTransaction extends Transaction {
         clearTable(UsersTable.TABLE_NAME);
         clearTable(CommandUseTable.TABLE_NAME);
         clearTable(TPSTable.TABLE_NAME);
+        clearTable(TPSRollupTable.TABLE_NAME);
+        clearTable(SessionRollupTable.TABLE_NAME);
         clearTable(SecurityTable.TABLE_NAME);
         clearTable(ServerTable.TABLE_NAME);
     }
 
+    @Override
+    protected void afterCommit(SQLDB db) {
+        db.clearServerAggregates();
+        db.clearPlayerIdentities();
+        db.markPlayersRemoved();
+    }
+
     private void clearTable(String tableName) {
         execute("DELETE FROM " + tableName);
     }
@@ -16,6 +16,7 @@
  */
 package com.djrapitops.plan.db.access.transactions.commands;
 
+import com.djrapitops.plan.db.SQLDB;
 import com.djrapitops.plan.db.access.ExecStatement;
 import com.djrapitops.plan.db.access.queries.PlayerFetchQueries;
 import com.djrapitops.plan.db.access.transactions.Transaction;
@@ -57,6 +58,13 @@ public class RemovePlayerTransaction extends Transaction {
         deleteFromTable(UsersTable.TABLE_NAME);
     }
 
+    @Override
+    protected void afterCommit(SQLDB db) {
+        db.clearServerAggregates();
+        db.updatePlayerIdentities(identities -> identities.remove(playerUUID));
+        db.markPlayersRemoved();
+    }
+
     private void deleteWebUser(String username) {
         executeOther(new RemoveWebUserTransaction(username));
     }
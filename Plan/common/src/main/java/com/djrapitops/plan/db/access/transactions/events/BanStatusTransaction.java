@@ -42,6 +42,11 @@ public class BanStatusTransaction extends Transaction {
         this.banStatus = banStatus;
     }
 
+    @Override
+    public boolean isGroupable() {
+        return true;
+    }
+
     @Override
     protected void performOperations() {
         execute(updateBanStatus());
@@ -39,6 +39,11 @@ public class CommandStoreTransaction extends Transaction {
         this.commandName = commandName;
     }
 
+    @Override
+    public boolean isGroupable() {
+        return true;
+    }
+
     @Override
     protected boolean shouldBeExecuted() {
         return commandName.length() <= 20;
@@ -58,6 +58,11 @@ public class GeoInfoStoreTransaction extends Transaction {
         this.geoInfo = geoInfo;
     }
 
+    @Override
+    public boolean isGroupable() {
+        return true;
+    }
+
     @Override
     protected boolean shouldBeExecuted() {
         return !hasFailed;
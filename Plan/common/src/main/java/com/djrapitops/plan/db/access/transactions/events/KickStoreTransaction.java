@@ -39,6 +39,11 @@ public class KickStoreTransaction extends Transaction {
         this.playerUUID = playerUUID;
     }
 
+    @Override
+    public boolean isGroupable() {
+        return true;
+    }
+
     @Override
     protected void performOperations() {
         String sql = "UPDATE " + UsersTable.TABLE_NAME + " SET "
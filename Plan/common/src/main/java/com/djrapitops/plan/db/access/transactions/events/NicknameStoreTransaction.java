@@ -40,6 +40,11 @@ public class NicknameStoreTransaction extends Transaction {
         this.isNicknameCachedCheck = isNicknameCachedCheck;
     }
 
+    @Override
+    public boolean isGroupable() {
+        return true;
+    }
+
     @Override
     protected boolean shouldBeExecuted() {
         return !isNicknameCachedCheck.test(playerUUID, nickname.getName());
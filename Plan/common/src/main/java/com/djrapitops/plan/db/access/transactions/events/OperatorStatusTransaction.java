@@ -41,6 +41,11 @@ public class OperatorStatusTransaction extends Transaction {
         this.operatorStatus = operatorStatus;
     }
 
+    @Override
+    public boolean isGroupable() {
+        return true;
+    }
+
     @Override
     protected void performOperations() {
         execute(updateOperatorStatus());
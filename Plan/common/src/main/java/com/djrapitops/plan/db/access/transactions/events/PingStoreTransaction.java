@@ -47,6 +47,11 @@ public class PingStoreTransaction extends Transaction {
         this.pingList = pingList;
     }
 
+    @Override
+    public boolean isGroupable() {
+        return true;
+    }
+
     @Override
     protected boolean shouldBeExecuted() {
         max = getMax();
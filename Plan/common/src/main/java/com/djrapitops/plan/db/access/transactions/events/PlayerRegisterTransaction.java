@@ -16,6 +16,7 @@
  */
 package com.djrapitops.plan.db.access.transactions.events;
 
+import com.djrapitops.plan.db.SQLDB;
 import com.djrapitops.plan.db.access.queries.DataStoreQueries;
 import com.djrapitops.plan.db.access.queries.PlayerFetchQueries;
 import com.djrapitops.plan.db.access.transactions.Transaction;
@@ -40,6 +41,11 @@ public class PlayerRegisterTransaction extends Transaction {
         this.playerName = playerName;
     }
 
+    @Override
+    public boolean isGroupable() {
+        return true;
+    }
+
     @Override
     protected boolean shouldBeExecuted() {
         return playerUUID != null && playerName != null;
@@ -52,4 +58,9 @@ public class PlayerRegisterTransaction extends Transaction {
         }
         execute(DataStoreQueries.updatePlayerName(playerUUID, playerName));
     }
+
+    @Override
+    protected void afterCommit(SQLDB db) {
+        db.updatePlayerIdentities(identities -> identities.put(playerUUID, playerName));
+    }
 }
\ No newline at end of file
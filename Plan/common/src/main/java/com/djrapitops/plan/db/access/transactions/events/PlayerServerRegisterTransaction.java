@@ -16,8 +16,11 @@
  */
 package com.djrapitops.plan.db.access.transactions.events;
 
+import com.djrapitops.plan.data.container.BaseUser;
+import com.djrapitops.plan.db.SQLDB;
 import com.djrapitops.plan.db.access.queries.DataStoreQueries;
 import com.djrapitops.plan.db.access.queries.PlayerFetchQueries;
+import com.djrapitops.plan.db.access.queries.objects.BaseUserQueries;
 
 import java.util.UUID;
 import java.util.function.LongSupplier;
@@ -30,6 +33,7 @@ import java.util.function.LongSupplier;
 public class PlayerServerRegisterTransaction extends PlayerRegisterTransaction {
 
     private final UUID serverUUID;
+    private Long registeredOnServer;
 
     public PlayerServerRegisterTransaction(UUID playerUUID, LongSupplier registered, String playerName, UUID serverUUID) {
         super(playerUUID, registered, playerName);
@@ -41,6 +45,21 @@ public class PlayerServerRegisterTransaction extends PlayerRegisterTransaction {
         super.performOperations();
         if (!query(PlayerFetchQueries.isPlayerRegisteredOnServer(playerUUID, serverUUID))) {
             execute(DataStoreQueries.registerUserInfo(playerUUID, registered.getAsLong(), serverUUID));
+            // New players per day are counted by the register date of the BaseUser.
+            registeredOnServer = query(BaseUserQueries.fetchBaseUserOfPlayer(playerUUID))
+                    .map(BaseUser::getRegistered)
+                    .orElse(registered.getAsLong());
+        }
+    }
+
+    @Override
+    protected void afterCommit(SQLDB db) {
+        super.afterCommit(db);
+        if (registeredOnServer != null) {
+            db.updateServerAggregates(serverUUID, aggregates -> {
+                aggregates.addNew(registeredOnServer);
+                return true;
+            });
         }
     }
 }
\ No newline at end of file
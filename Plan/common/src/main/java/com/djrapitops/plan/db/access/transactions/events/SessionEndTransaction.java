@@ -17,6 +17,8 @@
 package com.djrapitops.plan.db.access.transactions.events;
 
 import com.djrapitops.plan.data.container.Session;
+import com.djrapitops.plan.data.store.keys.SessionKeys;
+import com.djrapitops.plan.db.SQLDB;
 import com.djrapitops.plan.db.access.queries.DataStoreQueries;
 import com.djrapitops.plan.db.access.transactions.Transaction;
 
@@ -33,8 +35,18 @@ public class SessionEndTransaction extends Transaction {
         this.session = session;
     }
 
+    @Override
+    public boolean isGroupable() {
+        return true;
+    }
+
     @Override
     protected void performOperations() {
         execute(DataStoreQueries.storeSession(session));
     }
+
+    @Override
+    protected void afterCommit(SQLDB db) {
+        db.updateServerAggregates(session.getUnsafe(SessionKeys.SERVER_UUID), aggregates -> aggregates.addSession(session));
+    }
 }
\ No newline at end of file
@@ -18,6 +18,7 @@ package com.djrapitops.plan.db.access.transactions.events;
 
 import com.djrapitops.plan.data.container.TPS;
 import com.djrapitops.plan.data.container.builders.TPSBuilder;
+import com.djrapitops.plan.db.SQLDB;
 import com.djrapitops.plan.db.access.queries.DataStoreQueries;
 import com.djrapitops.plan.db.access.transactions.Transaction;
 
@@ -33,16 +34,30 @@ public class TPSStoreTransaction extends Transaction {
 
     private final UUID serverUUID;
     private final List<TPS> tpsList;
+    private TPS stored;
 
     public TPSStoreTransaction(UUID serverUUID, List<TPS> tpsList) {
         this.serverUUID = serverUUID;
         this.tpsList = tpsList;
     }
 
+    @Override
+    public boolean isGroupable() {
+        return true;
+    }
+
     @Override
     protected void performOperations() {
-        TPS tps = calculateTPS();
-        execute(DataStoreQueries.storeTPS(serverUUID, tps));
+        stored = calculateTPS();
+        execute(DataStoreQueries.storeTPS(serverUUID, stored));
+    }
+
+    @Override
+    protected void afterCommit(SQLDB db) {
+        db.updateServerAggregates(serverUUID, aggregates -> {
+            aggregates.addTPS(stored);
+            return true;
+        });
     }
 
     private TPS calculateTPS() {
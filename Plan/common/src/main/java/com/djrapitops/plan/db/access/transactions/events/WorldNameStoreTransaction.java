@@ -40,6 +40,11 @@ public class WorldNameStoreTransaction extends Transaction {
         this.worldName = worldName;
     }
 
+    @Override
+    public boolean isGroupable() {
+        return true;
+    }
+
     @Override
     protected boolean shouldBeExecuted() {
         return doesWorldNameNotExist();
@@ -17,6 +17,7 @@
 package com.djrapitops.plan.db.access.transactions.init;
 
 import com.djrapitops.plan.data.store.objects.DateObj;
+import com.djrapitops.plan.db.SQLDB;
 import com.djrapitops.plan.db.access.ExecStatement;
 import com.djrapitops.plan.db.access.Executable;
 import com.djrapitops.plan.db.access.Query;
@@ -25,6 +26,7 @@ import com.djrapitops.plan.db.access.queries.objects.TPSQueries;
 import com.djrapitops.plan.db.access.transactions.Transaction;
 import com.djrapitops.plan.db.access.transactions.commands.RemovePlayerTransaction;
 import com.djrapitops.plan.db.sql.tables.PingTable;
+import com.djrapitops.plan.db.sql.tables.ServerTable;
 import com.djrapitops.plan.db.sql.tables.SessionsTable;
 import com.djrapitops.plan.db.sql.tables.TPSTable;
 import com.djrapitops.plan.system.locale.Locale;
@@ -50,18 +52,32 @@ public class CleanTransaction extends Transaction {
     private final UUID serverUUID;
 
     private final long keepInactiveForMs;
+    private final long keepRawTPSForMs;
 
     private final PluginLogger logger;
     private final Locale locale;
 
+    private int removed;
+
+    public CleanTransaction(
+            UUID serverUUID,
+            long keepInactiveForMs,
+            PluginLogger logger,
+            Locale locale
+    ) {
+        this(serverUUID, keepInactiveForMs, TimeAmount.MONTH.toMillis(3L), logger, locale);
+    }
+
     public CleanTransaction(
             UUID serverUUID,
             long keepInactiveForMs,
+            long keepRawTPSForMs,
             PluginLogger logger,
             Locale locale
     ) {
         this.serverUUID = serverUUID;
         this.keepInactiveForMs = keepInactiveForMs;
+        this.keepRawTPSForMs = keepRawTPSForMs;
         this.logger = logger;
         this.locale = locale;
     }
@@ -70,15 +86,26 @@ public class CleanTransaction extends Transaction {
     protected void performOperations() {
         Optional<Integer> allTimePeak = query(TPSQueries.fetchAllTimePeakPlayerCount(serverUUID)).map(DateObj::getValue);
 
+        // Raw data is rolled up before it is removed so that long-term graphs are not lost.
+        executeOther(new RollupTransaction(serverUUID));
         execute(cleanTPSTable(allTimePeak.orElse(-1)));
         execute(cleanPingTable());
 
-        int removed = cleanOldPlayers();
+        removed = cleanOldPlayers();
         if (removed > 0) {
             logger.info(locale.getString(PluginLang.DB_NOTIFY_CLEAN, removed));
         }
     }
 
+    @Override
+    protected void afterCommit(SQLDB db) {
+        if (removed > 0) {
+            db.clearServerAggregates();
+            db.clearPlayerIdentities();
+            db.markPlayersRemoved();
+        }
+    }
+
     private int cleanOldPlayers() {
         long now = System.currentTimeMillis();
         long keepActiveAfter = now - keepInactiveForMs;
@@ -91,17 +118,18 @@ public class CleanTransaction extends Transaction {
     }
 
     private Executable cleanTPSTable(int allTimePlayerPeak) {
+        // Only the TPS of this server has been rolled up, other servers clean their own TPS.
         String sql = "DELETE FROM " + TPSTable.TABLE_NAME +
                 " WHERE (" + TPSTable.DATE + "<?)" +
-                " AND (" + TPSTable.PLAYERS_ONLINE + "!=?)";
+                " AND (" + TPSTable.PLAYERS_ONLINE + "!=?)" +
+                " AND " + TPSTable.SERVER_ID + "=" + ServerTable.STATEMENT_SELECT_SERVER_ID;
 
         return new ExecStatement(sql) {
             @Override
             public void prepare(PreparedStatement statement) throws SQLException {
-                // More than 3 Months ago.
-                long threeMonths = TimeAmount.MONTH.toMillis(3L);
-                statement.setLong(1, System.currentTimeMillis() - threeMonths);
+                statement.setLong(1, System.currentTimeMillis() - keepRawTPSForMs);
                 statement.setInt(2, allTimePlayerPeak);
+                statement.setString(3, serverUUID.toString());
             }
         };
     }
@@ -67,6 +67,10 @@ public class CreateIndexTransaction extends Transaction {
         createIndex(TPSTable.TABLE_NAME, "plan_tps_date_index",
                 TPSTable.DATE
         );
+        createIndex(GeoInfoTable.TABLE_NAME, "plan_ips_uuid_index",
+                GeoInfoTable.USER_UUID,
+                GeoInfoTable.LAST_USED
+        );
     }
 
     private void createIndex(String tableName, String indexName, String... indexedColumns) {
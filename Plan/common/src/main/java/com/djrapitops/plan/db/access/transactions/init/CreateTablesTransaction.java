@@ -45,5 +45,7 @@ public class CreateTablesTransaction extends OperationCriticalTransaction {
         execute(WorldTimesTable.createTableSQL(dbType));
         execute(SecurityTable.createTableSQL(dbType));
         execute(SettingsTable.createTableSQL(dbType));
+        execute(TPSRollupTable.createTableSQL(dbType));
+        execute(SessionRollupTable.createTableSQL(dbType));
     }
 }
\ No newline at end of file
@@ -0,0 +1,293 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.db.access.transactions.init;
+
+import com.djrapitops.plan.db.access.ExecStatement;
+import com.djrapitops.plan.db.access.Executable;
+import com.djrapitops.plan.db.access.Query;
+import com.djrapitops.plan.db.access.QueryStatement;
+import com.djrapitops.plan.db.access.transactions.Transaction;
+import com.djrapitops.plan.db.sql.tables.*;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static com.djrapitops.plan.db.sql.parsing.Sql.*;
+
+/**
+ * Transaction that aggregates TPS and session data of finished hours and days of a server to the rollup tables.
+ * <p>
+ * Each run continues from the last period that has already been rolled up for the server, so only new data is read
+ * and a server that has been offline is rolled up from where it was left.
+ * Sessions are stored when they end, so they are only rolled up once a day has passed since the period.
+ * <p>
+ * Each server rolls up only its own data, so servers sharing the database do not insert the same rows.
+ * Periods that already have a row are skipped, so the rollup can run again without failing on the unique key.
+ *
+ * @author Rsl1122
+ * @see TPSRollupTable
+ * @see SessionRollupTable
+ */
+public class RollupTransaction extends Transaction {
+
+    public static final long HOUR = TimeUnit.HOURS.toMillis(1L);
+    public static final long DAY = TimeUnit.DAYS.toMillis(1L);
+
+    // TPS of the latest minutes might not have been stored yet.
+    private static final long TPS_SETTLE_TIME = TimeUnit.MINUTES.toMillis(5L);
+    private static final long SESSION_SETTLE_TIME = TimeUnit.DAYS.toMillis(1L);
+
+    // Both rollup tables use the same column names for the date and length of the period.
+    private static final String DATE_COLUMN = TPSRollupTable.DATE;
+    private static final String PERIOD_COLUMN = TPSRollupTable.PERIOD;
+
+    private final UUID serverUUID;
+    private final long now;
+
+    public RollupTransaction(UUID serverUUID) {
+        this(serverUUID, System.currentTimeMillis());
+    }
+
+    public RollupTransaction(UUID serverUUID, long now) {
+        this.serverUUID = serverUUID;
+        this.now = now;
+    }
+
+    @Override
+    protected void performOperations() {
+        for (long period : new long[]{HOUR, DAY}) {
+            rollupTPS(period);
+            rollupSessions(period);
+        }
+    }
+
+    private void rollupTPS(long period) {
+        long before = startOfPeriod(now - TPS_SETTLE_TIME, period);
+        long after = query(nextPeriodToRollup(
+                TPSRollupTable.TABLE_NAME, TPSRollupTable.SERVER_ID + "=" + ServerTable.STATEMENT_SELECT_SERVER_ID, period
+        ));
+        if (after < before) {
+            execute(insertTPSRollups(period, after, before));
+        }
+    }
+
+    private void rollupSessions(long period) {
+        long before = startOfPeriod(now - SESSION_SETTLE_TIME, period);
+        long after = query(nextPeriodToRollup(
+                SessionRollupTable.TABLE_NAME, SessionRollupTable.SERVER_UUID + "=?", period
+        ));
+        if (after < before) {
+            execute(insertSessionRollups(period, after, before));
+            execute(updateNewPlayerCounts(period, after, before));
+        }
+    }
+
+    /**
+     * Get the start of the period that contains a date.
+     *
+     * @param date   Epoch ms.
+     * @param period Length of the period, {@link #HOUR} or {@link #DAY}.
+     * @return Epoch ms of the start of the period.
+     */
+    public static long startOfPeriod(long date, long period) {
+        return date - (date % period);
+    }
+
+    private static String periodStart(String column, long period) {
+        return column + "-(" + column + "%" + period + ")";
+    }
+
+    /**
+     * Query the start of the next period to roll up for the server.
+     *
+     * @param tableName       Rollup table.
+     * @param serverCondition Condition on the server column of the rollup table with one parameter for the server UUID.
+     * @param period          Length of the period.
+     * @return Epoch ms of the next period, 0 if nothing has been rolled up for the server.
+     */
+    private Query<Long> nextPeriodToRollup(String tableName, String serverCondition, long period) {
+        String sql = SELECT + "MAX(" + DATE_COLUMN + ") as last_date" +
+                FROM + tableName +
+                WHERE + serverCondition +
+                AND + PERIOD_COLUMN + "=?";
+        return new QueryStatement<Long>(sql) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setString(1, serverUUID.toString());
+                statement.setLong(2, period);
+            }
+
+            @Override
+            public Long processResults(ResultSet set) throws SQLException {
+                if (set.next()) {
+                    long lastDate = set.getLong("last_date");
+                    return set.wasNull() ? 0L : lastDate + period;
+                }
+                return 0L;
+            }
+        };
+    }
+
+    /**
+     * Skip periods that already have a row in the rollup table.
+     *
+     * @param tableName       Rollup table.
+     * @param serverCondition Condition on the server column of the rollup table, without parameters.
+     * @param periodStart     Expression for the start of the period of the raw row.
+     * @param period          Length of the period.
+     * @return Condition for the WHERE clause of the rollup insert.
+     */
+    private static String notRolledUp(String tableName, String serverCondition, String periodStart, long period) {
+        return "NOT EXISTS (" + SELECT + "1" + FROM + tableName + " r" +
+                WHERE + "r." + serverCondition +
+                AND + "r." + PERIOD_COLUMN + "=" + period +
+                AND + "r." + DATE_COLUMN + "=" + periodStart + ")";
+    }
+
+    private Executable insertTPSRollups(long period, long after, long before) {
+        String periodStart = periodStart(TPSTable.TABLE_NAME + "." + TPSTable.DATE, period);
+        String sql = "INSERT INTO " + TPSRollupTable.TABLE_NAME + " (" +
+                TPSRollupTable.SERVER_ID + ", " +
+                TPSRollupTable.DATE + ", " +
+                TPSRollupTable.PERIOD + ", " +
+                TPSRollupTable.SAMPLES + ", " +
+                TPSRollupTable.MIN_TPS + ", " + TPSRollupTable.AVG_TPS + ", " + TPSRollupTable.MAX_TPS + ", " +
+                TPSRollupTable.MIN_PLAYERS_ONLINE + ", " + TPSRollupTable.AVG_PLAYERS_ONLINE + ", " + TPSRollupTable.MAX_PLAYERS_ONLINE + ", " +
+                TPSRollupTable.MIN_CPU_USAGE + ", " + TPSRollupTable.AVG_CPU_USAGE + ", " + TPSRollupTable.MAX_CPU_USAGE + ", " +
+                TPSRollupTable.MIN_RAM_USAGE + ", " + TPSRollupTable.AVG_RAM_USAGE + ", " + TPSRollupTable.MAX_RAM_USAGE + ", " +
+                TPSRollupTable.MIN_ENTITIES + ", " + TPSRollupTable.AVG_ENTITIES + ", " + TPSRollupTable.MAX_ENTITIES + ", " +
+                TPSRollupTable.MIN_CHUNKS + ", " + TPSRollupTable.AVG_CHUNKS + ", " + TPSRollupTable.MAX_CHUNKS + ", " +
+                TPSRollupTable.MIN_FREE_DISK +
+                ") " + SELECT +
+                TPSTable.SERVER_ID + ", " +
+                periodStart + ", " +
+                period + ", " +
+                "COUNT(1), " +
+                minAvgMax(available(TPSTable.TPS)) +
+                minAvgMax(TPSTable.PLAYERS_ONLINE) +
+                minAvgMax(available(TPSTable.CPU_USAGE)) +
+                minAvgMax(TPSTable.RAM_USAGE) +
+                minAvgMax(available(TPSTable.ENTITIES)) +
+                minAvgMax(available(TPSTable.CHUNKS)) +
+                unavailableIfNull("MIN(" + available(TPSTable.FREE_DISK) + ")") +
+                FROM + TPSTable.TABLE_NAME +
+                WHERE + TPSTable.SERVER_ID + "=" + ServerTable.STATEMENT_SELECT_SERVER_ID +
+                AND + TPSTable.DATE + ">=?" +
+                AND + TPSTable.DATE + "<?" +
+                AND + notRolledUp(TPSRollupTable.TABLE_NAME, TPSRollupTable.SERVER_ID + "=" + TPSTable.TABLE_NAME + "." + TPSTable.SERVER_ID, periodStart, period) +
+                GROUP_BY + TPSTable.SERVER_ID + ", " + periodStart;
+
+        return new ExecStatement(sql) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setString(1, serverUUID.toString());
+                statement.setLong(2, after);
+                statement.setLong(3, before);
+            }
+        };
+    }
+
+    private static String minAvgMax(String column) {
+        return unavailableIfNull("MIN(" + column + ")") + ", " +
+                unavailableIfNull("AVG(" + column + ")") + ", " +
+                unavailableIfNull("MAX(" + column + ")") + ", ";
+    }
+
+    /**
+     * Leave out values that were not available when the TPS was gathered.
+     * <p>
+     * -1 is stored when a value could not be gathered, for example CPU usage on some systems, or TPS, entities and
+     * chunks on proxy servers. Aggregates ignore NULL, so only the available samples are aggregated.
+     *
+     * @param column Column of the TPS table.
+     * @return Expression that is NULL for unavailable values.
+     */
+    private static String available(String column) {
+        return "CASE WHEN " + column + ">=0 THEN " + column + " END";
+    }
+
+    private static String unavailableIfNull(String aggregate) {
+        // A period without available samples is stored as unavailable.
+        return "COALESCE(" + aggregate + ", -1)";
+    }
+
+    private Executable insertSessionRollups(long period, long after, long before) {
+        String periodStart = periodStart(SessionsTable.TABLE_NAME + "." + SessionsTable.SESSION_START, period);
+        String sql = "INSERT INTO " + SessionRollupTable.TABLE_NAME + " (" +
+                SessionRollupTable.SERVER_UUID + ", " +
+                SessionRollupTable.DATE + ", " +
+                SessionRollupTable.PERIOD + ", " +
+                SessionRollupTable.UNIQUE_PLAYERS + ", " +
+                SessionRollupTable.NEW_PLAYERS + ", " +
+                SessionRollupTable.SESSION_COUNT + ", " +
+                SessionRollupTable.PLAYTIME +
+                ") " + SELECT +
+                SessionsTable.SERVER_UUID + ", " +
+                periodStart + ", " +
+                period + ", " +
+                "COUNT(DISTINCT " + SessionsTable.USER_UUID + "), " +
+                "0, " +
+                "COUNT(1), " +
+                "SUM(" + SessionsTable.SESSION_END + "-" + SessionsTable.SESSION_START + ")" +
+                FROM + SessionsTable.TABLE_NAME +
+                WHERE + SessionsTable.SERVER_UUID + "=?" +
+                AND + SessionsTable.SESSION_START + ">=?" +
+                AND + SessionsTable.SESSION_START + "<?" +
+                AND + notRolledUp(SessionRollupTable.TABLE_NAME, SessionRollupTable.SERVER_UUID + "=" + SessionsTable.TABLE_NAME + "." + SessionsTable.SERVER_UUID, periodStart, period) +
+                GROUP_BY + SessionsTable.SERVER_UUID + ", " + periodStart;
+
+        return new ExecStatement(sql) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setString(1, serverUUID.toString());
+                statement.setLong(2, after);
+                statement.setLong(3, before);
+            }
+        };
+    }
+
+    private Executable updateNewPlayerCounts(long period, long after, long before) {
+        // New players are counted by the register date of the BaseUser, like PlayersMutator#newPerDay does.
+        String rollup = SessionRollupTable.TABLE_NAME + ".";
+        String newPlayerCount = "(" + SELECT + "COUNT(1)" + FROM + UsersTable.TABLE_NAME +
+                INNER_JOIN + UserInfoTable.TABLE_NAME + " on " +
+                UsersTable.TABLE_NAME + "." + UsersTable.USER_UUID + "=" + UserInfoTable.TABLE_NAME + "." + UserInfoTable.USER_UUID +
+                WHERE + UserInfoTable.TABLE_NAME + "." + UserInfoTable.SERVER_UUID + "=" + rollup + SessionRollupTable.SERVER_UUID +
+                AND + UsersTable.TABLE_NAME + "." + UsersTable.REGISTERED + ">=" + rollup + SessionRollupTable.DATE +
+                AND + UsersTable.TABLE_NAME + "." + UsersTable.REGISTERED + "<" + rollup + SessionRollupTable.DATE + "+" + rollup + SessionRollupTable.PERIOD +
+                ")";
+        String sql = "UPDATE " + SessionRollupTable.TABLE_NAME +
+                " SET " + SessionRollupTable.NEW_PLAYERS + "=" + newPlayerCount +
+                WHERE + SessionRollupTable.SERVER_UUID + "=?" +
+                AND + SessionRollupTable.PERIOD + "=?" +
+                AND + SessionRollupTable.DATE + ">=?" +
+                AND + SessionRollupTable.DATE + "<?";
+
+        return new ExecStatement(sql) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setString(1, serverUUID.toString());
+                statement.setLong(2, period);
+                statement.setLong(3, after);
+                statement.setLong(4, before);
+            }
+        };
+    }
+}
@@ -48,12 +48,13 @@ public class GeoInfoOptimizationPatch extends Patch {
                 GeoInfoTable.LAST_USED + ", " +
                 GeoInfoTable.GEOLOCATION +
                 ") SELECT " +
-                "(SELECT plan_users.uuid FROM plan_users WHERE plan_users.id = " + tempTableName + ".user_id LIMIT 1), " +
-                GeoInfoTable.IP + ", " +
-                GeoInfoTable.IP_HASH + ", " +
-                GeoInfoTable.LAST_USED + ", " +
-                GeoInfoTable.GEOLOCATION +
-                " FROM " + tempTableName
+                "u.uuid, " +
+                tempTableName + "." + GeoInfoTable.IP + ", " +
+                tempTableName + "." + GeoInfoTable.IP_HASH + ", " +
+                tempTableName + "." + GeoInfoTable.LAST_USED + ", " +
+                tempTableName + "." + GeoInfoTable.GEOLOCATION +
+                " FROM " + tempTableName +
+                leftJoinUsers("u", tempTableName, "user_id")
         );
 
         dropTable(tempTableName);
@@ -47,15 +47,17 @@ public class KillsOptimizationPatch extends Patch {
                 // In this case a patch has made a table with almost correct schema to a temporary table.
                 renameTable(tempTableName, tableName);
                 return;
-            } else if (hasColumn(tableName, KillsTable.VICTIM_UUID)) {
+            } else if (hasColumn(tableName, KillsTable.VICTIM_UUID) && !hasTable(tempTableName)) {
                 // In this case a patch has made a table with almost correct schema, but something is not right.
                 return;
             }
+            // If the temporary table has the old schema, an interrupted copy continues below.
 
             tempOldTable();
             execute(KillsTable.createTableSQL(dbType));
 
-            execute("INSERT INTO " + tableName + " (" +
+            // The old table has no id, kills of the same session are copied together.
+            copyInChunks(tempTableName, tableName, KillsTable.SESSION_ID, "INSERT INTO " + tableName + " (" +
                     KillsTable.VICTIM_UUID + ", " +
                     KillsTable.KILLER_UUID + ", " +
                     KillsTable.SERVER_UUID + ", " +
@@ -63,13 +65,16 @@ public class KillsOptimizationPatch extends Patch {
                     KillsTable.WEAPON + ", " +
                     KillsTable.SESSION_ID +
                     ") SELECT " +
-                    "(SELECT plan_users.uuid FROM plan_users WHERE plan_users.id = " + tempTableName + ".victim_id LIMIT 1), " +
-                    "(SELECT plan_users.uuid FROM plan_users WHERE plan_users.id = " + tempTableName + ".killer_id LIMIT 1), " +
-                    "(SELECT plan_servers.uuid FROM plan_servers WHERE plan_servers.id = " + tempTableName + ".server_id LIMIT 1), " +
-                    KillsTable.DATE + ", " +
-                    KillsTable.WEAPON + ", " +
-                    KillsTable.SESSION_ID +
-                    " FROM " + tempTableName
+                    "victim.uuid, " +
+                    "killer.uuid, " +
+                    "s.uuid, " +
+                    tempTableName + "." + KillsTable.DATE + ", " +
+                    tempTableName + "." + KillsTable.WEAPON + ", " +
+                    tempTableName + "." + KillsTable.SESSION_ID +
+                    " FROM " + tempTableName +
+                    leftJoinUsers("victim", tempTableName, "victim_id") +
+                    leftJoinUsers("killer", tempTableName, "killer_id") +
+                    leftJoinServers("s", tempTableName, "server_id")
             );
 
             dropTable(tempTableName);
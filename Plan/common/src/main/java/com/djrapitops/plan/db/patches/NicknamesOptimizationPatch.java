@@ -50,11 +50,13 @@ public class NicknamesOptimizationPatch extends Patch {
                     NicknamesTable.NICKNAME + ", " +
                     NicknamesTable.LAST_USED +
                     ") SELECT " +
-                    "(SELECT plan_users.uuid FROM plan_users WHERE plan_users.id = " + tempTableName + ".user_id LIMIT 1), " +
-                    "(SELECT plan_servers.uuid FROM plan_servers WHERE plan_servers.id = " + tempTableName + ".server_id LIMIT 1), " +
-                    NicknamesTable.NICKNAME + ", " +
-                    NicknamesTable.LAST_USED +
-                    " FROM " + tempTableName
+                    "u.uuid, " +
+                    "s.uuid, " +
+                    tempTableName + "." + NicknamesTable.NICKNAME + ", " +
+                    tempTableName + "." + NicknamesTable.LAST_USED +
+                    " FROM " + tempTableName +
+                    leftJoinUsers("u", tempTableName, "user_id") +
+                    leftJoinServers("s", tempTableName, "server_id")
             );
 
             dropTable(tempTableName);
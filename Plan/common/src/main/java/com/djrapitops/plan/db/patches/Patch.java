@@ -18,17 +18,29 @@ package com.djrapitops.plan.db.patches;
 
 import com.djrapitops.plan.api.exceptions.database.DBOpException;
 import com.djrapitops.plan.db.DBType;
+import com.djrapitops.plan.db.access.ExecStatement;
+import com.djrapitops.plan.db.access.QueryStatement;
 import com.djrapitops.plan.db.access.queries.schema.H2SchemaQueries;
 import com.djrapitops.plan.db.access.queries.schema.MySQLSchemaQueries;
 import com.djrapitops.plan.db.access.queries.schema.SQLiteSchemaQueries;
 import com.djrapitops.plan.db.access.transactions.init.OperationCriticalTransaction;
+import com.djrapitops.plugin.logging.console.PluginLogger;
 import com.djrapitops.plugin.utilities.Verify;
 
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static com.djrapitops.plan.db.sql.parsing.Sql.*;
 
 public abstract class Patch extends OperationCriticalTransaction {
 
     private static final String ALTER_TABLE = "ALTER TABLE ";
+    private static final long CHUNK_SIZE = 10000L;
+    private static final long PROGRESS_LOG_INTERVAL_MS = TimeUnit.SECONDS.toMillis(10L);
 
     public abstract boolean hasBeenApplied();
 
@@ -118,6 +130,116 @@ public abstract class Patch extends OperationCriticalTransaction {
         }
     }
 
+    protected String leftJoinUsers(String alias, String fromTable, String userIdColumn) {
+        return LEFT_JOIN + "plan_users " + alias + " ON " + alias + ".id=" + fromTable + "." + userIdColumn;
+    }
+
+    protected String leftJoinServers(String alias, String fromTable, String serverIdColumn) {
+        return LEFT_JOIN + "plan_servers " + alias + " ON " + alias + ".id=" + fromTable + "." + serverIdColumn;
+    }
+
+    /**
+     * Copy rows from one table to another in chunks of the given column, committing after every chunk.
+     * <p>
+     * Keeps the amount of uncommitted changes small on large tables and allows an interrupted copy to continue:
+     * the column has to be inserted into the new table as is, so that the copy can resume after the largest value
+     * that was committed. All rows with the same value of the column are copied in the same chunk.
+     * <p>
+     * Rows where the column is NULL are not inside any {@code >= ? AND < ?} range, so they are copied after the chunks
+     * with one more {@code INSERT ... SELECT}. That copy is committed together with the rest of the patch,
+     * so an interrupted patch does not copy them twice.
+     *
+     * @param fromTable   Table to copy from, the temporary table with the old schema.
+     * @param toTable     Table to copy to.
+     * @param chunkColumn Numeric column that exists in both tables with the same values.
+     * @param insertSql   {@code INSERT INTO toTable (...) SELECT ... FROM fromTable} with joins but without a WHERE clause.
+     */
+    protected void copyInChunks(String fromTable, String toTable, String chunkColumn, String insertSql) {
+        String fromColumn = fromTable + "." + chunkColumn;
+        Optional<Long> last = queryLong(SELECT + "MAX(" + fromColumn + ")" + FROM + fromTable);
+        if (last.isPresent()) {
+            copyChunks(fromTable, toTable, chunkColumn, insertSql, last.get());
+        }
+        copyNullKeyRows(fromTable, chunkColumn, insertSql);
+    }
+
+    private void copyChunks(String fromTable, String toTable, String chunkColumn, String insertSql, long last) {
+        String fromColumn = fromTable + "." + chunkColumn;
+        long first = queryLong(SELECT + "MIN(" + fromColumn + ")" + FROM + fromTable).orElse(0L);
+        // Chunks up to the largest value in the new table were committed before the patch was interrupted.
+        long copiedUpTo = queryLong(SELECT + "MAX(" + chunkColumn + ")" + FROM + toTable).orElse(first - 1L);
+
+        String chunkSql = insertSql + WHERE + fromColumn + ">=?" + AND + fromColumn + "<?";
+        String nextChunkSql = SELECT + "MIN(" + fromColumn + ")" + FROM + fromTable + WHERE + fromColumn + ">?";
+
+        String patchName = getClass().getSimpleName();
+        if (copiedUpTo >= first) {
+            log(patchName + ": Continuing interrupted copy of " + fromTable + " from " + chunkColumn + " " + copiedUpTo);
+        }
+        long startTime = System.currentTimeMillis();
+        long lastLogged = startTime;
+        Optional<Long> chunkStart = queryLong(nextChunkSql, copiedUpTo);
+        while (chunkStart.isPresent()) {
+            long start = chunkStart.get();
+            long end = start + CHUNK_SIZE;
+            execute(new ExecStatement(chunkSql) {
+                @Override
+                public void prepare(PreparedStatement statement) throws SQLException {
+                    statement.setLong(1, start);
+                    statement.setLong(2, end);
+                }
+            });
+            commitPartially();
+
+            long now = System.currentTimeMillis();
+            if (now - lastLogged >= PROGRESS_LOG_INTERVAL_MS) {
+                long percentage = last > first ? (end - first) * 100L / (last - first + 1L) : 100L;
+                log(patchName + ": Copied " + fromTable + " up to " + chunkColumn + " " + (end - 1L) + "/" + last + " (" + Math.min(percentage, 100L) + "%)");
+                lastLogged = now;
+            }
+            chunkStart = queryLong(nextChunkSql, end - 1L);
+        }
+        if (lastLogged != startTime) {
+            log(patchName + ": Finished copying " + fromTable + " in " + TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis() - startTime) + "s");
+        }
+    }
+
+    private void copyNullKeyRows(String fromTable, String chunkColumn, String insertSql) {
+        String fromColumn = fromTable + "." + chunkColumn;
+        long nullKeyRows = queryLong(SELECT + "COUNT(1)" + FROM + fromTable + WHERE + fromColumn + " IS NULL").orElse(0L);
+        if (nullKeyRows > 0L) {
+            log(getClass().getSimpleName() + ": Copying " + nullKeyRows + " rows of " + fromTable + " without " + chunkColumn);
+            execute(insertSql + WHERE + fromColumn + " IS NULL");
+        }
+    }
+
+    private Optional<Long> queryLong(String sql, long... parameters) {
+        return query(new QueryStatement<Optional<Long>>(sql) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                for (int i = 0; i < parameters.length; i++) {
+                    statement.setLong(i + 1, parameters[i]);
+                }
+            }
+
+            @Override
+            public Optional<Long> processResults(ResultSet set) throws SQLException {
+                if (set.next()) {
+                    long value = set.getLong(1);
+                    return set.wasNull() ? Optional.empty() : Optional.of(value);
+                }
+                return Optional.empty();
+            }
+        });
+    }
+
+    private void log(String message) {
+        PluginLogger logger = getLogger();
+        if (logger != null) {
+            logger.info(message);
+        }
+    }
+
     protected void ensureNoForeignKeyConstraints(String table) {
         if (dbType != DBType.MYSQL) {
             return;
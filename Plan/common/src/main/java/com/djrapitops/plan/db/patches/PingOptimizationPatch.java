@@ -44,7 +44,7 @@ public class PingOptimizationPatch extends Patch {
             tempOldTable();
             execute(PingTable.createTableSQL(dbType));
 
-            execute("INSERT INTO " + tableName + " (" +
+            copyInChunks(tempTableName, tableName, PingTable.ID, "INSERT INTO " + tableName + " (" +
                     PingTable.USER_UUID + ", " +
                     PingTable.SERVER_UUID + ", " +
                     PingTable.ID + ", " +
@@ -53,14 +53,16 @@ public class PingOptimizationPatch extends Patch {
                     PingTable.AVG_PING + ", " +
                     PingTable.DATE +
                     ") SELECT " +
-                    "(SELECT plan_users.uuid FROM plan_users WHERE plan_users.id = " + tempTableName + ".user_id LIMIT 1), " +
-                    "(SELECT plan_servers.uuid FROM plan_servers WHERE plan_servers.id = " + tempTableName + ".server_id LIMIT 1), " +
-                    PingTable.ID + ", " +
-                    PingTable.MIN_PING + ", " +
-                    PingTable.MAX_PING + ", " +
-                    PingTable.AVG_PING + ", " +
-                    PingTable.DATE +
-                    " FROM " + tempTableName
+                    "u.uuid, " +
+                    "s.uuid, " +
+                    tempTableName + "." + PingTable.ID + ", " +
+                    tempTableName + "." + PingTable.MIN_PING + ", " +
+                    tempTableName + "." + PingTable.MAX_PING + ", " +
+                    tempTableName + "." + PingTable.AVG_PING + ", " +
+                    tempTableName + "." + PingTable.DATE +
+                    " FROM " + tempTableName +
+                    leftJoinUsers("u", tempTableName, "user_id") +
+                    leftJoinServers("s", tempTableName, "server_id")
             );
 
             dropTable(tempTableName);
@@ -48,7 +48,7 @@ public class SessionsOptimizationPatch extends Patch {
 
             execute(SessionsTable.createTableSQL(dbType));
 
-            execute("INSERT INTO " + tableName + " (" +
+            copyInChunks(tempTableName, tableName, SessionsTable.ID, "INSERT INTO " + tableName + " (" +
                     SessionsTable.USER_UUID + ", " +
                     SessionsTable.SERVER_UUID + ", " +
                     SessionsTable.ID + ", " +
@@ -58,15 +58,17 @@ public class SessionsOptimizationPatch extends Patch {
                     SessionsTable.DEATHS + ", " +
                     SessionsTable.AFK_TIME +
                     ") SELECT " +
-                    "(SELECT plan_users.uuid FROM plan_users WHERE plan_users.id = " + tempTableName + ".user_id LIMIT 1), " +
-                    "(SELECT plan_servers.uuid FROM plan_servers WHERE plan_servers.id = " + tempTableName + ".server_id LIMIT 1), " +
-                    SessionsTable.ID + ", " +
-                    SessionsTable.SESSION_START + ", " +
-                    SessionsTable.SESSION_END + ", " +
-                    SessionsTable.MOB_KILLS + ", " +
-                    SessionsTable.DEATHS + ", " +
-                    SessionsTable.AFK_TIME +
-                    " FROM " + tempTableName
+                    "u.uuid, " +
+                    "s.uuid, " +
+                    tempTableName + "." + SessionsTable.ID + ", " +
+                    tempTableName + "." + SessionsTable.SESSION_START + ", " +
+                    tempTableName + "." + SessionsTable.SESSION_END + ", " +
+                    tempTableName + "." + SessionsTable.MOB_KILLS + ", " +
+                    tempTableName + "." + SessionsTable.DEATHS + ", " +
+                    tempTableName + "." + SessionsTable.AFK_TIME +
+                    " FROM " + tempTableName +
+                    leftJoinUsers("u", tempTableName, "user_id") +
+                    leftJoinServers("s", tempTableName, "server_id")
             );
 
             dropTable(tempTableName);
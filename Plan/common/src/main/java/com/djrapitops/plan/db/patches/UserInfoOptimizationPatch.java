@@ -51,12 +51,14 @@ public class UserInfoOptimizationPatch extends Patch {
                     UserInfoTable.BANNED + ", " +
                     UserInfoTable.OP +
                     ") SELECT " +
-                    "(SELECT plan_users.uuid FROM plan_users WHERE plan_users.id = " + tempTableName + ".user_id LIMIT 1), " +
-                    "(SELECT plan_servers.uuid FROM plan_servers WHERE plan_servers.id = " + tempTableName + ".server_id LIMIT 1), " +
-                    UserInfoTable.REGISTERED + ", " +
-                    UserInfoTable.BANNED + ", " +
-                    UserInfoTable.OP +
-                    " FROM " + tempTableName
+                    "u.uuid, " +
+                    "s.uuid, " +
+                    tempTableName + "." + UserInfoTable.REGISTERED + ", " +
+                    tempTableName + "." + UserInfoTable.BANNED + ", " +
+                    tempTableName + "." + UserInfoTable.OP +
+                    " FROM " + tempTableName +
+                    leftJoinUsers("u", tempTableName, "user_id") +
+                    leftJoinServers("s", tempTableName, "server_id")
             );
 
             dropTable(tempTableName);
@@ -45,7 +45,8 @@ public class WorldTimesOptimizationPatch extends Patch {
             tempOldTable();
             execute(WorldTimesTable.createTableSQL(dbType));
 
-            execute("INSERT INTO " + tableName + " (" +
+            // The old table has no id, rows of the same session are copied together.
+            copyInChunks(tempTableName, tableName, WorldTimesTable.SESSION_ID, "INSERT INTO " + tableName + " (" +
                     WorldTimesTable.USER_UUID + ", " +
                     WorldTimesTable.SERVER_UUID + ", " +
                     WorldTimesTable.ADVENTURE + ", " +
@@ -55,15 +56,17 @@ public class WorldTimesOptimizationPatch extends Patch {
                     WorldTimesTable.SESSION_ID + ", " +
                     WorldTimesTable.WORLD_ID +
                     ") SELECT " +
-                    "(SELECT plan_users.uuid FROM plan_users WHERE plan_users.id = " + tempTableName + ".user_id LIMIT 1), " +
-                    "(SELECT plan_servers.uuid FROM plan_servers WHERE plan_servers.id = " + tempTableName + ".server_id LIMIT 1), " +
-                    WorldTimesTable.ADVENTURE + ", " +
-                    WorldTimesTable.CREATIVE + ", " +
-                    WorldTimesTable.SURVIVAL + ", " +
-                    WorldTimesTable.SPECTATOR + ", " +
-                    WorldTimesTable.SESSION_ID + ", " +
-                    WorldTimesTable.WORLD_ID +
-                    " FROM " + tempTableName
+                    "u.uuid, " +
+                    "s.uuid, " +
+                    tempTableName + "." + WorldTimesTable.ADVENTURE + ", " +
+                    tempTableName + "." + WorldTimesTable.CREATIVE + ", " +
+                    tempTableName + "." + WorldTimesTable.SURVIVAL + ", " +
+                    tempTableName + "." + WorldTimesTable.SPECTATOR + ", " +
+                    tempTableName + "." + WorldTimesTable.SESSION_ID + ", " +
+                    tempTableName + "." + WorldTimesTable.WORLD_ID +
+                    " FROM " + tempTableName +
+                    leftJoinUsers("u", tempTableName, "user_id") +
+                    leftJoinServers("s", tempTableName, "server_id")
             );
 
             dropTable(tempTableName);
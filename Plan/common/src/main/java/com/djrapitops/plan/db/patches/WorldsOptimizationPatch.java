@@ -51,10 +51,11 @@ public class WorldsOptimizationPatch extends Patch {
                     WorldTable.SERVER_UUID + ", " +
                     WorldTable.NAME +
                     ") SELECT " +
-                    WorldTable.ID + ", " +
-                    "(SELECT plan_servers.uuid FROM plan_servers WHERE plan_servers.id = " + tempTableName + ".server_id LIMIT 1), " +
-                    WorldTable.NAME +
-                    " FROM " + tempTableName
+                    tempTableName + "." + WorldTable.ID + ", " +
+                    "s.uuid, " +
+                    tempTableName + "." + WorldTable.NAME +
+                    " FROM " + tempTableName +
+                    leftJoinServers("s", tempTableName, "server_id")
             );
 
             dropTable(tempTableName);
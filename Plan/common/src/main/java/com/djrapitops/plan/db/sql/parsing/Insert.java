@@ -43,4 +43,23 @@ public class Insert extends SqlParser {
         parser.append(")");
         return parser.toString();
     }
+
+    /**
+     * Repeat the values of a single row insert statement to insert multiple rows with one statement.
+     *
+     * @param insertStatement INSERT INTO ... VALUES (...) statement for a single row.
+     * @param rowCount        Number of rows to insert, at least 1.
+     * @return INSERT INTO ... VALUES (...), (...) statement.
+     */
+    public static String multipleRows(String insertStatement, int rowCount) {
+        int valuesEnd = insertStatement.indexOf("VALUES") + "VALUES".length();
+        String row = insertStatement.substring(valuesEnd).trim();
+
+        SqlParser parser = new SqlParser(insertStatement.substring(0, valuesEnd));
+        parser.addSpace().append(row);
+        for (int i = 1; i < rowCount; i++) {
+            parser.append(", ").append(row);
+        }
+        return parser.toString();
+    }
 }
@@ -79,23 +79,36 @@ public class KillsTable {
     }
 
     public static void addSessionKillsToBatch(PreparedStatement statement, Session session) throws SQLException {
+        for (PlayerKill kill : session.getPlayerKills()) {
+            prepareKillRow(statement, 1, session, kill);
+            statement.addBatch();
+        }
+    }
+
+    /**
+     * Set the parameters of {@link #INSERT_STATEMENT} for a single kill.
+     *
+     * @param statement Statement to set the parameters of.
+     * @param index     Index of the first parameter of the row.
+     * @param session   Session the kill happened in.
+     * @param kill      The kill.
+     * @throws SQLException If a parameter could not be set.
+     */
+    public static void prepareKillRow(PreparedStatement statement, int index, Session session, PlayerKill kill) throws SQLException {
         UUID uuid = session.getUnsafe(SessionKeys.UUID);
         UUID serverUUID = session.getUnsafe(SessionKeys.SERVER_UUID);
 
-        for (PlayerKill kill : session.getPlayerKills()) {
-            // Session ID select statement parameters
-            statement.setString(1, uuid.toString());
-            statement.setString(2, serverUUID.toString());
-            statement.setLong(3, session.getUnsafe(SessionKeys.START));
-            statement.setLong(4, session.getUnsafe(SessionKeys.END));
+        // Session ID select statement parameters
+        statement.setString(index, uuid.toString());
+        statement.setString(index + 1, serverUUID.toString());
+        statement.setLong(index + 2, session.getUnsafe(SessionKeys.START));
+        statement.setLong(index + 3, session.getUnsafe(SessionKeys.END));
 
-            // Kill data
-            statement.setString(5, uuid.toString());
-            statement.setString(6, kill.getVictim().toString());
-            statement.setString(7, serverUUID.toString());
-            statement.setLong(8, kill.getDate());
-            statement.setString(9, kill.getWeapon());
-            statement.addBatch();
-        }
+        // Kill data
+        statement.setString(index + 4, uuid.toString());
+        statement.setString(index + 5, kill.getVictim().toString());
+        statement.setString(index + 6, serverUUID.toString());
+        statement.setLong(index + 7, kill.getDate());
+        statement.setString(index + 8, kill.getWeapon());
     }
 }
@@ -0,0 +1,70 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.db.sql.tables;
+
+import com.djrapitops.plan.db.DBType;
+import com.djrapitops.plan.db.sql.parsing.CreateTableParser;
+import com.djrapitops.plan.db.sql.parsing.Sql;
+
+/**
+ * Table information about 'plan_session_rollups'.
+ * <p>
+ * Contains hourly and daily aggregates of 'plan_sessions' and 'plan_user_info' of each server.
+ * Sessions are placed in the period they started in.
+ * Each server has at most one row per period and date.
+ *
+ * @author Rsl1122
+ */
+public class SessionRollupTable {
+
+    public static final String TABLE_NAME = "plan_session_rollups";
+
+    public static final String SERVER_UUID = "server_uuid";
+    public static final String DATE = "date";
+    public static final String PERIOD = "period";
+    public static final String UNIQUE_PLAYERS = "unique_players";
+    public static final String NEW_PLAYERS = "new_players";
+    public static final String SESSION_COUNT = "session_count";
+    public static final String PLAYTIME = "playtime";
+
+    public static final String INSERT_STATEMENT = "INSERT INTO " + TABLE_NAME + " ("
+            + SERVER_UUID + ", "
+            + DATE + ", "
+            + PERIOD + ", "
+            + UNIQUE_PLAYERS + ", "
+            + NEW_PLAYERS + ", "
+            + SESSION_COUNT + ", "
+            + PLAYTIME
+            + ") VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private SessionRollupTable() {
+        /* Static information class */
+    }
+
+    public static String createTableSQL(DBType dbType) {
+        return CreateTableParser.create(TABLE_NAME, dbType)
+                .column(SERVER_UUID, Sql.varchar(36)).notNull()
+                .column(DATE, Sql.LONG).notNull()
+                .column(PERIOD, Sql.LONG).notNull()
+                .column(UNIQUE_PLAYERS, Sql.INT).notNull()
+                .column(NEW_PLAYERS, Sql.INT).notNull()
+                .column(SESSION_COUNT, Sql.INT).notNull()
+                .column(PLAYTIME, Sql.LONG).notNull()
+                .uniqueKey(SERVER_UUID, DATE, PERIOD)
+                .toString();
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.db.sql.tables;
+
+import com.djrapitops.plan.db.DBType;
+import com.djrapitops.plan.db.sql.parsing.CreateTableParser;
+import com.djrapitops.plan.db.sql.parsing.Sql;
+
+/**
+ * Table information about 'plan_tps_rollups'.
+ * <p>
+ * Contains hourly and daily aggregates of 'plan_tps' so that graphs can be drawn after raw TPS data has been removed.
+ *
+ * @author Rsl1122
+ */
+public class TPSRollupTable {
+
+    public static final String TABLE_NAME = "plan_tps_rollups";
+
+    public static final String SERVER_ID = "server_id";
+    public static final String DATE = "date";
+    public static final String PERIOD = "period";
+    public static final String SAMPLES = "samples";
+    public static final String MIN_TPS = "min_tps";
+    public static final String AVG_TPS = "avg_tps";
+    public static final String MAX_TPS = "max_tps";
+    public static final String MIN_PLAYERS_ONLINE = "min_players_online";
+    public static final String AVG_PLAYERS_ONLINE = "avg_players_online";
+    public static final String MAX_PLAYERS_ONLINE = "max_players_online";
+    public static final String MIN_CPU_USAGE = "min_cpu_usage";
+    public static final String AVG_CPU_USAGE = "avg_cpu_usage";
+    public static final String MAX_CPU_USAGE = "max_cpu_usage";
+    public static final String MIN_RAM_USAGE = "min_ram_usage";
+    public static final String AVG_RAM_USAGE = "avg_ram_usage";
+    public static final String MAX_RAM_USAGE = "max_ram_usage";
+    public static final String MIN_ENTITIES = "min_entities";
+    public static final String AVG_ENTITIES = "avg_entities";
+    public static final String MAX_ENTITIES = "max_entities";
+    public static final String MIN_CHUNKS = "min_chunks_loaded";
+    public static final String AVG_CHUNKS = "avg_chunks_loaded";
+    public static final String MAX_CHUNKS = "max_chunks_loaded";
+    public static final String MIN_FREE_DISK = "min_free_disk_space";
+
+    public static final String INSERT_STATEMENT = "INSERT INTO " + TABLE_NAME + " ("
+            + SERVER_ID + ", "
+            + DATE + ", "
+            + PERIOD + ", "
+            + SAMPLES + ", "
+            + MIN_TPS + ", " + AVG_TPS + ", " + MAX_TPS + ", "
+            + MIN_PLAYERS_ONLINE + ", " + AVG_PLAYERS_ONLINE + ", " + MAX_PLAYERS_ONLINE + ", "
+            + MIN_CPU_USAGE + ", " + AVG_CPU_USAGE + ", " + MAX_CPU_USAGE + ", "
+            + MIN_RAM_USAGE + ", " + AVG_RAM_USAGE + ", " + MAX_RAM_USAGE + ", "
+            + MIN_ENTITIES + ", " + AVG_ENTITIES + ", " + MAX_ENTITIES + ", "
+            + MIN_CHUNKS + ", " + AVG_CHUNKS + ", " + MAX_CHUNKS + ", "
+            + MIN_FREE_DISK
+            + ") VALUES ("
+            + ServerTable.STATEMENT_SELECT_SERVER_ID + ", "
+            + "?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private TPSRollupTable() {
+        /* Static information class */
+    }
+
+    public static String createTableSQL(DBType dbType) {
+        return CreateTableParser.create(TABLE_NAME, dbType)
+                .column(SERVER_ID, Sql.INT).notNull()
+                .column(DATE, Sql.LONG).notNull()
+                .column(PERIOD, Sql.LONG).notNull()
+                .column(SAMPLES, Sql.INT).notNull()
+                .column(MIN_TPS, Sql.DOUBLE).notNull()
+                .column(AVG_TPS, Sql.DOUBLE).notNull()
+                .column(MAX_TPS, Sql.DOUBLE).notNull()
+                .column(MIN_PLAYERS_ONLINE, Sql.INT).notNull()
+                .column(AVG_PLAYERS_ONLINE, Sql.DOUBLE).notNull()
+                .column(MAX_PLAYERS_ONLINE, Sql.INT).notNull()
+                .column(MIN_CPU_USAGE, Sql.DOUBLE).notNull()
+                .column(AVG_CPU_USAGE, Sql.DOUBLE).notNull()
+                .column(MAX_CPU_USAGE, Sql.DOUBLE).notNull()
+                .column(MIN_RAM_USAGE, Sql.LONG).notNull()
+                .column(AVG_RAM_USAGE, Sql.DOUBLE).notNull()
+                .column(MAX_RAM_USAGE, Sql.LONG).notNull()
+                .column(MIN_ENTITIES, Sql.INT).notNull()
+                .column(AVG_ENTITIES, Sql.DOUBLE).notNull()
+                .column(MAX_ENTITIES, Sql.INT).notNull()
+                .column(MIN_CHUNKS, Sql.INT).notNull()
+                .column(AVG_CHUNKS, Sql.DOUBLE).notNull()
+                .column(MAX_CHUNKS, Sql.INT).notNull()
+                .column(MIN_FREE_DISK, Sql.LONG).notNull()
+                .foreignKey(SERVER_ID, ServerTable.TABLE_NAME, ServerTable.SERVER_ID)
+                .uniqueKey(SERVER_ID, DATE, PERIOD)
+                .toString();
+    }
+}
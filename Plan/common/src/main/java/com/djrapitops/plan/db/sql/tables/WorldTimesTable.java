@@ -92,30 +92,43 @@ public class WorldTimesTable {
     }
 
     public static void addSessionWorldTimesToBatch(PreparedStatement statement, Session session, String[] gms) throws SQLException {
-        UUID uuid = session.getUnsafe(SessionKeys.UUID);
-        UUID serverUUID = session.getUnsafe(SessionKeys.SERVER_UUID);
         Map<String, GMTimes> worldTimes = session.getUnsafe(SessionKeys.WORLD_TIMES).getWorldTimes();
         for (Map.Entry<String, GMTimes> worldTimesEntry : worldTimes.entrySet()) {
-            String worldName = worldTimesEntry.getKey();
-            GMTimes gmTimes = worldTimesEntry.getValue();
+            prepareWorldTimesRow(statement, 1, session, worldTimesEntry.getKey(), worldTimesEntry.getValue(), gms);
+            statement.addBatch();
+        }
+    }
 
-            // Session ID select statement
-            statement.setString(1, uuid.toString());
-            statement.setString(2, serverUUID.toString());
-            statement.setLong(3, session.getUnsafe(SessionKeys.START));
-            statement.setLong(4, session.getUnsafe(SessionKeys.END));
+    /**
+     * Set the parameters of {@link #INSERT_STATEMENT} for the times of a single world.
+     *
+     * @param statement Statement to set the parameters of.
+     * @param index     Index of the first parameter of the row.
+     * @param session   Session the world times are from.
+     * @param worldName Name of the world.
+     * @param gmTimes   Times of the world.
+     * @param gms       Game mode names, {@link GMTimes#getGMKeyArray()}.
+     * @throws SQLException If a parameter could not be set.
+     */
+    public static void prepareWorldTimesRow(PreparedStatement statement, int index, Session session, String worldName, GMTimes gmTimes, String[] gms) throws SQLException {
+        UUID uuid = session.getUnsafe(SessionKeys.UUID);
+        UUID serverUUID = session.getUnsafe(SessionKeys.SERVER_UUID);
 
-            // World ID select statement
-            statement.setString(5, worldName);
-            statement.setString(6, serverUUID.toString());
+        // Session ID select statement
+        statement.setString(index, uuid.toString());
+        statement.setString(index + 1, serverUUID.toString());
+        statement.setLong(index + 2, session.getUnsafe(SessionKeys.START));
+        statement.setLong(index + 3, session.getUnsafe(SessionKeys.END));
 
-            statement.setString(7, uuid.toString());
-            statement.setString(8, serverUUID.toString());
-            statement.setLong(9, gmTimes.getTime(gms[0]));
-            statement.setLong(10, gmTimes.getTime(gms[1]));
-            statement.setLong(11, gmTimes.getTime(gms[2]));
-            statement.setLong(12, gmTimes.getTime(gms[3]));
-            statement.addBatch();
-        }
+        // World ID select statement
+        statement.setString(index + 4, worldName);
+        statement.setString(index + 5, serverUUID.toString());
+
+        statement.setString(index + 6, uuid.toString());
+        statement.setString(index + 7, serverUUID.toString());
+        statement.setLong(index + 8, gmTimes.getTime(gms[0]));
+        statement.setLong(index + 9, gmTimes.getTime(gms[1]));
+        statement.setLong(index + 10, gmTimes.getTime(gms[2]));
+        statement.setLong(index + 11, gmTimes.getTime(gms[3]));
     }
 }
@@ -71,7 +71,8 @@ public class DBCleanTask extends AbsRunnable {
         try {
             if (database.getState() != Database.State.CLOSED) {
                 database.executeTransaction(new CleanTransaction(serverInfo.getServerUUID(),
-                        config.get(TimeSettings.KEEP_INACTIVE_PLAYERS), logger, locale)
+                        config.get(TimeSettings.KEEP_INACTIVE_PLAYERS), config.get(TimeSettings.KEEP_RAW_TPS_DATA),
+                        logger, locale)
                 );
             }
         } catch (DBOpException e) {
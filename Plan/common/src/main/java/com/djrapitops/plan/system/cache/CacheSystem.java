@@ -53,7 +53,7 @@ public class CacheSystem implements SubSystem {
 
     @Override
     public void disable() {
-        geolocationCache.clearCache();
+        geolocationCache.disable();
     }
 
     public NicknameCache getNicknameCache() {
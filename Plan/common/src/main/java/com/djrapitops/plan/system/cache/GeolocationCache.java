@@ -25,6 +25,10 @@ import com.djrapitops.plan.system.settings.config.PlanConfig;
 import com.djrapitops.plan.system.settings.paths.DataGatheringSettings;
 import com.djrapitops.plugin.logging.L;
 import com.djrapitops.plugin.logging.console.PluginLogger;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.maxmind.db.Reader;
 import com.maxmind.geoip2.DatabaseReader;
 import com.maxmind.geoip2.exception.GeoIp2Exception;
 import com.maxmind.geoip2.model.CountryResponse;
@@ -41,27 +45,40 @@ import java.net.URL;
 import java.net.UnknownHostException;
 import java.nio.channels.Channels;
 import java.nio.channels.ReadableByteChannel;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.zip.GZIPInputStream;
 
 /**
  * This class contains the geolocation cache.
  * <p>
- * It caches all IPs with their matching country.
+ * It caches IPs with their matching country, up to a maximum amount of least recently used IPs.
+ * Failed lookups are not cached, so that they are tried again.
+ * <p>
+ * The GeoIP database is memory-mapped by a single reader that is shared between threads,
+ * and reopened only if the file changes. Lookups hold the read lock, so the old reader is closed
+ * only after the lookups using it have finished.
  *
  * @author Fuzzlemann
  */
 @Singleton
 public class GeolocationCache implements SubSystem {
 
+    private static final long MAX_CACHED_IPS = 10000L;
+    private static final String NOT_KNOWN = "Not Known";
+
     private final Locale locale;
     private final PlanFiles files;
     private final PlanConfig config;
     private final PluginLogger logger;
-    private final Map<String, String> cached;
+    private final Cache<String, String> cached;
+
+    private final ReadWriteLock readerLock;
 
     private File geolocationDB;
+    private volatile DatabaseReader reader;
+    private volatile long readerLastModified;
 
     @Inject
     public GeolocationCache(
@@ -75,7 +92,11 @@ public class GeolocationCache implements SubSystem {
         this.config = config;
         this.logger = logger;
 
-        this.cached = new HashMap<>();
+        this.cached = Caffeine.newBuilder()
+                .maximumSize(MAX_CACHED_IPS)
+                .recordStats()
+                .build();
+        this.readerLock = new ReentrantReadWriteLock();
     }
 
     @Override
@@ -97,7 +118,7 @@ public class GeolocationCache implements SubSystem {
     /**
      * Retrieves the country in full length (e.g. United States) from the IP Address.
      * <p>
-     * This method uses {@code cached}, every first access is getting cached and then retrieved later.
+     * This method uses {@code cached}, every first successful access is getting cached and then retrieved later.
      *
      * @param ipAddress The IP Address from which the country is retrieved
      * @return The name of the country in full length.
@@ -107,26 +128,8 @@ public class GeolocationCache implements SubSystem {
      * @see #getUnCachedCountry(String)
      */
     public String getCountry(String ipAddress) {
-        String country = getCachedCountry(ipAddress);
-
-        if (country != null) {
-            return country;
-        } else {
-            country = getUnCachedCountry(ipAddress);
-            cached.put(ipAddress, country);
-
-            return country;
-        }
-    }
-
-    /**
-     * Returns the cached country
-     *
-     * @param ipAddress The IP Address which is retrieved out of the cache
-     * @return The cached country, {@code null} if the country is not cached
-     */
-    private String getCachedCountry(String ipAddress) {
-        return cached.get(ipAddress);
+        String country = cached.get(ipAddress, this::getUnCachedCountry);
+        return country != null ? country : NOT_KNOWN;
     }
 
     /**
@@ -136,10 +139,8 @@ public class GeolocationCache implements SubSystem {
      * <a href="http://www.maxmind.com">http://www.maxmind.com</a>.
      *
      * @param ipAddress The IP Address from which the country is retrieved
-     * @return The name of the country in full length.
-     * <p>
-     * An exception from that rule is when the country is unknown or the retrieval of the country failed in any way,
-     * if that happens, "Not Known" will be returned.
+     * @return The name of the country in full length, or null if the country is unknown or the retrieval failed,
+     * so that the result is not cached.
      * @see <a href="http://maxmind.com">http://maxmind.com</a>
      * @see #getCountry(String)
      */
@@ -150,17 +151,80 @@ public class GeolocationCache implements SubSystem {
         try {
             checkDB();
 
-            try (DatabaseReader reader = new DatabaseReader.Builder(geolocationDB).build()) {
-                InetAddress inetAddress = InetAddress.getByName(ipAddress);
+            InetAddress inetAddress = InetAddress.getByName(ipAddress);
+
+            return lookupCountry(inetAddress);
+        } catch (IOException | GeoIp2Exception e) {
+            return null;
+        }
+    }
 
-                CountryResponse response = reader.country(inetAddress);
-                Country country = response.getCountry();
+    private String lookupCountry(InetAddress inetAddress) throws IOException, GeoIp2Exception {
+        openReaderIfChanged();
 
-                return country.getName();
+        Lock lock = readerLock.readLock();
+        lock.lock();
+        try {
+            DatabaseReader current = reader;
+            if (current == null) {
+                throw new IOException("GeoIP database has been closed");
             }
+            CountryResponse response = current.country(inetAddress);
+            Country country = response.getCountry();
 
-        } catch (IOException | GeoIp2Exception e) {
-            return "Not Known";
+            return country.getName();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Opens the shared reader of the GeoIP database, or opens it again if the file has changed.
+     *
+     * @throws IOException If the database file could not be opened.
+     */
+    private void openReaderIfChanged() throws IOException {
+        long lastModified = geolocationDB.lastModified();
+        if (reader != null && lastModified == readerLastModified) {
+            return;
+        }
+
+        Lock lock = readerLock.writeLock();
+        lock.lock();
+        try {
+            if (reader != null && lastModified == readerLastModified) {
+                return; // Opened by another thread.
+            }
+            DatabaseReader opened = new DatabaseReader.Builder(geolocationDB)
+                    .fileMode(Reader.FileMode.MEMORY_MAPPED)
+                    .build();
+            DatabaseReader old = reader;
+            reader = opened;
+            readerLastModified = lastModified;
+            close(old);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void closeReader() {
+        Lock lock = readerLock.writeLock();
+        lock.lock();
+        try {
+            close(reader);
+            reader = null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void close(DatabaseReader toClose) {
+        if (toClose != null) {
+            try {
+                toClose.close();
+            } catch (IOException ignored) {
+                // Closing only releases the mapped file.
+            }
         }
     }
 
@@ -191,18 +255,32 @@ public class GeolocationCache implements SubSystem {
      * @return true if the IP Address is cached
      */
     boolean isCached(String ipAddress) {
-        return cached.containsKey(ipAddress);
+        return cached.getIfPresent(ipAddress) != null;
+    }
+
+    public long getCacheSize() {
+        return cached.estimatedSize();
+    }
+
+    /**
+     * Get statistics of the IP cache.
+     *
+     * @return Hit and miss counts and the time spent on looking up uncached IPs.
+     */
+    public CacheStats getCacheStats() {
+        return cached.stats();
     }
 
     @Override
     public void disable() {
-        cached.clear();
+        cached.invalidateAll();
+        closeReader();
     }
 
     /**
      * Clears the cache
      */
     public void clearCache() {
-        cached.clear();
+        cached.invalidateAll();
     }
 }
@@ -0,0 +1,163 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.system.cache;
+
+import com.djrapitops.plan.data.container.Session;
+import com.djrapitops.plan.data.store.objects.PlayerTableRow;
+import com.djrapitops.plan.db.Database;
+import com.djrapitops.plan.db.SQLDB;
+import com.djrapitops.plan.db.access.queries.containers.PlayerTableRowsQuery;
+import com.djrapitops.plan.system.database.DBSystem;
+import com.djrapitops.plan.system.settings.config.PlanConfig;
+import com.djrapitops.plan.system.settings.paths.TimeSettings;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Used for caching the rows of the players table, so that pages of the table can be served without database queries.
+ * <p>
+ * Rows are loaded again when they are older than the players page refresh period (5 minutes), or after players
+ * have been removed from the database, see {@link SQLDB#markPlayersRemoved()}.
+ * Sorted orders of the rows are cached per column when they are first requested.
+ * The rows and their sorted orders are replaced together, so a request never mixes rows of two loads.
+ * <p>
+ * Active sessions in {@link SessionCache} are added to the rows of online players, so that their playtime, last seen
+ * and activity are up to date. Rows with active sessions are created again when the sessions change or every 30 seconds.
+ *
+ * @author Rsl1122
+ */
+@Singleton
+public class PlayersTableCache {
+
+    private static final long MAX_AGE_MS = TimeUnit.MINUTES.toMillis(5L);
+    private static final long ACTIVE_MAX_AGE_MS = TimeUnit.SECONDS.toMillis(30L);
+
+    private final DBSystem dbSystem;
+    private final PlanConfig config;
+
+    private volatile Snapshot snapshot;
+    private volatile ActiveSnapshot activeSnapshot;
+
+    @Inject
+    public PlayersTableCache(
+            DBSystem dbSystem,
+            PlanConfig config
+    ) {
+        this.dbSystem = dbSystem;
+        this.config = config;
+
+        snapshot = new Snapshot(Collections.emptyList(), 0L, 0L);
+    }
+
+    /**
+     * Get the rows of every player sorted by a column in ascending order.
+     *
+     * @param column Index of the column, see {@link PlayerTableRow#comparatorFor(int)}.
+     * @return Unmodifiable list of rows.
+     * @throws com.djrapitops.plan.api.exceptions.database.DBOpException If loading the rows fails.
+     * @throws IllegalArgumentException                                 If the column does not exist.
+     */
+    public List<PlayerTableRow> getRowsSortedBy(int column) {
+        return withActiveSessions(loadIfExpired()).getRowsSortedBy(column);
+    }
+
+    private synchronized Snapshot withActiveSessions(Snapshot loaded) {
+        Map<UUID, Session> activeSessions = SessionCache.getActiveSessions();
+        if (activeSessions.isEmpty()) {
+            return loaded;
+        }
+        long now = System.currentTimeMillis();
+        ActiveSnapshot active = activeSnapshot;
+        if (active != null && active.stored == loaded && active.activeSessions == activeSessions
+                && now - active.merged.loadedAt < ACTIVE_MAX_AGE_MS) {
+            return active.merged;
+        }
+
+        long activeMsThreshold = config.get(TimeSettings.ACTIVE_PLAY_THRESHOLD);
+        int activeLoginThreshold = config.get(TimeSettings.ACTIVE_LOGIN_THRESHOLD);
+        List<PlayerTableRow> rows = new ArrayList<>(loaded.rows.size());
+        for (PlayerTableRow row : loaded.rows) {
+            Session session = activeSessions.get(row.getPlayerUUID());
+            rows.add(session != null ? row.withActiveSession(session, now, activeMsThreshold, activeLoginThreshold) : row);
+        }
+        active = new ActiveSnapshot(loaded, activeSessions, new Snapshot(rows, now, loaded.removalCount));
+        activeSnapshot = active;
+        return active.merged;
+    }
+
+    private synchronized Snapshot loadIfExpired() {
+        long now = System.currentTimeMillis();
+        Database database = dbSystem.getDatabase();
+        // Read before loading, so that players removed during the load cause another load.
+        long removalCount = database.query(SQLDB::getPlayerRemovalCount);
+        Snapshot loaded = snapshot;
+        if (now - loaded.loadedAt < MAX_AGE_MS && removalCount == loaded.removalCount) {
+            return loaded;
+        }
+        loaded = new Snapshot(database.query(new PlayerTableRowsQuery(
+                now,
+                config.get(TimeSettings.ACTIVE_PLAY_THRESHOLD),
+                config.get(TimeSettings.ACTIVE_LOGIN_THRESHOLD)
+        )), now, removalCount);
+        snapshot = loaded;
+        return loaded;
+    }
+
+    private static class ActiveSnapshot {
+        private final Snapshot stored;
+        private final Map<UUID, Session> activeSessions;
+        private final Snapshot merged;
+
+        ActiveSnapshot(Snapshot stored, Map<UUID, Session> activeSessions, Snapshot merged) {
+            this.stored = stored;
+            this.activeSessions = activeSessions;
+            this.merged = merged;
+        }
+    }
+
+    private static class Snapshot {
+        private final List<PlayerTableRow> rows;
+        private final Map<Integer, List<PlayerTableRow>> sortedByColumn;
+        private final long loadedAt;
+        private final long removalCount;
+
+        Snapshot(List<PlayerTableRow> rows, long loadedAt, long removalCount) {
+            this.rows = rows;
+            this.sortedByColumn = new ConcurrentHashMap<>();
+            this.loadedAt = loadedAt;
+            this.removalCount = removalCount;
+        }
+
+        List<PlayerTableRow> getRowsSortedBy(int column) {
+            return sortedByColumn.computeIfAbsent(column, this::sort);
+        }
+
+        private List<PlayerTableRow> sort(int column) {
+            List<PlayerTableRow> sorted = new ArrayList<>(rows);
+            sorted.sort(PlayerTableRow.comparatorFor(column));
+            return Collections.unmodifiableList(sorted);
+        }
+    }
+}
@@ -22,37 +22,61 @@ import com.google.common.collect.ImmutableMap;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * This class is used to store active sessions of players in memory.
+ * <p>
+ * Sessions are written by listeners on the server thread and read by the web server and analysis threads.
+ * The sessions are stored in a ConcurrentHashMap, which locks only the part of the map being modified.
+ * {@link #getActiveSessions()} returns an immutable snapshot that is only copied again after the sessions change.
+ * State inside each Session is guarded by the Session itself.
  *
  * @author Rsl1122
  */
 @Singleton
 public class SessionCache {
 
-    private static final Map<UUID, Session> ACTIVE_SESSIONS = new HashMap<>();
+    private static final Map<UUID, Session> ACTIVE_SESSIONS = new ConcurrentHashMap<>();
+    private static final AtomicLong MODIFICATIONS = new AtomicLong(0L);
+    private static volatile Snapshot snapshot = new Snapshot(0L, ImmutableMap.of());
 
     @Inject
     public SessionCache() {
         // Dagger requires empty inject constructor
     }
 
+    /**
+     * Get a snapshot of active sessions.
+     * <p>
+     * The same snapshot is returned until a session is added or removed.
+     *
+     * @return Immutable Map: Player UUID - Active Session.
+     */
     public static Map<UUID, Session> getActiveSessions() {
-        return ImmutableMap.copyOf(ACTIVE_SESSIONS);
+        long modifications = MODIFICATIONS.get();
+        Snapshot current = snapshot;
+        if (current.modifications != modifications) {
+            // Modifications are counted after the map changes, so the copy contains at least every counted change.
+            current = new Snapshot(modifications, ImmutableMap.copyOf(ACTIVE_SESSIONS));
+            snapshot = current;
+        }
+        return current.sessions;
     }
 
     public static void clear() {
         ACTIVE_SESSIONS.clear();
+        MODIFICATIONS.incrementAndGet();
     }
 
     public static void refreshActiveSessionsState() {
+        long time = System.currentTimeMillis();
         for (Session session : ACTIVE_SESSIONS.values()) {
-            session.getUnsafe(SessionKeys.WORLD_TIMES).updateState(System.currentTimeMillis());
+            session.updateState(time);
         }
     }
 
@@ -78,6 +102,7 @@ public class SessionCache {
             return endSession(playerUUID, session.getUnsafe(SessionKeys.START));
         }
         ACTIVE_SESSIONS.put(playerUUID, session);
+        MODIFICATIONS.incrementAndGet();
         return Optional.empty();
     }
 
@@ -93,12 +118,35 @@ public class SessionCache {
         if (session == null || session.getUnsafe(SessionKeys.START) > time) {
             return Optional.empty();
         }
-        removeSessionFromCache(playerUUID);
+        if (!removeSessionFromCache(playerUUID, session)) {
+            // Another thread ended the session first.
+            return Optional.empty();
+        }
         session.endSession(time);
         return Optional.of(session);
     }
 
     protected void removeSessionFromCache(UUID playerUUID) {
-        ACTIVE_SESSIONS.remove(playerUUID);
+        if (ACTIVE_SESSIONS.remove(playerUUID) != null) {
+            MODIFICATIONS.incrementAndGet();
+        }
+    }
+
+    private boolean removeSessionFromCache(UUID playerUUID, Session session) {
+        boolean removed = ACTIVE_SESSIONS.remove(playerUUID, session);
+        if (removed) {
+            MODIFICATIONS.incrementAndGet();
+        }
+        return removed;
+    }
+
+    private static class Snapshot {
+        private final long modifications;
+        private final Map<UUID, Session> sessions;
+
+        Snapshot(long modifications, Map<UUID, Session> sessions) {
+            this.modifications = modifications;
+            this.sessions = sessions;
+        }
     }
 }
@@ -25,6 +25,7 @@ import com.djrapitops.plan.system.info.server.ServerInfo;
 import com.djrapitops.plan.system.settings.config.PlanConfig;
 import com.djrapitops.plan.system.settings.paths.ExportSettings;
 import com.djrapitops.plan.system.webserver.response.ResponseFactory;
+import com.djrapitops.plan.system.webserver.response.pages.RawDataResponse;
 import com.djrapitops.plugin.logging.L;
 import com.djrapitops.plugin.logging.error.ErrorHandler;
 
@@ -32,8 +33,10 @@ import javax.inject.Inject;
 import javax.inject.Singleton;
 import java.io.File;
 import java.io.IOException;
+import java.io.Writer;
 import java.net.URLEncoder;
-import java.util.Collections;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.UUID;
 
 /**
@@ -71,8 +74,6 @@ public class JSONExport extends SpecificExport {
     }
 
     public void exportPlayerJSON(UUID playerUUID) {
-        String json = responseFactory.rawPlayerPageResponse(playerUUID).getContent();
-
         dbSystem.getDatabase().query(UserIdentifierQueries.fetchPlayerNameOf(playerUUID))
                 .ifPresent(playerName -> {
                     try {
@@ -80,7 +81,7 @@ public class JSONExport extends SpecificExport {
                         htmlLocation.mkdirs();
                         File exportFile = new File(htmlLocation, URLEncoder.encode(playerName, "UTF-8") + ".json");
 
-                        export(exportFile, Collections.singletonList(json));
+                        export(exportFile, responseFactory.rawPlayerPageResponse(playerUUID));
                     } catch (IOException e) {
                         errorHandler.log(L.WARN, this.getClass(), e);
                     }
@@ -88,7 +89,6 @@ public class JSONExport extends SpecificExport {
     }
 
     public void exportServerJSON(UUID serverUUID) {
-        String json = responseFactory.rawServerPageResponse(serverUUID).getContent();
         dbSystem.getDatabase().query(ServerQueries.fetchServerMatchingIdentifier(serverUUID))
                 .map(Server::getName)
                 .ifPresent(serverName -> {
@@ -97,10 +97,16 @@ public class JSONExport extends SpecificExport {
                         htmlLocation.mkdirs();
                         File exportFile = new File(htmlLocation, URLEncoder.encode(serverName, "UTF-8") + ".json");
 
-                        export(exportFile, Collections.singletonList(json));
+                        export(exportFile, responseFactory.rawServerPageResponse(serverUUID));
                     } catch (IOException e) {
                         errorHandler.log(L.WARN, this.getClass(), e);
                     }
                 });
     }
+
+    private void export(File to, RawDataResponse response) throws IOException {
+        try (Writer writer = Files.newBufferedWriter(to.toPath(), StandardCharsets.UTF_8)) {
+            response.writeJSON(writer);
+        }
+    }
 }
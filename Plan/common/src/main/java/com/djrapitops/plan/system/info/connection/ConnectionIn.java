@@ -89,6 +89,10 @@ public class ConnectionIn {
     }
 
     private Map<String, String> readVariables(Request request) throws WebException {
+        if (request.getHeader(InfoRequestPayload.TRANSPORT_HEADER).isPresent()) {
+            return readBinaryVariables(request.getRequestBody());
+        }
+
         String requestBody = readRequestBody(request.getRequestBody());
         String[] bodyVariables = requestBody.split(";&variable;");
 
@@ -98,6 +102,14 @@ public class ConnectionIn {
                 .collect(Collectors.toMap(splitVariables -> splitVariables[0], splitVariables -> splitVariables[1], (a, b) -> b));
     }
 
+    private Map<String, String> readBinaryVariables(InputStream in) throws BadRequestException {
+        try {
+            return InfoRequestPayload.decode(in);
+        } catch (IOException e) {
+            throw new BadRequestException("Could not read the request payload: " + e.getMessage());
+        }
+    }
+
     public Response handleRequest() throws WebException {
         return infoRequest.handleRequest(variables);
     }
@@ -25,19 +25,16 @@ import com.djrapitops.plugin.utilities.Verify;
 import org.apache.http.client.config.RequestConfig;
 import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpPost;
-import org.apache.http.conn.ssl.NoopHostnameVerifier;
-import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
-import org.apache.http.conn.ssl.TrustAllStrategy;
 import org.apache.http.entity.ByteArrayEntity;
-import org.apache.http.impl.client.CloseableHttpClient;
-import org.apache.http.impl.client.HttpClients;
-import org.apache.http.ssl.SSLContextBuilder;
+import org.apache.http.util.EntityUtils;
 
 import java.io.IOException;
 import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
 import java.security.KeyManagementException;
 import java.security.KeyStoreException;
 import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Properties;
 import java.util.UUID;
@@ -47,6 +44,9 @@ import java.util.logging.Logger;
 
 /**
  * Represents an outbound action request to another Plan server.
+ * <p>
+ * Variables are sent with the binary {@link InfoRequestPayload} if the receiving server has advertised support for it,
+ * otherwise with the older text format.
  *
  * @author Rsl1122
  */
@@ -55,6 +55,7 @@ public class ConnectionOut {
     private final Server toServer;
     private final UUID serverUUID;
     private final InfoRequest infoRequest;
+    private final InfoHttpClient httpClient;
 
     static {
         try {
@@ -76,36 +77,57 @@ public class ConnectionOut {
      * @param serverUUID    UUID of server this outbound connection.
      * @param infoRequest   Type of the action this connection wants to be performed.
      * @param connectionLog Where the connection should be logged.
+     * @param httpClient    Shared client used for sending the request.
      */
     public ConnectionOut(
             Server toServer, UUID serverUUID, InfoRequest infoRequest,
-            ConnectionLog connectionLog
+            ConnectionLog connectionLog, InfoHttpClient httpClient
     ) {
         this.connectionLog = connectionLog;
-        Verify.nullCheck(toServer, serverUUID, infoRequest);
+        Verify.nullCheck(toServer, serverUUID, infoRequest, httpClient);
         this.toServer = toServer;
         this.serverUUID = serverUUID;
         this.infoRequest = infoRequest;
+        this.httpClient = httpClient;
     }
 
     public void sendRequest() throws WebException {
         String address = getAddress();
+        boolean binaryPayload = httpClient.supportsBinaryPayload(address);
+        try {
+            send(address, binaryPayload);
+        } catch (BadRequestException e) {
+            // The response tells if the payload was rejected because the server does not understand the format.
+            if (!binaryPayload || httpClient.supportsBinaryPayload(address)) {
+                throw e;
+            }
+            // The server no longer understands the binary payload (Plan was downgraded), the request was not processed.
+            send(address, false);
+        }
+    }
 
-        CloseableHttpClient client = null;
+    private void send(String address, boolean binaryPayload) throws WebException {
         HttpPost post = null;
         CloseableHttpResponse response = null;
         long start = System.currentTimeMillis();
         try {
-            client = getHttpClient(address);
             String url = address + "/info/" + infoRequest.getClass().getSimpleName().toLowerCase();
 
             post = new HttpPost(url);
-            String parameters = parseVariables();
-            prepareRequest(post, parameters);
+            byte[] encoded = binaryPayload ? InfoRequestPayload.encode(getVariables()) : null;
+            if (encoded != null && !InfoRequestPayload.isWithinSizeLimit(encoded)) {
+                // The receiving server would reject the payload, the text format has no size limit.
+                binaryPayload = false;
+            }
+            String parameters = binaryPayload ? "(binary payload)" : parseVariables();
+            prepareRequest(post, binaryPayload ? encoded : parameters.getBytes(StandardCharsets.UTF_8), binaryPayload);
 
             // Send request
-            response = client.execute(post);
+            response = httpClient.getClient().execute(post);
             int responseCode = response.getStatusLine().getStatusCode();
+            httpClient.setSupportsBinaryPayload(address, response.containsHeader(InfoRequestPayload.TRANSPORT_HEADER));
+            // Entity has to be consumed for the connection to be reused.
+            EntityUtils.consume(response.getEntity());
 
             handleResult(url, parameters, responseCode);
         } catch (SocketTimeoutException e) {
@@ -120,7 +142,6 @@ public class ConnectionOut {
                 post.releaseConnection();
             }
             MiscUtils.close(response);
-            MiscUtils.close(client);
         }
     }
 
@@ -146,7 +167,7 @@ public class ConnectionOut {
         }
     }
 
-    private void prepareRequest(HttpPost post, String parameters) {
+    private void prepareRequest(HttpPost post, byte[] toSend, boolean binaryPayload) {
         RequestConfig requestConfig = RequestConfig.custom()
                 .setConnectionRequestTimeout(5000)
                 .setSocketTimeout(10000)
@@ -157,23 +178,15 @@ public class ConnectionOut {
                 .build();
         post.setConfig(requestConfig);
 
-        post.setHeader("Content-Type", "application/x-www-form-urlencoded");
-        post.setHeader("charset", "UTF-8");
-        post.setHeader("Connection", "close");
-
-        byte[] toSend = parameters.getBytes();
-        post.setEntity(new ByteArrayEntity(toSend));
-    }
-
-    private CloseableHttpClient getHttpClient(String address) throws KeyStoreException, NoSuchAlgorithmException, KeyManagementException {
-        if (address.startsWith("https")) {
-            SSLContextBuilder builder = new SSLContextBuilder();
-            builder.loadTrustMaterial(null, new TrustAllStrategy());
-            SSLConnectionSocketFactory sslsf = new SSLConnectionSocketFactory(builder.build(), NoopHostnameVerifier.INSTANCE);
-            return HttpClients.custom().setSSLSocketFactory(sslsf).build();
+        if (binaryPayload) {
+            post.setHeader("Content-Type", InfoRequestPayload.CONTENT_TYPE);
+            post.setHeader(InfoRequestPayload.TRANSPORT_HEADER, InfoRequestPayload.TRANSPORT_VERSION);
         } else {
-            return HttpClients.createDefault();
+            post.setHeader("Content-Type", "application/x-www-form-urlencoded");
+            post.setHeader("charset", "UTF-8");
         }
+
+        post.setEntity(new ByteArrayEntity(toSend));
     }
 
     private String getAddress() {
@@ -185,6 +198,16 @@ public class ConnectionOut {
         return address;
     }
 
+    private Map<String, String> getVariables() {
+        Map<String, String> variables = new HashMap<>();
+        if (infoRequest instanceof InfoRequestWithVariables) {
+            variables.putAll(((InfoRequestWithVariables) infoRequest).getVariables());
+        }
+        variables.put("sender", serverUUID.toString());
+        variables.put("type", infoRequest.getClass().getSimpleName());
+        return variables;
+    }
+
     private String parseVariables() {
         StringBuilder parameters = new StringBuilder("sender=" + serverUUID + ";&variable;" +
                 "type=" + infoRequest.getClass().getSimpleName());
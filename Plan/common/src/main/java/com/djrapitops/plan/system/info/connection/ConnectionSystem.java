@@ -42,6 +42,7 @@ public abstract class ConnectionSystem implements SubSystem {
     protected final InfoRequests infoRequests;
     protected final Lazy<InfoSystem> infoSystem;
     protected final ServerInfo serverInfo;
+    private final InfoHttpClient httpClient;
 
     protected Map<UUID, Server> dataServers;
     private boolean setupAllowed;
@@ -58,6 +59,7 @@ public abstract class ConnectionSystem implements SubSystem {
         setupAllowed = false;
         dataServers = new HashMap<>();
         this.infoRequests = infoRequests;
+        httpClient = new InfoHttpClient();
     }
 
     public InfoRequest getInfoRequest(String name) {
@@ -84,7 +86,7 @@ public abstract class ConnectionSystem implements SubSystem {
         if (serverUUID.equals(toServer.getUuid())) {
             infoSystem.get().runLocally(infoRequest);
         } else {
-            new ConnectionOut(toServer, serverUUID, infoRequest, connectionLog).sendRequest();
+            new ConnectionOut(toServer, serverUUID, infoRequest, connectionLog, httpClient).sendRequest();
         }
     }
 
@@ -112,5 +114,6 @@ public abstract class ConnectionSystem implements SubSystem {
         setupAllowed = false;
         dataServers.clear();
         infoRequests.clear();
+        httpClient.close();
     }
 }
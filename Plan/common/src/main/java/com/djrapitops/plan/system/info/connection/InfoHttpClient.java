@@ -0,0 +1,104 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.system.info.connection;
+
+import com.djrapitops.plan.utilities.MiscUtils;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.conn.socket.PlainConnectionSocketFactory;
+import org.apache.http.conn.ssl.NoopHostnameVerifier;
+import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
+import org.apache.http.conn.ssl.TrustAllStrategy;
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.ssl.SSLContextBuilder;
+
+import java.security.KeyManagementException;
+import java.security.KeyStoreException;
+import java.security.NoSuchAlgorithmException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HTTP client shared by outbound InfoRequests.
+ * <p>
+ * Connections to other Plan servers are pooled and kept alive between requests.
+ * Also remembers which addresses support the binary {@link InfoRequestPayload}.
+ *
+ * @author Rsl1122
+ */
+public class InfoHttpClient {
+
+    private static final int MAX_CONNECTIONS_PER_SERVER = 4;
+    private static final int MAX_CONNECTIONS = 50;
+
+    private final Set<String> binaryPayloadAddresses;
+    private CloseableHttpClient client;
+
+    public InfoHttpClient() {
+        binaryPayloadAddresses = ConcurrentHashMap.newKeySet();
+    }
+
+    public synchronized CloseableHttpClient getClient() throws KeyStoreException, NoSuchAlgorithmException, KeyManagementException {
+        if (client == null) {
+            client = createClient();
+        }
+        return client;
+    }
+
+    private CloseableHttpClient createClient() throws KeyStoreException, NoSuchAlgorithmException, KeyManagementException {
+        SSLContextBuilder builder = new SSLContextBuilder();
+        builder.loadTrustMaterial(null, new TrustAllStrategy());
+        SSLConnectionSocketFactory sslsf = new SSLConnectionSocketFactory(builder.build(), NoopHostnameVerifier.INSTANCE);
+
+        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager(
+                RegistryBuilder.<ConnectionSocketFactory>create()
+                        .register("http", PlainConnectionSocketFactory.getSocketFactory())
+                        .register("https", sslsf)
+                        .build()
+        );
+        connectionManager.setDefaultMaxPerRoute(MAX_CONNECTIONS_PER_SERVER);
+        connectionManager.setMaxTotal(MAX_CONNECTIONS);
+        // Connection might have been closed by the other end while it was idle in the pool.
+        connectionManager.setValidateAfterInactivity((int) TimeUnit.SECONDS.toMillis(2L));
+
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .evictIdleConnections(30L, TimeUnit.SECONDS)
+                .build();
+    }
+
+    public boolean supportsBinaryPayload(String address) {
+        return binaryPayloadAddresses.contains(address);
+    }
+
+    public void setSupportsBinaryPayload(String address, boolean supported) {
+        if (supported) {
+            binaryPayloadAddresses.add(address);
+        } else {
+            binaryPayloadAddresses.remove(address);
+        }
+    }
+
+    public synchronized void close() {
+        MiscUtils.close(client);
+        client = null;
+        binaryPayloadAddresses.clear();
+    }
+}
@@ -64,6 +64,8 @@ public class InfoRequestPageHandler implements PageHandler {
     @Override
     public Response getResponse(Request request, List<String> target) throws WebException {
         int responseCode = 200;
+        // Tells the sender that variables can be sent with InfoRequestPayload.
+        request.setResponseHeader(InfoRequestPayload.TRANSPORT_HEADER, InfoRequestPayload.TRANSPORT_VERSION);
 
         try {
             if (target.isEmpty()) {
@@ -0,0 +1,164 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.system.info.connection;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Binary format for InfoRequest variables, used instead of the form body when both servers support it.
+ * <p>
+ * Format: Version byte, followed by gzip compressed variable count and length prefixed UTF-8 keys and values.
+ * Servers that can read the format tell it with {@link #TRANSPORT_HEADER} in their responses.
+ * <p>
+ * The payload is decoded before the sender has been authenticated, so the received bytes are limited to
+ * {@link #MAX_PAYLOAD_SIZE}, and the decompressed bytes to a limit well above the largest cached page.
+ * Larger variables are sent with the text format instead, see {@link #isWithinSizeLimit(byte[])}.
+ *
+ * @author Rsl1122
+ */
+public class InfoRequestPayload {
+
+    public static final String TRANSPORT_HEADER = "X-Plan-Transport";
+    public static final String TRANSPORT_VERSION = "2";
+    public static final String CONTENT_TYPE = "application/x-plan-info";
+
+    private static final int FORMAT_VERSION = 2;
+    private static final int MAX_VARIABLES = 1000;
+    private static final int MAX_PAYLOAD_SIZE = 8 * 1024 * 1024;
+    private static final int MAX_DECOMPRESSED_SIZE = 256 * 1024 * 1024;
+
+    private InfoRequestPayload() {
+        /* Static method class */
+    }
+
+    public static byte[] encode(Map<String, String> variables) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        bytes.write(FORMAT_VERSION);
+        try (DataOutputStream out = new DataOutputStream(new GZIPOutputStream(bytes))) {
+            out.writeInt(variables.size());
+            for (Map.Entry<String, String> variable : variables.entrySet()) {
+                writeString(out, variable.getKey());
+                writeString(out, variable.getValue());
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Check if an encoded payload can be received.
+     *
+     * @param encoded Payload created with {@link #encode(Map)}.
+     * @return false if the receiving server would reject the payload as too large.
+     */
+    public static boolean isWithinSizeLimit(byte[] encoded) {
+        return encoded.length <= MAX_PAYLOAD_SIZE;
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    public static Map<String, String> decode(InputStream in) throws IOException {
+        LimitedInputStream received = new LimitedInputStream(in, MAX_PAYLOAD_SIZE);
+        int version = received.read();
+        if (version != FORMAT_VERSION) {
+            throw new IOException("Unsupported InfoRequest payload version: " + version);
+        }
+        LimitedInputStream decompressed = new LimitedInputStream(new GZIPInputStream(received), MAX_DECOMPRESSED_SIZE);
+        try (DataInputStream data = new DataInputStream(decompressed)) {
+            int count = data.readInt();
+            if (count < 0 || count > MAX_VARIABLES) {
+                throw new IOException("Invalid InfoRequest variable count: " + count);
+            }
+            Map<String, String> variables = new HashMap<>();
+            for (int i = 0; i < count; i++) {
+                variables.put(readString(data, decompressed), readString(data, decompressed));
+            }
+            return variables;
+        }
+    }
+
+    private static String readString(DataInputStream in, LimitedInputStream limit) throws IOException {
+        int length = in.readInt();
+        // Checked before allocating, so that a made up length can not allocate more than the limit allows.
+        if (length < 0 || length > limit.getRemaining()) {
+            throw new IOException("Invalid InfoRequest variable length: " + length);
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * InputStream that fails when more than the given amount of bytes is read from it.
+     */
+    private static class LimitedInputStream extends FilterInputStream {
+
+        private long remaining;
+
+        private final long limit;
+
+        LimitedInputStream(InputStream in, long limit) {
+            super(in);
+            this.limit = limit;
+            remaining = limit;
+        }
+
+        long getRemaining() {
+            return remaining;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int read = super.read();
+            if (read != -1) {
+                count(1);
+            }
+            return read;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int read = super.read(b, off, (int) Math.min(len, remaining + 1));
+            if (read > 0) {
+                count(read);
+            }
+            return read;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(Math.min(n, remaining + 1));
+            count(skipped);
+            return skipped;
+        }
+
+        private void count(long read) throws IOException {
+            remaining -= read;
+            if (remaining < 0) {
+                throw new IOException("InfoRequest payload is larger than " + limit + " bytes");
+            }
+        }
+    }
+}
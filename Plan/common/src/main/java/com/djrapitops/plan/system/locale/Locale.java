@@ -18,16 +18,12 @@ package com.djrapitops.plan.system.locale;
 
 import com.djrapitops.plan.PlanPlugin;
 import com.djrapitops.plan.system.locale.lang.*;
+import com.djrapitops.plan.utilities.MultiReplacer;
 
 import java.io.File;
 import java.io.IOException;
 import java.io.Serializable;
-import java.util.Arrays;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
-import java.util.function.Function;
-import java.util.stream.Collectors;
+import java.util.*;
 
 /**
  * Represents loaded language information.
@@ -36,6 +32,9 @@ import java.util.stream.Collectors;
  */
 public class Locale extends HashMap<Lang, Message> {
 
+    // Built when the page language is first replaced, cleared when the Locale changes.
+    private transient volatile MultiReplacer languageReplacer;
+
     public static Locale forLangCodeString(PlanPlugin plugin, String code) throws IOException {
         return forLangCode(LangCode.fromString(code), plugin);
     }
@@ -82,9 +81,19 @@ public class Locale extends HashMap<Lang, Message> {
         if (isEmpty()) {
             return from;
         }
+        return getLanguageReplacer().replace(from);
+    }
 
-        String replaced = from;
+    private MultiReplacer getLanguageReplacer() {
+        MultiReplacer replacer = languageReplacer;
+        if (replacer == null) {
+            replacer = createLanguageReplacer();
+            languageReplacer = replacer;
+        }
+        return replacer;
+    }
 
+    private MultiReplacer createLanguageReplacer() {
         Lang[][] langs = new Lang[][]{
                 NetworkPageLang.values(),
                 PlayerPageLang.values(),
@@ -92,22 +101,41 @@ public class Locale extends HashMap<Lang, Message> {
                 CommonHtmlLang.values()
         };
 
-        List<Entry<Lang, Message>> entries = Arrays.stream(langs)
-                .flatMap(Arrays::stream)
-                .collect(Collectors.toMap(Function.identity(), this::get))
-                .entrySet().stream()
-                // Longest first so that entries that contain each other don't partially replace.
-                .sorted((one, two) -> Integer.compare(
-                        two.getKey().getIdentifier().length(),
-                        one.getKey().getIdentifier().length()
-                )).collect(Collectors.toList());
-
-        for (Entry<Lang, Message> entry : entries) {
-            String defaultValue = entry.getKey().getDefault();
-            String replacement = entry.getValue().toString();
-
-            replaced = replaced.replace(defaultValue, replacement);
+        List<Lang> ordered = new ArrayList<>();
+        for (Lang[] langArray : langs) {
+            ordered.addAll(Arrays.asList(langArray));
         }
-        return replaced;
+        // Entries with a longer identifier win if two entries have the same default text.
+        ordered.sort((one, two) -> Integer.compare(two.getIdentifier().length(), one.getIdentifier().length()));
+
+        Map<String, String> replacements = new HashMap<>();
+        for (Lang lang : ordered) {
+            replacements.putIfAbsent(lang.getDefault(), get(lang).toString());
+        }
+        return new MultiReplacer(replacements);
+    }
+
+    @Override
+    public Message put(Lang key, Message value) {
+        languageReplacer = null;
+        return super.put(key, value);
+    }
+
+    @Override
+    public void putAll(Map<? extends Lang, ? extends Message> m) {
+        languageReplacer = null;
+        super.putAll(m);
+    }
+
+    @Override
+    public Message remove(Object key) {
+        languageReplacer = null;
+        return super.remove(key);
+    }
+
+    @Override
+    public void clear() {
+        languageReplacer = null;
+        super.clear();
     }
-}
\ No newline at end of file
+}
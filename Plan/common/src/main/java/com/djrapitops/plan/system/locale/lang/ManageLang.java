@@ -27,6 +27,7 @@ public enum ManageLang implements Lang {
     PROGRESS_START("Manage - Start", "> §2Processing data.."),
     PROGRESS_SUCCESS("Manage - Success", "> §aSuccess!"),
     PROGRESS_FAIL("Manage - Fail", "> §cSomething went wrong: ${0}"),
+    PROGRESS_COPY("Manage - Progress", "> §7${0}: ${1} rows copied"),
 
     CONFIRMATION("Manage - Fail, Confirmation", "> §cAdd '-a' argument to confirm execution: ${0}"),
     IMPORTERS("Manage - List Importers", "Importers: "),
@@ -126,7 +126,9 @@ public class ConfigUpdater {
                 new ConfigChange.Removed("Analysis"),
                 new ConfigChange.Removed("Data"),
                 new ConfigChange.Removed("Customization"),
-                new ConfigChange.Removed("Theme")
+                new ConfigChange.Removed("Theme"),
+                // Players page table is paged by the server, the page length is chosen in the table.
+                new ConfigChange.Removed("Display_options.Players_table.Show_on_players_page")
         };
     }
 
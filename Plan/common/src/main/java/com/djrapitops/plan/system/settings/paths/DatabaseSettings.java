@@ -17,8 +17,7 @@
 package com.djrapitops.plan.system.settings.paths;
 
 import com.djrapitops.plan.db.DBType;
-import com.djrapitops.plan.system.settings.paths.key.Setting;
-import com.djrapitops.plan.system.settings.paths.key.StringSetting;
+import com.djrapitops.plan.system.settings.paths.key.*;
 import org.apache.commons.lang3.math.NumberUtils;
 
 /**
@@ -35,6 +34,9 @@ public class DatabaseSettings {
     public static final Setting<String> MYSQL_PASS = new StringSetting("Database.MySQL.Password");
     public static final Setting<String> MYSQL_DATABASE = new StringSetting("Database.MySQL.Database");
     public static final Setting<String> MYSQL_LAUNCH_OPTIONS = new StringSetting("Database.MySQL.Launch_options");
+    public static final Setting<Boolean> GROUP_COMMIT = new BooleanSetting("Database.Group_commit");
+    public static final Setting<Integer> GROUP_COMMIT_MAX_TRANSACTIONS = new IntegerSetting("Database.Group_commit.Max_transactions", Setting::positiveCountValidator);
+    public static final Setting<Long> GROUP_COMMIT_MAX_TIME = new TimeSetting("Database.Group_commit.Max_time");
 
     private DatabaseSettings() {
         /* static variable class */
@@ -36,10 +36,13 @@ public class TimeSettings {
     public static final Setting<Integer> ACTIVE_LOGIN_THRESHOLD = new IntegerSetting("Time.Thresholds.Activity_index.Login_threshold", Setting::timeValidator);
     public static final Setting<Long> ACTIVE_PLAY_THRESHOLD = new TimeSetting("Time.Thresholds.Activity_index.Playtime_threshold");
     public static final Setting<Long> KEEP_INACTIVE_PLAYERS = new TimeSetting("Time.Thresholds.Remove_inactive_player_data_after");
+    public static final Setting<Long> KEEP_RAW_TPS_DATA = new TimeSetting("Time.Thresholds.Remove_raw_TPS_data_after");
     public static final Setting<Long> ANALYSIS_REFRESH_PERIOD = new TimeSetting("Time.Periodic_tasks.Analysis_refresh_every");
     public static final Setting<Long> CLEAN_CACHE_PERIOD = new TimeSetting("Time.Periodic_tasks.Clean_caches_every");
     public static final Setting<Long> CLEAN_DATABASE_PERIOD = new TimeSetting("Time.Periodic_tasks.Clean_Database_every");
     public static final Setting<Long> CONFIG_UPDATE_INTERVAL = new TimeSetting("Time.Periodic_tasks.Check_DB_for_server_config_files_every");
+    public static final Setting<Long> PING_STORE_PERIOD = new TimeSetting("Time.Periodic_tasks.Store_ping_every");
+    public static final Setting<Long> ENTITY_CHUNK_SAMPLE_PERIOD = new TimeSetting("Time.Periodic_tasks.Count_entities_and_chunks_every");
 
     private TimeSettings() {
         /* static variable class */
@@ -20,6 +20,7 @@ import com.djrapitops.plan.system.settings.paths.key.BooleanSetting;
 import com.djrapitops.plan.system.settings.paths.key.IntegerSetting;
 import com.djrapitops.plan.system.settings.paths.key.Setting;
 import com.djrapitops.plan.system.settings.paths.key.StringSetting;
+import com.djrapitops.plan.system.webserver.WebServerExecutors;
 
 /**
  * {@link Setting} values that are in "Webserver" section.
@@ -38,6 +39,9 @@ public class WebserverSettings {
     public static final Setting<String> CERTIFICATE_ALIAS = new StringSetting("Webserver.Security.SSL_certificate.Alias");
     public static final Setting<Boolean> DISABLED = new BooleanSetting("Webserver.Disable_Webserver");
     public static final Setting<String> EXTERNAL_LINK = new StringSetting("Webserver.External_Webserver_address");
+    public static final Setting<String> THREAD_MODE = new StringSetting("Webserver.Threads.Mode", WebServerExecutors::isValidMode);
+    public static final Setting<Integer> MAX_THREADS = new IntegerSetting("Webserver.Threads.Max_threads", Setting::positiveCountValidator);
+    public static final Setting<Integer> MAX_QUEUED_REQUESTS = new IntegerSetting("Webserver.Threads.Max_queued_requests", Setting::positiveCountValidator);
 
     private WebserverSettings() {
         /* static variable class */
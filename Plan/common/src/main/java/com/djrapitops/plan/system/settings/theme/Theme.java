@@ -20,12 +20,15 @@ import com.djrapitops.plan.api.exceptions.EnableException;
 import com.djrapitops.plan.system.SubSystem;
 import com.djrapitops.plan.system.file.PlanFiles;
 import com.djrapitops.plan.system.settings.config.PlanConfig;
+import com.djrapitops.plan.utilities.MultiReplacer;
 import com.djrapitops.plugin.logging.console.PluginLogger;
 import com.djrapitops.plugin.utilities.Verify;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
 
 import static com.djrapitops.plan.system.settings.theme.ThemeVal.*;
 
@@ -44,6 +47,7 @@ public class Theme implements SubSystem {
     private final PluginLogger logger;
 
     private ThemeConfig themeConfig;
+    private volatile MultiReplacer colorReplacer;
 
     @Inject
     public Theme(PlanFiles files, PlanConfig config, PluginLogger logger) {
@@ -65,6 +69,7 @@ public class Theme implements SubSystem {
         try {
             themeConfig = new ThemeConfig(files, config, logger);
             themeConfig.save();
+            colorReplacer = createColorReplacer();
         } catch (IOException e) {
             throw new EnableException("theme.yml could not be saved.", e);
         }
@@ -92,7 +97,15 @@ public class Theme implements SubSystem {
     }
 
     public String replaceThemeColors(String resourceString) {
-        String replaced = resourceString;
+        MultiReplacer replacer = colorReplacer;
+        if (replacer == null) {
+            replacer = createColorReplacer();
+            colorReplacer = replacer;
+        }
+        return replacer.replace(resourceString);
+    }
+
+    private MultiReplacer createColorReplacer() {
         ThemeVal[] themeVariables = new ThemeVal[]{
                 RED, PINK, PURPLE,
                 DEEP_PURPLE, INDIGO, BLUE, LIGHT_BLUE, CYAN, TEAL, GREEN, LIGHT_GREEN, LIME,
@@ -101,6 +114,8 @@ public class Theme implements SubSystem {
                 GRAPH_CPU, GRAPH_RAM, GRAPH_CHUNKS, GRAPH_ENTITIES, GRAPH_WORLD_PIE, GRAPH_GM_PIE,
                 GRAPH_ACTIVITY_PIE, GRAPH_SERVER_PREF_PIE, FONT_STYLESHEET, FONT_FAMILY
         };
+        // Earlier variables win if two variables have the same default value.
+        Map<String, String> replacements = new HashMap<>();
         for (ThemeVal variable : themeVariables) {
             String value = getColor(variable);
             String defaultValue = variable.getDefaultValue();
@@ -110,15 +125,15 @@ public class Theme implements SubSystem {
             if (value.contains("url")) {
                 String[] colorAndUrl = value.split(" ");
                 if (colorAndUrl.length >= 2) {
-                    replaced = replaced.replace("background: " + defaultValue, "background: " + colorAndUrl[1]);
-                    replaced = replaced.replace(defaultValue, colorAndUrl[0]);
-                    return replaced;
+                    replacements.putIfAbsent("background: " + defaultValue, "background: " + colorAndUrl[1]);
+                    replacements.putIfAbsent(defaultValue, colorAndUrl[0]);
                 }
             } else {
-                replaced = replaced.replace(defaultValue, value);
+                replacements.putIfAbsent(defaultValue, value);
             }
         }
-        return replaced.replace("${defaultTheme}", getValue(ThemeVal.THEME_DEFAULT));
+        replacements.put("${defaultTheme}", getValue(ThemeVal.THEME_DEFAULT));
+        return new MultiReplacer(replacements);
     }
 
     private String getThemeValue(ThemeVal color) {
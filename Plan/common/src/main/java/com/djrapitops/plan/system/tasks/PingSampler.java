@@ -0,0 +1,204 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.system.tasks;
+
+import com.djrapitops.plan.data.container.Ping;
+import com.djrapitops.plan.db.access.transactions.events.PingBatchStoreTransaction;
+import com.djrapitops.plan.system.database.DBSystem;
+import com.djrapitops.plan.system.info.server.ServerInfo;
+import com.djrapitops.plan.system.settings.config.PlanConfig;
+import com.djrapitops.plan.system.settings.paths.TimeSettings;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Collects ping samples of online players for the platform specific ping timers.
+ * <p>
+ * Samples are kept in a primitive ring buffer per player.
+ * Once per {@link TimeSettings#PING_STORE_PERIOD} the samples of every player are aggregated to min, max and median
+ * and stored with a single batched insert.
+ * <p>
+ * Samples should be added and flushed from the thread that runs the timer, players can be added and removed from any thread.
+ *
+ * @author Rsl1122
+ */
+@Singleton
+public class PingSampler {
+
+    // The server is pinging the client every 40 ticks (2 sec)
+    public static final long SAMPLE_INTERVAL_MS = TimeUnit.SECONDS.toMillis(2L);
+
+    private final PlanConfig config;
+    private final DBSystem dbSystem;
+    private final ServerInfo serverInfo;
+
+    private final Map<UUID, PingBuffer> buffers;
+    private long lastFlush;
+
+    @Inject
+    public PingSampler(
+            PlanConfig config,
+            DBSystem dbSystem,
+            ServerInfo serverInfo
+    ) {
+        this.config = config;
+        this.dbSystem = dbSystem;
+        this.serverInfo = serverInfo;
+        buffers = new ConcurrentHashMap<>();
+        lastFlush = -1;
+    }
+
+    public void addPlayer(UUID playerUUID) {
+        int capacity = (int) Math.max(1L, getStorePeriod() / SAMPLE_INTERVAL_MS) + 1;
+        buffers.put(playerUUID, new PingBuffer(capacity));
+    }
+
+    public void removePlayer(UUID playerUUID) {
+        buffers.remove(playerUUID);
+    }
+
+    /**
+     * Get the players whose ping is being sampled.
+     *
+     * @return Modifiable view, removing a player from it stops sampling the player.
+     */
+    public Set<UUID> getPlayers() {
+        return buffers.keySet();
+    }
+
+    /**
+     * Add a ping sample of a player.
+     *
+     * @param playerUUID UUID of the player.
+     * @param date       Epoch ms of the sample.
+     * @param ping       Ping of the player in ms.
+     */
+    public void addSample(UUID playerUUID, long date, int ping) {
+        if (ping < -1 || ping > TimeUnit.SECONDS.toMillis(8L)) {
+            // Don't accept bad values
+            return;
+        }
+        PingBuffer buffer = buffers.get(playerUUID);
+        if (buffer != null) {
+            buffer.add(date, ping);
+        }
+    }
+
+    /**
+     * Store aggregates of the samples if the store period has passed since the last time they were stored.
+     *
+     * @param now Epoch ms.
+     */
+    public void flushIfNeeded(long now) {
+        if (lastFlush == -1) {
+            lastFlush = now;
+            return;
+        }
+        if (now - lastFlush >= getStorePeriod()) {
+            flush();
+            lastFlush = now;
+        }
+    }
+
+    /**
+     * Aggregate and store the samples of every player in one transaction.
+     */
+    public void flush() {
+        UUID serverUUID = serverInfo.getServerUUID();
+        Map<UUID, List<Ping>> aggregates = new HashMap<>();
+        for (Map.Entry<UUID, PingBuffer> entry : buffers.entrySet()) {
+            PingBuffer buffer = entry.getValue();
+            Ping aggregate = buffer.aggregate(serverUUID);
+            buffer.clear();
+            if (aggregate != null) {
+                aggregates.put(entry.getKey(), Collections.singletonList(aggregate));
+            }
+        }
+        if (!aggregates.isEmpty()) {
+            dbSystem.getDatabase().executeTransaction(new PingBatchStoreTransaction(aggregates));
+        }
+    }
+
+    public void clear() {
+        buffers.clear();
+    }
+
+    private long getStorePeriod() {
+        return config.get(TimeSettings.PING_STORE_PERIOD);
+    }
+
+    /**
+     * Ping samples of a single player, the oldest samples are overwritten if the buffer is full.
+     */
+    static class PingBuffer {
+        private final long[] dates;
+        private final int[] pings;
+        private int next;
+        private int size;
+
+        PingBuffer(int capacity) {
+            dates = new long[capacity];
+            pings = new int[capacity];
+        }
+
+        void add(long date, int ping) {
+            dates[next] = date;
+            pings[next] = ping;
+            next = (next + 1) % dates.length;
+            size = Math.min(size + 1, dates.length);
+        }
+
+        void clear() {
+            next = 0;
+            size = 0;
+        }
+
+        /**
+         * Calculate the min, max and median of the samples.
+         *
+         * @param serverUUID UUID of the server the samples are from.
+         * @return Aggregate Ping, or null if there were no samples with a usable value.
+         */
+        Ping aggregate(UUID serverUUID) {
+            int min = Integer.MAX_VALUE;
+            int max = Integer.MIN_VALUE;
+            int[] sorted = new int[size];
+            for (int i = 0; i < size; i++) {
+                int ping = pings[i];
+                sorted[i] = ping;
+                // Values outside this range are not used for min and max, but are used in the median.
+                if (ping > 0 && ping < 4000) {
+                    min = Math.min(min, ping);
+                    max = Math.max(max, ping);
+                }
+            }
+            if (max == Integer.MIN_VALUE) {
+                return null;
+            }
+            Arrays.sort(sorted);
+            int half = size / 2;
+            double median = size % 2 == 0 ? (sorted[half] + sorted[half - 1]) / 2.0 : sorted[half];
+
+            long lastDate = dates[(next - 1 + dates.length) % dates.length];
+            return new Ping(lastDate, serverUUID, min, max, (int) median);
+        }
+    }
+}
@@ -66,6 +66,8 @@ public abstract class ServerTaskSystem extends TaskSystem {
         long analysisPeriod = TimeAmount.toTicks(analysisRefreshMs, TimeUnit.MILLISECONDS);
 
         registerTask(tpsCountTimer).runTaskTimer(1000, TimeAmount.toTicks(1L, TimeUnit.SECONDS));
+        registerTask("TPS Sampling Task", tpsCountTimer.getSamplingTask())
+                .runTaskTimerAsynchronously(1010, TimeAmount.toTicks(1L, TimeUnit.SECONDS));
         registerTask(bootAnalysisTask).runTaskLaterAsynchronously(TimeAmount.toTicks(30L, TimeUnit.SECONDS));
 
         if (analysisRefreshTaskIsEnabled) {
@@ -17,6 +17,7 @@
 package com.djrapitops.plan.system.tasks;
 
 import com.djrapitops.plan.data.container.TPS;
+import com.djrapitops.plan.data.container.builders.TPSBuilder;
 import com.djrapitops.plan.db.access.transactions.events.TPSStoreTransaction;
 import com.djrapitops.plan.system.database.DBSystem;
 import com.djrapitops.plan.system.info.server.ServerInfo;
@@ -33,12 +34,20 @@ import java.util.List;
 
 /**
  * Class responsible for calculating TPS every second.
+ * <p>
+ * The timer only records values that are cheap to get to a {@link TPSSampleBuffer}.
+ * CPU, RAM and disk usage are sampled by the {@link #getSamplingTask()} that should be run asynchronously,
+ * it also creates the {@link TPS} objects and stores them in batches.
  *
  * @author Rsl1122
  */
 public abstract class TPSCountTimer extends AbsRunnable {
 
-    protected final List<TPS> history;
+    private static final int STORE_BATCH_SIZE = 60;
+
+    private final TPSSampleBuffer samples;
+    private final List<TPS> history;
+    private final SamplingTask samplingTask;
 
     protected final DBSystem dbSystem;
     protected final ServerInfo serverInfo;
@@ -47,7 +56,7 @@ public abstract class TPSCountTimer extends AbsRunnable {
 
     private boolean diskErrored = false;
 
-    protected int latestPlayersOnline = 0;
+    protected volatile int latestPlayersOnline = 0;
 
     public TPSCountTimer(
             DBSystem dbSystem,
@@ -59,7 +68,9 @@ public abstract class TPSCountTimer extends AbsRunnable {
         this.serverInfo = serverInfo;
         this.logger = logger;
         this.errorHandler = errorHandler;
-        history = new ArrayList<>();
+        samples = new TPSSampleBuffer(256);
+        history = new ArrayList<>(STORE_BATCH_SIZE);
+        samplingTask = new SamplingTask();
     }
 
     @Override
@@ -69,14 +80,6 @@ public abstract class TPSCountTimer extends AbsRunnable {
             long now = System.currentTimeMillis();
 
             addNewTPSEntry(nanoTime, now);
-
-            if (history.size() >= 60) {
-                dbSystem.getDatabase().executeTransaction(new TPSStoreTransaction(
-                        serverInfo.getServerUUID(),
-                        new ArrayList<>(history)
-                ));
-                history.clear();
-            }
         } catch (Exception | NoClassDefFoundError | NoSuchMethodError | NoSuchFieldError e) {
             logger.error("TPS Count Task Disabled due to error, reload Plan to re-enable.");
             errorHandler.log(L.ERROR, this.getClass(), e);
@@ -84,8 +87,37 @@ public abstract class TPSCountTimer extends AbsRunnable {
         }
     }
 
+    /**
+     * Record the values of this tick with {@link #recordSample(long, double, int, int, int)}.
+     *
+     * @param nanoTime Value of {@link System#nanoTime()} when the timer ran.
+     * @param now      Epoch ms when the timer ran.
+     */
     public abstract void addNewTPSEntry(long nanoTime, long now);
 
+    /**
+     * Record a sample for the sampling task, only call from the thread that runs the timer.
+     *
+     * @param now            Epoch ms of the sample.
+     * @param ticksPerSecond TPS of the server, -1 if not available.
+     * @param playersOnline  Number of players online.
+     * @param entityCount    Number of entities, -1 if not available.
+     * @param chunksLoaded   Number of loaded chunks, -1 if not available.
+     */
+    protected void recordSample(long now, double ticksPerSecond, int playersOnline, int entityCount, int chunksLoaded) {
+        latestPlayersOnline = playersOnline;
+        samples.add(now, ticksPerSecond, playersOnline, entityCount, chunksLoaded);
+    }
+
+    /**
+     * Get the task that samples system resource usage and stores the recorded samples.
+     *
+     * @return Task that should be run asynchronously every second.
+     */
+    public AbsRunnable getSamplingTask() {
+        return samplingTask;
+    }
+
     public int getLatestPlayersOnline() {
         return latestPlayersOnline;
     }
@@ -125,4 +157,48 @@ public abstract class TPSCountTimer extends AbsRunnable {
             return -1;
         }
     }
+
+    private void sampleAndStore() {
+        if (samples.isEmpty()) {
+            return;
+        }
+
+        double cpuUsage = getCPUUsage();
+        long usedMemory = getUsedMemory();
+        long freeDiskSpace = getFreeDiskSpace();
+
+        samples.drain((date, ticksPerSecond, playersOnline, entityCount, chunksLoaded) -> history.add(
+                TPSBuilder.get()
+                        .date(date)
+                        .tps(ticksPerSecond)
+                        .playersOnline(playersOnline)
+                        .usedCPU(cpuUsage)
+                        .usedMemory(usedMemory)
+                        .entities(entityCount)
+                        .chunksLoaded(chunksLoaded)
+                        .freeDiskSpace(freeDiskSpace)
+                        .toTPS()
+        ));
+
+        if (history.size() >= STORE_BATCH_SIZE) {
+            dbSystem.getDatabase().executeTransaction(new TPSStoreTransaction(
+                    serverInfo.getServerUUID(),
+                    new ArrayList<>(history)
+            ));
+            history.clear();
+        }
+    }
+
+    private class SamplingTask extends AbsRunnable {
+        @Override
+        public void run() {
+            try {
+                sampleAndStore();
+            } catch (Exception | NoClassDefFoundError | NoSuchMethodError | NoSuchFieldError e) {
+                logger.error("TPS Sampling Task Disabled due to error, reload Plan to re-enable.");
+                errorHandler.log(L.ERROR, TPSCountTimer.this.getClass(), e);
+                cancel();
+            }
+        }
+    }
 }
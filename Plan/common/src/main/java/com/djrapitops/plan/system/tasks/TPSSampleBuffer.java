@@ -0,0 +1,128 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.system.tasks;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Preallocated ring buffer of tick samples, written by the thread that runs {@link TPSCountTimer}
+ * and read by the task that turns the samples into {@link com.djrapitops.plan.data.container.TPS} objects.
+ * <p>
+ * Only one thread may add samples and only one thread may drain them.
+ * Samples are published by advancing a sequence number after the values have been written, so no locks are needed.
+ * If the reading task falls behind so far that the buffer is full, new samples are dropped.
+ *
+ * @author Rsl1122
+ */
+public class TPSSampleBuffer {
+
+    private final int mask;
+
+    private final long[] dates;
+    private final double[] tps;
+    private final int[] playersOnline;
+    private final int[] entities;
+    private final int[] chunksLoaded;
+
+    private final AtomicLong written;
+    private final AtomicLong read;
+    private final AtomicLong dropped;
+
+    /**
+     * Create a new TPSSampleBuffer.
+     *
+     * @param capacity Maximum number of samples waiting to be drained, rounded up to a power of two.
+     */
+    public TPSSampleBuffer(int capacity) {
+        int size = Integer.highestOneBit(Math.max(capacity - 1, 1)) << 1;
+        mask = size - 1;
+
+        dates = new long[size];
+        tps = new double[size];
+        playersOnline = new int[size];
+        entities = new int[size];
+        chunksLoaded = new int[size];
+
+        written = new AtomicLong(0L);
+        read = new AtomicLong(0L);
+        dropped = new AtomicLong(0L);
+    }
+
+    /**
+     * Add a sample, only call from the writing thread.
+     *
+     * @param date           Epoch ms of the sample.
+     * @param ticksPerSecond TPS of the server, -1 if not available.
+     * @param players        Number of players online.
+     * @param entityCount    Number of entities, -1 if not available.
+     * @param chunks         Number of loaded chunks, -1 if not available.
+     * @return false if the buffer was full and the sample was dropped.
+     */
+    public boolean add(long date, double ticksPerSecond, int players, int entityCount, int chunks) {
+        long sequence = written.get();
+        if (sequence - read.get() > mask) {
+            dropped.incrementAndGet();
+            return false;
+        }
+        int index = (int) (sequence & mask);
+        dates[index] = date;
+        tps[index] = ticksPerSecond;
+        playersOnline[index] = players;
+        entities[index] = entityCount;
+        chunksLoaded[index] = chunks;
+        // Publishes the values written above to the reading thread.
+        written.lazySet(sequence + 1);
+        return true;
+    }
+
+    /**
+     * Give all published samples to the consumer, only call from the reading thread.
+     *
+     * @param consumer Consumer for the samples, oldest first.
+     * @return Number of drained samples.
+     */
+    public int drain(SampleConsumer consumer) {
+        long from = read.get();
+        long to = written.get();
+        for (long sequence = from; sequence < to; sequence++) {
+            int index = (int) (sequence & mask);
+            consumer.accept(dates[index], tps[index], playersOnline[index], entities[index], chunksLoaded[index]);
+        }
+        // Frees the slots for the writing thread.
+        read.lazySet(to);
+        return (int) (to - from);
+    }
+
+    public boolean isEmpty() {
+        return written.get() == read.get();
+    }
+
+    public int getCapacity() {
+        return mask + 1;
+    }
+
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    /**
+     * Functional interface for reading samples without boxing the values.
+     */
+    public interface SampleConsumer {
+        void accept(long date, double ticksPerSecond, int playersOnline, int entityCount, int chunksLoaded);
+    }
+}
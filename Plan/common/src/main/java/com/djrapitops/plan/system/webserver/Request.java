@@ -21,6 +21,9 @@ import com.djrapitops.plan.system.webserver.auth.Authentication;
 import com.sun.net.httpserver.HttpExchange;
 
 import java.io.InputStream;
+import java.io.UnsupportedEncodingException;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
 import java.util.Optional;
 
 /**
@@ -33,6 +36,7 @@ import java.util.Optional;
 public class Request {
     private final String requestMethod;
     private final String target;
+    private final String query;
     private final HttpExchange exchange;
     private final String remoteAddress;
     private final Locale locale;
@@ -41,6 +45,7 @@ public class Request {
     public Request(HttpExchange exchange, Locale locale) {
         this.requestMethod = exchange.getRequestMethod();
         this.target = exchange.getRequestURI().getPath();
+        this.query = exchange.getRequestURI().getRawQuery();
 
         remoteAddress = exchange.getRemoteAddress().getAddress().getHostAddress();
 
@@ -65,10 +70,46 @@ public class Request {
         return target;
     }
 
+    /**
+     * Get a parameter of the URL query, for example {@code ?start=10}.
+     *
+     * @param name Name of the parameter, brackets are matched as is (eg. {@code search[value]}).
+     * @return Decoded value of the first parameter with the name, empty if not present.
+     */
+    public Optional<String> getQueryParameter(String name) {
+        if (query == null || query.isEmpty()) {
+            return Optional.empty();
+        }
+        for (String parameter : query.split("&")) {
+            int separator = parameter.indexOf('=');
+            String key = decode(separator != -1 ? parameter.substring(0, separator) : parameter);
+            if (name.equals(key)) {
+                return Optional.of(separator != -1 ? decode(parameter.substring(separator + 1)) : "");
+            }
+        }
+        return Optional.empty();
+    }
+
+    private String decode(String encoded) {
+        try {
+            return URLDecoder.decode(encoded, StandardCharsets.UTF_8.name());
+        } catch (UnsupportedEncodingException | IllegalArgumentException e) {
+            return encoded;
+        }
+    }
+
     public InputStream getRequestBody() {
         return exchange.getRequestBody();
     }
 
+    public Optional<String> getHeader(String name) {
+        return Optional.ofNullable(exchange.getRequestHeaders().getFirst(name));
+    }
+
+    public void setResponseHeader(String name, String value) {
+        exchange.getResponseHeaders().set(name, value);
+    }
+
     @Override
     public String toString() {
         return "Request:" + requestMethod + " " + target;
@@ -39,6 +39,9 @@ import com.sun.net.httpserver.HttpHandler;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
@@ -64,6 +67,8 @@ public class RequestHandler implements HttpHandler {
             .expireAfterWrite(90, TimeUnit.SECONDS)
             .build();
 
+    private volatile WebServerExecutors executors;
+
     @Inject
     RequestHandler(
             Locale locale,
@@ -85,8 +90,52 @@ public class RequestHandler implements HttpHandler {
         this.errorHandler = errorHandler;
     }
 
+    void setExecutors(WebServerExecutors executors) {
+        this.executors = executors;
+    }
+
     @Override
     public void handle(HttpExchange exchange) {
+        long dispatchTime = System.nanoTime();
+        WebServerExecutors usedExecutors = executors;
+        if (usedExecutors == null) {
+            handleRequest(exchange);
+            return;
+        }
+
+        WebServerMetrics metrics = usedExecutors.getMetrics();
+        if (ResponseHandler.isCachedResource(exchange.getRequestURI().getPath())) {
+            handleRequest(exchange);
+            metrics.recordFastRequest(System.nanoTime() - dispatchTime);
+            return;
+        }
+
+        boolean accepted = usedExecutors.submitPageRequest(() -> {
+            long startTime = System.nanoTime();
+            handleRequest(exchange);
+            metrics.recordPageRequest(startTime - dispatchTime, System.nanoTime() - startTime);
+        });
+        if (!accepted) {
+            metrics.recordRejectedRequest();
+            sendServiceUnavailable(exchange);
+        }
+    }
+
+    private void sendServiceUnavailable(HttpExchange exchange) {
+        byte[] message = "503 Service Unavailable: Plan WebServer is busy, try again in a few seconds.".getBytes(StandardCharsets.UTF_8);
+        try (OutputStream out = exchange.getResponseBody()) {
+            exchange.getResponseHeaders().set("Content-Type", "text/plain; charset=utf-8");
+            exchange.getResponseHeaders().set("Retry-After", "5");
+            exchange.sendResponseHeaders(503, message.length);
+            out.write(message);
+        } catch (IOException ignored) {
+            // Client disconnected, nothing to do.
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void handleRequest(HttpExchange exchange) {
         Headers requestHeaders = exchange.getRequestHeaders();
         Headers responseHeaders = exchange.getResponseHeaders();
         Request request = new Request(exchange, locale);
@@ -126,6 +126,16 @@ public class ResponseHandler extends TreePageHandler {
         }
     }
 
+    /**
+     * Check if the target is a resource that is served from {@link ResponseCache} without authentication.
+     *
+     * @param targetString Path of the request.
+     * @return true for css, js and favicon.
+     */
+    public static boolean isCachedResource(String targetString) {
+        return targetString.endsWith(".css") || targetString.endsWith(".js") || targetString.endsWith("favicon.ico");
+    }
+
     private Response getResponse(Request request, String targetString, List<String> target) throws WebException {
         Optional<Authentication> authentication = Optional.empty();
 
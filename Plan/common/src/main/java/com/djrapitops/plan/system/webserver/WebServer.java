@@ -28,7 +28,6 @@ import com.djrapitops.plugin.api.Check;
 import com.djrapitops.plugin.logging.L;
 import com.djrapitops.plugin.logging.console.PluginLogger;
 import com.djrapitops.plugin.logging.error.ErrorHandler;
-import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.sun.net.httpserver.HttpServer;
 import com.sun.net.httpserver.HttpsConfigurator;
 import com.sun.net.httpserver.HttpsParameters;
@@ -47,7 +46,7 @@ import java.nio.file.Paths;
 import java.security.*;
 import java.security.cert.Certificate;
 import java.security.cert.CertificateException;
-import java.util.concurrent.*;
+import java.util.Optional;
 
 /**
  * @author Rsl1122
@@ -68,6 +67,7 @@ public class WebServer implements SubSystem {
     private int port;
     private boolean enabled = false;
     private HttpServer server;
+    private WebServerExecutors executors;
 
     private boolean usingHttps = false;
 
@@ -133,18 +133,16 @@ public class WebServer implements SubSystem {
 
             if (!usingHttps) {
                 logger.log(L.INFO_COLOR, "§e" + locale.getString(PluginLang.WEB_SERVER_NOTIFY_HTTP_USER_AUTH));
-                server = HttpServer.create(new InetSocketAddress(config.get(WebserverSettings.INTERNAL_IP), port), 10);
+                server = HttpServer.create(new InetSocketAddress(config.get(WebserverSettings.INTERNAL_IP), port), getBacklog());
             } else if (server == null) {
                 logger.log(L.INFO_COLOR, "§eWebServer: Proxy HTTPS Override enabled. HTTP Server in use, make sure that your Proxy webserver is routing with HTTPS and AlternativeIP.Link points to the Proxy");
-                server = HttpServer.create(new InetSocketAddress(config.get(WebserverSettings.INTERNAL_IP), port), 10);
+                server = HttpServer.create(new InetSocketAddress(config.get(WebserverSettings.INTERNAL_IP), port), getBacklog());
             }
             server.createContext("/", requestHandler);
 
-            ExecutorService executor = new ThreadPoolExecutor(
-                    4, 8, 30, TimeUnit.SECONDS, new ArrayBlockingQueue<>(100),
-                    new ThreadFactoryBuilder().setNameFormat("Plan WebServer Thread-%d").build()
-            );
-            server.setExecutor(executor);
+            executors = createExecutors();
+            requestHandler.setExecutors(executors);
+            server.setExecutor(executors.getDispatchExecutor());
             server.start();
 
             enabled = true;
@@ -156,6 +154,24 @@ public class WebServer implements SubSystem {
         }
     }
 
+    private int getBacklog() {
+        // Connections waiting to be accepted, page requests are limited by the page queue instead.
+        return Math.max(50, config.get(WebserverSettings.MAX_QUEUED_REQUESTS));
+    }
+
+    private WebServerExecutors createExecutors() {
+        String mode = config.get(WebserverSettings.THREAD_MODE);
+        WebServerExecutors created = WebServerExecutors.forMode(
+                mode,
+                config.get(WebserverSettings.MAX_THREADS),
+                config.get(WebserverSettings.MAX_QUEUED_REQUESTS)
+        );
+        if (WebServerExecutors.MODE_VIRTUAL.equalsIgnoreCase(mode) && !created.isHandlingPagesOnDispatchThread()) {
+            logger.warn("WebServer: Virtual threads require Java 21 or newer, using thread pool instead.");
+        }
+        return created;
+    }
+
     private boolean startHttpsServer() {
         String keyStorePath = config.get(WebserverSettings.CERTIFICATE_PATH);
 
@@ -195,7 +211,7 @@ public class WebServer implements SubSystem {
             TrustManagerFactory trustManagerFactory = TrustManagerFactory.getInstance("SunX509");
             trustManagerFactory.init(keystore);
 
-            server = HttpsServer.create(new InetSocketAddress(config.get(WebserverSettings.INTERNAL_IP), port), 10);
+            server = HttpsServer.create(new InetSocketAddress(config.get(WebserverSettings.INTERNAL_IP), port), getBacklog());
             SSLContext sslContext = SSLContext.getInstance("TLSv1.2");
             sslContext.init(keyManagerFactory.getKeyManagers(), null/*trustManagerFactory.getTrustManagers()*/, null);
 
@@ -253,14 +269,10 @@ public class WebServer implements SubSystem {
 
     private void shutdown() {
         server.stop(0);
-        Executor executor = server.getExecutor();
-        if (executor instanceof ExecutorService) {
-            ExecutorService service = (ExecutorService) executor;
-            service.shutdown();
+        requestHandler.setExecutors(null);
+        if (executors != null) {
             try {
-                if (!service.awaitTermination(5, TimeUnit.SECONDS)) {
-                    service.shutdownNow();
-                }
+                executors.shutdown(5000L);
             } catch (InterruptedException e) {
                 logger.error("WebServer ExecutorService shutdown thread interrupted on disable: " + e.getMessage());
                 Thread.currentThread().interrupt();
@@ -268,6 +280,15 @@ public class WebServer implements SubSystem {
         }
     }
 
+    /**
+     * Get request metrics of the WebServer.
+     *
+     * @return Metrics, or empty if the WebServer is not enabled.
+     */
+    public Optional<WebServerMetrics> getMetrics() {
+        return enabled && executors != null ? Optional.of(executors.getMetrics()) : Optional.empty();
+    }
+
     public String getProtocol() {
         return usingHttps ? "https" : "http";
     }
@@ -0,0 +1,170 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.system.webserver;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import java.lang.reflect.Method;
+import java.util.Optional;
+import java.util.concurrent.*;
+
+/**
+ * Threads used by the {@link WebServer}.
+ * <p>
+ * In POOL mode a few dispatch threads read the requests and serve fast requests directly.
+ * Requests that might need to generate a page are passed to a bounded page pool,
+ * so that slow pages do not block css and js files of pages that are already open.
+ * In VIRTUAL mode every request is handled on its own virtual thread, which requires Java 21 or newer.
+ *
+ * @author Rsl1122
+ */
+public class WebServerExecutors {
+
+    public static final String MODE_POOL = "POOL";
+    public static final String MODE_VIRTUAL = "VIRTUAL";
+
+    private static final int DISPATCH_THREADS = 2;
+
+    private final ExecutorService dispatchExecutor;
+    private final ThreadPoolExecutor pageExecutor;
+    private final WebServerMetrics metrics;
+
+    private WebServerExecutors(ExecutorService dispatchExecutor, ThreadPoolExecutor pageExecutor) {
+        this.dispatchExecutor = dispatchExecutor;
+        this.pageExecutor = pageExecutor;
+        metrics = new WebServerMetrics(() -> pageExecutor != null ? pageExecutor.getQueue().size() : 0);
+    }
+
+    public static boolean isValidMode(String mode) {
+        return MODE_POOL.equalsIgnoreCase(mode) || MODE_VIRTUAL.equalsIgnoreCase(mode);
+    }
+
+    /**
+     * Create thread pools with a bounded queue for pages.
+     *
+     * @param maxThreads Maximum amount of threads generating pages at once.
+     * @param maxQueued  Maximum amount of page requests waiting for a thread, more are answered with 503.
+     * @return new WebServerExecutors.
+     */
+    public static WebServerExecutors pooled(int maxThreads, int maxQueued) {
+        ExecutorService dispatchExecutor = Executors.newFixedThreadPool(DISPATCH_THREADS,
+                new ThreadFactoryBuilder().setNameFormat("Plan WebServer Dispatch Thread-%d").build()
+        );
+        ThreadPoolExecutor pageExecutor = new ThreadPoolExecutor(
+                maxThreads, maxThreads, 30, TimeUnit.SECONDS, new ArrayBlockingQueue<>(maxQueued),
+                new ThreadFactoryBuilder().setNameFormat("Plan WebServer Thread-%d").build(),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        pageExecutor.allowCoreThreadTimeOut(true);
+        return new WebServerExecutors(dispatchExecutor, pageExecutor);
+    }
+
+    /**
+     * Create the threads for a thread mode.
+     *
+     * @param mode       {@link #MODE_POOL} or {@link #MODE_VIRTUAL}, VIRTUAL uses POOL if the JVM does not support virtual threads.
+     * @param maxThreads Maximum amount of threads generating pages at once in POOL mode.
+     * @param maxQueued  Maximum amount of page requests waiting for a thread in POOL mode.
+     * @return new WebServerExecutors.
+     */
+    public static WebServerExecutors forMode(String mode, int maxThreads, int maxQueued) {
+        return forMode(mode, maxThreads, maxQueued, Executors.class);
+    }
+
+    static WebServerExecutors forMode(String mode, int maxThreads, int maxQueued, Class<?> virtualExecutorFactory) {
+        if (MODE_VIRTUAL.equalsIgnoreCase(mode)) {
+            Optional<WebServerExecutors> virtual = virtual(virtualExecutorFactory);
+            if (virtual.isPresent()) {
+                return virtual.get();
+            }
+        }
+        return pooled(maxThreads, maxQueued);
+    }
+
+    /**
+     * Create an executor that starts a virtual thread for each request.
+     *
+     * @param virtualExecutorFactory Class that should have static newVirtualThreadPerTaskExecutor method.
+     * @return WebServerExecutors, or empty if the JVM does not support virtual threads.
+     */
+    static Optional<WebServerExecutors> virtual(Class<?> virtualExecutorFactory) {
+        try {
+            // Looked up reflectively since Plan is compiled for Java 8.
+            Method method = virtualExecutorFactory.getMethod("newVirtualThreadPerTaskExecutor");
+            ExecutorService executor = (ExecutorService) method.invoke(null);
+            return Optional.of(new WebServerExecutors(executor, null));
+        } catch (ReflectiveOperationException | ClassCastException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Get the executor the HttpServer uses to dispatch requests.
+     *
+     * @return Executor.
+     */
+    public Executor getDispatchExecutor() {
+        return dispatchExecutor;
+    }
+
+    /**
+     * Run a page request outside the dispatch thread.
+     *
+     * @param request Handling of the request.
+     * @return false if the queue was full and the request was not accepted.
+     */
+    public boolean submitPageRequest(Runnable request) {
+        if (pageExecutor == null) {
+            request.run();
+            return true;
+        }
+        try {
+            pageExecutor.execute(request);
+            return true;
+        } catch (RejectedExecutionException e) {
+            return false;
+        }
+    }
+
+    public boolean isHandlingPagesOnDispatchThread() {
+        return pageExecutor == null;
+    }
+
+    public WebServerMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Shut down the threads.
+     *
+     * @param timeoutMs How long to wait for the requests to finish, in ms.
+     * @throws InterruptedException If interrupted while waiting.
+     */
+    public void shutdown(long timeoutMs) throws InterruptedException {
+        dispatchExecutor.shutdown();
+        if (pageExecutor != null) {
+            pageExecutor.shutdown();
+        }
+        long waitUntil = System.currentTimeMillis() + timeoutMs;
+        if (!dispatchExecutor.awaitTermination(timeoutMs, TimeUnit.MILLISECONDS)) {
+            dispatchExecutor.shutdownNow();
+        }
+        if (pageExecutor != null && !pageExecutor.awaitTermination(Math.max(0L, waitUntil - System.currentTimeMillis()), TimeUnit.MILLISECONDS)) {
+            pageExecutor.shutdownNow();
+        }
+    }
+}
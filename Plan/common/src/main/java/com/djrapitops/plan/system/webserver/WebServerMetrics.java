@@ -0,0 +1,131 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.system.webserver;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntSupplier;
+
+/**
+ * Request counts and latencies of the {@link WebServer}.
+ * <p>
+ * Fast requests (cached resources) and page requests are measured separately,
+ * latency is measured from the moment the request is dispatched until the response is sent.
+ *
+ * @author Rsl1122
+ */
+public class WebServerMetrics {
+
+    private final IntSupplier queueSize;
+
+    private final AtomicLong fastRequests;
+    private final AtomicLong fastTimeTotalNs;
+    private final AtomicLong fastTimeMaxNs;
+    private final AtomicLong pageRequests;
+    private final AtomicLong pageTimeTotalNs;
+    private final AtomicLong pageTimeMaxNs;
+    private final AtomicLong queueTimeTotalNs;
+    private final AtomicLong rejectedRequests;
+
+    WebServerMetrics(IntSupplier queueSize) {
+        this.queueSize = queueSize;
+
+        fastRequests = new AtomicLong(0L);
+        fastTimeTotalNs = new AtomicLong(0L);
+        fastTimeMaxNs = new AtomicLong(0L);
+        pageRequests = new AtomicLong(0L);
+        pageTimeTotalNs = new AtomicLong(0L);
+        pageTimeMaxNs = new AtomicLong(0L);
+        queueTimeTotalNs = new AtomicLong(0L);
+        rejectedRequests = new AtomicLong(0L);
+    }
+
+    void recordFastRequest(long timeNs) {
+        fastRequests.incrementAndGet();
+        fastTimeTotalNs.addAndGet(timeNs);
+        fastTimeMaxNs.accumulateAndGet(timeNs, Math::max);
+    }
+
+    void recordPageRequest(long queueTimeNs, long timeNs) {
+        pageRequests.incrementAndGet();
+        queueTimeTotalNs.addAndGet(queueTimeNs);
+        pageTimeTotalNs.addAndGet(timeNs);
+        pageTimeMaxNs.accumulateAndGet(timeNs, Math::max);
+    }
+
+    void recordRejectedRequest() {
+        rejectedRequests.incrementAndGet();
+    }
+
+    public int getQueueSize() {
+        return queueSize.getAsInt();
+    }
+
+    public long getFastRequestCount() {
+        return fastRequests.get();
+    }
+
+    public long getPageRequestCount() {
+        return pageRequests.get();
+    }
+
+    public long getRejectedRequestCount() {
+        return rejectedRequests.get();
+    }
+
+    public double getAverageFastRequestTimeMs() {
+        return average(fastTimeTotalNs, fastRequests);
+    }
+
+    public double getMaxFastRequestTimeMs() {
+        return toMs(fastTimeMaxNs.get());
+    }
+
+    public double getAveragePageRequestTimeMs() {
+        return average(pageTimeTotalNs, pageRequests);
+    }
+
+    public double getMaxPageRequestTimeMs() {
+        return toMs(pageTimeMaxNs.get());
+    }
+
+    public double getAverageQueueTimeMs() {
+        return average(queueTimeTotalNs, pageRequests);
+    }
+
+    private static double average(AtomicLong totalNs, AtomicLong count) {
+        long requests = count.get();
+        return requests != 0 ? toMs(totalNs.get()) / requests : 0.0;
+    }
+
+    private static double toMs(long ns) {
+        return (double) ns / TimeUnit.MILLISECONDS.toNanos(1L);
+    }
+
+    @Override
+    public String toString() {
+        return "WebServer: " + getPageRequestCount() + " page requests" +
+                " (average " + String.format("%.2f", getAveragePageRequestTimeMs()) + "ms" +
+                ", longest " + String.format("%.2f", getMaxPageRequestTimeMs()) + "ms" +
+                ", average wait in queue " + String.format("%.2f", getAverageQueueTimeMs()) + "ms" +
+                ", queued " + getQueueSize() +
+                ", rejected " + getRejectedRequestCount() + "), " +
+                getFastRequestCount() + " fast requests" +
+                " (average " + String.format("%.2f", getAverageFastRequestTimeMs()) + "ms" +
+                ", longest " + String.format("%.2f", getMaxFastRequestTimeMs()) + "ms)";
+    }
+}
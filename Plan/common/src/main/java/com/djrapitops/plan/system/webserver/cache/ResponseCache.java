@@ -30,6 +30,9 @@ import java.util.function.Supplier;
  * It caches all Responses with their matching identifiers.
  * This reduces CPU cycles and the time to wait for loading the pages.
  * This is especially useful in situations where multiple clients are accessing the server.
+ * <p>
+ * Cached Responses keep their localized, themed and compressed bytes after the first request,
+ * so later requests only write the bytes or answer 304 Not Modified.
  *
  * @author Fuzzlemann
  */
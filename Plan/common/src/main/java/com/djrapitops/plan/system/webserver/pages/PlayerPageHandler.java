@@ -22,7 +22,7 @@ import com.djrapitops.plan.api.exceptions.connection.NoServersException;
 import com.djrapitops.plan.api.exceptions.connection.WebException;
 import com.djrapitops.plan.data.WebUser;
 import com.djrapitops.plan.db.Database;
-import com.djrapitops.plan.db.access.queries.PlayerFetchQueries;
+import com.djrapitops.plan.db.access.queries.objects.PlayerIdentityQueries;
 import com.djrapitops.plan.system.database.DBSystem;
 import com.djrapitops.plan.system.info.InfoSystem;
 import com.djrapitops.plan.system.webserver.Request;
@@ -85,9 +85,10 @@ public class PlayerPageHandler implements PageHandler {
                 throw new ForbiddenException("Database is " + dbState.name() + " - Please try again later. You can check database status with /plan info");
             }
             // TODO Move this Database dependency to PlayerPage generation in PageFactory instead.
-            if (dbSystem.getDatabase().query(PlayerFetchQueries.isPlayerRegistered(uuid))) {
+            if (dbSystem.getDatabase().query(PlayerIdentityQueries.isPlayerRegistered(uuid))) {
                 if (raw) {
-                    return ResponseCache.loadResponse(PageId.RAW_PLAYER.of(uuid), () -> responseFactory.rawPlayerPageResponse(uuid));
+                    // Not cached, the response holds the DataContainer until the JSON has been written.
+                    return responseFactory.rawPlayerPageResponse(uuid);
                 }
                 return playerResponseOrNotFound(uuid);
             } else {
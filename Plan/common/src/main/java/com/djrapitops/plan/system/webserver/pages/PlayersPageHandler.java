@@ -34,6 +34,8 @@ import java.util.List;
 
 /**
  * PageHandler for /players page.
+ * <p>
+ * /players/table serves pages of the players table as JSON.
  *
  * @author Rsl1122
  */
@@ -58,6 +60,10 @@ public class PlayersPageHandler implements PageHandler {
         if (dbState != Database.State.OPEN) {
             throw new ForbiddenException("Database is " + dbState.name() + " - Please try again later. You can check database status with /plan info");
         }
+        if (!target.isEmpty() && "table".equals(target.get(0))) {
+            // Every page of the table is different, rows are cached instead of the responses.
+            return responseFactory.playersTableJSONResponse(request);
+        }
         return ResponseCache.loadResponse(PageId.PLAYERS.id(), responseFactory::playersPageResponse);
     }
 
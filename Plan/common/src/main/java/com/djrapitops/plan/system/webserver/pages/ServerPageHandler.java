@@ -78,7 +78,8 @@ public class ServerPageHandler implements PageHandler {
         boolean raw = target.size() >= 2 && target.get(1).equalsIgnoreCase("raw");
         if (raw) {
             checkDBState();
-            return ResponseCache.loadResponse(PageId.RAW_SERVER.of(serverUUID), () -> responseFactory.rawServerPageResponse(serverUUID));
+            // Not cached, the response holds the DataContainer until the JSON has been written.
+            return responseFactory.rawServerPageResponse(serverUUID);
         }
 
         Response response = ResponseCache.loadResponse(PageId.SERVER.of(serverUUID));
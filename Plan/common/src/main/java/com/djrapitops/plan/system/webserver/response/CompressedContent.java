@@ -0,0 +1,120 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.system.webserver.response;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Final gzip compressed bytes of a {@link Response} with the validators used for conditional requests.
+ *
+ * @author Rsl1122
+ */
+public class CompressedContent {
+
+    private final byte[] gzipped;
+    private final String eTag;
+    private final long lastModified;
+
+    private CompressedContent(byte[] gzipped, String eTag, long lastModified) {
+        this.gzipped = gzipped;
+        this.eTag = eTag;
+        this.lastModified = lastModified;
+    }
+
+    /**
+     * Compress the content that is sent to the browser.
+     *
+     * @param content Content with locale and theme already applied.
+     * @return CompressedContent with an ETag calculated from the content.
+     */
+    public static CompressedContent compress(String content) {
+        byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(Math.max(bytes.length / 4, 64));
+        try (GZIPOutputStream out = new GZIPOutputStream(compressed)) {
+            out.write(bytes);
+        } catch (IOException e) {
+            // ByteArrayOutputStream does not throw IOExceptions.
+            throw new UncheckedIOException(e);
+        }
+        // Last-Modified has second precision, so the milliseconds are dropped.
+        long lastModified = System.currentTimeMillis() / 1000L * 1000L;
+        return new CompressedContent(compressed.toByteArray(), createETag(bytes), lastModified);
+    }
+
+    private static String createETag(byte[] bytes) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest(bytes);
+            return '"' + Base64.getUrlEncoder().withoutPadding().encodeToString(hash).substring(0, 22) + '"';
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported by the JVM", e);
+        }
+    }
+
+    public byte[] getBytes() {
+        return gzipped;
+    }
+
+    public String getETag() {
+        return eTag;
+    }
+
+    public String getLastModified() {
+        return DateTimeFormatter.RFC_1123_DATE_TIME.format(ZonedDateTime.ofInstant(Instant.ofEpochMilli(lastModified), ZoneOffset.UTC));
+    }
+
+    /**
+     * Check if the browser already has this content, as in RFC 7232.
+     *
+     * @param ifNoneMatch     Value of If-None-Match request header, or null.
+     * @param ifModifiedSince Value of If-Modified-Since request header, or null.
+     * @return true if 304 Not Modified can be sent instead of the content.
+     */
+    public boolean isNotModified(String ifNoneMatch, String ifModifiedSince) {
+        if (ifNoneMatch != null) {
+            for (String tag : ifNoneMatch.split(",")) {
+                String trimmed = tag.trim();
+                if ("*".equals(trimmed) || eTag.equals(trimmed) || ("W/" + eTag).equals(trimmed)) {
+                    return true;
+                }
+            }
+            // If-Modified-Since is ignored when If-None-Match is present.
+            return false;
+        }
+        if (ifModifiedSince != null) {
+            try {
+                long since = ZonedDateTime.parse(ifModifiedSince, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant().toEpochMilli();
+                return lastModified <= since;
+            } catch (DateTimeParseException ignored) {
+                return false;
+            }
+        }
+        return false;
+    }
+}
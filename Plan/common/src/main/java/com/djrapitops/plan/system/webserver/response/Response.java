@@ -21,12 +21,10 @@ import com.djrapitops.plan.system.settings.theme.Theme;
 import com.sun.net.httpserver.Headers;
 import com.sun.net.httpserver.HttpExchange;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
+import java.io.OutputStream;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.zip.GZIPOutputStream;
 
 /**
  * @author Rsl1122
@@ -39,6 +37,11 @@ public abstract class Response {
 
     protected Headers responseHeaders;
 
+    // Responses are kept in ResponseCache, so the sent bytes are compressed once and reused on later requests.
+    private volatile CompressedContent compressed;
+    private volatile Locale compressedWithLocale;
+    private volatile Theme compressedWithTheme;
+
     public Response(ResponseType type) {
         this.type = type.get();
     }
@@ -81,6 +84,7 @@ public abstract class Response {
 
     public void setContent(String content) {
         this.content = content;
+        compressed = null;
     }
 
     public int getCode() {
@@ -110,9 +114,44 @@ public abstract class Response {
     }
 
     public void send(HttpExchange exchange, Locale locale, Theme theme) throws IOException {
+        CompressedContent sent = getCompressedContent(locale, theme);
+        int code = getCode();
+
         responseHeaders.set("Content-Type", type);
+        if (code == 200) {
+            responseHeaders.set("ETag", sent.getETag());
+            responseHeaders.set("Last-Modified", sent.getLastModified());
+            responseHeaders.set("Cache-Control", "no-cache");
+
+            Headers requestHeaders = exchange.getRequestHeaders();
+            if (sent.isNotModified(requestHeaders.getFirst("If-None-Match"), requestHeaders.getFirst("If-Modified-Since"))) {
+                exchange.sendResponseHeaders(304, -1);
+                return;
+            }
+        }
+
+        byte[] bytes = sent.getBytes();
         responseHeaders.set("Content-Encoding", "gzip");
-        exchange.sendResponseHeaders(getCode(), 0);
+        exchange.sendResponseHeaders(code, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    /**
+     * Used to tell if the content returned by {@link #getContent()} can change without {@link #setContent(String)}.
+     *
+     * @return false if the compressed bytes should not be reused between requests.
+     */
+    protected boolean isContentStatic() {
+        return true;
+    }
+
+    private CompressedContent getCompressedContent(Locale locale, Theme theme) {
+        CompressedContent cached = compressed;
+        if (cached != null && compressedWithLocale == locale && compressedWithTheme == theme) {
+            return cached;
+        }
 
         String sentContent = getContent();
         // TODO Smell
@@ -121,16 +160,13 @@ public abstract class Response {
         }
         sentContent = theme.replaceThemeColors(sentContent);
 
-        try (
-                GZIPOutputStream out = new GZIPOutputStream(exchange.getResponseBody());
-                ByteArrayInputStream bis = new ByteArrayInputStream(sentContent.getBytes(StandardCharsets.UTF_8))
-        ) {
-            byte[] buffer = new byte[2048];
-            int count;
-            while ((count = bis.read(buffer)) != -1) {
-                out.write(buffer, 0, count);
-            }
+        CompressedContent created = CompressedContent.compress(sentContent);
+        if (isContentStatic()) {
+            compressedWithLocale = locale;
+            compressedWithTheme = theme;
+            compressed = created;
         }
+        return created;
     }
 
     @Override
@@ -19,13 +19,18 @@ package com.djrapitops.plan.system.webserver.response;
 import com.djrapitops.plan.api.exceptions.ParseException;
 import com.djrapitops.plan.api.exceptions.WebUserAuthException;
 import com.djrapitops.plan.db.access.queries.containers.ContainerFetchQueries;
+import com.djrapitops.plan.system.cache.PlayersTableCache;
 import com.djrapitops.plan.system.database.DBSystem;
 import com.djrapitops.plan.system.file.PlanFiles;
 import com.djrapitops.plan.system.locale.Locale;
 import com.djrapitops.plan.system.locale.lang.ErrorPageLang;
+import com.djrapitops.plan.system.settings.config.PlanConfig;
+import com.djrapitops.plan.system.settings.paths.DisplaySettings;
 import com.djrapitops.plan.system.update.VersionCheckSystem;
+import com.djrapitops.plan.system.webserver.Request;
 import com.djrapitops.plan.system.webserver.response.errors.*;
 import com.djrapitops.plan.system.webserver.response.pages.*;
+import com.djrapitops.plan.utilities.formatting.Formatters;
 import com.djrapitops.plan.utilities.html.pages.PageFactory;
 import com.djrapitops.plugin.logging.L;
 import com.djrapitops.plugin.logging.error.ErrorHandler;
@@ -48,6 +53,9 @@ public class ResponseFactory {
     private final PageFactory pageFactory;
     private final Locale locale;
     private final DBSystem dbSystem;
+    private final PlanConfig config;
+    private final Formatters formatters;
+    private final PlayersTableCache playersTableCache;
     private final ErrorHandler errorHandler;
 
     @Inject
@@ -57,6 +65,9 @@ public class ResponseFactory {
             PageFactory pageFactory,
             Locale locale,
             DBSystem dbSystem,
+            PlanConfig config,
+            Formatters formatters,
+            PlayersTableCache playersTableCache,
             ErrorHandler errorHandler
     ) {
         this.versionCheckSystem = versionCheckSystem;
@@ -64,6 +75,9 @@ public class ResponseFactory {
         this.pageFactory = pageFactory;
         this.locale = locale;
         this.dbSystem = dbSystem;
+        this.config = config;
+        this.formatters = formatters;
+        this.playersTableCache = playersTableCache;
         this.errorHandler = errorHandler;
     }
 
@@ -83,6 +97,14 @@ public class ResponseFactory {
         }
     }
 
+    public Response playersTableJSONResponse(Request request) {
+        return new PlayersTableJSONResponse(
+                request, playersTableCache,
+                config.get(DisplaySettings.OPEN_PLAYER_LINKS_IN_NEW_TAB),
+                formatters.timeAmount(), formatters.yearLong(), formatters.decimals()
+        );
+    }
+
     public ErrorResponse internalErrorResponse(Throwable e, String s) {
         try {
             errorHandler.log(L.WARN, this.getClass(), e);
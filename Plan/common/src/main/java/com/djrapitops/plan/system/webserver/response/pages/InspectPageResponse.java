@@ -51,6 +51,12 @@ public class InspectPageResponse extends PageResponse {
         return StringSubstitutor.replace(super.getContent(), replaceMap);
     }
 
+    @Override
+    protected boolean isContentStatic() {
+        // Plugins tab is replaced on every request, since it is cached separately.
+        return false;
+    }
+
     private String[] getCalculating() {
         return new String[]{"<li><i class=\"fa fa-spin fa-refresh\"></i><a> Calculating...</a></li>", ""};
     }
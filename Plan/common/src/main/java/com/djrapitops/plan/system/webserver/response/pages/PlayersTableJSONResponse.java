@@ -0,0 +1,171 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.system.webserver.response.pages;
+
+import com.djrapitops.plan.api.PlanAPI;
+import com.djrapitops.plan.data.store.mutators.ActivityIndex;
+import com.djrapitops.plan.data.store.objects.PlayerTableRow;
+import com.djrapitops.plan.system.cache.PlayersTableCache;
+import com.djrapitops.plan.system.webserver.Request;
+import com.djrapitops.plan.system.webserver.response.Response;
+import com.djrapitops.plan.system.webserver.response.ResponseType;
+import com.djrapitops.plan.utilities.formatting.Formatter;
+import com.djrapitops.plan.utilities.html.Html;
+
+import java.util.List;
+
+/**
+ * Response for a page of the players table in the format of jQuery DataTables server-side processing.
+ * <p>
+ * Expects the DataTables request parameters: draw, start, length, search[value], order[0][column] and order[0][dir].
+ *
+ * @author Rsl1122
+ */
+public class PlayersTableJSONResponse extends Response {
+
+    private static final int MAX_PAGE_LENGTH = 1000;
+
+    private final boolean openPlayerPageInNewTab;
+    private final Formatter<Long> timeAmountFormatter;
+    private final Formatter<Long> yearLongFormatter;
+    private final Formatter<Double> decimalFormatter;
+
+    /**
+     * Create a new PlayersTableJSONResponse.
+     *
+     * @param request      Request with the DataTables parameters.
+     * @param cache        Cache for the rows of the table.
+     * @param openInNewTab Should player links open in a new tab.
+     */
+    public PlayersTableJSONResponse(
+            Request request,
+            PlayersTableCache cache,
+            boolean openInNewTab,
+            Formatter<Long> timeAmountFormatter,
+            Formatter<Long> yearLongFormatter,
+            Formatter<Double> decimalFormatter
+    ) {
+        super(ResponseType.JSON);
+        this.openPlayerPageInNewTab = openInNewTab;
+        this.timeAmountFormatter = timeAmountFormatter;
+        this.yearLongFormatter = yearLongFormatter;
+        this.decimalFormatter = decimalFormatter;
+
+        int draw = getInt(request, "draw", 0);
+        int start = Math.max(0, getInt(request, "start", 0));
+        int length = getInt(request, "length", 10);
+        if (length < 0 || length > MAX_PAGE_LENGTH) {
+            length = MAX_PAGE_LENGTH;
+        }
+        int column = getInt(request, "order[0][column]", 5);
+        if (column < 0 || column >= PlayerTableRow.COLUMN_COUNT) {
+            column = 5;
+        }
+        boolean descending = !"asc".equals(request.getQueryParameter("order[0][dir]").orElse("desc"));
+        String search = request.getQueryParameter("search[value]").orElse("").trim().toLowerCase();
+
+        List<PlayerTableRow> rows = cache.getRowsSortedBy(column);
+
+        setHeader("HTTP/1.1 200 OK");
+        setContent(toJson(draw, rows, start, length, descending, search));
+    }
+
+    private static int getInt(Request request, String parameter, int defaultValue) {
+        try {
+            return request.getQueryParameter(parameter).map(Integer::parseInt).orElse(defaultValue);
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+
+    private String toJson(int draw, List<PlayerTableRow> rows, int start, int length, boolean descending, String search) {
+        StringBuilder data = new StringBuilder("[");
+        int size = rows.size();
+        int matching = 0;
+        int added = 0;
+        for (int i = 0; i < size; i++) {
+            PlayerTableRow row = rows.get(descending ? size - 1 - i : i);
+            if (!search.isEmpty() && !row.matches(search)) {
+                continue;
+            }
+            if (matching >= start && added < length) {
+                if (added > 0) {
+                    data.append(',');
+                }
+                appendRow(data, row);
+                added++;
+            }
+            matching++;
+        }
+        data.append(']');
+
+        return "{\"draw\":" + draw +
+                ",\"recordsTotal\":" + size +
+                ",\"recordsFiltered\":" + matching +
+                ",\"data\":" + data + "}";
+    }
+
+    private void appendRow(StringBuilder data, PlayerTableRow row) {
+        String name = row.getName();
+        String url = PlanAPI.getInstance().getPlayerInspectPageLink(name);
+        Html link = openPlayerPageInNewTab ? Html.LINK_EXTERNAL : Html.LINK;
+        ActivityIndex activityIndex = row.getActivityIndex();
+        String activityString = activityIndex.getFormattedValue(decimalFormatter)
+                + (row.isBanned() ? " (<b>Banned</b>)" : " (" + activityIndex.getGroup() + ")");
+
+        data.append('[');
+        appendString(data, link.parse(url, name)).append(',');
+        appendString(data, activityString).append(',');
+        appendString(data, timeAmountFormatter.apply(row.getPlaytime())).append(',');
+        appendString(data, Integer.toString(row.getSessionCount())).append(',');
+        appendString(data, yearLongFormatter.apply(row.getRegistered())).append(',');
+        appendString(data, yearLongFormatter.apply(row.getLastSeen())).append(',');
+        appendString(data, row.getGeolocation());
+        data.append(']');
+    }
+
+    private static StringBuilder appendString(StringBuilder data, String value) {
+        data.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    data.append("\\\"");
+                    break;
+                case '\\':
+                    data.append("\\\\");
+                    break;
+                case '\n':
+                    data.append("\\n");
+                    break;
+                case '\r':
+                    data.append("\\r");
+                    break;
+                case '\t':
+                    data.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        data.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        data.append(c);
+                    }
+            }
+        }
+        return data.append('"');
+    }
+}
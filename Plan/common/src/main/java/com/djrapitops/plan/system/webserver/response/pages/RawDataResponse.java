@@ -17,74 +17,83 @@
 package com.djrapitops.plan.system.webserver.response.pages;
 
 import com.djrapitops.plan.data.store.containers.DataContainer;
+import com.djrapitops.plan.system.locale.Locale;
+import com.djrapitops.plan.system.settings.theme.Theme;
 import com.djrapitops.plan.system.webserver.response.Response;
 import com.djrapitops.plan.system.webserver.response.ResponseType;
+import com.djrapitops.plan.utilities.json.DataContainerJSONWriter;
+import com.sun.net.httpserver.HttpExchange;
 
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPOutputStream;
 
 /**
  * Response for sending raw data as JSON when it is inside a DataContainer.
  * <p>
- * This transform class is required to remove Key-Supplier object pollution in the resulting JSON, as well as to remove
- * the effects of the caching layer.
+ * The JSON is streamed to the gzip compressed response body with {@link DataContainerJSONWriter}
+ * instead of being created as a String, since raw data of a large server can be hundreds of megabytes.
+ * The response is not cached, since it holds the DataContainer.
  *
  * @author Rsl1122
  */
 public class RawDataResponse extends Response {
 
+    private final DataContainer dataContainer;
+
     public RawDataResponse(DataContainer dataContainer) {
         super(ResponseType.JSON);
-
-        Map<String, Object> values = mapToNormalMap(dataContainer);
+        this.dataContainer = dataContainer;
 
         super.setHeader("HTTP/1.1 200 OK");
+    }
 
-        try {
-            Class<?> gsonClass = Class.forName("com.google.gson.Gson");
-            Object gson = gsonClass.getConstructor().newInstance();
-            Object json = gsonClass.getMethod("toJson", Object.class).invoke(gson, values);
-
-            super.setContent(json.toString());
-        } catch (ReflectiveOperationException e) {
-            super.setContent("{\"error\":\"Gson for raw json responses not available on this server: " + e.toString() + "\"}");
-        }
+    /**
+     * Write the JSON of the DataContainer.
+     *
+     * @param writer Writer to write to, not closed.
+     * @throws IOException If the writer fails.
+     */
+    public void writeJSON(Writer writer) throws IOException {
+        new DataContainerJSONWriter(writer).write(dataContainer);
     }
 
-    private Map<String, Object> mapToNormalMap(DataContainer player) {
-        Map<String, Object> values = new HashMap<>();
-        player.getMap().forEach((key, value) ->
-                {
-                    if (value instanceof DataContainer) {
-                        value = mapToNormalMap((DataContainer) value);
-                    }
-                    if (value instanceof Map) {
-                        value = handleMap((Map) value);
-                    }
-                    if (value instanceof List) {
-                        value = handleList((List) value);
-                    }
-                    values.put(key.getKeyName(), value);
-                }
-        );
-        return values;
+    @Override
+    public void send(HttpExchange exchange, Locale locale, Theme theme) throws IOException {
+        responseHeaders.set("Content-Type", ResponseType.JSON.get());
+        responseHeaders.set("Content-Encoding", "gzip");
+        responseHeaders.set("Cache-Control", "no-cache");
+        // Length 0: Chunked transfer, length is not known before the JSON has been written.
+        exchange.sendResponseHeaders(getCode(), 0);
+        Writer writer = new BufferedWriter(new OutputStreamWriter(
+                new GZIPOutputStream(exchange.getResponseBody(), 8192), StandardCharsets.UTF_8
+        ));
+        writeJSON(writer);
+        // Not closed if writing fails: The status has already been sent, so the gzip stream is left unfinished
+        // for the client to fail decompressing the body instead of receiving truncated JSON that looks complete.
+        writer.close();
     }
 
-    private List handleList(List list) {
-        if (list.stream().findAny().orElse(null) instanceof DataContainer) {
-            return (List) list.stream().map((obj) -> mapToNormalMap((DataContainer) obj)).collect(Collectors.toList());
+    /**
+     * Create the JSON as a String.
+     * <p>
+     * Use {@link #writeJSON(Writer)} instead when the JSON can be written somewhere directly.
+     *
+     * @return JSON of the DataContainer.
+     */
+    @Override
+    public String getContent() {
+        StringWriter writer = new StringWriter();
+        try {
+            writeJSON(writer);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
         }
-        return list;
+        return writer.toString();
     }
 
-    private Map handleMap(Map map) {
-        if (map.values().stream().findAny().orElse(null) instanceof DataContainer) {
-            Map<Object, Object> newMap = new HashMap<>();
-            map.forEach((key, value) -> newMap.put(key, mapToNormalMap((DataContainer) value)));
-            return newMap;
-        }
-        return map;
+    @Override
+    protected boolean isContentStatic() {
+        return false;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,232 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.utilities;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.*;
+
+/**
+ * Replaces many strings in a text in a single pass, using an Aho-Corasick automaton.
+ * <p>
+ * The automaton is built once, replacing text takes linear time regardless of the amount of replaced strings.
+ * Leftmost match is replaced first and from matches that start at the same position, the longest is replaced.
+ * Replaced text is not searched again, so replacements never cascade.
+ *
+ * @author Rsl1122
+ */
+public class MultiReplacer {
+
+    private static final char[] NO_CHARS = new char[0];
+    private static final int[] NO_STATES = new int[0];
+
+    // Trie nodes as parallel arrays, node 0 is the root.
+    private final char[][] edgeChars;
+    private final int[][] edgeTargets;
+    private final int[] fail;
+    private final int[] depth;
+    // Index and length of the longest pattern that ends at the node, or -1.
+    private final int[] output;
+    private final int[] outputLength;
+    private int nodeCount;
+
+    private final String[] replacements;
+
+    /**
+     * Create a new MultiReplacer.
+     *
+     * @param replacements Map: Text to replace - Replacement. Empty keys are ignored.
+     */
+    public MultiReplacer(Map<String, String> replacements) {
+        List<String> patterns = new ArrayList<>();
+        List<String> replacementList = new ArrayList<>();
+        for (Map.Entry<String, String> entry : replacements.entrySet()) {
+            if (entry.getKey() != null && !entry.getKey().isEmpty() && entry.getValue() != null) {
+                patterns.add(entry.getKey());
+                replacementList.add(entry.getValue());
+            }
+        }
+        this.replacements = replacementList.toArray(new String[0]);
+
+        int maxNodes = 1;
+        for (String pattern : patterns) {
+            maxNodes += pattern.length();
+        }
+        edgeChars = new char[maxNodes][];
+        edgeTargets = new int[maxNodes][];
+        fail = new int[maxNodes];
+        depth = new int[maxNodes];
+        output = new int[maxNodes];
+        outputLength = new int[maxNodes];
+        Arrays.fill(output, -1);
+        nodeCount = 1;
+        edgeChars[0] = NO_CHARS;
+        edgeTargets[0] = NO_STATES;
+
+        for (int i = 0; i < patterns.size(); i++) {
+            addPattern(patterns.get(i), i);
+        }
+        buildFailureLinks();
+    }
+
+    private void addPattern(String pattern, int index) {
+        int node = 0;
+        for (int i = 0; i < pattern.length(); i++) {
+            char c = pattern.charAt(i);
+            int next = child(node, c);
+            if (next == -1) {
+                next = nodeCount++;
+                edgeChars[next] = NO_CHARS;
+                edgeTargets[next] = NO_STATES;
+                depth[next] = depth[node] + 1;
+                addEdge(node, c, next);
+            }
+            node = next;
+        }
+        if (output[node] == -1) {
+            output[node] = index;
+            outputLength[node] = pattern.length();
+        }
+    }
+
+    private void addEdge(int node, char c, int target) {
+        char[] chars = edgeChars[node];
+        int[] targets = edgeTargets[node];
+        int insertAt = -(Arrays.binarySearch(chars, c) + 1);
+
+        char[] newChars = new char[chars.length + 1];
+        int[] newTargets = new int[targets.length + 1];
+        System.arraycopy(chars, 0, newChars, 0, insertAt);
+        System.arraycopy(targets, 0, newTargets, 0, insertAt);
+        newChars[insertAt] = c;
+        newTargets[insertAt] = target;
+        System.arraycopy(chars, insertAt, newChars, insertAt + 1, chars.length - insertAt);
+        System.arraycopy(targets, insertAt, newTargets, insertAt + 1, targets.length - insertAt);
+        edgeChars[node] = newChars;
+        edgeTargets[node] = newTargets;
+    }
+
+    private int child(int node, char c) {
+        char[] chars = edgeChars[node];
+        if (chars.length < 8) {
+            for (int i = 0; i < chars.length; i++) {
+                if (chars[i] == c) {
+                    return edgeTargets[node][i];
+                }
+            }
+            return -1;
+        }
+        int found = Arrays.binarySearch(chars, c);
+        return found >= 0 ? edgeTargets[node][found] : -1;
+    }
+
+    private void buildFailureLinks() {
+        Queue<Integer> queue = new ArrayDeque<>();
+        for (int target : edgeTargets[0]) {
+            fail[target] = 0;
+            queue.add(target);
+        }
+        while (!queue.isEmpty()) {
+            int node = queue.poll();
+            char[] chars = edgeChars[node];
+            int[] targets = edgeTargets[node];
+            for (int i = 0; i < chars.length; i++) {
+                int target = targets[i];
+                fail[target] = next(fail[node], chars[i]);
+                if (output[target] == -1) {
+                    // Longest pattern that is a suffix of this node.
+                    output[target] = output[fail[target]];
+                    outputLength[target] = outputLength[fail[target]];
+                }
+                queue.add(target);
+            }
+        }
+    }
+
+    private int next(int node, char c) {
+        int state = node;
+        while (true) {
+            int target = child(state, c);
+            if (target != -1) {
+                return target;
+            }
+            if (state == 0) {
+                return 0;
+            }
+            state = fail[state];
+        }
+    }
+
+    /**
+     * Replace all matching strings.
+     *
+     * @param text Text to replace strings in.
+     * @return Text with all strings replaced.
+     */
+    public String replace(String text) {
+        StringBuilder builder = new StringBuilder(text.length() + text.length() / 16);
+        replace(text, builder);
+        return builder.toString();
+    }
+
+    /**
+     * Replace all matching strings and write the result to an Appendable.
+     *
+     * @param text Text to replace strings in.
+     * @param out  Appendable to write the result to, for example a Writer of the response.
+     */
+    public void replace(CharSequence text, Appendable out) {
+        try {
+            doReplace(text, out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void doReplace(CharSequence text, Appendable out) throws IOException {
+        int length = text.length();
+        int written = 0;
+        int state = 0;
+        int matchStart = -1;
+        int matchEnd = -1;
+        int matchIndex = -1;
+
+        int i = 0;
+        while (i < length) {
+            state = next(state, text.charAt(i));
+            if (output[state] != -1) {
+                int end = i + 1;
+                int start = end - outputLength[state];
+                if (matchStart == -1 || start <= matchStart) {
+                    matchStart = start;
+                    matchEnd = end;
+                    matchIndex = output[state];
+                }
+            }
+            i++;
+            // A longer match from matchStart is not possible if the current state started after it.
+            if (matchStart != -1 && (i == length || i - depth[state] > matchStart)) {
+                out.append(text, written, matchStart).append(replacements[matchIndex]);
+                written = matchEnd;
+                i = matchEnd;
+                state = 0;
+                matchStart = -1;
+            }
+        }
+        out.append(text, written, length);
+    }
+}
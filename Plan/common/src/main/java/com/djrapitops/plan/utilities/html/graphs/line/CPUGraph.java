@@ -26,7 +26,7 @@ import com.djrapitops.plan.data.store.mutators.TPSMutator;
  */
 class CPUGraph extends LineGraph {
 
-    CPUGraph(TPSMutator mutator, boolean displayGaps) {
-        super(mutator.cpuPoints(), displayGaps);
+    CPUGraph(TPSMutator mutator, boolean displayGaps, int targetPointCount) {
+        super(mutator.cpuSeries(), displayGaps, targetPointCount);
     }
 }
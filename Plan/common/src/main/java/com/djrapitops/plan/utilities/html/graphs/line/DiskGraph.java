@@ -26,7 +26,7 @@ import com.djrapitops.plan.data.store.mutators.TPSMutator;
  */
 class DiskGraph extends LineGraph {
 
-    DiskGraph(TPSMutator mutator, boolean displayGaps) {
-        super(mutator.freeDiskPoints(), displayGaps);
+    DiskGraph(TPSMutator mutator, boolean displayGaps, int targetPointCount) {
+        super(mutator.freeDiskSeries(), displayGaps, targetPointCount);
     }
 }
@@ -26,7 +26,7 @@ import com.djrapitops.plan.data.store.mutators.TPSMutator;
  */
 class EntityGraph extends LineGraph {
 
-    EntityGraph(TPSMutator mutator, boolean displayGaps) {
-        super(mutator.entityPoints(), displayGaps);
+    EntityGraph(TPSMutator mutator, boolean displayGaps, int targetPointCount) {
+        super(mutator.entitySeries(), displayGaps, targetPointCount);
     }
 }
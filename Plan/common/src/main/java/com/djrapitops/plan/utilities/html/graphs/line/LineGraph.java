@@ -17,6 +17,7 @@
 package com.djrapitops.plan.utilities.html.graphs.line;
 
 import com.djrapitops.plan.utilities.html.graphs.HighChart;
+import com.djrapitops.plan.utilities.html.graphs.line.alg.LargestTriangleThreeBuckets;
 
 import java.util.List;
 import java.util.concurrent.TimeUnit;
@@ -28,12 +29,38 @@ import java.util.concurrent.TimeUnit;
  */
 public class LineGraph implements HighChart {
 
+    private static final long GAP_THRESHOLD_MS = TimeUnit.MINUTES.toMillis(3L);
+
     private final boolean displayGaps;
+    private final long gapThresholdMs;
     private List<Point> points;
 
     public LineGraph(List<Point> points, boolean displayGaps) {
         this.points = points;
         this.displayGaps = displayGaps;
+        this.gapThresholdMs = GAP_THRESHOLD_MS;
+    }
+
+    /**
+     * Create a LineGraph that is downsampled to a target amount of points.
+     *
+     * @param series           Points of the graph, sorted by date.
+     * @param displayGaps      Should data gaps be displayed.
+     * @param targetPointCount Maximum amount of points in the graph.
+     */
+    public LineGraph(PointSeries series, boolean displayGaps, int targetPointCount) {
+        int size = series.size();
+        this.points = LargestTriangleThreeBuckets.downsample(series.getX(), series.getY(), size, targetPointCount);
+        this.displayGaps = displayGaps;
+
+        if (size > targetPointCount) {
+            // Points of two buckets apart are next to each other after downsampling, those are not gaps.
+            long span = series.getX()[size - 1] - series.getX()[0];
+            long bucketWidth = span / (targetPointCount - 2);
+            this.gapThresholdMs = GAP_THRESHOLD_MS + 2L * bucketWidth;
+        } else {
+            this.gapThresholdMs = GAP_THRESHOLD_MS;
+        }
     }
 
     @Override
@@ -47,7 +74,7 @@ public class LineGraph implements HighChart {
             Double y = point.getY();
             long date = (long) point.getX();
 
-            if (displayGaps && lastX != null && date - lastX > TimeUnit.MINUTES.toMillis(3L)) {
+            if (displayGaps && lastX != null && date - lastX > gapThresholdMs) {
                 addMissingPoints(arrayBuilder, lastX, date);
             }
             lastX = date;
@@ -33,6 +33,16 @@ import java.util.List;
 @Singleton
 public class LineGraphFactory {
 
+    // Maximum amount of points sent per line, larger series are downsampled.
+    private static final int TPS_POINTS = 2500;
+    private static final int CPU_POINTS = 2500;
+    private static final int RAM_POINTS = 2500;
+    private static final int ENTITY_POINTS = 1500;
+    private static final int CHUNK_POINTS = 1500;
+    private static final int DISK_POINTS = 1000;
+    private static final int PLAYERS_ONLINE_POINTS = 2500;
+    private static final int PING_POINTS = 1500;
+
     private final PlanConfig config;
 
     @Inject
@@ -47,35 +57,35 @@ public class LineGraphFactory {
     }
 
     public LineGraph chunkGraph(TPSMutator mutator) {
-        return new ChunkGraph(mutator, shouldDisplayGapsInData());
+        return new ChunkGraph(mutator, shouldDisplayGapsInData(), CHUNK_POINTS);
     }
 
     public LineGraph cpuGraph(TPSMutator mutator) {
-        return new CPUGraph(mutator, shouldDisplayGapsInData());
+        return new CPUGraph(mutator, shouldDisplayGapsInData(), CPU_POINTS);
     }
 
     public LineGraph entityGraph(TPSMutator mutator) {
-        return new EntityGraph(mutator, shouldDisplayGapsInData());
+        return new EntityGraph(mutator, shouldDisplayGapsInData(), ENTITY_POINTS);
     }
 
     public LineGraph playersOnlineGraph(TPSMutator mutator) {
-        return new PlayersOnlineGraph(mutator, shouldDisplayGapsInData());
+        return new PlayersOnlineGraph(mutator, shouldDisplayGapsInData(), PLAYERS_ONLINE_POINTS);
     }
 
     public PingGraph pingGraph(List<Ping> pingList) {
-        return new PingGraph(pingList, shouldDisplayGapsInData());
+        return new PingGraph(pingList, shouldDisplayGapsInData(), PING_POINTS);
     }
 
     public LineGraph ramGraph(TPSMutator mutator) {
-        return new RamGraph(mutator, shouldDisplayGapsInData());
+        return new RamGraph(mutator, shouldDisplayGapsInData(), RAM_POINTS);
     }
 
     public LineGraph tpsGraph(TPSMutator mutator) {
-        return new TPSGraph(mutator, shouldDisplayGapsInData());
+        return new TPSGraph(mutator, shouldDisplayGapsInData(), TPS_POINTS);
     }
 
     public LineGraph diskGraph(TPSMutator mutator) {
-        return new DiskGraph(mutator, shouldDisplayGapsInData());
+        return new DiskGraph(mutator, shouldDisplayGapsInData(), DISK_POINTS);
     }
 
     private boolean shouldDisplayGapsInData() {
@@ -18,7 +18,6 @@ package com.djrapitops.plan.utilities.html.graphs.line;
 
 import com.djrapitops.plan.data.container.Ping;
 
-import java.util.ArrayList;
 import java.util.List;
 
 public class PingGraph {
@@ -30,26 +29,27 @@ public class PingGraph {
     /**
      * Constructor.
      *
-     * @param pings       List of Ping values:
-     *                    List should be filtered so that only a single entry for each date exists.
-     * @param displayGaps Should data gaps be displayed.
+     * @param pings            List of Ping values:
+     *                         List should be filtered so that only a single entry for each date exists.
+     * @param displayGaps      Should data gaps be displayed.
+     * @param targetPointCount Maximum amount of points in each of the lines.
      */
-    PingGraph(List<Ping> pings, boolean displayGaps) {
-        List<Point> max = new ArrayList<>();
-        List<Point> min = new ArrayList<>();
-        List<Point> avg = new ArrayList<>();
+    PingGraph(List<Ping> pings, boolean displayGaps, int targetPointCount) {
+        PointSeries max = new PointSeries(pings.size());
+        PointSeries min = new PointSeries(pings.size());
+        PointSeries avg = new PointSeries(pings.size());
 
         for (Ping ping : pings) {
             long date = ping.getDate();
 
-            max.add(new Point(date, ping.getMax()));
-            min.add(new Point(date, ping.getMin()));
-            avg.add(new Point(date, ping.getAverage()));
+            max.add(date, ping.getMax());
+            min.add(date, ping.getMin());
+            avg.add(date, ping.getAverage());
         }
 
-        maxGraph = new LineGraph(max, displayGaps);
-        minGraph = new LineGraph(min, displayGaps);
-        avgGraph = new LineGraph(avg, displayGaps);
+        maxGraph = new LineGraph(max, displayGaps, targetPointCount);
+        minGraph = new LineGraph(min, displayGaps, targetPointCount);
+        avgGraph = new LineGraph(avg, displayGaps, targetPointCount);
     }
 
     public String toMaxSeries() {
@@ -0,0 +1,76 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.utilities.html.graphs.line;
+
+import java.util.Arrays;
+
+/**
+ * Points of a line graph stored in primitive arrays.
+ * <p>
+ * Used instead of a list of {@link Point}s for graphs with a lot of points, like the TPS graphs,
+ * so that the points can be downsampled before any objects are created for them.
+ *
+ * @author Rsl1122
+ * @see com.djrapitops.plan.utilities.html.graphs.line.alg.LargestTriangleThreeBuckets
+ */
+public class PointSeries {
+
+    private long[] x;
+    private double[] y;
+    private int size;
+
+    public PointSeries(int initialCapacity) {
+        x = new long[Math.max(initialCapacity, 1)];
+        y = new double[x.length];
+    }
+
+    public void add(long x, double y) {
+        if (size == this.x.length) {
+            this.x = Arrays.copyOf(this.x, size * 2);
+            this.y = Arrays.copyOf(this.y, size * 2);
+        }
+        this.x[size] = x;
+        this.y[size] = y;
+        size++;
+    }
+
+    /**
+     * Get the x values (dates) of the series.
+     *
+     * @return Array that can be longer than {@link #size()}, values past the size are not part of the series.
+     */
+    public long[] getX() {
+        return x;
+    }
+
+    /**
+     * Get the y values of the series.
+     *
+     * @return Array that can be longer than {@link #size()}, values past the size are not part of the series.
+     */
+    public double[] getY() {
+        return y;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+}
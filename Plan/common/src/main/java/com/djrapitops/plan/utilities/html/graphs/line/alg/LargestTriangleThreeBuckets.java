@@ -0,0 +1,131 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.utilities.html.graphs.line.alg;
+
+import com.djrapitops.plan.utilities.html.graphs.line.Point;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Largest-Triangle-Three-Buckets downsampling algorithm implementation for reducing points from graphs.
+ * <p>
+ * Runs in linear time and keeps the visual shape of the line by selecting the point of each bucket
+ * that forms the largest triangle with the point selected from the previous bucket and the average of the next bucket.
+ * <p>
+ * https://skemman.is/bitstream/1946/15343/3/SS_MSthesis.pdf
+ *
+ * @author Rsl1122
+ */
+public class LargestTriangleThreeBuckets {
+
+    /**
+     * Constructor used to hide the public constructor
+     */
+    private LargestTriangleThreeBuckets() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Select the indexes of points that are kept.
+     *
+     * @param x         X values, sorted in ascending order.
+     * @param y         Y values.
+     * @param size      Amount of points in the arrays.
+     * @param threshold Amount of points to keep, at least 3.
+     * @return Indexes of the kept points in ascending order, all indexes if size is at most the threshold.
+     * @throws IllegalArgumentException If threshold is less than 3.
+     */
+    public static int[] selectIndexes(long[] x, double[] y, int size, int threshold) {
+        if (threshold < 3) {
+            throw new IllegalArgumentException("Threshold should be at least 3, was " + threshold);
+        }
+        if (size <= threshold) {
+            int[] all = new int[size];
+            for (int i = 0; i < size; i++) {
+                all[i] = i;
+            }
+            return all;
+        }
+
+        int[] selected = new int[threshold];
+        int selectedCount = 0;
+
+        // First and last points are always kept, the rest of the points are split to threshold - 2 buckets.
+        double bucketSize = (double) (size - 2) / (threshold - 2);
+        int previous = 0;
+        selected[selectedCount++] = previous;
+
+        for (int bucket = 0; bucket < threshold - 2; bucket++) {
+            int bucketStart = (int) (bucket * bucketSize) + 1;
+            int bucketEnd = (int) ((bucket + 1) * bucketSize) + 1;
+
+            // Average of the next bucket is the third point of the triangle.
+            int nextStart = bucketEnd;
+            int nextEnd = Math.min((int) ((bucket + 2) * bucketSize) + 1, size);
+            double averageX = 0.0;
+            double averageY = 0.0;
+            for (int i = nextStart; i < nextEnd; i++) {
+                averageX += x[i];
+                averageY += y[i];
+            }
+            int nextLength = nextEnd - nextStart;
+            averageX /= nextLength;
+            averageY /= nextLength;
+
+            double previousX = x[previous];
+            double previousY = y[previous];
+
+            double maxArea = -1.0;
+            int maxIndex = bucketStart;
+            for (int i = bucketStart; i < bucketEnd; i++) {
+                // Double the triangle area, halving is not needed for comparison.
+                double area = Math.abs(
+                        (previousX - averageX) * (y[i] - previousY) - (previousX - x[i]) * (averageY - previousY)
+                );
+                if (area > maxArea) {
+                    maxArea = area;
+                    maxIndex = i;
+                }
+            }
+
+            selected[selectedCount++] = maxIndex;
+            previous = maxIndex;
+        }
+
+        selected[selectedCount] = size - 1;
+        return selected;
+    }
+
+    /**
+     * Downsample points to the threshold amount.
+     *
+     * @param x         X values, sorted in ascending order.
+     * @param y         Y values.
+     * @param size      Amount of points in the arrays.
+     * @param threshold Amount of points to keep, at least 3.
+     * @return List of kept Points.
+     */
+    public static List<Point> downsample(long[] x, double[] y, int size, int threshold) {
+        int[] indexes = selectIndexes(x, y, size, threshold);
+        List<Point> points = new ArrayList<>(indexes.length);
+        for (int index : indexes) {
+            points.add(new Point(x[index], y[index]));
+        }
+        return points;
+    }
+}
@@ -20,12 +20,15 @@ import com.djrapitops.plan.data.container.Session;
 import com.djrapitops.plan.data.store.keys.SessionKeys;
 import com.djrapitops.plan.data.store.objects.DateHolder;
 import com.djrapitops.plan.db.Database;
+import com.djrapitops.plan.system.cache.GeolocationCache;
 import com.djrapitops.plan.system.cache.SessionCache;
 import com.djrapitops.plan.system.info.connection.ConnectionLog;
 import com.djrapitops.plan.system.info.connection.ConnectionSystem;
 import com.djrapitops.plan.system.info.server.Server;
 import com.djrapitops.plan.system.info.server.ServerInfo;
 import com.djrapitops.plan.system.info.server.properties.ServerProperties;
+import com.djrapitops.plan.system.webserver.WebServer;
+import com.djrapitops.plan.system.webserver.WebServerMetrics;
 import com.djrapitops.plan.system.webserver.cache.ResponseCache;
 import com.djrapitops.plan.utilities.file.FileUtil;
 import com.djrapitops.plan.utilities.formatting.Formatter;
@@ -44,6 +47,7 @@ import com.djrapitops.plugin.logging.debug.MemoryDebugLogger;
 import com.djrapitops.plugin.logging.error.DefaultErrorHandler;
 import com.djrapitops.plugin.logging.error.ErrorHandler;
 import com.djrapitops.plugin.logging.error.FolderTimeStampErrorFileLogger;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 
 import java.io.IOException;
 import java.util.*;
@@ -58,6 +62,8 @@ public class DebugPage implements Page {
     private final Database database;
     private final ServerInfo serverInfo;
     private final ConnectionSystem connectionSystem;
+    private final WebServer webServer;
+    private final GeolocationCache geolocationCache;
     private final CombineDebugLogger debugLogger;
     private final Timings timings;
     private final ErrorHandler errorHandler;
@@ -69,6 +75,8 @@ public class DebugPage implements Page {
             Database database,
             ServerInfo serverInfo,
             ConnectionSystem connectionSystem,
+            WebServer webServer,
+            GeolocationCache geolocationCache,
             Formatters formatters,
             DebugLogger debugLogger,
             Timings timings,
@@ -77,6 +85,8 @@ public class DebugPage implements Page {
         this.database = database;
         this.serverInfo = serverInfo;
         this.connectionSystem = connectionSystem;
+        this.webServer = webServer;
+        this.geolocationCache = geolocationCache;
         this.debugLogger = (CombineDebugLogger) debugLogger;
         this.timings = timings;
         this.errorHandler = errorHandler;
@@ -111,6 +121,7 @@ public class DebugPage implements Page {
         StringBuilder content = new StringBuilder();
         appendResponseCache(content);
         appendSessionCache(content);
+        appendGeolocationCache(content);
         return content.toString();
     }
 
@@ -151,6 +162,19 @@ public class DebugPage implements Page {
         }
     }
 
+    private void appendGeolocationCache(StringBuilder content) {
+        CacheStats stats = geolocationCache.getCacheStats();
+        content.append("<pre>### Geolocation Cache:<br><br>")
+                .append("Cached IPs | Hits | Misses | Hit rate | Average lookup<br>")
+                .append("-- | -- | -- | -- | --<br>")
+                .append(geolocationCache.getCacheSize())
+                .append(" | ").append(stats.hitCount())
+                .append(" | ").append(stats.missCount())
+                .append(" | ").append(String.format("%.2f", stats.hitRate() * 100.0)).append("%")
+                .append(" | ").append(String.format("%.2f", stats.averageLoadPenalty() / 1000000.0)).append("ms")
+                .append("</pre>");
+    }
+
     private String createDebugLogContent() {
         StringBuilder content = new StringBuilder();
         appendDebugLog(content);
@@ -168,6 +192,7 @@ public class DebugPage implements Page {
 
         appendServerInformation(content);
         appendConnectionLog(content);
+        appendWebServerMetrics(content);
         appendBenchmarks(content);
 
         return content.toString();
@@ -253,6 +278,27 @@ public class DebugPage implements Page {
         content.append("</pre>");
     }
 
+    private void appendWebServerMetrics(StringBuilder content) {
+        Optional<WebServerMetrics> metrics = webServer.getMetrics();
+        if (!metrics.isPresent()) {
+            return;
+        }
+        WebServerMetrics webServerMetrics = metrics.get();
+        content.append("<pre>### WebServer<br><br>")
+                .append("Requests | Count | Average | Longest<br>")
+                .append("-- | -- | -- | --<br>")
+                .append("Pages | ").append(webServerMetrics.getPageRequestCount())
+                .append(" | ").append(String.format("%.2f", webServerMetrics.getAveragePageRequestTimeMs())).append("ms")
+                .append(" | ").append(String.format("%.2f", webServerMetrics.getMaxPageRequestTimeMs())).append("ms<br>")
+                .append("Fast (cached resources) | ").append(webServerMetrics.getFastRequestCount())
+                .append(" | ").append(String.format("%.2f", webServerMetrics.getAverageFastRequestTimeMs())).append("ms")
+                .append(" | ").append(String.format("%.2f", webServerMetrics.getMaxFastRequestTimeMs())).append("ms<br><br>")
+                .append("**Queued:** ").append(webServerMetrics.getQueueSize())
+                .append(", average wait ").append(String.format("%.2f", webServerMetrics.getAverageQueueTimeMs())).append("ms<br>")
+                .append("**Rejected (503):** ").append(webServerMetrics.getRejectedRequestCount())
+                .append("</pre>");
+    }
+
     private void appendBenchmarks(StringBuilder content) {
         content.append("<pre>### Benchmarks<br>&#96;&#96;&#96;<br>");
         try {
@@ -33,7 +33,6 @@ import com.djrapitops.plan.system.settings.paths.TimeSettings;
 import com.djrapitops.plan.system.settings.theme.Theme;
 import com.djrapitops.plan.system.settings.theme.ThemeVal;
 import com.djrapitops.plan.system.update.VersionCheckSystem;
-import com.djrapitops.plan.utilities.comparators.SessionStartComparator;
 import com.djrapitops.plan.utilities.formatting.Formatter;
 import com.djrapitops.plan.utilities.formatting.Formatters;
 import com.djrapitops.plan.utilities.formatting.PlaceholderReplacer;
@@ -187,7 +186,6 @@ public class InspectPage implements Page {
 
         List<Session> allSessions = player.getValue(PlayerKeys.SESSIONS).orElse(new ArrayList<>());
         SessionsMutator sessionsMutator = SessionsMutator.forContainer(player);
-        allSessions.sort(new SessionStartComparator());
 
         String sessionAccordionViewScript = "";
         if (allSessions.isEmpty()) {
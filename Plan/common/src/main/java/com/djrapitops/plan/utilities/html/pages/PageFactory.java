@@ -23,13 +23,16 @@ import com.djrapitops.plan.data.store.containers.PlayerContainer;
 import com.djrapitops.plan.db.Database;
 import com.djrapitops.plan.db.access.queries.containers.ContainerFetchQueries;
 import com.djrapitops.plan.db.access.queries.objects.ServerQueries;
+import com.djrapitops.plan.system.cache.GeolocationCache;
 import com.djrapitops.plan.system.database.DBSystem;
 import com.djrapitops.plan.system.file.PlanFiles;
 import com.djrapitops.plan.system.info.connection.ConnectionSystem;
 import com.djrapitops.plan.system.info.server.ServerInfo;
 import com.djrapitops.plan.system.settings.config.PlanConfig;
+import com.djrapitops.plan.system.settings.paths.TimeSettings;
 import com.djrapitops.plan.system.settings.theme.Theme;
 import com.djrapitops.plan.system.update.VersionCheckSystem;
+import com.djrapitops.plan.system.webserver.WebServer;
 import com.djrapitops.plan.system.webserver.response.pages.parts.InspectPagePluginsContent;
 import com.djrapitops.plan.utilities.formatting.Formatters;
 import com.djrapitops.plan.utilities.html.graphs.Graphs;
@@ -61,6 +64,8 @@ public class PageFactory {
     private final Lazy<DBSystem> dbSystem;
     private final Lazy<ServerInfo> serverInfo;
     private final Lazy<ConnectionSystem> connectionSystem;
+    private final Lazy<WebServer> webServer;
+    private final Lazy<GeolocationCache> geolocationCache;
     private final Lazy<Graphs> graphs;
     private final Lazy<HtmlTables> tables;
     private final Lazy<Accordions> accordions;
@@ -81,6 +86,8 @@ public class PageFactory {
             Lazy<DBSystem> dbSystem,
             Lazy<ServerInfo> serverInfo,
             Lazy<ConnectionSystem> connectionSystem,
+            Lazy<WebServer> webServer,
+            Lazy<GeolocationCache> geolocationCache,
             Lazy<Graphs> graphs,
             Lazy<HtmlTables> tables,
             Lazy<Accordions> accordions,
@@ -99,6 +106,8 @@ public class PageFactory {
         this.dbSystem = dbSystem;
         this.serverInfo = serverInfo;
         this.connectionSystem = connectionSystem;
+        this.webServer = webServer;
+        this.geolocationCache = geolocationCache;
         this.graphs = graphs;
         this.tables = tables;
         this.accordions = accordions;
@@ -113,20 +122,20 @@ public class PageFactory {
 
     public DebugPage debugPage() {
         return new DebugPage(
-                dbSystem.get().getDatabase(), serverInfo.get(), connectionSystem.get(), formatters.get(),
-                debugLogger.get(), timings.get(), errorHandler.get()
+                dbSystem.get().getDatabase(), serverInfo.get(), connectionSystem.get(), webServer.get(), geolocationCache.get(),
+                formatters.get(), debugLogger.get(), timings.get(), errorHandler.get()
         );
     }
 
     public PlayersPage playersPage() {
         return new PlayersPage(versionCheckSystem.get(), fileSystem.get(), config.get(),
-                dbSystem.get().getDatabase(), serverInfo.get(), tables.get(),
-                timings.get());
+                serverInfo.get(), tables.get());
     }
 
     public AnalysisPage analysisPage(UUID serverUUID) {
+        long rawTPSAfter = System.currentTimeMillis() - config.get().get(TimeSettings.KEEP_RAW_TPS_DATA);
         AnalysisContainer analysisContainer = analysisContainerFactory.get()
-                .forServerContainer(dbSystem.get().getDatabase().query(ContainerFetchQueries.fetchServerContainer(serverUUID)));
+                .forServerContainer(dbSystem.get().getDatabase().query(ContainerFetchQueries.fetchServerContainer(serverUUID, rawTPSAfter)));
         return new AnalysisPage(analysisContainer, connectionSystem.get(), versionCheckSystem.get(), fileSystem.get(), formatters.get().decimals(), timings.get());
     }
 
@@ -17,9 +17,6 @@
 package com.djrapitops.plan.utilities.html.pages;
 
 import com.djrapitops.plan.api.exceptions.ParseException;
-import com.djrapitops.plan.data.store.containers.PlayerContainer;
-import com.djrapitops.plan.db.Database;
-import com.djrapitops.plan.db.access.queries.containers.ContainerFetchQueries;
 import com.djrapitops.plan.system.file.PlanFiles;
 import com.djrapitops.plan.system.info.server.ServerInfo;
 import com.djrapitops.plan.system.settings.config.PlanConfig;
@@ -29,9 +26,6 @@ import com.djrapitops.plan.system.update.VersionCheckSystem;
 import com.djrapitops.plan.utilities.formatting.PlaceholderReplacer;
 import com.djrapitops.plan.utilities.html.tables.HtmlTables;
 import com.djrapitops.plugin.api.Check;
-import com.djrapitops.plugin.benchmarking.Timings;
-
-import java.util.List;
 
 /**
  * Html String parser for /players page.
@@ -43,29 +37,22 @@ public class PlayersPage implements Page {
     private final VersionCheckSystem versionCheckSystem;
     private final PlanFiles files;
     private final PlanConfig config;
-    private final Database database;
     private final ServerInfo serverInfo;
 
     private final HtmlTables tables;
 
-    private final Timings timings;
-
     PlayersPage(
             VersionCheckSystem versionCheckSystem,
             PlanFiles files,
             PlanConfig config,
-            Database database,
             ServerInfo serverInfo,
-            HtmlTables tables,
-            Timings timings
+            HtmlTables tables
     ) {
         this.versionCheckSystem = versionCheckSystem;
         this.files = files;
         this.config = config;
-        this.database = database;
         this.serverInfo = serverInfo;
         this.tables = tables;
-        this.timings = timings;
     }
 
     @Override
@@ -81,10 +68,7 @@ public class PlayersPage implements Page {
                 placeholderReplacer.put("networkName", config.get(ProxySettings.NETWORK_NAME));
             }
 
-            timings.start("Players page players table parsing");
-            List<PlayerContainer> playerContainers = database.query(ContainerFetchQueries.fetchAllPlayerContainers());
-            placeholderReplacer.put("playersTable", tables.playerTableForPlayersPage(playerContainers).parseHtml());
-            timings.end("Pages", "Players page players table parsing");
+            placeholderReplacer.put("playersTable", tables.playerTableForPlayersPage().parseHtmlWithoutRows());
 
             return placeholderReplacer.apply(files.readCustomizableResourceFlat("web/players.html"));
         } catch (Exception e) {
@@ -21,7 +21,8 @@ import com.djrapitops.plan.data.container.Session;
 import com.djrapitops.plan.data.store.containers.PlayerContainer;
 import com.djrapitops.plan.data.store.keys.PlayerKeys;
 import com.djrapitops.plan.data.store.keys.SessionKeys;
-import com.djrapitops.plan.utilities.comparators.SessionStartComparator;
+import com.djrapitops.plan.data.store.mutators.DateHoldersMutator;
+import com.djrapitops.plan.data.store.objects.DateHolder;
 import com.djrapitops.plan.utilities.formatting.Formatter;
 
 import java.util.ArrayList;
@@ -56,12 +57,7 @@ public class RecentLoginList {
         }
 
         StringBuilder html = new StringBuilder();
-        int i = 0;
-        for (RecentLogin recentLogin : recentLogins) {
-            if (i >= 20) {
-                break;
-            }
-
+        for (RecentLogin recentLogin : new DateHoldersMutator<>(recentLogins).toMostRecent(20)) {
             String name = recentLogin.name;
             String url = PlanAPI.getInstance().getPlayerInspectPageLink(name);
             boolean isNew = recentLogin.isNew;
@@ -69,8 +65,6 @@ public class RecentLoginList {
 
             html.append("<li><a class=\"col-").append(isNew ? "light-green" : "blue").append(" font-bold\" href=\"").append(url)
                     .append("\">").append(name).append("</a><span class=\"pull-right\">").append(start).append("</span></li>");
-
-            i++;
         }
 
         return html.toString();
@@ -86,24 +80,20 @@ public class RecentLoginList {
             String name = player.getUnsafe(PlayerKeys.NAME);
             long registerDate = player.getValue(PlayerKeys.REGISTERED).orElse(0L);
 
-            List<Session> sessions = player.getValue(PlayerKeys.SESSIONS).orElse(Collections.emptyList());
-            if (sessions.isEmpty()) {
-                continue;
+            long mostRecentStart = -1;
+            for (Session session : player.getValue(PlayerKeys.SESSIONS).orElse(Collections.emptyList())) {
+                mostRecentStart = Math.max(mostRecentStart, session.getValue(SessionKeys.START).orElse(-1L));
             }
-            sessions.sort(new SessionStartComparator());
-            Session session = sessions.get(0);
-
-            if (!session.supports(SessionKeys.START)) {
+            if (mostRecentStart == -1) {
                 continue;
             }
-            long mostRecentStart = session.getUnsafe(SessionKeys.START);
             boolean isFirstSession = Math.abs(registerDate - mostRecentStart) < TimeUnit.SECONDS.toMillis(10L);
             recentLogins.add(new RecentLogin(mostRecentStart, isFirstSession, name));
         }
         return recentLogins;
     }
 
-    class RecentLogin {
+    class RecentLogin implements DateHolder {
         final long date;
         final boolean isNew;
         final String name;
@@ -114,6 +104,11 @@ public class RecentLoginList {
             this.name = name;
         }
 
+        @Override
+        public long getDate() {
+            return date;
+        }
+
         @Override
         public boolean equals(Object o) {
             if (this == o) return true;
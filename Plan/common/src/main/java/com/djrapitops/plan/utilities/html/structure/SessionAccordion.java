@@ -20,12 +20,12 @@ import com.djrapitops.plan.api.PlanAPI;
 import com.djrapitops.plan.data.container.PlayerKill;
 import com.djrapitops.plan.data.container.Session;
 import com.djrapitops.plan.data.store.keys.SessionKeys;
+import com.djrapitops.plan.data.store.mutators.SessionsMutator;
 import com.djrapitops.plan.data.store.objects.DateHolder;
 import com.djrapitops.plan.data.time.WorldTimes;
 import com.djrapitops.plan.system.settings.config.WorldAliasSettings;
 import com.djrapitops.plan.system.settings.theme.Theme;
 import com.djrapitops.plan.system.settings.theme.ThemeVal;
-import com.djrapitops.plan.utilities.comparators.DateHolderRecentComparator;
 import com.djrapitops.plan.utilities.formatting.Formatter;
 import com.djrapitops.plan.utilities.html.HtmlStructure;
 import com.djrapitops.plan.utilities.html.graphs.Graphs;
@@ -110,13 +110,9 @@ public class SessionAccordion extends Accordion {
     private void addElementsForServer() {
         Map<UUID, String> serverNames = serverNamesSupplier.get();
         Map<UUID, String> playerNames = playerNamesSupplier.get();
-        sessions.sort(new DateHolderRecentComparator());
 
         int i = 0;
-        for (Session session : sessions) {
-            if (i >= maxSessions) {
-                break;
-            }
+        for (Session session : new SessionsMutator(sessions).toMostRecent(maxSessions)) {
 
             String serverName = serverNames.getOrDefault(session.getValue(SessionKeys.SERVER_UUID).orElse(null), "Unknown");
             String playerName = playerNames.getOrDefault(session.getValue(SessionKeys.UUID).orElse(null), "Unknown");
@@ -183,13 +179,9 @@ public class SessionAccordion extends Accordion {
 
     private void addElementsForPlayer() {
         Map<UUID, String> serverNames = serverNamesSupplier.get();
-        sessions.sort(new DateHolderRecentComparator());
 
         int i = 0;
-        for (Session session : new ArrayList<>(sessions)) {
-            if (i >= maxSessions) {
-                break;
-            }
+        for (Session session : new SessionsMutator(sessions).toMostRecent(maxSessions)) {
 
             String serverName = serverNames.getOrDefault(session.getValue(SessionKeys.SERVER_UUID).orElse(null), "Unknown");
             String sessionStart = yearFormatter.apply(session);
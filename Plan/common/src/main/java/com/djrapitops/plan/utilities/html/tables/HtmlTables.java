@@ -30,6 +30,7 @@ import com.djrapitops.plan.utilities.formatting.Formatters;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
@@ -149,11 +150,12 @@ public class HtmlTables {
      * Create a Player table for a server.
      *
      * @param players List of {@link PlayerContainer}s of players who have played on the server.
+     * @param date    Epoch ms the activity index of the players is calculated for.
      * @return a new {@link PlayersTable}.
      */
-    public TableContainer playerTableForServerPage(List<PlayerContainer> players) {
+    public TableContainer playerTableForServerPage(List<PlayerContainer> players, long date) {
         return new PlayersTable(
-                players,
+                players, date,
                 config.get(DisplaySettings.PLAYERS_PER_SERVER_PAGE),
                 config.get(TimeSettings.ACTIVE_PLAY_THRESHOLD),
                 config.get(TimeSettings.ACTIVE_LOGIN_THRESHOLD),
@@ -164,13 +166,14 @@ public class HtmlTables {
 
     /**
      * Create a Player table for a players page.
+     * <p>
+     * The table has no rows, they are loaded from /players/table when the page is viewed.
      *
-     * @param players List of {@link PlayerContainer}s of players.
-     * @return a new {@link PlayersTable}.
+     * @return a new {@link PlayersTable}, parse with {@link TableContainer#parseHtmlWithoutRows()}.
      */
-    public TableContainer playerTableForPlayersPage(List<PlayerContainer> players) {
+    public TableContainer playerTableForPlayersPage() {
         return new PlayersTable(
-                players, config.get(DisplaySettings.PLAYERS_PER_PLAYERS_PAGE),
+                new ArrayList<>(), System.currentTimeMillis(), 0,
                 config.get(TimeSettings.ACTIVE_PLAY_THRESHOLD),
                 config.get(TimeSettings.ACTIVE_LOGIN_THRESHOLD),
                 config.get(DisplaySettings.OPEN_PLAYER_LINKS_IN_NEW_TAB),
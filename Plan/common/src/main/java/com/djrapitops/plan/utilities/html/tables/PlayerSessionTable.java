@@ -20,6 +20,7 @@ import com.djrapitops.plan.api.PlanAPI;
 import com.djrapitops.plan.data.container.Session;
 import com.djrapitops.plan.data.element.TableContainer;
 import com.djrapitops.plan.data.store.keys.SessionKeys;
+import com.djrapitops.plan.data.store.mutators.SessionsMutator;
 import com.djrapitops.plan.data.store.objects.DateHolder;
 import com.djrapitops.plan.system.settings.config.WorldAliasSettings;
 import com.djrapitops.plan.utilities.formatting.Formatter;
@@ -62,12 +63,7 @@ class PlayerSessionTable extends TableContainer {
     private void addRows() {
         String inspectUrl = PlanAPI.getInstance().getPlayerInspectPageLink(playerName);
 
-        int i = 0;
-        for (Session session : sessions) {
-            if (i >= maxSessions) {
-                break;
-            }
-
+        for (Session session : new SessionsMutator(sessions).toMostRecent(maxSessions)) {
             String start = yearFormatter.apply(session);
             String length = session.supports(SessionKeys.END)
                     ? timeAmountFormatter.apply(session.getValue(SessionKeys.LENGTH).orElse(0L))
@@ -78,8 +74,6 @@ class PlayerSessionTable extends TableContainer {
                     .map(id -> Integer.toString(id))
                     .orElse("Not Saved.");
             addRow(Html.LINK_TOOLTIP.parse(inspectUrl, playerName, toolTip), start, length, world);
-
-            i++;
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,262 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.utilities.json;
+
+import com.djrapitops.plan.data.store.Key;
+import com.djrapitops.plan.data.store.containers.DataContainer;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Writes {@link DataContainer}s as JSON straight to a {@link Writer}.
+ * <p>
+ * Values of the container are requested one Key at a time and written as they are walked,
+ * so the JSON is never held in memory as a whole and large collections like sessions or TPS
+ * are written one element at a time.
+ * <p>
+ * Other objects are written from their fields like Gson does: static and transient fields are skipped,
+ * null fields are left out and the fields of each class are looked up only once.
+ *
+ * @author Rsl1122
+ */
+public class DataContainerJSONWriter {
+
+    private static final int MAX_DEPTH = 32;
+    private static final Map<Class<?>, List<Field>> FIELDS = new ConcurrentHashMap<>();
+
+    private final Writer out;
+    private int depth;
+
+    /**
+     * Create a new DataContainerJSONWriter.
+     *
+     * @param out Writer to write to, should be buffered.
+     */
+    public DataContainerJSONWriter(Writer out) {
+        this.out = out;
+    }
+
+    /**
+     * Write a DataContainer as a JSON object.
+     *
+     * @param container DataContainer to write.
+     * @throws IOException If the Writer fails.
+     */
+    public void write(DataContainer container) throws IOException {
+        writeValue(container);
+        out.flush();
+    }
+
+    private void writeValue(Object value) throws IOException {
+        if (value == null) {
+            out.write("null");
+        } else if (value instanceof String || value instanceof Character || value instanceof UUID) {
+            writeString(value.toString());
+        } else if (value instanceof Number) {
+            writeNumber((Number) value);
+        } else if (value instanceof Boolean) {
+            out.write(value.toString());
+        } else if (value instanceof Enum) {
+            writeString(((Enum) value).name());
+        } else if (depth >= MAX_DEPTH) {
+            // Reference cycles are not followed further.
+            out.write("null");
+        } else {
+            depth++;
+            writeStructure(value);
+            depth--;
+        }
+    }
+
+    private void writeStructure(Object value) throws IOException {
+        if (value instanceof DataContainer) {
+            writeContainer((DataContainer) value);
+        } else if (value instanceof Map) {
+            writeMap((Map<?, ?>) value);
+        } else if (value instanceof Iterable) {
+            writeIterable((Iterable<?>) value);
+        } else if (value instanceof Optional) {
+            writeValue(((Optional<?>) value).orElse(null));
+        } else if (value.getClass().isArray()) {
+            writeArray(value);
+        } else {
+            writeFields(value);
+        }
+    }
+
+    private void writeContainer(DataContainer container) throws IOException {
+        out.write('{');
+        boolean first = true;
+        for (Key key : container.getKeys()) {
+            Optional<?> value = container.getValue(key);
+            if (!value.isPresent()) {
+                continue;
+            }
+            first = writeName(key.getKeyName(), first);
+            writeValue(value.get());
+        }
+        out.write('}');
+    }
+
+    private void writeMap(Map<?, ?> map) throws IOException {
+        out.write('{');
+        boolean first = true;
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            first = writeName(String.valueOf(entry.getKey()), first);
+            writeValue(entry.getValue());
+        }
+        out.write('}');
+    }
+
+    private void writeIterable(Iterable<?> iterable) throws IOException {
+        out.write('[');
+        boolean first = true;
+        for (Object element : iterable) {
+            if (!first) {
+                out.write(',');
+            }
+            first = false;
+            writeValue(element);
+        }
+        out.write(']');
+    }
+
+    private void writeArray(Object array) throws IOException {
+        out.write('[');
+        int length = Array.getLength(array);
+        for (int i = 0; i < length; i++) {
+            if (i > 0) {
+                out.write(',');
+            }
+            writeValue(Array.get(array, i));
+        }
+        out.write(']');
+    }
+
+    private void writeFields(Object object) throws IOException {
+        List<Field> fields = FIELDS.computeIfAbsent(object.getClass(), DataContainerJSONWriter::findFields);
+        if (fields.isEmpty()) {
+            // Classes that can not be accessed or have no fields, like JDK classes.
+            writeString(object.toString());
+            return;
+        }
+        out.write('{');
+        boolean first = true;
+        for (Field field : fields) {
+            Object fieldValue;
+            try {
+                fieldValue = field.get(object);
+            } catch (IllegalAccessException e) {
+                continue;
+            }
+            if (fieldValue == null) {
+                continue;
+            }
+            first = writeName(field.getName(), first);
+            writeValue(fieldValue);
+        }
+        out.write('}');
+    }
+
+    private static List<Field> findFields(Class<?> type) {
+        if (type.getName().startsWith("java.")) {
+            return Collections.emptyList();
+        }
+        List<Field> fields = new ArrayList<>();
+        for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+            for (Field field : current.getDeclaredFields()) {
+                int modifiers = field.getModifiers();
+                if (Modifier.isStatic(modifiers) || Modifier.isTransient(modifiers) || field.isSynthetic()) {
+                    continue;
+                }
+                try {
+                    field.setAccessible(true);
+                    fields.add(field);
+                } catch (RuntimeException inaccessible) {
+                    // Field is left out
+                }
+            }
+        }
+        return fields;
+    }
+
+    private boolean writeName(String name, boolean first) throws IOException {
+        if (!first) {
+            out.write(',');
+        }
+        writeString(name);
+        out.write(':');
+        return false;
+    }
+
+    private void writeNumber(Number number) throws IOException {
+        if (number instanceof Double || number instanceof Float) {
+            double value = number.doubleValue();
+            if (Double.isNaN(value) || Double.isInfinite(value)) {
+                out.write("null");
+                return;
+            }
+        }
+        out.write(number.toString());
+    }
+
+    private void writeString(String value) throws IOException {
+        out.write('"');
+        int length = value.length();
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    out.write("\\\"");
+                    break;
+                case '\\':
+                    out.write("\\\\");
+                    break;
+                case '\n':
+                    out.write("\\n");
+                    break;
+                case '\r':
+                    out.write("\\r");
+                    break;
+                case '\t':
+                    out.write("\\t");
+                    break;
+                case '<':
+                case '>':
+                case '&':
+                case '=':
+                case '\'':
+                    // Escaped like Gson does, so that the JSON is safe to embed in html.
+                    out.write(String.format("\\u%04x", (int) c));
+                    break;
+                default:
+                    if (c < 0x20 || c == '\u2028' || c == '\u2029') {
+                        out.write(String.format("\\u%04x", (int) c));
+                    } else {
+                        out.write(c);
+                    }
+            }
+        }
+        out.write('"');
+    }
+}
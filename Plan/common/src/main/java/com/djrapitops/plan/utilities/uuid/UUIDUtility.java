@@ -17,7 +17,7 @@
 package com.djrapitops.plan.utilities.uuid;
 
 import com.djrapitops.plan.api.exceptions.database.DBOpException;
-import com.djrapitops.plan.db.access.queries.objects.UserIdentifierQueries;
+import com.djrapitops.plan.db.access.queries.objects.PlayerIdentityQueries;
 import com.djrapitops.plan.system.database.DBSystem;
 import com.djrapitops.plugin.api.utility.UUIDFetcher;
 import com.djrapitops.plugin.logging.L;
@@ -33,7 +33,7 @@ import java.util.UUID;
  * <p>
  * Attempts are made in order:
  * - Parse UUID out of the given String
- * - Find an UUID from the database matching the player name
+ * - Find an UUID from the player identities of the database matching the player name
  * - Find an UUID from Mojang API that matches the player name
  *
  * @author Rsl1122
@@ -82,7 +82,7 @@ public class UUIDUtility {
 
     private Optional<UUID> getUUIDFromDB(String playerName) {
         try {
-            return dbSystem.getDatabase().query(UserIdentifierQueries.fetchPlayerUUIDOf(playerName));
+            return dbSystem.getDatabase().query(PlayerIdentityQueries.fetchPlayerUUIDOf(playerName));
         } catch (DBOpException e) {
             errorHandler.log(L.ERROR, UUIDUtility.class, e);
             return Optional.empty();
@@ -17,6 +17,7 @@
 package com.djrapitops.plan.data.cache;
 
 import com.djrapitops.plan.system.webserver.cache.ResponseCache;
+import com.djrapitops.plan.system.webserver.response.CompressedContent;
 import com.djrapitops.plan.system.webserver.response.Response;
 import org.junit.Test;
 import utilities.RandomData;
@@ -54,4 +55,16 @@ public class ResponseCacheTest {
         ResponseCache.clearCache();
         assertFalse(ResponseCache.isCached(IDENTIFIER));
     }
+
+    @Test
+    public void compressedContentIsNotModifiedForMatchingValidators() {
+        CompressedContent content = CompressedContent.compress(RESPONSE_STRING);
+
+        assertTrue(content.isNotModified(content.getETag(), null));
+        assertTrue(content.isNotModified("\"other\", " + content.getETag(), null));
+        assertTrue(content.isNotModified(null, content.getLastModified()));
+        assertFalse(content.isNotModified("\"other\"", content.getLastModified()));
+        assertFalse(content.isNotModified(null, null));
+        assertEquals(content.getETag(), CompressedContent.compress(RESPONSE_STRING).getETag());
+    }
 }
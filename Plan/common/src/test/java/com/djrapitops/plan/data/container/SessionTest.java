@@ -21,6 +21,7 @@ import com.djrapitops.plan.data.time.WorldTimes;
 import org.junit.Test;
 import utilities.TestConstants;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -101,4 +102,71 @@ public class SessionTest {
 
         assertEquals(5L, worldTimes.getGMTimes("One").getTotal());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void dbSessionValuesAreAvailable() {
+        Session session = new Session(5, TestConstants.PLAYER_ONE_UUID, serverUUID, 1000L, 3000L, 2, 1, 500L);
+
+        assertEquals(5, (int) session.getUnsafe(SessionKeys.DB_ID));
+        assertEquals(serverUUID, session.getUnsafe(SessionKeys.SERVER_UUID));
+        assertEquals(3000L, (long) session.getUnsafe(SessionKeys.END));
+        assertEquals(2000L, (long) session.getUnsafe(SessionKeys.LENGTH));
+        assertEquals(1500L, (long) session.getUnsafe(SessionKeys.ACTIVE_TIME));
+        assertEquals(2, (int) session.getUnsafe(SessionKeys.MOB_KILL_COUNT));
+        assertEquals(1, (int) session.getUnsafe(SessionKeys.DEATH_COUNT));
+        assertEquals(0L, session.getUnsafe(SessionKeys.WORLD_TIMES).getTotal());
+        assertTrue(session.getKeys().contains(SessionKeys.START));
+
+        session.playerKilled(new PlayerKill(TestConstants.PLAYER_TWO_UUID, "Weapon", 2000L));
+        assertEquals(1, (int) session.getUnsafe(SessionKeys.PLAYER_KILL_COUNT));
+    }
+
+    @Test
+    public void activeSessionDoesNotSupportEnd() {
+        Session session = new Session(null, serverUUID, 1000L, "One", "Survival");
+        assertFalse(session.supports(SessionKeys.END));
+        assertFalse(session.supports(SessionKeys.DB_ID));
+
+        session.endSession(2000L);
+        assertEquals(2000L, (long) session.getUnsafe(SessionKeys.END));
+        assertEquals(1000L, session.getLength());
+    }
+
+    @Test
+    public void dbSessionWorldTimesAreCreatedOnce() {
+        Session session = new Session(5, TestConstants.PLAYER_ONE_UUID, serverUUID, 1000L, 3000L, 2, 1, 500L);
+
+        WorldTimes worldTimes = session.getUnsafe(SessionKeys.WORLD_TIMES);
+        assertSame(worldTimes, session.getUnsafe(SessionKeys.WORLD_TIMES));
+    }
+
+    @Test
+    public void rawWorldTimesAndKillsAreStoredInSession() {
+        Session session = new Session(5, TestConstants.PLAYER_ONE_UUID, serverUUID, 1000L, 3000L, 2, 1, 500L);
+        WorldTimes worldTimes = new WorldTimes("One", "Survival", 1000L);
+        List<PlayerKill> kills = Collections.singletonList(new PlayerKill(TestConstants.PLAYER_TWO_UUID, "Weapon", 2000L));
+
+        session.putRawData(SessionKeys.WORLD_TIMES, worldTimes);
+        session.putRawData(SessionKeys.PLAYER_KILLS, kills);
+
+        assertSame(worldTimes, session.getUnsafe(SessionKeys.WORLD_TIMES));
+        assertEquals(kills, session.getUnsafe(SessionKeys.PLAYER_KILLS));
+        assertEquals(1, (int) session.getUnsafe(SessionKeys.PLAYER_KILL_COUNT));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void calculatedSessionValuesCanNotBePut() {
+        Session session = new Session(5, TestConstants.PLAYER_ONE_UUID, serverUUID, 1000L, 3000L, 2, 1, 500L);
+        session.putRawData(SessionKeys.LENGTH, 5L);
+    }
+
+    @Test
+    public void killsCanBeAddedAfterSettingUnmodifiableKills() {
+        Session session = new Session(5, TestConstants.PLAYER_ONE_UUID, serverUUID, 1000L, 3000L, 2, 1, 500L);
+        session.setPlayerKills(Collections.singletonList(new PlayerKill(TestConstants.PLAYER_TWO_UUID, "Weapon", 2000L)));
+
+        session.playerKilled(new PlayerKill(TestConstants.PLAYER_TWO_UUID, "Weapon", 2500L));
+
+        assertEquals(2, (int) session.getUnsafe(SessionKeys.PLAYER_KILL_COUNT));
+    }
+}
@@ -108,4 +108,21 @@ public class SupplierDataContainerTest {
         assertSame(found, secondCall);
     }
 
+    @Test
+    public void manyKeysPutInAnyOrderAreFound() {
+        DataContainer container = new SupplierDataContainer();
+        for (int i = 30; i > 0; i--) {
+            int value = i;
+            container.putSupplier(new Key<>(Integer.class, "KEY_" + i), () -> value);
+        }
+        container.putSupplier(new Key<>(Integer.class, "KEY_15"), () -> -15);
+
+        for (int i = 1; i <= 30; i++) {
+            int expected = i == 15 ? -15 : i;
+            assertEquals(expected, (int) container.getUnsafe(new Key<>(Integer.class, "KEY_" + i)));
+        }
+        assertEquals(30, container.getKeys().size());
+        assertFalse(container.supports(new Key<>(Integer.class, "KEY_31")));
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,102 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.data.store.mutators;
+
+import com.djrapitops.plan.data.container.Session;
+import com.djrapitops.plugin.api.TimeAmount;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests for {@link ActivityTimeline}.
+ *
+ * @author Rsl1122
+ */
+public class ActivityTimelineTest {
+
+    private static final long WEEK = TimeAmount.WEEK.toMillis(1L);
+    private static final long PLAYTIME_THRESHOLD = TimeUnit.HOURS.toMillis(2L);
+    private static final int LOGIN_THRESHOLD = 2;
+
+    private final UUID playerUUID = UUID.randomUUID();
+    private final UUID serverUUID = UUID.randomUUID();
+
+    private long date;
+    private List<Session> sessions;
+
+    @Before
+    public void setUp() {
+        date = System.currentTimeMillis();
+        sessions = new ArrayList<>();
+
+        Random random = new Random(1234L);
+        for (int i = 0; i < 500; i++) {
+            long start = date - (long) (random.nextDouble() * 12L * WEEK);
+            long end = start + TimeUnit.MINUTES.toMillis(random.nextInt(600));
+            long afk = end - start > 0 ? random.nextInt((int) Math.min(end - start, Integer.MAX_VALUE)) : 0L;
+            sessions.add(new Session(i, playerUUID, serverUUID, start, end, 0, 0, afk));
+        }
+        // Sessions on the week boundaries are counted in both weeks.
+        sessions.add(new Session(500, playerUUID, serverUUID, date - WEEK, date - WEEK + 1000L, 0, 0, 0L));
+        sessions.add(new Session(501, playerUUID, serverUUID, date - 3L * WEEK - 1000L, date - 2L * WEEK, 0, 0, 0L));
+        sessions.add(new Session(502, playerUUID, serverUUID, date - 2L * WEEK - 1000L, date + 1000L, 0, 0, 0L));
+    }
+
+    @Test
+    public void timelineActivityIndexMatchesFilteredSessions() {
+        int dateCount = 9;
+        ActivityTimeline timeline = ActivityTimeline.forSessions(sessions, date, dateCount);
+
+        for (int i = 0; i < dateCount; i++) {
+            long time = date - i * WEEK;
+            double expected = calculateWithFilters(time);
+            double result = timeline.getActivityIndex(i, PLAYTIME_THRESHOLD, LOGIN_THRESHOLD).getValue();
+            assertEquals("Activity index of date " + i + " weeks ago", expected, result, 0.0001);
+        }
+    }
+
+    @Test
+    public void indexOfFindsDatesOfTimeline() {
+        ActivityTimeline timeline = new ActivityTimeline(date, 3);
+
+        assertEquals(0, timeline.indexOf(date));
+        assertEquals(2, timeline.indexOf(date - 2L * WEEK));
+        assertEquals(-1, timeline.indexOf(date - 3L * WEEK));
+        assertEquals(-1, timeline.indexOf(date - 1L));
+        assertEquals(-1, timeline.indexOf(date + WEEK));
+    }
+
+    private double calculateWithFilters(long time) {
+        SessionsMutator mutator = new SessionsMutator(sessions);
+        SessionsMutator weekOne = mutator.filterSessionsBetween(time - WEEK, time);
+        SessionsMutator weekTwo = mutator.filterSessionsBetween(time - 2L * WEEK, time - WEEK);
+        SessionsMutator weekThree = mutator.filterSessionsBetween(time - 3L * WEEK, time - 2L * WEEK);
+        return new ActivityIndex(
+                new long[]{weekOne.toActivePlaytime(), weekTwo.toActivePlaytime(), weekThree.toActivePlaytime()},
+                new int[]{weekOne.count(), weekTwo.count(), weekThree.count()},
+                PLAYTIME_THRESHOLD, LOGIN_THRESHOLD
+        ).getValue();
+    }
+}
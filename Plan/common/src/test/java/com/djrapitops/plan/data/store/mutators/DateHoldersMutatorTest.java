@@ -0,0 +1,76 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.data.store.mutators;
+
+import com.djrapitops.plan.data.store.objects.DateHolder;
+import com.djrapitops.plan.data.store.objects.DateObj;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link DateHoldersMutator}
+ *
+ * @author Rsl1122
+ */
+public class DateHoldersMutatorTest {
+
+    private List<DateObj<Integer>> testData;
+
+    @Before
+    public void setUp() {
+        testData = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            testData.add(new DateObj<>(i * 1000L, i));
+        }
+        Collections.shuffle(testData, new Random(5L));
+    }
+
+    @Test
+    public void mostRecentAreSelectedInDescendingOrder() {
+        List<DateObj<Integer>> original = new ArrayList<>(testData);
+
+        List<Long> result = new DateHoldersMutator<>(testData).toMostRecent(3).stream()
+                .map(DateHolder::getDate)
+                .collect(Collectors.toList());
+
+        List<Long> expected = new ArrayList<>();
+        expected.add(99000L);
+        expected.add(98000L);
+        expected.add(97000L);
+        assertEquals(expected, result);
+        assertEquals("Original list was modified", original, testData);
+    }
+
+    @Test
+    public void allAreSelectedWhenCountIsLarger() {
+        assertEquals(100, new DateHoldersMutator<>(testData).toMostRecent(150).size());
+    }
+
+    @Test
+    public void noneAreSelectedWithZeroCount() {
+        assertTrue(new DateHoldersMutator<>(testData).toMostRecent(0).isEmpty());
+    }
+}
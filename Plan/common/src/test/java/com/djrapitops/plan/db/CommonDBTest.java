@@ -18,6 +18,7 @@ package com.djrapitops.plan.db;
 
 import com.djrapitops.plan.data.WebUser;
 import com.djrapitops.plan.data.container.*;
+import com.djrapitops.plan.data.container.builders.TPSBuilder;
 import com.djrapitops.plan.data.store.Key;
 import com.djrapitops.plan.data.store.containers.AnalysisContainer;
 import com.djrapitops.plan.data.store.containers.NetworkContainer;
@@ -27,6 +28,9 @@ import com.djrapitops.plan.data.store.keys.*;
 import com.djrapitops.plan.data.store.mutators.SessionsMutator;
 import com.djrapitops.plan.data.store.objects.DateObj;
 import com.djrapitops.plan.data.store.objects.Nickname;
+import com.djrapitops.plan.data.store.objects.PlayerIdentities;
+import com.djrapitops.plan.data.store.objects.PlayerTableRow;
+import com.djrapitops.plan.data.store.objects.ServerAggregates;
 import com.djrapitops.plan.data.time.GMTimes;
 import com.djrapitops.plan.data.time.WorldTimes;
 import com.djrapitops.plan.db.access.Executable;
@@ -34,6 +38,8 @@ import com.djrapitops.plan.db.access.Query;
 import com.djrapitops.plan.db.access.queries.*;
 import com.djrapitops.plan.db.access.queries.containers.AllPlayerContainersQuery;
 import com.djrapitops.plan.db.access.queries.containers.ContainerFetchQueries;
+import com.djrapitops.plan.db.access.queries.containers.PlayerTableRowsQuery;
+import com.djrapitops.plan.db.access.queries.containers.ServerAggregatesQuery;
 import com.djrapitops.plan.db.access.queries.containers.ServerPlayerContainersQuery;
 import com.djrapitops.plan.db.access.queries.objects.*;
 import com.djrapitops.plan.db.access.transactions.BackupCopyTransaction;
@@ -45,6 +51,7 @@ import com.djrapitops.plan.db.access.transactions.events.*;
 import com.djrapitops.plan.db.access.transactions.init.CleanTransaction;
 import com.djrapitops.plan.db.access.transactions.init.CreateIndexTransaction;
 import com.djrapitops.plan.db.access.transactions.init.CreateTablesTransaction;
+import com.djrapitops.plan.db.access.transactions.init.RollupTransaction;
 import com.djrapitops.plan.db.patches.Patch;
 import com.djrapitops.plan.system.PlanSystem;
 import com.djrapitops.plan.system.database.DBSystem;
@@ -52,6 +59,7 @@ import com.djrapitops.plan.system.info.server.Server;
 import com.djrapitops.plan.system.locale.Locale;
 import com.djrapitops.plan.system.settings.config.Config;
 import com.djrapitops.plan.system.settings.config.PlanConfig;
+import com.djrapitops.plan.system.settings.paths.DatabaseSettings;
 import com.djrapitops.plan.system.settings.paths.WebserverSettings;
 import com.djrapitops.plan.utilities.SHA256Hash;
 import com.djrapitops.plan.utilities.comparators.DateHolderRecentComparator;
@@ -69,6 +77,9 @@ import java.lang.management.ManagementFactory;
 import java.lang.management.OperatingSystemMXBean;
 import java.security.NoSuchAlgorithmException;
 import java.util.*;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
@@ -152,6 +163,11 @@ public abstract class CommonDBTest {
         });
     }
 
+    private void storeRawTPS(UUID server, List<TPS> tpsData) {
+        // TPSStoreTransaction would average the samples to a single row.
+        execute(LargeStoreQueries.storeAllTPSData(Collections.singletonMap(server, tpsData)));
+    }
+
     public void commitTest() {
         db.close();
         db.init();
@@ -197,6 +213,115 @@ public abstract class CommonDBTest {
         assertEquals(expected, commandUse);
     }
 
+    @Test
+    public void groupCommittedTransactionsAreStored() {
+        PlanConfig config = system.getConfigSystem().getConfig();
+        config.set(DatabaseSettings.GROUP_COMMIT, true);
+        try {
+            db.close();
+            db.init();
+            assertTrue(db.getGroupCommitter().isPresent());
+
+            useCommand("plan", 3);
+            useCommand("help", 2);
+            saveUserOne();
+
+            Map<String, Integer> expected = new HashMap<>();
+            expected.put("plan", 3);
+            expected.put("help", 2);
+            assertEquals(expected, db.query(ServerAggregateQueries.commandUsageCounts(serverUUID)));
+            assertTrue(db.query(PlayerFetchQueries.isPlayerRegisteredOnServer(playerUUID, serverUUID)));
+            assertTrue(db.getGroupCommitter().get().getTransactionCount() >= 5);
+        } finally {
+            config.set(DatabaseSettings.GROUP_COMMIT, false);
+            db.close();
+            db.init();
+        }
+    }
+
+    @Test
+    public void groupCommitKeepsSubmissionOrder() throws Exception {
+        PlanConfig config = system.getConfigSystem().getConfig();
+        config.set(DatabaseSettings.GROUP_COMMIT, true);
+        db.setTransactionExecutorServiceProvider(Executors::newSingleThreadExecutor);
+        try {
+            db.close();
+            db.init();
+
+            CountDownLatch blockExecutor = new CountDownLatch(1);
+            List<String> executionOrder = Collections.synchronizedList(new ArrayList<>());
+            db.executeTransaction(new Transaction() {
+                @Override
+                protected void performOperations() {
+                    try {
+                        blockExecutor.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            });
+            db.executeTransaction(orderRecordingTransaction("A", true, executionOrder));
+            db.executeTransaction(orderRecordingTransaction("B", false, executionOrder));
+            Future<?> last = db.executeTransaction(orderRecordingTransaction("C", true, executionOrder));
+            blockExecutor.countDown();
+            last.get();
+
+            assertEquals(Arrays.asList("A", "B", "C"), executionOrder);
+        } finally {
+            config.set(DatabaseSettings.GROUP_COMMIT, false);
+            db.setTransactionExecutorServiceProvider(MoreExecutors::newDirectExecutorService);
+            db.close();
+            db.init();
+        }
+    }
+
+    @Test
+    public void groupCommitContinuesAfterAnErrorInAGroup() throws Exception {
+        PlanConfig config = system.getConfigSystem().getConfig();
+        config.set(DatabaseSettings.GROUP_COMMIT, true);
+        db.setTransactionExecutorServiceProvider(Executors::newSingleThreadExecutor);
+        try {
+            db.close();
+            db.init();
+
+            List<String> executionOrder = Collections.synchronizedList(new ArrayList<>());
+            db.executeTransaction(new Transaction() {
+                @Override
+                public boolean isGroupable() {
+                    return true;
+                }
+
+                @Override
+                protected void performOperations() {
+                    throw new NoClassDefFoundError("Simulated error");
+                }
+            }).get(10L, TimeUnit.SECONDS);
+            // Would not be executed if the failed run was still open.
+            db.executeTransaction(orderRecordingTransaction("A", true, executionOrder)).get(10L, TimeUnit.SECONDS);
+
+            assertEquals(Collections.singletonList("A"), executionOrder);
+        } finally {
+            config.set(DatabaseSettings.GROUP_COMMIT, false);
+            db.setTransactionExecutorServiceProvider(MoreExecutors::newDirectExecutorService);
+            db.close();
+            db.init();
+        }
+    }
+
+    private Transaction orderRecordingTransaction(String name, boolean groupable, List<String> executionOrder) {
+        return new Transaction() {
+            @Override
+            public boolean isGroupable() {
+                return groupable;
+            }
+
+            @Override
+            protected void performOperations() {
+                executionOrder.add(name);
+            }
+        };
+    }
+
     private void useCommand(String commandName) {
         db.executeTransaction(new CommandStoreTransaction(serverUUID, commandName));
     }
@@ -603,6 +728,33 @@ public abstract class CommonDBTest {
         assertFalse("All users were deleted!! D:", found.isEmpty());
     }
 
+    @Test
+    public void cleanTransactionCanBeRunTwiceWithRollups() throws Exception {
+        long day = ServerAggregates.startOfDay(System.currentTimeMillis()) - TimeUnit.DAYS.toMillis(3L);
+        UUID otherServerUUID = UUID.randomUUID();
+        db.executeTransaction(new StoreServerInformationTransaction(new Server(-1, otherServerUUID, "Other", "", 20)));
+        for (UUID server : Arrays.asList(serverUUID, otherServerUUID)) {
+            storeRawTPS(server, Arrays.asList(
+                    TPSBuilder.get().date(day + 1000L).tps(20.0).playersOnline(2).usedCPU(10.0).usedMemory(100L)
+                            .entities(10).chunksLoaded(10).freeDiskSpace(1000L).toTPS(),
+                    TPSBuilder.get().date(day + 2000L).tps(18.0).playersOnline(1).usedCPU(20.0).usedMemory(300L)
+                            .entities(30).chunksLoaded(30).freeDiskSpace(500L).toTPS()
+            ));
+        }
+
+        long keepRawTPSForMs = TimeUnit.DAYS.toMillis(1L);
+        db.executeTransaction(new CleanTransaction(serverUUID, TimeUnit.DAYS.toMillis(1L), keepRawTPSForMs, new TestPluginLogger(), new Locale())).get();
+        db.executeTransaction(new CleanTransaction(serverUUID, TimeUnit.DAYS.toMillis(1L), keepRawTPSForMs, new TestPluginLogger(), new Locale())).get();
+
+        assertEquals(1, db.query(RollupQueries.fetchHourlyTPSOfServer(serverUUID, System.currentTimeMillis())).size());
+        assertTrue(db.query(RollupQueries.fetchHourlyTPSOfServer(otherServerUUID, System.currentTimeMillis())).isEmpty());
+
+        // Raw TPS of this server was cleaned except the peak, TPS of the other server is left for its own clean.
+        Map<UUID, List<TPS>> rawTPS = db.query(LargeFetchQueries.fetchAllTPSData());
+        assertEquals(1, rawTPS.get(serverUUID).size());
+        assertEquals(2, rawTPS.get(otherServerUUID).size());
+    }
+
     @Test
     public void testKillTableGetKillsOfServer() {
         saveUserOne();
@@ -649,6 +801,7 @@ public abstract class CommonDBTest {
         backup.init();
 
         saveAllData();
+        db.executeTransaction(new RollupTransaction(serverUUID));
 
         backup.executeTransaction(new BackupCopyTransaction(db, backup));
 
@@ -662,6 +815,10 @@ public abstract class CommonDBTest {
         assertQueryResultIsEqual(db, backup, LargeFetchQueries.fetchAllTPSData());
         assertQueryResultIsEqual(db, backup, ServerQueries.fetchPlanServerInformation());
         assertQueryResultIsEqual(db, backup, WebUserQueries.fetchAllPlanWebUsers());
+        long now = System.currentTimeMillis();
+        assertQueryResultIsEqual(db, backup, RollupQueries.fetchHourlyTPSOfServer(serverUUID, now));
+        assertQueryResultIsEqual(db, backup, RollupQueries.fetchDailyUniquePlayerCounts(serverUUID, now));
+        assertFalse(backup.query(RollupQueries.fetchDailyUniquePlayerCounts(serverUUID, now)).isEmpty());
     }
 
     private <T> void assertQueryResultIsEqual(Database one, Database two, Query<T> query) {
@@ -1071,6 +1228,257 @@ public abstract class CommonDBTest {
         assertEquals(expected, result);
     }
 
+    @Test
+    public void allPlayerContainersQuerySessionsMatchStoredSessions() {
+        db.executeTransaction(TestData.storeServers());
+        executeTransactions(TestData.storePlayerOneData());
+        executeTransactions(TestData.storePlayerTwoData());
+
+        Map<UUID, Map<UUID, List<Session>>> stored = db.query(SessionQueries.fetchAllSessionsWithoutKillOrWorldData());
+        for (PlayerContainer player : db.query(new AllPlayerContainersQuery())) {
+            UUID uuid = player.getUnsafe(PlayerKeys.UUID);
+            List<Session> expected = stored.values().stream()
+                    .map(byPlayer -> byPlayer.getOrDefault(uuid, Collections.emptyList()))
+                    .flatMap(Collection::stream)
+                    .collect(Collectors.toList());
+
+            SessionsMutator sessionsMutator = SessionsMutator.forContainer(player);
+            assertEquals(expected.size(), sessionsMutator.count());
+            assertEquals(new SessionsMutator(expected).toLastSeen(), (long) player.getUnsafe(PlayerKeys.LAST_SEEN));
+            assertEquals(new SessionsMutator(expected).toDeathCount(), (int) player.getUnsafe(PlayerKeys.DEATH_COUNT));
+        }
+    }
+
+    @Test
+    public void serverAggregatesAreUpdatedByTransactions() {
+        saveTwoWorlds();
+        saveUserOne();
+        saveUserTwo();
+        ServerAggregates loaded = db.getServerAggregates(serverUUID).orElseThrow(AssertionError::new);
+
+        long end = System.currentTimeMillis();
+        Session session = new Session(player2UUID, serverUUID, end - 10000L, worlds[0], "SURVIVAL");
+        session.endSession(end);
+        session.setWorldTimes(createWorldTimes());
+        session.setPlayerKills(createKills());
+        db.executeTransaction(new SessionEndTransaction(session));
+        db.executeTransaction(new PlayerServerRegisterTransaction(player2UUID, () -> end, "Test", serverUUID));
+
+        ServerAggregates updated = db.getServerAggregates(serverUUID).orElseThrow(AssertionError::new);
+        ServerAggregates reloaded = db.query(new ServerAggregatesQuery(serverUUID));
+        List<Session> noActiveSessions = Collections.emptyList();
+
+        assertSame(loaded, updated);
+        assertEquals(reloaded.getSessionCount(noActiveSessions), updated.getSessionCount(noActiveSessions));
+        assertEquals(reloaded.getPlaytime(noActiveSessions), updated.getPlaytime(noActiveSessions));
+        assertEquals(2, updated.getPlayerKillCount(noActiveSessions));
+        assertEquals(reloaded.getPlayerKillCount(noActiveSessions), updated.getPlayerKillCount(noActiveSessions));
+        assertEquals(reloaded.getWorldTimes().getTotal(), updated.getWorldTimes().getTotal());
+        assertEquals(reloaded.getUniquePerDay(noActiveSessions), updated.getUniquePerDay(noActiveSessions));
+        assertEquals(reloaded.getNewPerDay(), updated.getNewPerDay());
+    }
+
+    @Test
+    public void aggregatesOfOtherServersAreNotAvailable() {
+        assertFalse(db.getServerAggregates(UUID.randomUUID()).isPresent());
+        assertSame(db.getServerAggregates(serverUUID).orElseThrow(AssertionError::new),
+                db.getServerAggregates(serverUUID).orElseThrow(AssertionError::new));
+    }
+
+    @Test
+    public void playerIdentitiesAreUpdatedByTransactions() throws Exception {
+        saveUserOne();
+        db.executeTransaction(new PlayerRegisterTransaction(player2UUID, () -> 123456789L, "Test")).get();
+        PlayerIdentities loaded = db.getPlayerIdentities().orElseThrow(AssertionError::new);
+        assertEquals(Optional.of(playerUUID), loaded.getUUID(TestConstants.PLAYER_ONE_NAME.toUpperCase()));
+        assertEquals(Optional.of("Test"), loaded.getName(player2UUID));
+
+        db.executeTransaction(new PlayerRegisterTransaction(player2UUID, () -> 123456789L, "Renamed")).get();
+        assertEquals(Optional.of(player2UUID), db.query(PlayerIdentityQueries.fetchPlayerUUIDOf("renamed")));
+        assertFalse(loaded.getUUID("Test").isPresent());
+
+        db.executeTransaction(new RemovePlayerTransaction(player2UUID)).get();
+        assertFalse(db.query(PlayerIdentityQueries.isPlayerRegistered(player2UUID)));
+        assertEquals(db.query(UserIdentifierQueries.fetchAllPlayerNames()), db.query(PlayerIdentityQueries.fetchAllPlayerNames()));
+    }
+
+    @Test
+    public void playerIdentityLookupsDoNotWaitForTheIndex() throws Exception {
+        db.setTransactionExecutorServiceProvider(Executors::newSingleThreadExecutor);
+        try {
+            db.close();
+            db.init();
+            db.executeTransaction(new PlayerRegisterTransaction(playerUUID, () -> 123456789L, TestConstants.PLAYER_ONE_NAME)).get();
+            db.clearPlayerIdentities();
+
+            CountDownLatch blockExecutor = new CountDownLatch(1);
+            db.executeTransaction(new Transaction() {
+                @Override
+                protected void performOperations() {
+                    try {
+                        blockExecutor.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            });
+
+            assertFalse(db.getPlayerIdentities().isPresent());
+            assertEquals(Optional.of(playerUUID), db.query(PlayerIdentityQueries.fetchPlayerUUIDOf(TestConstants.PLAYER_ONE_NAME)));
+
+            blockExecutor.countDown();
+            db.executeTransaction(new Transaction() {
+                @Override
+                protected void performOperations() {
+                    // Executed after the index has been loaded.
+                }
+            }).get();
+            assertTrue(db.getPlayerIdentities().isPresent());
+        } finally {
+            db.setTransactionExecutorServiceProvider(MoreExecutors::newDirectExecutorService);
+            db.close();
+            db.init();
+        }
+    }
+
+    @Test
+    public void playerTableRowsMatchPlayerContainers() {
+        saveTwoWorlds();
+        saveUserOne();
+        saveUserTwo();
+        long now = System.currentTimeMillis();
+        saveGeoInfo(playerUUID, new GeoInfo("1.2.3.4", "OldLocation", now - 20000L, "3"));
+        saveGeoInfo(playerUUID, new GeoInfo("1.2.3.5", "NewLocation", now - 10000L, "4"));
+        for (long daysAgo : new long[]{1L, 2L, 9L, 16L}) {
+            long start = now - TimeUnit.DAYS.toMillis(daysAgo);
+            Session session = new Session(playerUUID, serverUUID, start, worlds[0], "SURVIVAL");
+            session.endSession(start + TimeUnit.HOURS.toMillis(daysAgo));
+            session.setWorldTimes(createWorldTimes());
+            db.executeTransaction(new SessionEndTransaction(session));
+        }
+        commitTest();
+
+        long activeMsThreshold = TimeUnit.HOURS.toMillis(2L);
+        int activeLoginThreshold = 1;
+        Map<UUID, PlayerTableRow> rows = db.query(new PlayerTableRowsQuery(now, activeMsThreshold, activeLoginThreshold))
+                .stream().collect(Collectors.toMap(PlayerTableRow::getPlayerUUID, row -> row));
+
+        assertEquals(2, rows.size());
+        assertEquals("NewLocation", rows.get(playerUUID).getGeolocation());
+        assertEquals("-", rows.get(player2UUID).getGeolocation());
+        for (PlayerContainer player : db.query(new AllPlayerContainersQuery())) {
+            PlayerTableRow row = rows.get(player.getUnsafe(PlayerKeys.UUID));
+            SessionsMutator sessionsMutator = SessionsMutator.forContainer(player);
+
+            assertEquals(player.getUnsafe(PlayerKeys.NAME), row.getName());
+            assertEquals(sessionsMutator.count(), row.getSessionCount());
+            assertEquals(sessionsMutator.toPlaytime(), row.getPlaytime());
+            assertEquals(player.getActivityIndex(now, activeMsThreshold, activeLoginThreshold).getValue(),
+                    row.getActivityIndex().getValue(), 0.0001);
+        }
+        assertEquals(4, rows.get(playerUUID).getSessionCount());
+        assertTrue(rows.get(playerUUID).getActivityIndex().getValue() > 0.0);
+
+        // Active sessions are added to the rows like they are added to the SESSIONS of a PlayerContainer.
+        Session active = new Session(player2UUID, serverUUID, now - TimeUnit.HOURS.toMillis(3L), worlds[0], "SURVIVAL");
+        PlayerTableRow activeRow = rows.get(player2UUID).withActiveSession(active, now, activeMsThreshold, activeLoginThreshold);
+        PlayerContainer player2 = db.query(ContainerFetchQueries.fetchPlayerContainer(player2UUID));
+        player2.putRawData(PlayerKeys.ACTIVE_SESSION, active);
+        assertEquals(rows.get(player2UUID).getSessionCount() + 1, activeRow.getSessionCount());
+        assertEquals(now, activeRow.getLastSeen());
+        assertEquals(player2.getActivityIndex(now, activeMsThreshold, activeLoginThreshold).getValue(),
+                activeRow.getActivityIndex().getValue(), 0.0001);
+    }
+
+    @Test
+    public void rollupsIgnoreUnavailableTPSValues() {
+        long day = ServerAggregates.startOfDay(System.currentTimeMillis()) - TimeUnit.DAYS.toMillis(3L);
+        long hour = TimeUnit.HOURS.toMillis(1L);
+        List<TPS> tpsData = Arrays.asList(
+                TPSBuilder.get().date(day + 1000L).tps(20.0).playersOnline(2).usedCPU(10.0).usedMemory(100L)
+                        .entities(10).chunksLoaded(10).freeDiskSpace(1000L).toTPS(),
+                TPSBuilder.get().date(day + 2000L).tps(-1).playersOnline(4).usedCPU(-1).usedMemory(300L)
+                        .entities(-1).chunksLoaded(-1).freeDiskSpace(-1).toTPS(),
+                // An hour where nothing but players and memory was available.
+                TPSBuilder.get().date(day + hour + 1000L).tps(-1).playersOnline(1).usedCPU(-1).usedMemory(100L)
+                        .entities(-1).chunksLoaded(-1).freeDiskSpace(-1).toTPS()
+        );
+        storeRawTPS(serverUUID, tpsData);
+
+        db.executeTransaction(new RollupTransaction(serverUUID));
+
+        List<TPS> hourly = db.query(RollupQueries.fetchHourlyTPSOfServer(serverUUID, System.currentTimeMillis()));
+        hourly.sort(Comparator.comparingLong(TPS::getDate));
+        assertEquals(2, hourly.size());
+
+        TPS mixed = hourly.get(0);
+        assertEquals(20.0, mixed.getTicksPerSecond(), 0.001);
+        assertEquals(4, mixed.getPlayers());
+        assertEquals(10.0, mixed.getCPUUsage(), 0.001);
+        assertEquals(10, mixed.getEntityCount());
+        assertEquals(10, mixed.getChunksLoaded());
+        assertEquals(1000L, mixed.getFreeDiskSpace());
+
+        TPS unavailable = hourly.get(1);
+        assertEquals(-1.0, unavailable.getTicksPerSecond(), 0.001);
+        assertEquals(-1.0, unavailable.getCPUUsage(), 0.001);
+        assertEquals(-1, unavailable.getEntityCount());
+        assertEquals(-1, unavailable.getChunksLoaded());
+        assertEquals(-1L, unavailable.getFreeDiskSpace());
+    }
+
+    @Test
+    public void rollupsAggregateTPSAndSessions() {
+        saveTwoWorlds();
+        saveUserOne();
+        saveUserTwo();
+        long day = ServerAggregates.startOfDay(System.currentTimeMillis()) - TimeUnit.DAYS.toMillis(3L);
+        List<TPS> tpsData = Arrays.asList(
+                TPSBuilder.get().date(day + 1000L).tps(20.0).playersOnline(2).usedCPU(10.0).usedMemory(100L)
+                        .entities(10).chunksLoaded(10).freeDiskSpace(1000L).toTPS(),
+                TPSBuilder.get().date(day + 2000L).tps(18.0).playersOnline(4).usedCPU(20.0).usedMemory(300L)
+                        .entities(30).chunksLoaded(30).freeDiskSpace(500L).toTPS()
+        );
+        storeRawTPS(serverUUID, tpsData);
+
+        Session session = new Session(playerUUID, serverUUID, day + 1000L, worlds[0], "SURVIVAL");
+        session.endSession(day + 5000L);
+        db.executeTransaction(new SessionEndTransaction(session));
+        Session session2 = new Session(player2UUID, serverUUID, day + 2000L, worlds[0], "SURVIVAL");
+        session2.endSession(day + 3000L);
+        db.executeTransaction(new SessionEndTransaction(session2));
+
+        db.executeTransaction(new RollupTransaction(serverUUID));
+        // Running again should not duplicate the aggregates.
+        db.executeTransaction(new RollupTransaction(serverUUID));
+
+        List<TPS> hourly = db.query(RollupQueries.fetchHourlyTPSOfServer(serverUUID, System.currentTimeMillis()));
+        assertEquals(1, hourly.size());
+        TPS hour = hourly.get(0);
+        assertEquals(day, hour.getDate());
+        assertEquals(19.0, hour.getTicksPerSecond(), 0.001);
+        assertEquals(4, hour.getPlayers());
+        assertEquals(500L, hour.getFreeDiskSpace());
+
+        Map<Long, Integer> uniquePerDay = db.query(RollupQueries.fetchDailyUniquePlayerCounts(serverUUID, System.currentTimeMillis()));
+        assertEquals(Collections.singletonMap(day, 2), uniquePerDay);
+
+        // A server that is behind the others is rolled up from its own last period.
+        UUID laggingServerUUID = UUID.randomUUID();
+        db.executeTransaction(new StoreServerInformationTransaction(new Server(-1, laggingServerUUID, "Lagging", "", 20)));
+        storeRawTPS(laggingServerUUID, Collections.singletonList(
+                TPSBuilder.get().date(day - TimeUnit.DAYS.toMillis(1L)).tps(20.0).playersOnline(1).usedCPU(10.0).usedMemory(100L)
+                        .entities(10).chunksLoaded(10).freeDiskSpace(1000L).toTPS()
+        ));
+        db.executeTransaction(new RollupTransaction(serverUUID));
+        // Only the data of the server doing the rollup is rolled up.
+        assertTrue(db.query(RollupQueries.fetchHourlyTPSOfServer(laggingServerUUID, System.currentTimeMillis())).isEmpty());
+        db.executeTransaction(new RollupTransaction(laggingServerUUID));
+
+        assertEquals(1, db.query(RollupQueries.fetchHourlyTPSOfServer(laggingServerUUID, System.currentTimeMillis())).size());
+        assertEquals(1, db.query(RollupQueries.fetchHourlyTPSOfServer(serverUUID, System.currentTimeMillis())).size());
+    }
+
     // This test is against issue https://github.com/Rsl1122/Plan-PlayerAnalytics/issues/956
     @Test
     public void analysisContainerPlayerNamesAreCollectedFromBaseUsersCorrectly() {
@@ -23,6 +23,9 @@ import com.djrapitops.plan.db.access.transactions.Transaction;
 import com.djrapitops.plan.db.access.transactions.commands.RemoveEverythingTransaction;
 import com.djrapitops.plan.db.access.transactions.init.CreateTablesTransaction;
 import com.djrapitops.plan.db.patches.Patch;
+import com.djrapitops.plan.db.sql.tables.KillsTable;
+import com.djrapitops.plan.db.sql.tables.SessionsTable;
+import com.djrapitops.plan.db.sql.tables.WorldTimesTable;
 import com.djrapitops.plan.system.settings.config.PlanConfig;
 import com.djrapitops.plan.system.settings.paths.DatabaseSettings;
 import com.google.common.util.concurrent.MoreExecutors;
@@ -108,6 +111,22 @@ public class DBPatchH2RegressionTest extends DBPatchRegressionTest {
         underTest.close();
     }
 
+    @Test
+    public void h2InterruptedPatchesCopyEveryRowOnce() {
+        insertSecondChunkData(underTest);
+
+        applyPatchesInterruptingChunkedCopies(underTest);
+
+        assertRowCount(underTest, SessionsTable.TABLE_NAME, 2);
+        assertRowCount(underTest, KillsTable.TABLE_NAME, 2);
+        assertRowCount(underTest, WorldTimesTable.TABLE_NAME, 2);
+    }
+
+    @Test
+    public void h2CopiesRowsWithNullChunkColumn() {
+        assertNullKeyRowsAreCopiedOnce(underTest);
+    }
+
     @Test
     public void h2PatchesAreApplied() {
         Patch[] patches = underTest.patches();
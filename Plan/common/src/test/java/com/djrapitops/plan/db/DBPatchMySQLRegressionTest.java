@@ -25,6 +25,9 @@ import com.djrapitops.plan.db.access.transactions.commands.RemoveEverythingTrans
 import com.djrapitops.plan.db.access.transactions.init.CreateTablesTransaction;
 import com.djrapitops.plan.db.patches.KillsOptimizationPatch;
 import com.djrapitops.plan.db.patches.Patch;
+import com.djrapitops.plan.db.sql.tables.KillsTable;
+import com.djrapitops.plan.db.sql.tables.SessionsTable;
+import com.djrapitops.plan.db.sql.tables.WorldTimesTable;
 import com.djrapitops.plan.system.PlanSystem;
 import com.djrapitops.plan.system.settings.config.PlanConfig;
 import com.djrapitops.plan.system.settings.paths.DatabaseSettings;
@@ -139,6 +142,22 @@ public class DBPatchMySQLRegressionTest extends DBPatchRegressionTest {
         underTest.close();
     }
 
+    @Test
+    public void mysqlInterruptedPatchesCopyEveryRowOnce() {
+        insertSecondChunkData(underTest);
+
+        applyPatchesInterruptingChunkedCopies(underTest);
+
+        assertRowCount(underTest, SessionsTable.TABLE_NAME, 2);
+        assertRowCount(underTest, KillsTable.TABLE_NAME, 2);
+        assertRowCount(underTest, WorldTimesTable.TABLE_NAME, 2);
+    }
+
+    @Test
+    public void mysqlCopiesRowsWithNullChunkColumn() {
+        assertNullKeyRowsAreCopiedOnce(underTest);
+    }
+
     @Test
     public void mysqlPatchesAreApplied() {
         Patch[] patches = underTest.patches();
@@ -16,15 +16,22 @@
  */
 package com.djrapitops.plan.db;
 
+import com.djrapitops.plan.api.exceptions.database.DBOpException;
+import com.djrapitops.plan.db.access.QueryAllStatement;
 import com.djrapitops.plan.db.access.transactions.Transaction;
+import com.djrapitops.plan.db.patches.KillsOptimizationPatch;
 import com.djrapitops.plan.db.patches.Patch;
+import com.djrapitops.plan.db.patches.SessionsOptimizationPatch;
+import com.djrapitops.plan.db.patches.WorldTimesOptimizationPatch;
 import com.djrapitops.plan.db.sql.tables.*;
 import utilities.TestConstants;
 
+import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
 
-import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.*;
 
 public abstract class DBPatchRegressionTest {
 
@@ -38,6 +45,10 @@ public abstract class DBPatchRegressionTest {
     String insertKill = "INSERT INTO plan_kills (killer_id, session_id, server_id, victim_id,  weapon, date) VALUES (1,1,1, 2, 'Sword', 3456)";
     String insertWorld = "INSERT INTO plan_worlds (server_id, world_name) VALUES (1, 'World')";
     String insertWorldTimes = "INSERT INTO plan_world_times (user_id, server_id, world_id, session_id, survival_time) VALUES (1,1,1,1,1234)";
+    // Far enough from the first session that the rows are copied in a second chunk.
+    String insertSecondChunkSession = "INSERT INTO plan_sessions (id, user_id, server_id, session_start, session_end, mob_kills, deaths, afk_time) VALUES (20001,2,1,2345,6789,3,3,3)";
+    String insertSecondChunkKill = "INSERT INTO plan_kills (killer_id, session_id, server_id, victim_id,  weapon, date) VALUES (2,20001,1, 1, 'Bow', 4567)";
+    String insertSecondChunkWorldTimes = "INSERT INTO plan_world_times (user_id, server_id, world_id, session_id, survival_time) VALUES (2,1,1,20001,2345)";
 
     protected void dropAllTables(SQLDB underTest) {
         underTest.executeTransaction(new Transaction() {
@@ -79,6 +90,138 @@ public abstract class DBPatchRegressionTest {
         });
     }
 
+    protected void insertSecondChunkData(SQLDB underTest) {
+        underTest.executeTransaction(new Transaction() {
+            @Override
+            protected void performOperations() {
+                execute(insertSecondChunkSession);
+                execute(insertSecondChunkKill);
+                execute(insertSecondChunkWorldTimes);
+            }
+        });
+    }
+
+    /**
+     * Apply the patches so that the patches that copy in chunks are first interrupted after their first chunk.
+     *
+     * @param underTest Database with the old schema.
+     */
+    protected void applyPatchesInterruptingChunkedCopies(SQLDB underTest) {
+        Patch[] patches = underTest.patches();
+        for (Patch patch : patches) {
+            Patch interrupted = interruptedAfterFirstChunk(patch);
+            if (interrupted != null) {
+                try {
+                    interrupted.executeTransaction(underTest);
+                    fail(patch.getClass().getSimpleName() + " was not interrupted");
+                } catch (DBOpException expected) {
+                    // The first chunk has been committed, the rest of the copy is left for the next run.
+                }
+            }
+            underTest.executeTransaction(patch);
+        }
+        assertPatchesHaveBeenApplied(patches);
+    }
+
+    private Patch interruptedAfterFirstChunk(Patch patch) {
+        if (patch instanceof SessionsOptimizationPatch) {
+            return new SessionsOptimizationPatch() {
+                @Override
+                protected void commitPartially() {
+                    super.commitPartially();
+                    throw new IllegalStateException("Interrupted");
+                }
+            };
+        } else if (patch instanceof KillsOptimizationPatch) {
+            // temp_kills is left with the old schema, which the next run continues from.
+            return new KillsOptimizationPatch() {
+                @Override
+                protected void commitPartially() {
+                    super.commitPartially();
+                    throw new IllegalStateException("Interrupted");
+                }
+            };
+        } else if (patch instanceof WorldTimesOptimizationPatch) {
+            return new WorldTimesOptimizationPatch() {
+                @Override
+                protected void commitPartially() {
+                    super.commitPartially();
+                    throw new IllegalStateException("Interrupted");
+                }
+            };
+        }
+        return null;
+    }
+
+    /**
+     * Copy a table that has a row with a NULL chunk column, interrupting the copy after the first chunk.
+     *
+     * @param underTest Database to create the tables in.
+     */
+    protected void assertNullKeyRowsAreCopiedOnce(SQLDB underTest) {
+        underTest.executeTransaction(new Transaction() {
+            @Override
+            protected void performOperations() {
+                execute("DROP TABLE IF EXISTS temp_chunk_test");
+                execute("DROP TABLE IF EXISTS plan_chunk_test");
+                execute("CREATE TABLE temp_chunk_test (session_id integer, value integer NOT NULL)");
+                execute("INSERT INTO temp_chunk_test (session_id, value) VALUES (1, 1)");
+                execute("INSERT INTO temp_chunk_test (session_id, value) VALUES (20001, 2)");
+                execute("INSERT INTO temp_chunk_test (session_id, value) VALUES (NULL, 3)");
+            }
+        });
+
+        try {
+            underTest.executeTransaction(new ChunkTestPatch() {
+                @Override
+                protected void commitPartially() {
+                    super.commitPartially();
+                    throw new IllegalStateException("Interrupted");
+                }
+            });
+            fail("Copy was not interrupted");
+        } catch (DBOpException expected) {
+            // The first chunk has been committed, the rest of the copy is left for the next run.
+        }
+        ChunkTestPatch patch = new ChunkTestPatch();
+        underTest.executeTransaction(patch);
+
+        assertTrue(patch.hasBeenApplied());
+        assertRowCount(underTest, "plan_chunk_test", 3);
+        int nullKeyRows = underTest.query(new QueryAllStatement<Integer>("SELECT COUNT(1) as c FROM plan_chunk_test WHERE session_id IS NULL AND value=3") {
+            @Override
+            public Integer processResults(ResultSet set) throws SQLException {
+                return set.next() ? set.getInt("c") : 0;
+            }
+        });
+        assertEquals(1, nullKeyRows);
+    }
+
+    private static class ChunkTestPatch extends Patch {
+        @Override
+        public boolean hasBeenApplied() {
+            return !hasTable("temp_chunk_test");
+        }
+
+        @Override
+        protected void applyPatch() {
+            execute("CREATE TABLE IF NOT EXISTS plan_chunk_test (session_id integer, value integer NOT NULL)");
+            copyInChunks("temp_chunk_test", "plan_chunk_test", "session_id",
+                    "INSERT INTO plan_chunk_test (session_id, value) SELECT session_id, value FROM temp_chunk_test");
+            dropTable("temp_chunk_test");
+        }
+    }
+
+    protected void assertRowCount(SQLDB underTest, String tableName, int expected) {
+        int count = underTest.query(new QueryAllStatement<Integer>("SELECT COUNT(1) as c FROM " + tableName) {
+            @Override
+            public Integer processResults(ResultSet set) throws SQLException {
+                return set.next() ? set.getInt("c") : 0;
+            }
+        });
+        assertEquals(tableName, expected, count);
+    }
+
     protected void assertPatchesHaveBeenApplied(Patch[] patches) {
         List<String> failed = new ArrayList<>();
         for (Patch patch : patches) {
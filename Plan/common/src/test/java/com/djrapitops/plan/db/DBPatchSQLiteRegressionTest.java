@@ -23,6 +23,9 @@ import com.djrapitops.plan.db.access.transactions.Transaction;
 import com.djrapitops.plan.db.access.transactions.commands.RemoveEverythingTransaction;
 import com.djrapitops.plan.db.access.transactions.init.CreateTablesTransaction;
 import com.djrapitops.plan.db.patches.Patch;
+import com.djrapitops.plan.db.sql.tables.KillsTable;
+import com.djrapitops.plan.db.sql.tables.SessionsTable;
+import com.djrapitops.plan.db.sql.tables.WorldTimesTable;
 import com.google.common.util.concurrent.MoreExecutors;
 import org.junit.After;
 import org.junit.Before;
@@ -101,6 +104,22 @@ public class DBPatchSQLiteRegressionTest extends DBPatchRegressionTest {
         underTest.close();
     }
 
+    @Test
+    public void sqliteInterruptedPatchesCopyEveryRowOnce() {
+        insertSecondChunkData(underTest);
+
+        applyPatchesInterruptingChunkedCopies(underTest);
+
+        assertRowCount(underTest, SessionsTable.TABLE_NAME, 2);
+        assertRowCount(underTest, KillsTable.TABLE_NAME, 2);
+        assertRowCount(underTest, WorldTimesTable.TABLE_NAME, 2);
+    }
+
+    @Test
+    public void sqliteCopiesRowsWithNullChunkColumn() {
+        assertNullKeyRowsAreCopiedOnce(underTest);
+    }
+
     @Test
     public void sqlitePatchesAreApplied() {
         Patch[] patches = underTest.patches();
@@ -0,0 +1,46 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.db.sql.parsing;
+
+import com.djrapitops.plan.db.sql.tables.PingTable;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests for {@link Insert}.
+ *
+ * @author Rsl1122
+ */
+@RunWith(JUnitPlatform.class)
+class InsertTest {
+
+    @Test
+    void singleRowIsUnchanged() {
+        assertEquals(PingTable.INSERT_STATEMENT, Insert.multipleRows(PingTable.INSERT_STATEMENT, 1));
+    }
+
+    @Test
+    void valuesAreRepeatedForEachRow() {
+        String expected = "INSERT INTO table (a, b) VALUES ((SELECT id FROM other WHERE c=?), ?), ((SELECT id FROM other WHERE c=?), ?)";
+        String result = Insert.multipleRows("INSERT INTO table (a, b) VALUES ((SELECT id FROM other WHERE c=?), ?)", 2);
+        assertEquals(expected, result);
+    }
+
+}
@@ -108,6 +108,11 @@ public class GeolocationCacheTest {
 
             assertFalse(underTest.isCached(ip));
             String countrySecondCall = underTest.getCountry(ip);
+            if ("Not Known".equals(expIp)) {
+                // Failed lookups are tried again.
+                assertFalse(underTest.isCached(ip));
+                continue;
+            }
             assertTrue(underTest.isCached(ip));
 
             String countryThirdCall = underTest.getCountry(ip);
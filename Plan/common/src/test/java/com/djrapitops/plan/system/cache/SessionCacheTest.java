@@ -22,11 +22,11 @@ import org.junit.Before;
 import org.junit.Test;
 import utilities.TestConstants;
 
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
-import static org.junit.Assert.assertEquals;
-import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.*;
 
 public class SessionCacheTest {
 
@@ -53,4 +53,16 @@ public class SessionCacheTest {
         assertTrue(cachedSession.isPresent());
         assertEquals(session, cachedSession.get());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void activeSessionSnapshotIsReusedUntilSessionsChange() {
+        Map<UUID, Session> snapshot = SessionCache.getActiveSessions();
+        assertSame(snapshot, SessionCache.getActiveSessions());
+        assertEquals(session, snapshot.get(uuid));
+
+        new SessionCache().endSession(uuid, 23456L);
+
+        assertTrue(snapshot.containsKey(uuid));
+        assertFalse(SessionCache.getActiveSessions().containsKey(uuid));
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.system.info.connection;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.*;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link InfoRequestPayload}.
+ *
+ * @author Rsl1122
+ */
+public class InfoRequestPayloadTest {
+
+    @Test
+    public void variablesSurviveEncoding() throws IOException {
+        Map<String, String> variables = new HashMap<>();
+        variables.put("sender", "e4ec2edd-e0ed-3c58-a87d-8a9021899479");
+        variables.put("html", "PGh0bWw+;&variable;=\u00e4\u20ac=</html>");
+        variables.put("empty", "");
+
+        byte[] encoded = InfoRequestPayload.encode(variables);
+
+        assertEquals(variables, InfoRequestPayload.decode(new ByteArrayInputStream(encoded)));
+    }
+
+    @Test(expected = IOException.class)
+    public void textFormatIsNotDecoded() throws IOException {
+        byte[] textFormat = "sender=e4ec2edd-e0ed-3c58-a87d-8a9021899479;&variable;type=SetupRequest".getBytes();
+
+        InfoRequestPayload.decode(new ByteArrayInputStream(textFormat));
+    }
+
+    @Test
+    public void payloadAboveEightMegabytesIsDecoded() throws IOException {
+        char[] repeated = new char[9 * 1024 * 1024];
+        Arrays.fill(repeated, 'a');
+        Map<String, String> variables = new HashMap<>();
+        variables.put("html", new String(repeated));
+
+        byte[] encoded = InfoRequestPayload.encode(variables);
+
+        assertTrue(InfoRequestPayload.isWithinSizeLimit(encoded));
+        assertEquals(variables, InfoRequestPayload.decode(new ByteArrayInputStream(encoded)));
+    }
+
+    @Test
+    public void payloadThatDoesNotCompressIsSentAsText() throws IOException {
+        byte[] random = new byte[9 * 1024 * 1024];
+        new Random().nextBytes(random);
+        Map<String, String> variables = new HashMap<>();
+        variables.put("html", Base64.getEncoder().encodeToString(random));
+
+        byte[] encoded = InfoRequestPayload.encode(variables);
+
+        assertFalse(InfoRequestPayload.isWithinSizeLimit(encoded));
+    }
+
+    @Test(expected = IOException.class)
+    public void madeUpVariableLengthIsRejected() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        bytes.write(2);
+        try (DataOutputStream out = new DataOutputStream(new GZIPOutputStream(bytes))) {
+            out.writeInt(1);
+            out.writeInt(Integer.MAX_VALUE);
+        }
+
+        InfoRequestPayload.decode(new ByteArrayInputStream(bytes.toByteArray()));
+    }
+}
@@ -111,6 +111,7 @@ public class ConfigSettingKeyTest {
         settings.remove(DisplaySettings.GRAPH_DISK_THRESHOLD_HIGH);
         settings.remove(DisplaySettings.WORLD_ALIASES);
         settings.remove(TimeSettings.ANALYSIS_REFRESH_PERIOD);
+        settings.remove(TimeSettings.ENTITY_CHUNK_SAMPLE_PERIOD);
         return settings;
     }
 
@@ -0,0 +1,76 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.system.tasks;
+
+import com.djrapitops.plan.data.container.Ping;
+import org.junit.Test;
+
+import java.util.UUID;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link PingSampler.PingBuffer}.
+ *
+ * @author Rsl1122
+ */
+public class PingBufferTest {
+
+    private final UUID serverUUID = UUID.randomUUID();
+
+    @Test
+    public void aggregateIgnoresUnusableValuesForMinAndMax() {
+        PingSampler.PingBuffer buffer = new PingSampler.PingBuffer(10);
+        buffer.add(1L, -1);
+        buffer.add(2L, 50);
+        buffer.add(3L, 100);
+        buffer.add(4L, 5000);
+
+        Ping ping = buffer.aggregate(serverUUID);
+
+        assertEquals(4L, ping.getDate());
+        assertEquals(50, ping.getMin());
+        assertEquals(100, ping.getMax());
+        // Median of all values, same as PingStoreTransaction
+        assertEquals(75.0, ping.getAverage(), 0.001);
+    }
+
+    @Test
+    public void oldestSamplesAreOverwritten() {
+        PingSampler.PingBuffer buffer = new PingSampler.PingBuffer(3);
+        for (int i = 1; i <= 5; i++) {
+            buffer.add(i, i * 10);
+        }
+
+        Ping ping = buffer.aggregate(serverUUID);
+
+        assertEquals(5L, ping.getDate());
+        assertEquals(30, ping.getMin());
+        assertEquals(50, ping.getMax());
+        assertEquals(40.0, ping.getAverage(), 0.001);
+    }
+
+    @Test
+    public void noAggregateWithoutUsableValues() {
+        PingSampler.PingBuffer buffer = new PingSampler.PingBuffer(3);
+        buffer.add(1L, -1);
+        assertNull(buffer.aggregate(serverUUID));
+
+        buffer.clear();
+        assertNull(buffer.aggregate(serverUUID));
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.system.tasks;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link TPSSampleBuffer}.
+ *
+ * @author Rsl1122
+ */
+public class TPSSampleBufferTest {
+
+    @Test
+    public void capacityIsRoundedToPowerOfTwo() {
+        assertEquals(128, new TPSSampleBuffer(100).getCapacity());
+        assertEquals(128, new TPSSampleBuffer(128).getCapacity());
+    }
+
+    @Test
+    public void samplesAreDrainedInOrder() {
+        TPSSampleBuffer buffer = new TPSSampleBuffer(4);
+        for (int i = 0; i < 10; i++) {
+            assertTrue(buffer.add(i, 20.0, i, -1, -1));
+            if (i % 3 == 2) {
+                buffer.drain((date, tps, players, entities, chunks) -> {
+                });
+            }
+        }
+
+        List<Long> dates = new ArrayList<>();
+        int drained = buffer.drain((date, tps, players, entities, chunks) -> {
+            dates.add(date);
+            assertEquals(date, players);
+        });
+
+        assertEquals(1, drained);
+        assertEquals(9L, (long) dates.get(0));
+        assertTrue(buffer.isEmpty());
+    }
+
+    @Test
+    public void samplesAreDroppedWhenFull() {
+        TPSSampleBuffer buffer = new TPSSampleBuffer(4);
+        for (int i = 0; i < 4; i++) {
+            assertTrue(buffer.add(i, 20.0, 0, -1, -1));
+        }
+        assertFalse(buffer.add(4, 20.0, 0, -1, -1));
+        assertEquals(1L, buffer.getDroppedCount());
+
+        assertEquals(4, buffer.drain((date, tps, players, entities, chunks) -> {
+        }));
+        assertTrue(buffer.add(5, 20.0, 0, -1, -1));
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.system.webserver;
+
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpExchange;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+
+import java.io.ByteArrayOutputStream;
+import java.net.URI;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for {@link RequestHandler} when the page threads are busy.
+ *
+ * @author Rsl1122
+ */
+@RunWith(JUnitPlatform.class)
+class RequestHandlerTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private WebServerExecutors executors;
+    private RequestHandler underTest;
+
+    @BeforeEach
+    void setUp() throws InterruptedException {
+        executors = WebServerExecutors.pooled(1, 1);
+        CountDownLatch started = new CountDownLatch(1);
+        executors.submitPageRequest(() -> {
+            started.countDown();
+            awaitRelease();
+        });
+        started.await();
+        executors.submitPageRequest(this::awaitRelease);
+
+        underTest = new RequestHandler(null, null, null, null, null, null, null, null);
+        underTest.setExecutors(executors);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        release.countDown();
+        executors.shutdown(1000L);
+    }
+
+    private void awaitRelease() {
+        try {
+            release.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Test
+    void saturatedPageExecutorRespondsServiceUnavailable() throws Exception {
+        HttpExchange exchange = mock(HttpExchange.class);
+        Headers responseHeaders = new Headers();
+        ByteArrayOutputStream responseBody = new ByteArrayOutputStream();
+        when(exchange.getRequestURI()).thenReturn(URI.create("/server"));
+        when(exchange.getResponseHeaders()).thenReturn(responseHeaders);
+        when(exchange.getResponseBody()).thenReturn(responseBody);
+
+        underTest.handle(exchange);
+
+        verify(exchange).sendResponseHeaders(eq(503), anyLong());
+        verify(exchange).close();
+        assertEquals("5", responseHeaders.getFirst("Retry-After"));
+        assertTrue(responseBody.toString("UTF-8").startsWith("503"));
+        assertEquals(1L, executors.getMetrics().getRejectedRequestCount());
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.system.webserver;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link WebServerExecutors}.
+ *
+ * @author Rsl1122
+ */
+@RunWith(JUnitPlatform.class)
+class WebServerExecutorsTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private WebServerExecutors underTest;
+
+    @AfterEach
+    void shutdownExecutors() throws InterruptedException {
+        release.countDown();
+        if (underTest != null) {
+            underTest.shutdown(1000L);
+        }
+    }
+
+    @Test
+    void virtualModeFallsBackToPoolWithoutVirtualThreads() {
+        // Object has no newVirtualThreadPerTaskExecutor, like Executors before Java 21.
+        underTest = WebServerExecutors.forMode(WebServerExecutors.MODE_VIRTUAL, 1, 1, Object.class);
+
+        assertFalse(underTest.isHandlingPagesOnDispatchThread());
+    }
+
+    @Test
+    void poolModeUsesPool() {
+        underTest = WebServerExecutors.forMode(WebServerExecutors.MODE_POOL, 1, 1);
+
+        assertFalse(underTest.isHandlingPagesOnDispatchThread());
+    }
+
+    @Test
+    void saturatedPoolRejectsPageRequests() throws InterruptedException {
+        underTest = WebServerExecutors.pooled(1, 1);
+        CountDownLatch started = new CountDownLatch(1);
+
+        assertTrue(underTest.submitPageRequest(() -> {
+            started.countDown();
+            awaitRelease();
+        }));
+        started.await();
+        assertTrue(underTest.submitPageRequest(this::awaitRelease), "Request should have been queued");
+        assertFalse(underTest.submitPageRequest(this::awaitRelease), "Request should have been rejected");
+    }
+
+    private void awaitRelease() {
+        try {
+            release.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
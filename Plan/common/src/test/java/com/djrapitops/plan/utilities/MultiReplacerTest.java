@@ -0,0 +1,55 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.utilities;
+
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests for {@link MultiReplacer}.
+ *
+ * @author Rsl1122
+ */
+public class MultiReplacerTest {
+
+    @Test
+    public void longestOfOverlappingStringsIsReplaced() {
+        Map<String, String> replacements = new HashMap<>();
+        replacements.put("Players", "Pelaajat");
+        replacements.put("Players Online", "Pelaajia paikalla");
+        replacements.put("Online", "Paikalla");
+
+        String result = new MultiReplacer(replacements).replace("<h1>Players Online</h1><p>Players, Online</p>");
+
+        assertEquals("<h1>Pelaajia paikalla</h1><p>Pelaajat, Paikalla</p>", result);
+    }
+
+    @Test
+    public void replacementsAreNotReplacedAgain() {
+        Map<String, String> replacements = new HashMap<>();
+        replacements.put("#368F17", "#000000");
+        replacements.put("#000000", "#FFFFFF");
+
+        String result = new MultiReplacer(replacements).replace("color: #368F17; background: #000000");
+
+        assertEquals("color: #000000; background: #FFFFFF", result);
+    }
+}
@@ -47,13 +47,13 @@ public class LineGraphTest {
     public void testLineGraphsForBracketErrors() {
         TPSMutator mutator = new TPSMutator(tpsList);
         LineGraph[] graphs = new LineGraph[]{
-                new CPUGraph(mutator, true),
-                new PlayersOnlineGraph(mutator, false),
-                new RamGraph(mutator, true),
-                new TPSGraph(mutator, false),
-                new EntityGraph(mutator, true),
-                new ChunkGraph(mutator, false),
-                new DiskGraph(mutator, false)
+                new CPUGraph(mutator, true, 5),
+                new PlayersOnlineGraph(mutator, false, 5),
+                new RamGraph(mutator, true, 5),
+                new TPSGraph(mutator, false, 5),
+                new EntityGraph(mutator, true, 5),
+                new ChunkGraph(mutator, false, 5),
+                new DiskGraph(mutator, false, 5)
         };
 
         for (LineGraph graph : graphs) {
@@ -0,0 +1,67 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.utilities.html.graphs.line.alg;
+
+import com.djrapitops.plan.utilities.html.graphs.line.Point;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Test for {@link LargestTriangleThreeBuckets}.
+ *
+ * @author Rsl1122
+ */
+public class LargestTriangleThreeBucketsTest {
+
+    @Test
+    public void smallSeriesIsNotDownsampled() {
+        long[] x = {1L, 2L, 3L};
+        double[] y = {5.0, 6.0, 7.0};
+
+        assertArrayEquals(new int[]{0, 1, 2}, LargestTriangleThreeBuckets.selectIndexes(x, y, 3, 10));
+    }
+
+    @Test
+    public void seriesIsDownsampledToThreshold() {
+        int size = 130000;
+        long[] x = new long[size];
+        double[] y = new double[size];
+        for (int i = 0; i < size; i++) {
+            x[i] = i * 60000L;
+            y[i] = 20.0;
+        }
+        y[54321] = 3.0; // Lag spike
+
+        List<Point> points = LargestTriangleThreeBuckets.downsample(x, y, size, 2500);
+
+        assertEquals(2500, points.size());
+        assertEquals(new Point(x[0], y[0]), points.get(0));
+        assertEquals(new Point(x[size - 1], y[size - 1]), points.get(2499));
+        assertTrue("Spike was not kept", points.contains(new Point(x[54321], 3.0)));
+        for (int i = 1; i < points.size(); i++) {
+            assertTrue(points.get(i - 1).getX() < points.get(i).getX());
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void tooSmallThresholdIsRejected() {
+        LargestTriangleThreeBuckets.selectIndexes(new long[0], new double[0], 0, 2);
+    }
+}
@@ -61,6 +61,7 @@ public class PlayersTableTest {
         List<PlayerContainer> players = Collections.singletonList(container);
         String html = new PlayersTable(
                 players,
+                System.currentTimeMillis(), // date
                 50, // maxPlayers
                 TimeUnit.MINUTES.toMillis(60), // activeMsThreshold
                 5, // activeLoginThreshold
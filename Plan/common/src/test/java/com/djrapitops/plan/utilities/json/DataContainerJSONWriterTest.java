@@ -0,0 +1,82 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.utilities.json;
+
+import com.djrapitops.plan.data.store.Key;
+import com.djrapitops.plan.data.store.containers.DataContainer;
+import com.djrapitops.plan.data.store.containers.DynamicDataContainer;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.*;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link DataContainerJSONWriter}.
+ *
+ * @author Rsl1122
+ */
+public class DataContainerJSONWriterTest {
+
+    private String toJson(DataContainer container) throws IOException {
+        StringWriter out = new StringWriter();
+        new DataContainerJSONWriter(out).write(container);
+        return out.toString();
+    }
+
+    @Test
+    public void containerValuesAreWritten() throws IOException {
+        DataContainer container = new DynamicDataContainer();
+        container.putRawData(new Key<>(String.class, "name"), "Test \"quoted\"");
+        container.putSupplier(new Key<>(Long.class, "count"), () -> 5L);
+        container.putSupplier(new Key<>(Double.class, "missing"), () -> null);
+
+        String json = toJson(container);
+        assertTrue(json.contains("\"count\":5"));
+        assertTrue(json.contains("\"name\":\"Test \\\"quoted\\\"\""));
+        assertFalse(json.contains("missing"));
+    }
+
+    @Test
+    public void nestedCollectionsAndObjectsAreWritten() throws IOException {
+        DataContainer session = new DynamicDataContainer();
+        session.putRawData(new Key<>(Integer.class, "deaths"), 2);
+
+        DataContainer container = new DynamicDataContainer();
+        container.putRawData(new Key<>(List.class, "sessions"), Arrays.asList(session, session));
+        container.putRawData(new Key<>(Map.class, "map"), Collections.singletonMap(UUID.nameUUIDFromBytes(new byte[0]), new Value(1.5, "<b>")));
+
+        String json = toJson(container);
+        assertTrue(json.contains("\"sessions\":[{\"deaths\":2},{\"deaths\":2}]"));
+        assertTrue(json.contains("\"map\":{\"" + UUID.nameUUIDFromBytes(new byte[0]) + "\":{\"number\":1.5,\"text\":\"\\u003cb\\u003e\"}}"));
+    }
+
+    private static class Value {
+        private static final String IGNORED = "static";
+        private final double number;
+        private final String text;
+        private transient String ignored = "transient";
+
+        Value(double number, String text) {
+            this.number = number;
+            this.text = text;
+        }
+    }
+}
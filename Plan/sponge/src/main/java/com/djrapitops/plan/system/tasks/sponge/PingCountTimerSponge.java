@@ -23,12 +23,9 @@
  */
 package com.djrapitops.plan.system.tasks.sponge;
 
-import com.djrapitops.plan.data.store.objects.DateObj;
-import com.djrapitops.plan.db.access.transactions.events.PingStoreTransaction;
-import com.djrapitops.plan.system.database.DBSystem;
-import com.djrapitops.plan.system.info.server.ServerInfo;
 import com.djrapitops.plan.system.settings.config.PlanConfig;
 import com.djrapitops.plan.system.settings.paths.TimeSettings;
+import com.djrapitops.plan.system.tasks.PingSampler;
 import com.djrapitops.plugin.api.TimeAmount;
 import com.djrapitops.plugin.task.AbsRunnable;
 import com.djrapitops.plugin.task.RunnableFactory;
@@ -38,7 +35,9 @@ import org.spongepowered.api.event.Listener;
 import org.spongepowered.api.event.network.ClientConnectionEvent;
 
 import javax.inject.Inject;
-import java.util.*;
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -52,62 +51,45 @@ public class PingCountTimerSponge extends AbsRunnable {
     //https://github.com/bergerkiller/CraftSource/blob/master/net.minecraft.server/PlayerConnection.java#L178
     public static final int PING_INTERVAL = 2 * 20;
 
-    private final Map<UUID, List<DateObj<Integer>>> playerHistory;
+    private final PingSampler pingSampler;
 
     private final PlanConfig config;
-    private final DBSystem dbSystem;
-    private final ServerInfo serverInfo;
     private final RunnableFactory runnableFactory;
 
     @Inject
     public PingCountTimerSponge(
             PlanConfig config,
-            DBSystem dbSystem,
-            ServerInfo serverInfo,
+            PingSampler pingSampler,
             RunnableFactory runnableFactory
     ) {
         this.config = config;
-        this.dbSystem = dbSystem;
-        this.serverInfo = serverInfo;
+        this.pingSampler = pingSampler;
         this.runnableFactory = runnableFactory;
-        playerHistory = new HashMap<>();
     }
 
     @Override
     public void run() {
         long time = System.currentTimeMillis();
-        Iterator<Map.Entry<UUID, List<DateObj<Integer>>>> iterator = playerHistory.entrySet().iterator();
+        Iterator<UUID> iterator = pingSampler.getPlayers().iterator();
 
         while (iterator.hasNext()) {
-            Map.Entry<UUID, List<DateObj<Integer>>> entry = iterator.next();
-            UUID uuid = entry.getKey();
-            List<DateObj<Integer>> history = entry.getValue();
+            UUID uuid = iterator.next();
             Optional<Player> player = Sponge.getServer().getPlayer(uuid);
             if (player.isPresent()) {
-                int ping = getPing(player.get());
-                if (ping < -1 || ping > TimeUnit.SECONDS.toMillis(8L)) {
-                    // Don't accept bad values
-                    continue;
-                }
-                history.add(new DateObj<>(time, ping));
-                if (history.size() >= 30) {
-                    dbSystem.getDatabase().executeTransaction(
-                            new PingStoreTransaction(uuid, serverInfo.getServerUUID(), new ArrayList<>(history))
-                    );
-                    history.clear();
-                }
+                pingSampler.addSample(uuid, time, getPing(player.get()));
             } else {
                 iterator.remove();
             }
         }
+        pingSampler.flushIfNeeded(time);
     }
 
     public void addPlayer(Player player) {
-        playerHistory.put(player.getUniqueId(), new ArrayList<>());
+        pingSampler.addPlayer(player.getUniqueId());
     }
 
     public void removePlayer(Player player) {
-        playerHistory.remove(player.getUniqueId());
+        pingSampler.removePlayer(player.getUniqueId());
     }
 
     private int getPing(Player player) {
@@ -133,6 +115,6 @@ public class PingCountTimerSponge extends AbsRunnable {
     }
 
     public void clear() {
-        playerHistory.clear();
+        pingSampler.clear();
     }
 }
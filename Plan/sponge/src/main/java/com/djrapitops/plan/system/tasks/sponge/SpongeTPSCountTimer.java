@@ -17,11 +17,11 @@
 package com.djrapitops.plan.system.tasks.sponge;
 
 import com.djrapitops.plan.PlanSponge;
-import com.djrapitops.plan.data.container.TPS;
-import com.djrapitops.plan.data.container.builders.TPSBuilder;
 import com.djrapitops.plan.system.database.DBSystem;
 import com.djrapitops.plan.system.info.server.ServerInfo;
 import com.djrapitops.plan.system.info.server.properties.ServerProperties;
+import com.djrapitops.plan.system.settings.config.PlanConfig;
+import com.djrapitops.plan.system.settings.paths.TimeSettings;
 import com.djrapitops.plan.system.tasks.TPSCountTimer;
 import com.djrapitops.plugin.logging.console.PluginLogger;
 import com.djrapitops.plugin.logging.error.ErrorHandler;
@@ -29,17 +29,24 @@ import org.spongepowered.api.world.World;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
+import java.util.concurrent.TimeUnit;
 
 @Singleton
 public class SpongeTPSCountTimer extends TPSCountTimer {
 
     private long lastCheckNano;
     private final PlanSponge plugin;
+    private final PlanConfig config;
     private ServerProperties serverProperties;
 
+    private int countInterval;
+    private int secondsUntilCount;
+    private int entityCount;
+
     @Inject
     public SpongeTPSCountTimer(
             PlanSponge plugin,
+            PlanConfig config,
             DBSystem dbSystem,
             ServerInfo serverInfo,
             ServerProperties serverProperties,
@@ -48,8 +55,11 @@ public class SpongeTPSCountTimer extends TPSCountTimer {
     ) {
         super(dbSystem, serverInfo, logger, errorHandler);
         this.plugin = plugin;
+        this.config = config;
         this.serverProperties = serverProperties;
         lastCheckNano = -1;
+        countInterval = -1;
+        entityCount = -1;
     }
 
     @Override
@@ -63,37 +73,25 @@ public class SpongeTPSCountTimer extends TPSCountTimer {
             return;
         }
 
-        history.add(calculateTPS(now));
-    }
-
-    /**
-     * Calculates the TPS
-     *
-     * @param now The time right now
-     * @return the TPS
-     */
-    private TPS calculateTPS(long now) {
-        double averageCPUUsage = getCPUUsage();
-
-        long usedMemory = getUsedMemory();
-
         double tps = plugin.getGame().getServer().getTicksPerSecond();
         int playersOnline = serverProperties.getOnlinePlayers();
-        latestPlayersOnline = playersOnline;
+        countEntitiesIfNeeded();
         int loadedChunks = -1; // getLoadedChunks();
-        int entityCount = getEntityCount();
-        long freeDiskSpace = getFreeDiskSpace();
 
-        return TPSBuilder.get()
-                .date(now)
-                .tps(tps)
-                .playersOnline(playersOnline)
-                .usedCPU(averageCPUUsage)
-                .usedMemory(usedMemory)
-                .entities(entityCount)
-                .chunksLoaded(loadedChunks)
-                .freeDiskSpace(freeDiskSpace)
-                .toTPS();
+        recordSample(now, tps, playersOnline, entityCount, loadedChunks);
+    }
+
+    private void countEntitiesIfNeeded() {
+        if (countInterval == -1) {
+            long intervalMs = config.get(TimeSettings.ENTITY_CHUNK_SAMPLE_PERIOD);
+            countInterval = (int) Math.max(1L, TimeUnit.MILLISECONDS.toSeconds(intervalMs));
+        }
+        if (secondsUntilCount <= 0) {
+            // Counting walks through every world, so the previous count is used between counts.
+            entityCount = getEntityCount();
+            secondsUntilCount = countInterval;
+        }
+        secondsUntilCount--;
     }
 
     /**
@@ -80,6 +80,8 @@ public class VelocityTaskSystem extends TaskSystem {
 
     private void registerTasks() {
         registerTask(tpsCountTimer).runTaskTimerAsynchronously(1000, TimeAmount.toTicks(1L, TimeUnit.SECONDS));
+        registerTask("TPS Sampling Task", tpsCountTimer.getSamplingTask())
+                .runTaskTimerAsynchronously(1010, TimeAmount.toTicks(1L, TimeUnit.SECONDS));
         registerTask(networkPageRefreshTask).runTaskTimerAsynchronously(1500, TimeAmount.toTicks(5L, TimeUnit.MINUTES));
         registerTask(logsFolderCleanTask).runTaskLaterAsynchronously(TimeAmount.toTicks(30L, TimeUnit.SECONDS));
 
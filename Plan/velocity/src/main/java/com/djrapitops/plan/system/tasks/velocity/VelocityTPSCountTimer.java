@@ -16,8 +16,6 @@
  */
 package com.djrapitops.plan.system.tasks.velocity;
 
-import com.djrapitops.plan.data.container.TPS;
-import com.djrapitops.plan.data.container.builders.TPSBuilder;
 import com.djrapitops.plan.system.database.DBSystem;
 import com.djrapitops.plan.system.info.server.ServerInfo;
 import com.djrapitops.plan.system.info.server.properties.ServerProperties;
@@ -47,18 +45,6 @@ public class VelocityTPSCountTimer extends TPSCountTimer {
 
     @Override
     public void addNewTPSEntry(long nanoTime, long now) {
-        int onlineCount = serverProperties.getOnlinePlayers();
-        TPS tps = TPSBuilder.get()
-                .date(now)
-                .playersOnline(onlineCount)
-                .usedCPU(getCPUUsage())
-                .usedMemory(getUsedMemory())
-                .entities(-1)
-                .chunksLoaded(-1)
-                .freeDiskSpace(getFreeDiskSpace())
-                .toTPS();
-
-        history.add(tps);
-        latestPlayersOnline = onlineCount;
+        recordSample(now, -1, serverProperties.getOnlinePlayers(), -1, -1);
     }
 }